@@ -1,19 +1,52 @@
 package com.softone.auto;
 
+import com.softone.auto.repository.sqlite.SqliteConnectionPool;
+import com.softone.auto.service.CommonCodeService;
 import com.softone.auto.ui.MainFrame;
+import com.softone.auto.ui.ModernDesign;
+import com.softone.auto.ui.StartupSplash;
+import com.softone.auto.util.AppConfig;
 import com.softone.auto.util.CommandSecurityValidator;
+import com.softone.auto.util.CommonCodeInitializer;
+import com.softone.auto.util.EdtWatchdog;
+import com.softone.auto.util.ServiceRegistry;
+import com.softone.auto.util.StartupPipeline;
+import lombok.extern.slf4j.Slf4j;
 
 import javax.swing.*;
 import java.io.File;
 import java.io.RandomAccessFile;
 import java.nio.channels.FileLock;
+import java.time.Duration;
+import java.time.Instant;
 
 /**
  * SoftOne Auto Manager 메인 애플리케이션
  * 현장대리인 업무 자동화 데스크톱 애플리케이션
  */
+@Slf4j(topic = "com.softone.auto.performance")
 public class SoftoneApplication {
     
+    /** CDS 아카이브 학습 실행 여부 (build.gradle의 createCdsArchive 태스크에서 지정) */
+    private static final String CDS_TRAINING_PROPERTY = "softone.cds.training";
+    private static final int CDS_TRAINING_EXIT_DELAY_MS = 5000;
+    
+    /** 첫 화면 구성에 쓰이는 클래스 (시작 화면 뒤에서 미리 로드) */
+    private static final String[] PRELOAD_UI_CLASSES = {
+        "com.softone.auto.ui.MainFrame",
+        "com.softone.auto.ui.DashboardPanel",
+        "com.softone.auto.ui.OptimizedTableRenderer",
+        "com.softone.auto.ui.TabPreloader",
+        "com.softone.auto.util.AsyncDataLoader",
+        "javax.swing.JTabbedPane",
+        "javax.swing.JTable",
+        "javax.swing.JScrollPane",
+        "javax.swing.table.DefaultTableModel",
+        "javax.swing.table.DefaultTableCellRenderer"
+    };
+    
+    private static final long MAIN_START_NANOS = System.nanoTime();
+    
     private static FileLock lock;
     private static RandomAccessFile lockFile;
     
@@ -84,15 +117,38 @@ public class SoftoneApplication {
             e.printStackTrace();
         }
         
-        // 공통코드 초기화 (GUI 전에)
-        com.softone.auto.service.CommonCodeService commonCodeService = new com.softone.auto.service.CommonCodeService();
-        com.softone.auto.util.CommonCodeInitializer.initializeDefaultCodes(commonCodeService);
+        // 데이터 경로 확인 (최초 실행 시 선택 대화상자가 뜨므로 병렬 초기화 전에 처리)
+        String dataPath = AppConfig.getInstance().getOrSelectDataPath();
+        System.out.println("=== 데이터 경로: " + dataPath + " ===");
+        
+        // 시작 화면 표시 후 초기화 진행률 표시
+        StartupSplash splash = StartupSplash.showSplash();
+        
+        // EDT 멈춤 감지 (멈춤 이벤트는 logs/performance.log에 기록)
+        EdtWatchdog.install();
+        
+        // DB/공통코드 준비와 화면 클래스 로딩을 병렬로 수행
+        // (POI/iText는 보고서를 처음 생성할 때 로드)
+        new StartupPipeline()
+            .addStep("데이터베이스 준비", SoftoneApplication::prepareDatabase)
+            .addStep("화면 리소스 준비", SoftoneApplication::preloadUiClasses)
+            .run((completed, total, step) -> {
+                if (splash != null) {
+                    splash.setProgress(completed, total, step + " 완료");
+                }
+            });
+        
+        if (splash != null) {
+            splash.setStatus("화면 구성 중...");
+        }
         
         // GUI는 EDT(Event Dispatch Thread)에서 실행
         SwingUtilities.invokeLater(() -> {
             try {
                 MainFrame mainFrame = new MainFrame();
                 mainFrame.setVisible(true);
+                // 첫 화면이 그려진 다음 이벤트에서 시작 시간 기록
+                SwingUtilities.invokeLater(SoftoneApplication::onInteractive);
             } catch (Exception e) {
                 System.err.println("MainFrame 생성 중 치명적 오류: " + e.getMessage());
                 e.printStackTrace();
@@ -111,6 +167,10 @@ public class SoftoneApplication {
                     System.err.println("에러 다이얼로그 표시 실패: " + dialogEx.getMessage());
                 }
                 // System.exit() 제거 - 프로그램이 계속 실행되도록
+            } finally {
+                if (splash != null) {
+                    splash.close();
+                }
             }
         });
         
@@ -120,6 +180,56 @@ public class SoftoneApplication {
         }));
     }
     
+    /**
+     * DB 연결, 테이블 생성, 공통코드와 회사 목록 준비
+     * 모두 같은 쓰기 연결을 쓰므로 한 단계 안에서 순서대로 실행
+     */
+    private static void prepareDatabase() throws Exception {
+        SqliteConnectionPool.getInstance().getWriteConnection();
+        
+        // 공통코드 초기화 (SystemSettingsPanel 등과 같은 인스턴스를 사용해 캐시 공유)
+        CommonCodeService commonCodeService = ServiceRegistry.getCommonCodeService();
+        CommonCodeInitializer.initializeDefaultCodes(commonCodeService);
+        commonCodeService.getAllCodes();
+        
+        // 저장소 생성 시 테이블 생성/마이그레이션 수행
+        ServiceRegistry.getDashboardStatsService();
+        ServiceRegistry.getWeeklyReportService();
+        ServiceRegistry.getCompanyService().getActiveCompanies();
+    }
+    
+    /**
+     * 첫 화면에 쓰이는 클래스와 글꼴 미리 로드 (생성은 EDT에서)
+     */
+    private static void preloadUiClasses() throws Exception {
+        ClassLoader loader = SoftoneApplication.class.getClassLoader();
+        for (String className : PRELOAD_UI_CLASSES) {
+            Class.forName(className, false, loader);
+        }
+        // 글꼴 파일 로드는 처음 글자를 확인할 때 일어남
+        ModernDesign.FONT_BODY.canDisplay('가');
+        ModernDesign.FONT_TITLE.canDisplay('가');
+    }
+    
+    /**
+     * 첫 화면 표시 완료 (EDT)
+     */
+    private static void onInteractive() {
+        long sinceMain = (System.nanoTime() - MAIN_START_NANOS) / 1_000_000;
+        long sinceJvm = ProcessHandle.current().info().startInstant()
+            .map(start -> Duration.between(start, Instant.now()).toMillis())
+            .orElse(-1L);
+        log.info("시작 완료: main 이후 {}ms, JVM 시작 이후 {}ms", sinceMain, sinceJvm);
+        System.out.println("=== 시작 완료: " + sinceMain + "ms (JVM 시작 이후 " + sinceJvm + "ms) ===");
+        
+        // CDS 아카이브 학습 실행: 첫 화면과 백그라운드 미리 로드가 끝나면 종료 (종료 시 아카이브 기록)
+        if (Boolean.getBoolean(CDS_TRAINING_PROPERTY)) {
+            Timer exitTimer = new Timer(CDS_TRAINING_EXIT_DELAY_MS, e -> System.exit(0));
+            exitTimer.setRepeats(false);
+            exitTimer.start();
+        }
+    }
+    
     /**
      * 중복 실행 방지를 위한 락 획득
      */
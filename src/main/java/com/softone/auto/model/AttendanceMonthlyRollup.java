@@ -0,0 +1,24 @@
+package com.softone.auto.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+/**
+ * 개발자별 월별 근태 집계 모델
+ * attendance_monthly_rollups 테이블의 (개발자, 월, 유형)별 일수와 근무 시간 합계
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceMonthlyRollup {
+    private String developerId;         // 개발자 ID
+    private String developerName;       // 개발자 이름
+    private String companyId;           // 파견 회사 ID
+    private YearMonth month;            // 집계 월
+    private String type;                // 근태 유형
+    private int days;                   // 일수
+    private long workMinutes;           // 근무 시간 합계 (분)
+}
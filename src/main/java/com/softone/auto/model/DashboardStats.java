@@ -0,0 +1,56 @@
+package com.softone.auto.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 대시보드 통계 스냅샷 모델
+ * dashboard_stats 테이블의 (차원, 값)별 카운터를 보관
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStats {
+    private String companyId;                           // 회사 ID (null이면 전체)
+    private Map<String, Long> counters = new HashMap<>(); // "차원:값" → 건수
+
+    /**
+     * 카운터 누적
+     */
+    public void add(String dimension, String value, long count) {
+        counters.merge(key(dimension, value), count, Long::sum);
+    }
+
+    /**
+     * 특정 차원의 지정된 값들 합계
+     */
+    public long getCount(String dimension, String... values) {
+        long sum = 0;
+        for (String value : values) {
+            sum += counters.getOrDefault(key(dimension, value), 0L);
+        }
+        return sum;
+    }
+
+    /**
+     * 특정 차원의 전체 합계
+     */
+    public long getTotal(String dimension) {
+        String prefix = dimension + ":";
+        long sum = 0;
+        for (Map.Entry<String, Long> entry : counters.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                sum += entry.getValue();
+            }
+        }
+        return sum;
+    }
+
+    private static String key(String dimension, String value) {
+        return dimension + ":" + (value != null ? value : "");
+    }
+}
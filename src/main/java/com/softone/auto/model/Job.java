@@ -0,0 +1,138 @@
+package com.softone.auto.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 작업 모델 (jobs 테이블 1행)
+ */
+@Data
+@NoArgsConstructor
+public class Job {
+
+    /**
+     * 작업 유형
+     * 유형별 동시 실행 수, 단독 실행 여부, 재시도 횟수, 재시작 후 재개 여부를 정의합니다.
+     */
+    public enum Type {
+        /** 주간보고서 Excel (파일명이 분 단위라 같은 유형은 하나씩) */
+        REPORT_EXCEL("주간보고서 Excel", 1, false, 2, true, true),
+        /** 주간보고서 PDF */
+        REPORT_PDF("주간보고서 PDF", 1, false, 2, true, true),
+        /** 전체 데이터 백업 (읽기만 하므로 보고서 생성과 함께 실행 가능) */
+        BACKUP("데이터 백업", 1, false, 2, true, true),
+        /** 샘플 데이터 삭제 후 재생성 (다른 작업과 겹치면 안 됨) */
+        DATA_RESET("샘플 데이터 리셋", 1, true, 1, false, false),
+        /** 1년치 대량 데이터 생성 (현재 회사를 바꿔가며 쓰므로 단독 실행) */
+        BULK_GENERATE("대량 데이터 생성", 1, true, 1, false, false);
+
+        private final String label;
+        private final int concurrency;
+        private final boolean exclusive;
+        private final int maxAttempts;
+        private final boolean resumable;
+        private final boolean cancellable;
+
+        Type(String label, int concurrency, boolean exclusive, int maxAttempts, boolean resumable,
+             boolean cancellable) {
+            this.label = label;
+            this.concurrency = concurrency;
+            this.exclusive = exclusive;
+            this.maxAttempts = maxAttempts;
+            this.resumable = resumable;
+            this.cancellable = cancellable;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /** 같은 유형의 최대 동시 실행 수 */
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        /** 다른 작업이 모두 끝난 뒤 혼자 실행 (데이터를 지우거나 대량으로 쓰는 작업) */
+        public boolean isExclusive() {
+            return exclusive;
+        }
+
+        /** 실패 시 재시도를 포함한 최대 실행 횟수 */
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        /** 실행 중 애플리케이션이 종료되면 다음 시작 시 다시 실행 (같은 결과를 다시 만들어도 되는 작업) */
+        public boolean isResumable() {
+            return resumable;
+        }
+
+        /** 실행 중 취소 가능 여부 (중간에 멈추면 데이터가 반쯤 남는 작업은 대기 중에만 취소) */
+        public boolean isCancellable() {
+            return cancellable;
+        }
+    }
+
+    /**
+     * 작업 상태
+     */
+    public enum State {
+        QUEUED("대기"),
+        RUNNING("실행 중"),
+        SUCCEEDED("완료"),
+        FAILED("실패"),
+        CANCELLED("취소");
+
+        private final String label;
+
+        State(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /** 더 이상 바뀌지 않는 상태 */
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    private String id;                  // 작업 ID
+    private Type type;                  // 작업 유형
+    private State state;                // 상태
+    private String title;               // 표시 이름
+    private String payload;             // 처리기 입력 (예: 보고서 ID)
+    private int progress;               // 진행률 (0~100)
+    private String message;             // 진행/오류 메시지
+    private String resultPath;          // 결과 파일 경로
+    private int attempts;               // 실행 횟수
+    private int maxAttempts;            // 최대 실행 횟수
+    private LocalDateTime createdAt;    // 등록 일시
+    private LocalDateTime startedAt;    // 마지막 실행 시작 일시
+    private LocalDateTime finishedAt;   // 종료 일시
+
+    /**
+     * 상태 변경 알림용 복사본 (리스너가 실행 중 객체를 직접 만지지 않도록)
+     */
+    public Job copy() {
+        Job copy = new Job();
+        copy.id = id;
+        copy.type = type;
+        copy.state = state;
+        copy.title = title;
+        copy.payload = payload;
+        copy.progress = progress;
+        copy.message = message;
+        copy.resultPath = resultPath;
+        copy.attempts = attempts;
+        copy.maxAttempts = maxAttempts;
+        copy.createdAt = createdAt;
+        copy.startedAt = startedAt;
+        copy.finishedAt = finishedAt;
+        return copy;
+    }
+}
@@ -0,0 +1,109 @@
+package com.softone.auto.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 월별/분기별 경영 보고서 모델
+ * 회사·기간별 근태, 이슈 접수/해결, 고객 소통 처리 현황 집계 (평균은 합계/건수로 계산하므로 행끼리 합산 가능)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagementReport {
+    private String periodType;          // 집계 단위 (월별, 분기별)
+    private YearMonth fromMonth;        // 시작 월
+    private YearMonth toMonth;          // 종료 월
+    private String scope;               // 대상 (회사명 또는 전체 회사)
+    private List<AttendanceRow> attendance = new ArrayList<>();
+    private List<IssueRow> issues = new ArrayList<>();
+    private List<CommunicationRow> communications = new ArrayList<>();
+
+    /**
+     * 개발자별 기간 근태
+     */
+    @Data
+    @NoArgsConstructor
+    public static class AttendanceRow {
+        private String companyId;       // 회사 ID
+        private String companyName;     // 회사명
+        private String period;          // 기간 (2024-01, 2024-Q1)
+        private String developerId;     // 개발자 ID
+        private String developerName;   // 개발자 이름
+        private int totalDays;          // 기록 일수
+        private int workedDays;         // 출근 일수 (정상/지각/조퇴/재택)
+        private int lateDays;           // 지각
+        private int earlyLeaveDays;     // 조퇴
+        private int absentDays;         // 결근
+        private int leaveDays;          // 휴가/병가
+        private long workMinutes;       // 근무 시간 합계 (분)
+
+        /**
+         * 출근일 평균 근무 시간 (분, 출근일이 없으면 0)
+         */
+        public double getAverageWorkMinutes() {
+            return workedDays > 0 ? (double) workMinutes / workedDays : 0;
+        }
+    }
+
+    /**
+     * 회사별 기간 이슈 접수/해결 (접수는 등록일, 해결은 해결일 기준 기간)
+     */
+    @Data
+    @NoArgsConstructor
+    public static class IssueRow {
+        private String companyId;       // 회사 ID
+        private String companyName;     // 회사명
+        private String period;          // 기간
+        private int created;            // 접수 건수
+        private int highSeverity;       // 접수 중 심각도 높음
+        private int resolved;           // 해결 건수
+        private double resolutionDays;  // 해결 건 처리 일수 합계
+
+        public int getNetChange() {
+            return created - resolved;
+        }
+
+        /**
+         * 해결 건 평균 처리 일수 (해결 건이 없으면 0)
+         */
+        public double getAverageResolutionDays() {
+            return resolved > 0 ? resolutionDays / resolved : 0;
+        }
+    }
+
+    /**
+     * 회사별 기간 고객 소통 처리 현황 (소통 일시 기준 기간)
+     */
+    @Data
+    @NoArgsConstructor
+    public static class CommunicationRow {
+        private String companyId;       // 회사 ID
+        private String companyName;     // 회사명
+        private String period;          // 기간
+        private int total;              // 소통 건수
+        private int highPriority;       // 우선순위 높음
+        private int completed;          // 완료 건수
+        private int overdue;            // 기한 초과 (완료일 또는 현재가 기한 이후)
+        private double turnaroundDays;  // 완료 건 처리 일수 합계
+
+        /**
+         * 완료율 (0~1)
+         */
+        public double getCompletionRate() {
+            return total > 0 ? (double) completed / total : 0;
+        }
+
+        /**
+         * 완료 건 평균 처리 일수 (완료 건이 없으면 0)
+         */
+        public double getAverageTurnaroundDays() {
+            return completed > 0 ? turnaroundDays / completed : 0;
+        }
+    }
+}
@@ -38,7 +38,21 @@ public class WeeklyReport {
     private String additionalNotes;             // 추가 특이사항
     private LocalDate createdDate;              // 작성일
     
-    // 주요 10가지 체크 사항 (각 항목의 체크 여부)
+    /** 주요 10가지 체크 사항 항목명 (편집 화면, PDF/Excel/HTML 미리보기 공통 순서) */
+    public static final List<String> CHECK_ITEM_NAMES = List.of(
+        "고객사 보안 규정 준수",
+        "품질(납기, 생산성) 양호",
+        "불법 S/W 미사용",
+        "사고 대응 체계 숙지",
+        "고객사 생산성 향상 노력",
+        "고객 중심적 업무 수행",
+        "회사 대표 의식",
+        "성실한 근태",
+        "단정한 복장",
+        "자기/회사 발전 노력"
+    );
+    
+    // 주요 10가지 체크 사항 (각 항목의 체크 여부, CHECK_ITEM_NAMES 순서)
     private List<Boolean> checkItems = new ArrayList<>();  // 10개의 체크박스 상태
     
     // 금주/차주 업무 통계 (수동 입력)
@@ -51,6 +65,34 @@ public class WeeklyReport {
     private String thisWeekTasksText = "";      // 금주 업무 내용
     private String nextWeekTasksText = "";      // 차주 계획 내용
     
+    /**
+     * 부분 수정 가능한 항목 (자동 저장 시 변경된 컬럼만 UPDATE)
+     * 보고 기간은 회사별 고유 키(company_id, start_date)에 포함되므로 전체 저장으로만 변경
+     */
+    public enum Field {
+        TITLE("title"),
+        PROJECT_NAME("project_name"),
+        REPORTER("reporter"),
+        ADDITIONAL_NOTES("additional_notes"),
+        THIS_WEEK_REQUEST_COUNT("this_week_request_count"),
+        THIS_WEEK_COMPLETE_COUNT("this_week_complete_count"),
+        NEXT_WEEK_REQUEST_COUNT("next_week_request_count"),
+        NEXT_WEEK_COMPLETE_COUNT("next_week_complete_count"),
+        THIS_WEEK_TASKS_TEXT("this_week_tasks_text"),
+        NEXT_WEEK_TASKS_TEXT("next_week_tasks_text"),
+        CHECK_ITEMS("check_items");
+        
+        private final String column;
+        
+        Field(String column) {
+            this.column = column;
+        }
+        
+        public String getColumn() {
+            return column;
+        }
+    }
+    
     /**
      * 업무 항목
      */
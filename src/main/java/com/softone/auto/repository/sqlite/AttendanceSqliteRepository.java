@@ -1,15 +1,21 @@
 package com.softone.auto.repository.sqlite;
 
 import com.softone.auto.model.Attendance;
+import com.softone.auto.model.AttendanceMonthlyRollup;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 근태 정보 저장소 (SQLite)
@@ -21,6 +27,9 @@ public class AttendanceSqliteRepository {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_TIME;
     
+    /** 조회 결과 캐시 의존 테이블 */
+    private static final Set<String> CACHE_TABLES = Set.of("attendances");
+    
     public AttendanceSqliteRepository() {
         try {
             // Connection Pool 사용 (읽기는 Pool, 쓰기는 단일 연결)
@@ -76,9 +85,114 @@ public class AttendanceSqliteRepository {
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_attendances_type ON attendances(type)");
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_attendances_company_date ON attendances(company_id, date)");
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_attendances_developer_date ON attendances(developer_id, date)");
+            // 유형 필터 + 날짜 정렬 페이지 조회용
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_attendances_company_type_date ON attendances(company_id, type, date)");
         }
         
+        boolean rollupTriggersCreated = createRollupTable();
+        
         connection.commit();
+        
+        if (rollupTriggersCreated) {
+            log.info("근태 월별 집계 트리거 생성 - 집계 재구성");
+            rebuildMonthlyRollups();
+        }
+    }
+    
+    /**
+     * 개발자별 월별 근태 집계 테이블 및 유지 트리거 생성
+     * 
+     * @return 트리거가 새로 생성되었으면 true (기존 근태 데이터 재집계 필요)
+     */
+    private boolean createRollupTable() throws SQLException {
+        String sql = """
+            CREATE TABLE IF NOT EXISTS attendance_monthly_rollups (
+                developer_id TEXT NOT NULL,
+                developer_name TEXT NOT NULL,
+                month TEXT NOT NULL,
+                type TEXT NOT NULL,
+                company_id TEXT NOT NULL,
+                days INTEGER NOT NULL DEFAULT 0,
+                work_minutes INTEGER NOT NULL DEFAULT 0,
+                PRIMARY KEY (developer_id, developer_name, month, type)
+            ) WITHOUT ROWID
+            """;
+        
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_attendance_rollups_company_month ON attendance_monthly_rollups(company_id, month)");
+        }
+        
+        boolean exists;
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT COUNT(*) FROM sqlite_master WHERE type = 'trigger' AND name LIKE 'trg_attendance_rollup_%'");
+             ResultSet rs = stmt.executeQuery()) {
+            exists = rs.next() && rs.getInt(1) == 3;
+        }
+        if (exists) {
+            return false;
+        }
+        
+        String increment = """
+            INSERT INTO attendance_monthly_rollups (developer_id, developer_name, month, type, company_id, days, work_minutes)
+            VALUES (NEW.developer_id, NEW.developer_name, substr(NEW.date, 1, 7), NEW.type, NEW.company_id, 1, COALESCE(NEW.work_minutes, 0))
+            ON CONFLICT(developer_id, developer_name, month, type) DO UPDATE SET
+                days = days + 1, work_minutes = work_minutes + excluded.work_minutes, company_id = excluded.company_id;
+            """;
+        String decrement = """
+            UPDATE attendance_monthly_rollups SET
+                days = days - 1, work_minutes = work_minutes - COALESCE(OLD.work_minutes, 0)
+            WHERE developer_id = OLD.developer_id AND developer_name = OLD.developer_name
+              AND month = substr(OLD.date, 1, 7) AND type = OLD.type;
+            DELETE FROM attendance_monthly_rollups
+            WHERE developer_id = OLD.developer_id AND month = substr(OLD.date, 1, 7) AND days <= 0;
+            """;
+        
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DROP TRIGGER IF EXISTS trg_attendance_rollup_insert");
+            stmt.execute("DROP TRIGGER IF EXISTS trg_attendance_rollup_update");
+            stmt.execute("DROP TRIGGER IF EXISTS trg_attendance_rollup_delete");
+            
+            stmt.execute("CREATE TRIGGER trg_attendance_rollup_insert AFTER INSERT ON attendances BEGIN\n"
+                + increment + "END");
+            stmt.execute("CREATE TRIGGER trg_attendance_rollup_update"
+                + " AFTER UPDATE OF company_id, developer_id, developer_name, date, type, work_minutes ON attendances"
+                + " WHEN OLD.company_id IS NOT NEW.company_id OR OLD.developer_id IS NOT NEW.developer_id"
+                + " OR OLD.developer_name IS NOT NEW.developer_name OR OLD.date IS NOT NEW.date"
+                + " OR OLD.type IS NOT NEW.type OR OLD.work_minutes IS NOT NEW.work_minutes BEGIN\n"
+                + decrement + increment + "END");
+            stmt.execute("CREATE TRIGGER trg_attendance_rollup_delete AFTER DELETE ON attendances BEGIN\n"
+                + decrement + "END");
+        }
+        
+        return true;
+    }
+    
+    /**
+     * 월별 근태 집계 전체 재구성 (원본 근태 데이터 기준)
+     */
+    public void rebuildMonthlyRollups() {
+        String sql = """
+            INSERT INTO attendance_monthly_rollups (developer_id, developer_name, month, type, company_id, days, work_minutes)
+            SELECT developer_id, developer_name, substr(date, 1, 7), type, MAX(company_id), COUNT(*), COALESCE(SUM(work_minutes), 0)
+            FROM attendances
+            GROUP BY developer_id, developer_name, substr(date, 1, 7), type
+            """;
+        
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DELETE FROM attendance_monthly_rollups");
+            stmt.execute(sql);
+            connection.commit();
+            
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackEx) {
+                log.error("롤백 실패", rollbackEx);
+            }
+            log.error("월별 근태 집계 재구성 실패", e);
+            throw new RuntimeException("데이터 저장 실패", e);
+        }
     }
     
     /**
@@ -119,6 +233,80 @@ public class AttendanceSqliteRepository {
         return results;
     }
     
+    /** 페이지 조회 정렬 허용 컬럼 */
+    private static final Set<String> PAGE_SORT_COLUMNS = Set.of(
+        "date", "developer_name", "check_in", "check_out", "work_minutes", "type", "notes");
+    
+    /**
+     * 조건에 맞는 근태 건수 (페이지 조회용)
+     * 
+     * @param companyId 회사 ID (null이면 전체)
+     * @param type 근태 유형 (null이면 전체)
+     */
+    public int countPage(String companyId, String type) {
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM attendances WHERE 1 = 1");
+        List<Object> params = pageFilter(sql, companyId, type);
+        
+        try (PreparedStatement stmt = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+            
+        } catch (SQLException e) {
+            log.error("근태 건수 조회 실패", e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        }
+    }
+    
+    /**
+     * 조건에 맞는 근태 한 페이지 조회 (정렬/필터는 SQL에서 처리)
+     * 
+     * @param companyId 회사 ID (null이면 전체)
+     * @param type 근태 유형 (null이면 전체)
+     * @param sortColumn 정렬 컬럼 (PAGE_SORT_COLUMNS 중 하나)
+     * @param ascending 오름차순 여부
+     */
+    public List<Attendance> findPage(String companyId, String type, String sortColumn, boolean ascending,
+                                     int offset, int limit) {
+        if (sortColumn == null || !PAGE_SORT_COLUMNS.contains(sortColumn)) {
+            throw new IllegalArgumentException("정렬할 수 없는 컬럼: " + sortColumn);
+        }
+        
+        StringBuilder sql = new StringBuilder("SELECT * FROM attendances WHERE 1 = 1");
+        List<Object> params = pageFilter(sql, companyId, type);
+        String direction = ascending ? " ASC" : " DESC";
+        // 같은 값 내에서도 페이지 경계가 흔들리지 않도록 id로 순서 고정
+        sql.append(" ORDER BY ").append(sortColumn).append(direction).append(", id").append(direction);
+        sql.append(" LIMIT ? OFFSET ?");
+        params.add(limit);
+        params.add(offset);
+        
+        try {
+            return query(sql.toString(), params.toArray());
+            
+        } catch (SQLException e) {
+            log.error("근태 페이지 조회 실패: offset={}", offset, e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        }
+    }
+    
+    private List<Object> pageFilter(StringBuilder sql, String companyId, String type) {
+        List<Object> params = new ArrayList<>();
+        if (companyId != null) {
+            sql.append(" AND company_id = ?");
+            params.add(companyId);
+        }
+        if (type != null) {
+            sql.append(" AND type = ?");
+            params.add(type);
+        }
+        return params;
+    }
+    
     /**
      * 특정 개발자의 근태 조회
      */
@@ -148,20 +336,96 @@ public class AttendanceSqliteRepository {
      */
     public List<Attendance> findByDateRange(LocalDate startDate, LocalDate endDate) {
         String sql = "SELECT * FROM attendances WHERE date >= ? AND date <= ? ORDER BY date DESC";
-        List<Attendance> results = new ArrayList<>();
+        Object[] params = {formatDate(startDate), formatDate(endDate)};
+        
+        try {
+            return QueryCache.getInstance().getList(sql, params, CACHE_TABLES, AttendanceSqliteRepository::copyOf,
+                () -> query(sql, params));
+            
+        } catch (SQLException e) {
+            log.error("기간별 근태 조회 실패", e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        }
+    }
+    
+    /**
+     * 특정 개발자의 특정 기간 근태 조회
+     */
+    public List<Attendance> findByDeveloperAndDateRange(String developerId, LocalDate startDate, LocalDate endDate) {
+        String sql = "SELECT * FROM attendances WHERE developer_id = ? AND date >= ? AND date <= ? ORDER BY date DESC";
+        Object[] params = {developerId, formatDate(startDate), formatDate(endDate)};
+        
+        try {
+            return QueryCache.getInstance().getList(sql, params, CACHE_TABLES, AttendanceSqliteRepository::copyOf,
+                () -> query(sql, params));
+            
+        } catch (SQLException e) {
+            log.error("개발자 기간별 근태 조회 실패", e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        }
+    }
+    
+    /**
+     * 특정 개발자의 기간 내 지정 유형 근태 일수
+     * 기간 중 월 전체가 포함되는 구간은 월별 집계에서, 나머지 부분 월은 원본에서 계산
+     */
+    public long countByDeveloperAndTypes(String developerId, LocalDate startDate, LocalDate endDate, String... types) {
+        String typeFilter = " AND type IN (" + String.join(", ", Collections.nCopies(types.length, "?")) + ")";
+        Map<String, Long> counts = countByRange(
+            "developer_id",
+            "developer_id = ?" + typeFilter,
+            stmt -> {
+                int index = 1;
+                stmt.setString(index++, developerId);
+                for (String type : types) {
+                    stmt.setString(index++, type);
+                }
+                return index;
+            },
+            startDate, endDate);
+        return counts.getOrDefault(developerId, 0L);
+    }
+    
+    /**
+     * 기간 내 개발자명별 근태 건수 (전체 회사)
+     * 기간 중 월 전체가 포함되는 구간은 월별 집계에서, 나머지 부분 월은 원본에서 계산
+     */
+    public Map<String, Long> countByDeveloperName(LocalDate startDate, LocalDate endDate) {
+        return countByRange("developer_name", "1 = 1", stmt -> 1, startDate, endDate);
+    }
+    
+    /**
+     * 회사의 월별 근태 집계 조회
+     */
+    public List<AttendanceMonthlyRollup> findMonthlyRollups(String companyId, YearMonth fromMonth, YearMonth toMonth) {
+        String sql = """
+            SELECT * FROM attendance_monthly_rollups
+            WHERE company_id = ? AND month >= ? AND month <= ?
+            ORDER BY month, developer_name, type
+            """;
+        List<AttendanceMonthlyRollup> results = new ArrayList<>();
         
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, formatDate(startDate));
-            stmt.setString(2, formatDate(endDate));
+            stmt.setString(1, companyId);
+            stmt.setString(2, fromMonth.toString());
+            stmt.setString(3, toMonth.toString());
             
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    results.add(mapRow(rs));
+                    AttendanceMonthlyRollup rollup = new AttendanceMonthlyRollup();
+                    rollup.setDeveloperId(rs.getString("developer_id"));
+                    rollup.setDeveloperName(rs.getString("developer_name"));
+                    rollup.setCompanyId(rs.getString("company_id"));
+                    rollup.setMonth(YearMonth.parse(rs.getString("month")));
+                    rollup.setType(rs.getString("type"));
+                    rollup.setDays(rs.getInt("days"));
+                    rollup.setWorkMinutes(rs.getLong("work_minutes"));
+                    results.add(rollup);
                 }
             }
             
         } catch (SQLException e) {
-            log.error("기간별 근태 조회 실패", e);
+            log.error("월별 근태 집계 조회 실패: {}", companyId, e);
             throw new RuntimeException("데이터 조회 실패", e);
         }
         
@@ -169,29 +433,148 @@ public class AttendanceSqliteRepository {
     }
     
     /**
-     * 특정 개발자의 특정 기간 근태 조회
+     * 회사의 근태 건수 (afterRowId 이후 행만)
      */
-    public List<Attendance> findByDeveloperAndDateRange(String developerId, LocalDate startDate, LocalDate endDate) {
-        String sql = "SELECT * FROM attendances WHERE developer_id = ? AND date >= ? AND date <= ? ORDER BY date DESC";
-        List<Attendance> results = new ArrayList<>();
+    public int countByCompanyAfterRowId(String companyId, long afterRowId) {
+        String sql = "SELECT COUNT(*) FROM attendances WHERE company_id = ? AND rowid > ?";
         
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, developerId);
-            stmt.setString(2, formatDate(startDate));
-            stmt.setString(3, formatDate(endDate));
+            stmt.setString(1, companyId);
+            stmt.setLong(2, afterRowId);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+            
+        } catch (SQLException e) {
+            log.error("회사별 근태 건수 조회 실패: {}", companyId, e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        }
+    }
+    
+    /**
+     * 회사의 근태를 Attendance 객체 생성 없이 행 단위로 전달 (rowid 순)
+     * 
+     * @param afterRowId 이 rowid 이후 행만 (전체는 0)
+     */
+    public void scanByCompany(String companyId, long afterRowId, RowVisitor visitor) {
+        String sql = """
+            SELECT rowid, developer_id, developer_name, date, type, work_minutes
+            FROM attendances WHERE company_id = ? AND rowid > ? ORDER BY rowid
+            """;
+        
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, companyId);
+            stmt.setLong(2, afterRowId);
+            stmt.setFetchSize(10_000);
             
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    results.add(mapRow(rs));
+                    int workMinutes = rs.getInt(6);
+                    visitor.visit(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getString(5), rs.wasNull() ? null : workMinutes);
                 }
             }
             
         } catch (SQLException e) {
-            log.error("개발자 기간별 근태 조회 실패", e);
+            log.error("회사별 근태 스캔 실패: {}", companyId, e);
             throw new RuntimeException("데이터 조회 실패", e);
         }
+    }
+    
+    /**
+     * scanByCompany 행 처리기
+     */
+    @FunctionalInterface
+    public interface RowVisitor {
+        void visit(long rowId, String developerId, String developerName, String date, String type, Integer workMinutes);
+    }
+    
+    /**
+     * 기간을 [앞쪽 부분 월] + [월 전체 구간] + [뒤쪽 부분 월]로 나누어 그룹별 건수 합산
+     * 
+     * @param groupColumn 그룹 기준 컬럼 (두 테이블 공통)
+     * @param filter 두 테이블 공통 WHERE 조건
+     * @param binder filter의 파라미터 바인딩 (다음 파라미터 인덱스 반환)
+     */
+    private Map<String, Long> countByRange(String groupColumn, String filter, ParameterBinder binder,
+                                           LocalDate startDate, LocalDate endDate) {
+        Map<String, Long> counts = new HashMap<>();
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            return counts;
+        }
         
-        return results;
+        YearMonth firstFullMonth = startDate.getDayOfMonth() == 1
+            ? YearMonth.from(startDate) : YearMonth.from(startDate).plusMonths(1);
+        YearMonth lastFullMonth = endDate.equals(YearMonth.from(endDate).atEndOfMonth())
+            ? YearMonth.from(endDate) : YearMonth.from(endDate).minusMonths(1);
+        
+        try {
+            if (firstFullMonth.isAfter(lastFullMonth)) {
+                countRaw(counts, groupColumn, filter, binder, startDate, endDate);
+                return counts;
+            }
+            
+            LocalDate fullStart = firstFullMonth.atDay(1);
+            LocalDate fullEnd = lastFullMonth.atEndOfMonth();
+            if (startDate.isBefore(fullStart)) {
+                countRaw(counts, groupColumn, filter, binder, startDate, fullStart.minusDays(1));
+            }
+            countRollup(counts, groupColumn, filter, binder, firstFullMonth, lastFullMonth);
+            if (endDate.isAfter(fullEnd)) {
+                countRaw(counts, groupColumn, filter, binder, fullEnd.plusDays(1), endDate);
+            }
+            
+        } catch (SQLException e) {
+            log.error("기간별 근태 집계 실패", e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        }
+        
+        return counts;
+    }
+    
+    private void countRaw(Map<String, Long> counts, String groupColumn, String filter, ParameterBinder binder,
+                          LocalDate startDate, LocalDate endDate) throws SQLException {
+        String sql = "SELECT " + groupColumn + ", COUNT(*) FROM attendances WHERE " + filter
+            + " AND date >= ? AND date <= ? GROUP BY " + groupColumn;
+        
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            int index = binder.bind(stmt);
+            stmt.setString(index++, formatDate(startDate));
+            stmt.setString(index, formatDate(endDate));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    counts.merge(rs.getString(1), rs.getLong(2), Long::sum);
+                }
+            }
+        }
+    }
+    
+    private void countRollup(Map<String, Long> counts, String groupColumn, String filter, ParameterBinder binder,
+                             YearMonth fromMonth, YearMonth toMonth) throws SQLException {
+        String sql = "SELECT " + groupColumn + ", SUM(days) FROM attendance_monthly_rollups WHERE " + filter
+            + " AND month >= ? AND month <= ? GROUP BY " + groupColumn;
+        
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            int index = binder.bind(stmt);
+            stmt.setString(index++, fromMonth.toString());
+            stmt.setString(index, toMonth.toString());
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    counts.merge(rs.getString(1), rs.getLong(2), Long::sum);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 공통 WHERE 조건 파라미터 바인딩
+     */
+    @FunctionalInterface
+    private interface ParameterBinder {
+        int bind(PreparedStatement stmt) throws SQLException;
     }
     
     /**
@@ -290,6 +673,36 @@ public class AttendanceSqliteRepository {
         }
     }
     
+    /**
+     * 파라미터 바인딩 후 목록 조회
+     */
+    private List<Attendance> query(String sql, Object[] params) throws SQLException {
+        List<Attendance> results = new ArrayList<>();
+        
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(mapRow(rs));
+                }
+            }
+        }
+        
+        return results;
+    }
+    
+    /**
+     * 캐시 보관용 복사본
+     */
+    private static Attendance copyOf(Attendance source) {
+        return new Attendance(source.getId(), source.getCompanyId(), source.getDeveloperId(),
+            source.getDeveloperName(), source.getDate(), source.getCheckIn(), source.getCheckOut(),
+            source.getType(), source.getNotes(), source.getWorkMinutes());
+    }
+    
     /**
      * ResultSet을 Attendance 객체로 변환
      */
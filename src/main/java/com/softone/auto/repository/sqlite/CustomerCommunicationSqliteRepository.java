@@ -10,6 +10,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 고객소통 저장소 (SQLite)
@@ -19,6 +20,7 @@ public class CustomerCommunicationSqliteRepository {
     
     private final Connection connection;
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final Set<String> CACHE_TABLES = Set.of("customer_communications");
     
     public CustomerCommunicationSqliteRepository() {
         try {
@@ -91,23 +93,40 @@ public class CustomerCommunicationSqliteRepository {
         }
     }
     
+    /**
+     * 전체 고객소통 (탭 예열과 탭 첫 로드가 같은 결과를 쓰도록 캐시)
+     */
     public List<CustomerCommunication> findAll() {
-        List<CustomerCommunication> results = new ArrayList<>();
         String sql = "SELECT * FROM customer_communications";
         
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            
-            while (rs.next()) {
-                results.add(mapRow(rs));
-            }
+        try {
+            return QueryCache.getInstance().getList(sql, new Object[0], CACHE_TABLES,
+                CustomerCommunicationSqliteRepository::copyOf,
+                () -> {
+                    List<CustomerCommunication> results = new ArrayList<>();
+                    try (Statement stmt = connection.createStatement();
+                         ResultSet rs = stmt.executeQuery(sql)) {
+                        while (rs.next()) {
+                            results.add(mapRow(rs));
+                        }
+                    }
+                    return results;
+                });
             
         } catch (SQLException e) {
             log.error("고객소통 목록 조회 실패", e);
             throw new RuntimeException("데이터 조회 실패", e);
         }
-        
-        return results;
+    }
+    
+    /**
+     * 캐시 보관용 복사본
+     */
+    private static CustomerCommunication copyOf(CustomerCommunication source) {
+        return new CustomerCommunication(source.getId(), source.getCompanyId(), source.getType(), source.getTitle(),
+            source.getContent(), source.getCustomerName(), source.getOurRepresentative(),
+            source.getCommunicationDate(), source.getStatus(), source.getResponse(), source.getPriority(),
+            source.getDueDate(), source.getCompletedDate(), source.getNotes());
     }
     
     public Optional<CustomerCommunication> findById(String id) {
@@ -0,0 +1,296 @@
+package com.softone.auto.repository.sqlite;
+
+import com.softone.auto.model.DashboardStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 대시보드 통계 저장소 (SQLite)
+ *
+ * <p>회사별 (차원, 값, 날짜 버킷) 카운터를 dashboard_stats 테이블에 보관합니다.
+ * 카운터는 원본 테이블의 트리거로 증분 갱신되므로, 대시보드는 이력 규모와 무관하게
+ * 기본키 인덱스 조회 한 번으로 집계를 가져옵니다.</p>
+ *
+ * <p>INSERT OR REPLACE로 교체되는 행도 DELETE 트리거를 거치도록
+ * 쓰기 연결에 recursive_triggers가 활성화되어 있어야 합니다 (SqliteConnectionPool 참조).</p>
+ */
+@Slf4j
+public class DashboardStatsSqliteRepository {
+
+    public static final String DEVELOPER_STATUS = "DEVELOPER_STATUS";
+    public static final String ISSUE_STATUS = "ISSUE_STATUS";
+    public static final String ISSUE_SEVERITY = "ISSUE_SEVERITY";
+    public static final String COMM_STATUS = "COMM_STATUS";
+    public static final String COMM_TYPE = "COMM_TYPE";
+    public static final String ATTENDANCE_TYPE = "ATTENDANCE_TYPE";
+
+    /** 날짜 버킷이 없는 (전체 기간) 카운터 */
+    private static final String NO_BUCKET = "''";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    /**
+     * 원본 테이블별 카운터 정의
+     */
+    private static final List<CounterSource> SOURCES = List.of(
+        new CounterSource("developers", "dev", List.of(
+            new Counter(DEVELOPER_STATUS, "status", null))),
+        new CounterSource("issues", "issue", List.of(
+            new Counter(ISSUE_STATUS, "status", null),
+            new Counter(ISSUE_SEVERITY, "severity", null))),
+        new CounterSource("customer_communications", "comm", List.of(
+            new Counter(COMM_STATUS, "status", null),
+            new Counter(COMM_TYPE, "type", null))),
+        new CounterSource("attendances", "att", List.of(
+            new Counter(ATTENDANCE_TYPE, "type", "date")))
+    );
+
+    private final Connection connection;
+
+    public DashboardStatsSqliteRepository() {
+        try {
+            // Connection Pool 사용 (읽기는 Pool, 쓰기는 단일 연결)
+            this.connection = SqliteConnectionPool.getInstance().getWriteConnection();
+
+            createTable();
+
+        } catch (SQLException e) {
+            log.error("SQLite 연결 실패", e);
+            e.printStackTrace();
+            throw new RuntimeException("데이터베이스 연결 실패: " + e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("DashboardStatsSqliteRepository 초기화 실패", e);
+            e.printStackTrace();
+            throw new RuntimeException("Repository 초기화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 테이블 및 트리거 생성
+     * 트리거가 하나라도 새로 생성되면 그 이전의 쓰기가 누락되었을 수 있으므로 전체 재구성
+     */
+    private void createTable() throws SQLException {
+        String sql = """
+            CREATE TABLE IF NOT EXISTS dashboard_stats (
+                company_id TEXT NOT NULL,
+                dimension TEXT NOT NULL,
+                value TEXT NOT NULL,
+                bucket TEXT NOT NULL DEFAULT '',
+                cnt INTEGER NOT NULL DEFAULT 0,
+                PRIMARY KEY (company_id, dimension, value, bucket)
+            ) WITHOUT ROWID
+            """;
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+        }
+
+        boolean triggersCreated = false;
+        for (CounterSource source : SOURCES) {
+            if (!exists("table", source.table)) {
+                // 원본 테이블이 아직 없으면 해당 Repository 초기화 이후 다시 생성됨
+                continue;
+            }
+            triggersCreated |= createTriggers(source);
+        }
+
+        connection.commit();
+
+        if (triggersCreated) {
+            log.info("대시보드 통계 트리거 생성 - 카운터 재구성");
+            rebuild();
+        }
+    }
+
+    /**
+     * 원본 테이블의 INSERT/UPDATE/DELETE 트리거 생성
+     *
+     * @return 새로 생성된 트리거가 있으면 true
+     */
+    private boolean createTriggers(CounterSource source) throws SQLException {
+        String insertName = "trg_dashboard_" + source.prefix + "_insert";
+        String updateName = "trg_dashboard_" + source.prefix + "_update";
+        String deleteName = "trg_dashboard_" + source.prefix + "_delete";
+
+        if (exists("trigger", insertName) && exists("trigger", updateName) && exists("trigger", deleteName)) {
+            return false;
+        }
+
+        StringBuilder increments = new StringBuilder();
+        StringBuilder decrements = new StringBuilder();
+        StringBuilder watchedColumns = new StringBuilder("company_id");
+        StringBuilder changed = new StringBuilder("OLD.company_id IS NOT NEW.company_id");
+        for (Counter counter : source.counters) {
+            increments.append(incrementSql(counter));
+            decrements.append(decrementSql(counter));
+            watchedColumns.append(", ").append(counter.valueColumn);
+            changed.append(" OR OLD.").append(counter.valueColumn).append(" IS NOT NEW.").append(counter.valueColumn);
+            if (counter.bucketColumn != null) {
+                watchedColumns.append(", ").append(counter.bucketColumn);
+                changed.append(" OR OLD.").append(counter.bucketColumn).append(" IS NOT NEW.").append(counter.bucketColumn);
+            }
+        }
+        String cleanup = "DELETE FROM dashboard_stats WHERE company_id = OLD.company_id AND cnt <= 0;\n";
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DROP TRIGGER IF EXISTS " + insertName);
+            stmt.execute("DROP TRIGGER IF EXISTS " + updateName);
+            stmt.execute("DROP TRIGGER IF EXISTS " + deleteName);
+
+            stmt.execute("CREATE TRIGGER " + insertName + " AFTER INSERT ON " + source.table + " BEGIN\n"
+                + increments + "END");
+            stmt.execute("CREATE TRIGGER " + updateName + " AFTER UPDATE OF " + watchedColumns
+                + " ON " + source.table + " WHEN " + changed + " BEGIN\n"
+                + decrements + increments + cleanup + "END");
+            stmt.execute("CREATE TRIGGER " + deleteName + " AFTER DELETE ON " + source.table + " BEGIN\n"
+                + decrements + cleanup + "END");
+        }
+
+        return true;
+    }
+
+    private String incrementSql(Counter counter) {
+        return "INSERT INTO dashboard_stats (company_id, dimension, value, bucket, cnt) VALUES (NEW.company_id, '"
+            + counter.dimension + "', COALESCE(NEW." + counter.valueColumn + ", ''), "
+            + bucketExpression("NEW", counter) + ", 1)"
+            + " ON CONFLICT(company_id, dimension, value, bucket) DO UPDATE SET cnt = cnt + 1;\n";
+    }
+
+    private String decrementSql(Counter counter) {
+        return "UPDATE dashboard_stats SET cnt = cnt - 1 WHERE company_id = OLD.company_id AND dimension = '"
+            + counter.dimension + "' AND value = COALESCE(OLD." + counter.valueColumn + ", '')"
+            + " AND bucket = " + bucketExpression("OLD", counter) + ";\n";
+    }
+
+    private String bucketExpression(String row, Counter counter) {
+        return counter.bucketColumn != null
+            ? "COALESCE(" + row + "." + counter.bucketColumn + ", '')"
+            : NO_BUCKET;
+    }
+
+    private boolean exists(String type, String name) throws SQLException {
+        String sql = "SELECT 1 FROM sqlite_master WHERE type = ? AND name = ?";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, type);
+            stmt.setString(2, name);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * 원본 테이블로부터 카운터 전체 재구성
+     */
+    public void rebuild() {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DELETE FROM dashboard_stats");
+
+            for (CounterSource source : SOURCES) {
+                if (!exists("table", source.table)) {
+                    continue;
+                }
+                for (Counter counter : source.counters) {
+                    String bucket = counter.bucketColumn != null
+                        ? "COALESCE(" + counter.bucketColumn + ", '')"
+                        : NO_BUCKET;
+                    stmt.execute("INSERT INTO dashboard_stats (company_id, dimension, value, bucket, cnt) "
+                        + "SELECT company_id, '" + counter.dimension + "', COALESCE(" + counter.valueColumn + ", ''), "
+                        + bucket + ", COUNT(*) FROM " + source.table
+                        + " GROUP BY company_id, " + counter.valueColumn
+                        + (counter.bucketColumn != null ? ", " + counter.bucketColumn : ""));
+                }
+            }
+
+            connection.commit();
+
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackEx) {
+                log.error("롤백 실패", rollbackEx);
+            }
+            log.error("대시보드 통계 재구성 실패", e);
+            throw new RuntimeException("데이터 저장 실패", e);
+        }
+    }
+
+    /**
+     * 회사별 통계 조회
+     * 버킷이 없는 카운터는 전체 기간, 날짜 버킷 카운터는 [from, to] 구간만 합산
+     *
+     * @param companyId 회사 ID (null이면 전체 회사 합계)
+     * @param from 날짜 버킷 시작일
+     * @param to 날짜 버킷 종료일
+     */
+    public DashboardStats findByCompany(String companyId, LocalDate from, LocalDate to) {
+        String sql = "SELECT dimension, value, SUM(cnt) AS total FROM dashboard_stats WHERE "
+            + (companyId != null ? "company_id = ? AND " : "")
+            + "(bucket = '' OR bucket BETWEEN ? AND ?) GROUP BY dimension, value";
+
+        DashboardStats stats = new DashboardStats();
+        stats.setCompanyId(companyId);
+
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            int index = 1;
+            if (companyId != null) {
+                stmt.setString(index++, companyId);
+            }
+            stmt.setString(index++, from.format(DATE_FORMATTER));
+            stmt.setString(index, to.format(DATE_FORMATTER));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    stats.add(rs.getString("dimension"), rs.getString("value"), rs.getLong("total"));
+                }
+            }
+
+        } catch (SQLException e) {
+            log.error("대시보드 통계 조회 실패: {}", companyId, e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        }
+
+        return stats;
+    }
+
+    /**
+     * 원본 테이블과 그 카운터 목록
+     */
+    private static class CounterSource {
+        final String table;
+        final String prefix;
+        final List<Counter> counters;
+
+        CounterSource(String table, String prefix, List<Counter> counters) {
+            this.table = table;
+            this.prefix = prefix;
+            this.counters = counters;
+        }
+    }
+
+    /**
+     * 카운터 정의 (차원명, 값 컬럼, 날짜 버킷 컬럼)
+     */
+    private static class Counter {
+        final String dimension;
+        final String valueColumn;
+        final String bucketColumn;
+
+        Counter(String dimension, String valueColumn, String bucketColumn) {
+            this.dimension = dimension;
+            this.valueColumn = valueColumn;
+            this.bucketColumn = bucketColumn;
+        }
+    }
+
+    /**
+     * 연결 종료
+     */
+    public void close() {
+        // Connection은 SqliteConnectionPool이 관리하므로 여기서 닫지 않음
+    }
+}
@@ -10,6 +10,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 개발자 정보 저장소 (SQLite)
@@ -19,6 +20,7 @@ public class DeveloperSqliteRepository {
     
     private final Connection connection;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final Set<String> CACHE_TABLES = Set.of("developers");
     
     public DeveloperSqliteRepository() {
         try {
@@ -87,23 +89,38 @@ public class DeveloperSqliteRepository {
         }
     }
     
+    /**
+     * 전체 개발자 (탭 예열과 탭 첫 로드가 같은 결과를 쓰도록 캐시)
+     */
     public List<Developer> findAll() {
-        List<Developer> results = new ArrayList<>();
         String sql = "SELECT * FROM developers";
         
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            
-            while (rs.next()) {
-                results.add(mapRow(rs));
-            }
+        try {
+            return QueryCache.getInstance().getList(sql, new Object[0], CACHE_TABLES, DeveloperSqliteRepository::copyOf,
+                () -> {
+                    List<Developer> results = new ArrayList<>();
+                    try (Statement stmt = connection.createStatement();
+                         ResultSet rs = stmt.executeQuery(sql)) {
+                        while (rs.next()) {
+                            results.add(mapRow(rs));
+                        }
+                    }
+                    return results;
+                });
             
         } catch (SQLException e) {
             log.error("개발자 목록 조회 실패", e);
             throw new RuntimeException("데이터 조회 실패", e);
         }
-        
-        return results;
+    }
+    
+    /**
+     * 캐시 보관용 복사본
+     */
+    private static Developer copyOf(Developer source) {
+        return new Developer(source.getId(), source.getCompanyId(), source.getName(), source.getPosition(),
+            source.getRole(), source.getTeam(), source.getEmail(), source.getPhone(), source.getEmergencyPhone(),
+            source.getJoinDate(), source.getStatus(), source.getNotes());
     }
     
     public Optional<Developer> findById(String id) {
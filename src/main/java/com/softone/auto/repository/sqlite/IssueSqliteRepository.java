@@ -10,6 +10,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -21,6 +22,9 @@ public class IssueSqliteRepository {
     private final Connection connection;
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
     
+    /** 조회 결과 캐시 의존 테이블 */
+    private static final Set<String> CACHE_TABLES = Set.of("issues");
+    
     public IssueSqliteRepository() {
         try {
             // Connection Pool 사용 (읽기는 Pool, 쓰기는 단일 연결)
@@ -94,23 +98,29 @@ public class IssueSqliteRepository {
         }
     }
     
+    /**
+     * 전체 이슈 (탭 예열과 탭 첫 로드가 같은 결과를 쓰도록 캐시)
+     */
     public List<Issue> findAll() {
-        List<Issue> results = new ArrayList<>();
         String sql = "SELECT * FROM issues";
         
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            
-            while (rs.next()) {
-                results.add(mapRow(rs));
-            }
+        try {
+            return QueryCache.getInstance().getList(sql, new Object[0], CACHE_TABLES, IssueSqliteRepository::copyOf,
+                () -> {
+                    List<Issue> results = new ArrayList<>();
+                    try (Statement stmt = connection.createStatement();
+                         ResultSet rs = stmt.executeQuery(sql)) {
+                        while (rs.next()) {
+                            results.add(mapRow(rs));
+                        }
+                    }
+                    return results;
+                });
             
         } catch (SQLException e) {
             log.error("이슈 목록 조회 실패", e);
             throw new RuntimeException("데이터 조회 실패", e);
         }
-        
-        return results;
     }
     
     public Optional<Issue> findById(String id) {
@@ -135,44 +145,52 @@ public class IssueSqliteRepository {
     
     public List<Issue> findByStatus(String status) {
         String sql = "SELECT * FROM issues WHERE status = ?";
-        List<Issue> results = new ArrayList<>();
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, status);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    results.add(mapRow(rs));
-                }
-            }
+        try {
+            return QueryCache.getInstance().getList(sql, new Object[]{status}, CACHE_TABLES, IssueSqliteRepository::copyOf,
+                () -> {
+                    List<Issue> results = new ArrayList<>();
+                    try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                        stmt.setString(1, status);
+                        
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            while (rs.next()) {
+                                results.add(mapRow(rs));
+                            }
+                        }
+                    }
+                    return results;
+                });
             
         } catch (SQLException e) {
             log.error("상태별 이슈 조회 실패: {}", status, e);
             throw new RuntimeException("데이터 조회 실패", e);
         }
-        
-        return results;
     }
     
     public List<Issue> findBySeverity(String severity) {
         String sql = "SELECT * FROM issues WHERE severity = ?";
-        List<Issue> results = new ArrayList<>();
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, severity);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    results.add(mapRow(rs));
-                }
-            }
+        try {
+            return QueryCache.getInstance().getList(sql, new Object[]{severity}, CACHE_TABLES, IssueSqliteRepository::copyOf,
+                () -> {
+                    List<Issue> results = new ArrayList<>();
+                    try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                        stmt.setString(1, severity);
+                        
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            while (rs.next()) {
+                                results.add(mapRow(rs));
+                            }
+                        }
+                    }
+                    return results;
+                });
             
         } catch (SQLException e) {
             log.error("심각도별 이슈 조회 실패: {}", severity, e);
             throw new RuntimeException("데이터 조회 실패", e);
         }
-        
-        return results;
     }
     
     public void save(Issue issue) {
@@ -277,6 +295,16 @@ public class IssueSqliteRepository {
         }
     }
     
+    /**
+     * 캐시 보관용 복사본
+     */
+    private static Issue copyOf(Issue source) {
+        return new Issue(source.getId(), source.getCompanyId(), source.getTitle(), source.getDescription(),
+            source.getCategory(), source.getSeverity(), source.getStatus(), source.getReporter(),
+            source.getAssignee(), source.getCreatedDate(), source.getUpdatedDate(), source.getResolvedDate(),
+            source.getResolution(), source.getNotes());
+    }
+    
     private Issue mapRow(ResultSet rs) throws SQLException {
         Issue issue = new Issue();
         issue.setId(rs.getString("id"));
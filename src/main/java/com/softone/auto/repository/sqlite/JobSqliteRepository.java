@@ -0,0 +1,244 @@
+package com.softone.auto.repository.sqlite;
+
+import com.softone.auto.model.Job;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 백그라운드 작업 저장소 (SQLite)
+ *
+ * 작업 상태를 jobs 테이블에 남겨 애플리케이션을 다시 시작해도 대기/실행 중이던 작업을 이어가거나
+ * 중단되었다고 보고할 수 있게 합니다. 쓰기는 단일 쓰기 연결, 목록 조회는 읽기 연결을 사용합니다.
+ */
+@Slf4j
+public class JobSqliteRepository {
+
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final Connection connection;
+
+    public JobSqliteRepository() {
+        try {
+            this.connection = SqliteConnectionPool.getInstance().getWriteConnection();
+            createTable();
+        } catch (SQLException e) {
+            log.error("SQLite 연결 실패", e);
+            throw new RuntimeException("데이터베이스 연결 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void createTable() throws SQLException {
+        String sql = """
+            CREATE TABLE IF NOT EXISTS jobs (
+                id TEXT PRIMARY KEY,
+                type TEXT NOT NULL,
+                state TEXT NOT NULL,
+                title TEXT,
+                payload TEXT,
+                progress INTEGER DEFAULT 0,
+                message TEXT,
+                result_path TEXT,
+                attempts INTEGER DEFAULT 0,
+                max_attempts INTEGER DEFAULT 1,
+                created_at TEXT NOT NULL,
+                started_at TEXT,
+                finished_at TEXT
+            )
+            """;
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_jobs_state ON jobs(state, created_at)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_jobs_created_at ON jobs(created_at)");
+        }
+
+        connection.commit();
+    }
+
+    public void save(Job job) {
+        String sql = """
+            INSERT INTO jobs (id, type, state, title, payload, progress, message, result_path,
+                              attempts, max_attempts, created_at, started_at, finished_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, job.getId());
+            stmt.setString(2, job.getType().name());
+            stmt.setString(3, job.getState().name());
+            stmt.setString(4, job.getTitle());
+            stmt.setString(5, job.getPayload());
+            stmt.setInt(6, job.getProgress());
+            stmt.setString(7, job.getMessage());
+            stmt.setString(8, job.getResultPath());
+            stmt.setInt(9, job.getAttempts());
+            stmt.setInt(10, job.getMaxAttempts());
+            stmt.setString(11, formatDateTime(job.getCreatedAt()));
+            stmt.setString(12, formatDateTime(job.getStartedAt()));
+            stmt.setString(13, formatDateTime(job.getFinishedAt()));
+
+            stmt.executeUpdate();
+            connection.commit();
+
+        } catch (SQLException e) {
+            rollback();
+            log.error("작업 저장 실패: {}", job.getId(), e);
+            throw new RuntimeException("데이터 저장 실패", e);
+        }
+    }
+
+    /**
+     * 상태/진행률/결과 갱신 (등록 정보는 바뀌지 않음)
+     */
+    public void update(Job job) {
+        String sql = """
+            UPDATE jobs SET state = ?, progress = ?, message = ?, result_path = ?, attempts = ?,
+                            started_at = ?, finished_at = ?
+            WHERE id = ?
+            """;
+
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, job.getState().name());
+            stmt.setInt(2, job.getProgress());
+            stmt.setString(3, job.getMessage());
+            stmt.setString(4, job.getResultPath());
+            stmt.setInt(5, job.getAttempts());
+            stmt.setString(6, formatDateTime(job.getStartedAt()));
+            stmt.setString(7, formatDateTime(job.getFinishedAt()));
+            stmt.setString(8, job.getId());
+
+            stmt.executeUpdate();
+            connection.commit();
+
+        } catch (SQLException e) {
+            rollback();
+            log.error("작업 갱신 실패: {}", job.getId(), e);
+            throw new RuntimeException("데이터 저장 실패", e);
+        }
+    }
+
+    public Job findById(String id) {
+        List<Job> jobs = query("SELECT * FROM jobs WHERE id = ?", id);
+        return jobs.isEmpty() ? null : jobs.get(0);
+    }
+
+    /**
+     * 상태별 작업 (등록 순)
+     */
+    public List<Job> findByState(Job.State state) {
+        return query("SELECT * FROM jobs WHERE state = ? ORDER BY created_at, id", state.name());
+    }
+
+    /**
+     * 최근 등록된 작업 (최신 순)
+     */
+    public List<Job> findRecent(int limit) {
+        return query("SELECT * FROM jobs ORDER BY created_at DESC, id DESC LIMIT " + Math.max(limit, 0));
+    }
+
+    public void delete(String id) {
+        try (PreparedStatement stmt = connection.prepareStatement("DELETE FROM jobs WHERE id = ?")) {
+            stmt.setString(1, id);
+            stmt.executeUpdate();
+            connection.commit();
+        } catch (SQLException e) {
+            rollback();
+            log.error("작업 삭제 실패: {}", id, e);
+            throw new RuntimeException("데이터 삭제 실패", e);
+        }
+    }
+
+    /**
+     * 기준 일시 이전에 끝난 작업 삭제 (이력 정리)
+     *
+     * @return 삭제된 작업 수
+     */
+    public int deleteFinishedBefore(LocalDateTime before) {
+        String sql = "DELETE FROM jobs WHERE state IN ('SUCCEEDED', 'FAILED', 'CANCELLED') AND finished_at < ?";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, formatDateTime(before));
+            int deleted = stmt.executeUpdate();
+            connection.commit();
+            return deleted;
+        } catch (SQLException e) {
+            rollback();
+            log.error("작업 이력 정리 실패", e);
+            throw new RuntimeException("데이터 삭제 실패", e);
+        }
+    }
+
+    private List<Job> query(String sql, String... parameters) {
+        List<Job> results = new ArrayList<>();
+        Connection conn = null;
+        try {
+            conn = SqliteConnectionPool.getInstance().getReadConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    stmt.setString(i + 1, parameters[i]);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        results.add(mapRow(rs));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.error("작업 조회 실패", e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        } finally {
+            SqliteConnectionPool.getInstance().returnConnection(conn);
+        }
+        return results;
+    }
+
+    private Job mapRow(ResultSet rs) throws SQLException {
+        Job job = new Job();
+        job.setId(rs.getString("id"));
+        job.setType(Job.Type.valueOf(rs.getString("type")));
+        job.setState(Job.State.valueOf(rs.getString("state")));
+        job.setTitle(rs.getString("title"));
+        job.setPayload(rs.getString("payload"));
+        job.setProgress(rs.getInt("progress"));
+        job.setMessage(rs.getString("message"));
+        job.setResultPath(rs.getString("result_path"));
+        job.setAttempts(rs.getInt("attempts"));
+        job.setMaxAttempts(rs.getInt("max_attempts"));
+        job.setCreatedAt(parseDateTime(rs.getString("created_at")));
+        job.setStartedAt(parseDateTime(rs.getString("started_at")));
+        job.setFinishedAt(parseDateTime(rs.getString("finished_at")));
+        return job;
+    }
+
+    private void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException rollbackEx) {
+            log.error("롤백 실패", rollbackEx);
+        }
+    }
+
+    private String formatDateTime(LocalDateTime datetime) {
+        return datetime != null ? datetime.format(DATETIME_FORMATTER) : null;
+    }
+
+    private LocalDateTime parseDateTime(String datetimeStr) {
+        if (datetimeStr == null || datetimeStr.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(datetimeStr, DATETIME_FORMATTER);
+        } catch (Exception e) {
+            log.warn("날짜시간 파싱 실패: {}", datetimeStr);
+            return null;
+        }
+    }
+}
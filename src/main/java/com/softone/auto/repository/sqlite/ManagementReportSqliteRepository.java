@@ -0,0 +1,230 @@
+package com.softone.auto.repository.sqlite;
+
+import com.softone.auto.model.ManagementReport.AttendanceRow;
+import com.softone.auto.model.ManagementReport.CommunicationRow;
+import com.softone.auto.model.ManagementReport.IssueRow;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경영 보고서 집계 저장소 (SQLite, 읽기 전용)
+ *
+ * 모든 지표를 GROUP BY 집계 쿼리로 계산해 (회사, 기간)별 행만 가져옵니다 (엔티티 목록을 만들지 않음).
+ * 회사명은 집계가 끝난 행에만 붙이고, 각 조회는 자기 읽기 연결을 쓰므로 동시에 실행할 수 있습니다.
+ * 근태는 트리거로 유지되는 attendance_monthly_rollups(개발자×월×유형)를 다시 묶으므로 원본 행 수와 무관하고,
+ * 이슈/고객 소통은 기간 조건으로 테이블을 한 번씩 훑습니다 (이슈는 접수/해결 두 갈래).
+ * 기간 키는 SQL에서 만들며 월별은 "2024-01", 분기별은 "2024-Q1" 형식입니다.
+ */
+@Slf4j
+public class ManagementReportSqliteRepository {
+
+    /** 출근으로 보는 근태 유형 */
+    private static final String WORKED_TYPES = "'NORMAL', 'PRESENT', 'LATE', 'EARLY_LEAVE', 'REMOTE'";
+    /** 휴가로 보는 근태 유형 */
+    private static final String LEAVE_TYPES = "'VACATION', 'SICK_LEAVE', 'SICK'";
+
+    /**
+     * 집계 단위
+     */
+    public enum Period {
+        MONTHLY("월별"),
+        QUARTERLY("분기별");
+
+        private final String label;
+
+        Period(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * 기간의 첫 달 (분기별이면 분기 시작 월)
+         */
+        public YearMonth firstMonth(YearMonth month) {
+            return this == MONTHLY ? month : YearMonth.of(month.getYear(), (month.getMonthValue() - 1) / 3 * 3 + 1);
+        }
+
+        /**
+         * 기간의 마지막 달 (분기별이면 분기 종료 월)
+         */
+        public YearMonth lastMonth(YearMonth month) {
+            return firstMonth(month).plusMonths(this == MONTHLY ? 0 : 2);
+        }
+
+        /**
+         * 기간 키 SQL 식
+         *
+         * @param month "yyyy-MM"으로 시작하는 문자열 식
+         */
+        String keyExpression(String month) {
+            return this == MONTHLY
+                ? "substr(" + month + ", 1, 7)"
+                : "substr(" + month + ", 1, 4) || '-Q' || ((CAST(substr(" + month + ", 6, 2) AS INTEGER) + 2) / 3)";
+        }
+    }
+
+    /**
+     * 개발자별 기간 근태 (월별 집계 테이블 기준)
+     *
+     * @param companyId null이면 전체 회사
+     */
+    public List<AttendanceRow> findAttendance(Period period, YearMonth fromMonth, YearMonth toMonth, String companyId) {
+        // 개발자×기간으로 먼저 묶은 뒤 회사명을 붙임 (개발자는 한 회사 소속)
+        String sql = "SELECT a.*, c.name AS company_name FROM ("
+            + "SELECT MAX(r.company_id) AS company_id, " + period.keyExpression("r.month") + " AS period,"
+            + " r.developer_id, MAX(r.developer_name) AS developer_name,"
+            + " SUM(r.days) AS total_days,"
+            + " SUM(CASE WHEN r.type IN (" + WORKED_TYPES + ") THEN r.days ELSE 0 END) AS worked_days,"
+            + " SUM(CASE WHEN r.type = 'LATE' THEN r.days ELSE 0 END) AS late_days,"
+            + " SUM(CASE WHEN r.type = 'EARLY_LEAVE' THEN r.days ELSE 0 END) AS early_leave_days,"
+            + " SUM(CASE WHEN r.type = 'ABSENT' THEN r.days ELSE 0 END) AS absent_days,"
+            + " SUM(CASE WHEN r.type IN (" + LEAVE_TYPES + ") THEN r.days ELSE 0 END) AS leave_days,"
+            + " SUM(r.work_minutes) AS work_minutes"
+            + " FROM attendance_monthly_rollups r"
+            + " WHERE r.month >= ? AND r.month <= ?" + (companyId != null ? " AND r.company_id = ?" : "")
+            + " GROUP BY r.developer_id, period"
+            + ") a LEFT JOIN companies c ON c.id = a.company_id"
+            + " ORDER BY c.name, a.company_id, a.period, a.developer_name";
+
+        List<AttendanceRow> rows = new ArrayList<>();
+        query(sql, "근태", rs -> {
+            AttendanceRow row = new AttendanceRow();
+            row.setCompanyId(rs.getString("company_id"));
+            row.setCompanyName(rs.getString("company_name"));
+            row.setPeriod(rs.getString("period"));
+            row.setDeveloperId(rs.getString("developer_id"));
+            row.setDeveloperName(rs.getString("developer_name"));
+            row.setTotalDays(rs.getInt("total_days"));
+            row.setWorkedDays(rs.getInt("worked_days"));
+            row.setLateDays(rs.getInt("late_days"));
+            row.setEarlyLeaveDays(rs.getInt("early_leave_days"));
+            row.setAbsentDays(rs.getInt("absent_days"));
+            row.setLeaveDays(rs.getInt("leave_days"));
+            row.setWorkMinutes(rs.getLong("work_minutes"));
+            rows.add(row);
+        }, fromMonth.toString(), toMonth.toString(), companyId);
+        return rows;
+    }
+
+    /**
+     * 회사별 기간 이슈 접수/해결 (접수는 등록일, 해결은 해결일이 기간에 속하는 건)
+     *
+     * @param companyId null이면 전체 회사
+     */
+    public List<IssueRow> findIssues(Period period, YearMonth fromMonth, YearMonth toMonth, String companyId) {
+        String company = companyId != null ? " AND company_id = ?" : "";
+        String sql = "SELECT a.*, c.name AS company_name FROM ("
+            + "SELECT company_id, period, SUM(created) AS created, SUM(high) AS high_severity,"
+            + " SUM(resolved) AS resolved, SUM(days) AS resolution_days FROM ("
+            + "SELECT company_id, " + period.keyExpression("created_date") + " AS period, 1 AS created,"
+            + " CASE WHEN severity = '높음' THEN 1 ELSE 0 END AS high, 0 AS resolved, 0.0 AS days"
+            + " FROM issues WHERE created_date >= ? AND created_date < ?" + company
+            + " UNION ALL "
+            + "SELECT company_id, " + period.keyExpression("resolved_date") + ", 0, 0, 1,"
+            + " MAX(julianday(resolved_date) - julianday(created_date), 0)"
+            + " FROM issues WHERE resolved_date >= ? AND resolved_date < ?" + company
+            + ") GROUP BY company_id, period"
+            + ") a LEFT JOIN companies c ON c.id = a.company_id"
+            + " ORDER BY c.name, a.company_id, a.period";
+
+        String from = fromMonth.atDay(1).toString();
+        String to = toMonth.plusMonths(1).atDay(1).toString();
+        List<IssueRow> rows = new ArrayList<>();
+        query(sql, "이슈", rs -> {
+            IssueRow row = new IssueRow();
+            row.setCompanyId(rs.getString("company_id"));
+            row.setCompanyName(rs.getString("company_name"));
+            row.setPeriod(rs.getString("period"));
+            row.setCreated(rs.getInt("created"));
+            row.setHighSeverity(rs.getInt("high_severity"));
+            row.setResolved(rs.getInt("resolved"));
+            row.setResolutionDays(rs.getDouble("resolution_days"));
+            rows.add(row);
+        }, from, to, companyId, from, to, companyId);
+        return rows;
+    }
+
+    /**
+     * 회사별 기간 고객 소통 처리 현황 (소통 일시가 기간에 속하는 건)
+     *
+     * @param companyId null이면 전체 회사
+     */
+    public List<CommunicationRow> findCommunications(Period period, YearMonth fromMonth, YearMonth toMonth,
+                                                     String companyId) {
+        String sql = "SELECT a.*, c.name AS company_name FROM ("
+            + "SELECT company_id, " + period.keyExpression("communication_date") + " AS period,"
+            + " COUNT(*) AS total,"
+            + " SUM(CASE WHEN priority = 'HIGH' THEN 1 ELSE 0 END) AS high_priority,"
+            + " SUM(CASE WHEN completed_date IS NOT NULL THEN 1 ELSE 0 END) AS completed,"
+            + " SUM(CASE WHEN due_date IS NOT NULL AND COALESCE(completed_date, ?) > due_date THEN 1 ELSE 0 END)"
+            + " AS overdue,"
+            + " SUM(CASE WHEN completed_date IS NOT NULL"
+            + " THEN MAX(julianday(completed_date) - julianday(communication_date), 0) ELSE 0 END) AS turnaround_days"
+            + " FROM customer_communications"
+            + " WHERE communication_date >= ? AND communication_date < ?"
+            + (companyId != null ? " AND company_id = ?" : "")
+            + " GROUP BY company_id, period"
+            + ") a LEFT JOIN companies c ON c.id = a.company_id"
+            + " ORDER BY c.name, a.company_id, a.period";
+
+        List<CommunicationRow> rows = new ArrayList<>();
+        query(sql, "고객 소통", rs -> {
+            CommunicationRow row = new CommunicationRow();
+            row.setCompanyId(rs.getString("company_id"));
+            row.setCompanyName(rs.getString("company_name"));
+            row.setPeriod(rs.getString("period"));
+            row.setTotal(rs.getInt("total"));
+            row.setHighPriority(rs.getInt("high_priority"));
+            row.setCompleted(rs.getInt("completed"));
+            row.setOverdue(rs.getInt("overdue"));
+            row.setTurnaroundDays(rs.getDouble("turnaround_days"));
+            rows.add(row);
+        }, LocalDateTime.now().withNano(0).toString(), fromMonth.atDay(1).toString(),
+            toMonth.plusMonths(1).atDay(1).toString(), companyId);
+        return rows;
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        void read(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * 읽기 연결로 집계 쿼리 실행 (null 매개변수는 건너뜀 - 회사 조건이 없는 경우)
+     */
+    private void query(String sql, String name, RowReader reader, String... parameters) {
+        Connection conn = null;
+        try {
+            conn = SqliteConnectionPool.getInstance().getReadConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (String parameter : parameters) {
+                    if (parameter != null) {
+                        stmt.setString(index++, parameter);
+                    }
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        reader.read(rs);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.error("경영 보고서 {} 집계 실패", name, e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        } finally {
+            SqliteConnectionPool.getInstance().returnConnection(conn);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.softone.auto.repository.sqlite;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.sqlite.SQLiteCommitListener;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteUpdateListener;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * 저장소 계층 조회 결과 캐시
+ *
+ * <p>Repository가 명시적으로 선택한(opt-in) 조회만 "SQL + 바인딩 파라미터"를 키로 결과를 보관합니다.
+ * 각 항목은 의존 테이블 목록을 기록하며, 해당 테이블에 쓰기가 발생하면 즉시 제거됩니다.</p>
+ *
+ * <p>무효화는 쓰기 연결의 SQLite update hook / commit hook으로 처리하므로
+ * 트리거, ON DELETE CASCADE로 변경된 테이블도 함께 무효화됩니다.
+ * 단, SQLite는 WITHOUT ROWID 테이블의 변경을 update hook으로 알리지 않으므로
+ * 그런 테이블(dashboard_stats, attendance_monthly_rollups)에 대한 조회는 캐시하지 않습니다.</p>
+ *
+ * <p>캐시된 엔티티는 가변 객체(@Data)이므로 저장 및 반환 시 Repository가 제공한 복사 함수로 복제합니다.</p>
+ */
+@Slf4j
+public final class QueryCache {
+
+    private static final int MAX_ENTRIES = 500;
+    private static final long MAX_BYTES = 16L * 1024 * 1024;   // 16MB (추정치 기준)
+
+    private static final QueryCache INSTANCE = new QueryCache();
+
+    /** 접근 순서 LRU */
+    private final LinkedHashMap<List<Object>, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    /** 테이블별 변경 버전 (조회 도중 쓰기가 일어난 결과는 저장하지 않기 위함) */
+    private final Map<String, Long> tableVersions = new HashMap<>();
+    /** 테이블별 기존 행 수정/삭제 횟수 (INSERT는 제외, 증분 적재하는 쪽의 재적재 판단용) */
+    private final Map<String, Long> modificationVersions = new HashMap<>();
+    /** 커밋 전까지 변경된 테이블 (커밋/롤백 시점에 다시 무효화) */
+    private final Set<String> pendingTables = new HashSet<>();
+
+    private volatile boolean enabled = true;
+    private long currentBytes = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private QueryCache() {
+    }
+
+    public static QueryCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 쓰기 연결에 변경 감지 hook 등록 (SqliteConnectionPool에서 연결 생성 시 호출)
+     */
+    void attach(Connection connection) throws SQLException {
+        SQLiteConnection sqliteConnection = connection.unwrap(SQLiteConnection.class);
+        sqliteConnection.addUpdateListener(new SQLiteUpdateListener() {
+            @Override
+            public void onUpdate(Type type, String database, String table, long rowId) {
+                markChanged(table, type != Type.INSERT);
+            }
+        });
+        sqliteConnection.addCommitListener(new SQLiteCommitListener() {
+            @Override
+            public void onCommit() {
+                flushPending();
+            }
+
+            @Override
+            public void onRollback() {
+                flushPending();
+            }
+        });
+    }
+
+    /**
+     * 캐시를 거쳐 목록 조회
+     *
+     * @param sql 조회 SQL (키의 일부)
+     * @param params 바인딩 파라미터 (키의 일부)
+     * @param tables 결과가 의존하는 테이블
+     * @param copier 엔티티 복사 함수 (호출자가 캐시된 객체를 수정하지 못하도록)
+     * @param loader 캐시 미스 시 실제 조회
+     */
+    public <T> List<T> getList(String sql, Object[] params, Set<String> tables,
+                               UnaryOperator<T> copier, Loader<List<T>> loader) throws SQLException {
+        if (!enabled) {
+            return loader.load();
+        }
+
+        List<Object> key = new ArrayList<>(params.length + 1);
+        key.add(sql);
+        key.addAll(Arrays.asList(params));
+
+        Map<String, Long> versions;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                @SuppressWarnings("unchecked")
+                List<T> cached = (List<T>) entry.value;
+                return copyList(cached, copier);
+            }
+            versions = snapshotVersions(tables);
+        }
+        misses.incrementAndGet();
+
+        List<T> loaded = loader.load();
+        List<T> stored = copyList(loaded, copier);
+
+        synchronized (this) {
+            if (versions.equals(snapshotVersions(tables))) {
+                put(key, new Entry(stored, tables, estimateBytes(sql, params, stored)));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 특정 테이블에 의존하는 항목 무효화
+     * hook으로 감지되지 않는 변경(WITHOUT ROWID 테이블, 외부 연결)에 사용
+     */
+    public synchronized void invalidate(String table) {
+        tableVersions.merge(table, 1L, Long::sum);
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.tables.contains(table)) {
+                currentBytes -= entry.bytes;
+                iterator.remove();
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 전체 비우기 (데이터 경로 변경, 백업 복원 등)
+     */
+    public synchronized void clear() {
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+        currentBytes = 0;
+        tableVersions.replaceAll((table, version) -> version + 1);
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            clear();
+        }
+        log.info("조회 결과 캐시 {}", enabled ? "활성화" : "비활성화");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 지표 스냅샷
+     */
+    public synchronized Stats getStats() {
+        Stats stats = new Stats();
+        stats.setHits(hits.get());
+        stats.setMisses(misses.get());
+        stats.setEvictions(evictions.get());
+        stats.setInvalidations(invalidations.get());
+        stats.setEntryCount(entries.size());
+        stats.setEstimatedBytes(currentBytes);
+        return stats;
+    }
+
+    /**
+     * 테이블의 기존 행 수정/삭제 버전 (쓰기 연결에서 UPDATE/DELETE가 일어날 때마다 증가)
+     * 새 행만 이어 붙이는 캐시는 이 값이 그대로일 때만 증분 갱신하면 됩니다.
+     * rowid가 재사용되는 삭제 후 추가도 감지되며, 캐시 활성화 여부와 무관하게 기록됩니다.
+     */
+    public synchronized long getModificationVersion(String table) {
+        return modificationVersions.getOrDefault(table, 0L);
+    }
+
+    private synchronized void markChanged(String table, boolean modified) {
+        if (modified) {
+            modificationVersions.merge(table, 1L, Long::sum);
+        }
+        pendingTables.add(table);
+        invalidate(table);
+    }
+
+    private synchronized void flushPending() {
+        // 커밋 전에 같은 연결에서 조회되어 캐시된 결과, 롤백으로 되돌려진 결과 모두 제거
+        for (String table : pendingTables) {
+            invalidate(table);
+        }
+        pendingTables.clear();
+    }
+
+    private void put(List<Object> key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            currentBytes -= previous.bytes;
+        }
+        currentBytes += entry.bytes;
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while ((entries.size() > MAX_ENTRIES || currentBytes > MAX_BYTES) && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            currentBytes -= eldest.bytes;
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private Map<String, Long> snapshotVersions(Set<String> tables) {
+        Map<String, Long> versions = new HashMap<>();
+        for (String table : tables) {
+            versions.put(table, tableVersions.getOrDefault(table, 0L));
+        }
+        return versions;
+    }
+
+    private static <T> List<T> copyList(List<T> source, UnaryOperator<T> copier) {
+        List<T> copy = new ArrayList<>(source.size());
+        for (T item : source) {
+            copy.add(item != null ? copier.apply(item) : null);
+        }
+        return copy;
+    }
+
+    /**
+     * 메모리 사용량 추정 (문자열 표현 길이 기반, UTF-16)
+     */
+    private static long estimateBytes(String sql, Object[] params, List<?> values) {
+        long bytes = 64L + sql.length() * 2L;
+        for (Object param : params) {
+            bytes += 16L + String.valueOf(param).length() * 2L;
+        }
+        for (Object value : values) {
+            bytes += 32L + String.valueOf(value).length() * 2L;
+        }
+        return bytes;
+    }
+
+    /**
+     * 캐시 미스 시 실행할 조회
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws SQLException;
+    }
+
+    private static final class Entry {
+        final Object value;
+        final Set<String> tables;
+        final long bytes;
+
+        Entry(Object value, Set<String> tables, long bytes) {
+            this.value = value;
+            this.tables = tables;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * 캐시 지표
+     */
+    @Data
+    public static class Stats {
+        private long hits;
+        private long misses;
+        private long evictions;
+        private long invalidations;
+        private int entryCount;
+        private long estimatedBytes;
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
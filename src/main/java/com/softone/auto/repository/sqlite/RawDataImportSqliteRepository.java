@@ -0,0 +1,327 @@
+package com.softone.auto.repository.sqlite;
+
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.Column;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.Dataset;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 원본 데이터 일괄 저장소 (SQLite, CSV 가져오기용)
+ *
+ * 행마다 커밋하지 않고 하나의 PreparedStatement에 모아 일정 건수마다 한 트랜잭션으로 저장합니다.
+ * 열 순서는 RawDataSqliteRepository.Dataset.getColumns()와 같고, id/company_id(근태는 developer_id 포함)는 여기서 채웁니다.
+ * 근태는 (개발자, 날짜)가 같으면 교체(INSERT OR REPLACE)되므로 같은 파일을 다시 가져와도 중복되지 않습니다.
+ * 이슈/고객 소통은 내보낸 CSV의 ID가 있으면 같은 회사의 같은 ID 행을 갱신하고(UPSERT),
+ * 다른 회사의 ID이거나 ID가 없으면 새 ID로 추가합니다.
+ *
+ * ID는 시간순 UUID(앞 48비트가 밀리초)에 일련번호를 더해 만들어 기본키 B-tree의 끝에만 추가되도록 합니다.
+ * 대량 적재 모드에서는 대상 테이블의 보조 인덱스와 집계 트리거를 잠시 제거하고 끝날 때 같은 정의로 다시 만듭니다.
+ * 도중에 프로세스가 종료되어도 각 Repository 초기화 시 인덱스(IF NOT EXISTS)와 트리거(없으면 생성 후 재집계)가 복구됩니다.
+ */
+@Slf4j
+public class RawDataImportSqliteRepository {
+
+    /** 대량 적재 중 페이지 캐시 크기 (음수는 KB 단위, 256MB) */
+    private static final int BULK_CACHE_SIZE = -262144;
+
+    private final Connection connection;
+    private final SecureRandom random = new SecureRandom();
+    private int previousCacheSize;
+
+    public RawDataImportSqliteRepository() {
+        try {
+            this.connection = SqliteConnectionPool.getInstance().getWriteConnection();
+        } catch (SQLException e) {
+            log.error("SQLite 연결 실패", e);
+            throw new RuntimeException("데이터베이스 연결 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 회사 개발자 이름 → ID (근태 가져오기 시 developer_id 결정, 동명이인은 먼저 등록된 개발자)
+     */
+    public Map<String, String> findDeveloperIdsByName(String companyId) {
+        String sql = "SELECT id, name FROM developers WHERE company_id = ? ORDER BY created_at DESC";
+        Map<String, String> developerIds = new HashMap<>();
+
+        Connection conn = null;
+        try {
+            conn = SqliteConnectionPool.getInstance().getReadConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, companyId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        developerIds.put(rs.getString("name"), rs.getString("id"));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.error("개발자 목록 조회 실패: {}", companyId, e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        } finally {
+            SqliteConnectionPool.getInstance().returnConnection(conn);
+        }
+        return developerIds;
+    }
+
+    /**
+     * 일괄 저장 시작 (사용 후 close)
+     *
+     * @param bulkLoad true면 보조 인덱스/트리거를 제거하고 적재 (close 시 복원, 집계 재구성은 호출자가 수행)
+     */
+    public Batch openBatch(Dataset dataset, String companyId, boolean bulkLoad) {
+        boolean attendance = dataset == Dataset.ATTENDANCE;
+        List<Column> columns = dataset.getColumns();
+
+        StringBuilder names = new StringBuilder(attendance ? "id, company_id, developer_id" : "id, company_id");
+        StringBuilder placeholders = new StringBuilder(attendance ? "?, ?, ?" : "?, ?");
+        for (Column column : columns) {
+            names.append(", ").append(column.getName());
+            placeholders.append(", ?");
+        }
+        String sql = "INSERT OR REPLACE INTO " + dataset.getTable() + " (" + names + ") VALUES (" + placeholders + ")";
+
+        // 같은 회사의 행만 갱신 (다른 회사 행이면 변경 0건 → 새 ID로 추가)
+        String upsertSql = null;
+        if (!attendance) {
+            StringBuilder updates = new StringBuilder();
+            for (Column column : columns) {
+                updates.append(updates.length() > 0 ? ", " : "").append(column.getName())
+                    .append(" = excluded.").append(column.getName());
+            }
+            upsertSql = "INSERT INTO " + dataset.getTable() + " (" + names + ") VALUES (" + placeholders + ")"
+                + " ON CONFLICT(id) DO UPDATE SET " + updates
+                + " WHERE " + dataset.getTable() + ".company_id = excluded.company_id";
+        }
+
+        List<String> suspended = List.of();
+        PreparedStatement stmt = null;
+        try {
+            if (bulkLoad) {
+                suspended = suspendIndexesAndTriggers(dataset.getTable());
+            }
+            stmt = connection.prepareStatement(sql);
+            PreparedStatement upsert = upsertSql != null ? connection.prepareStatement(upsertSql) : null;
+            return new Batch(stmt, upsert, companyId, attendance ? 3 : 2, columns.size(), suspended);
+        } catch (SQLException e) {
+            if (stmt != null) {
+                try {
+                    stmt.close();
+                } catch (SQLException closeEx) {
+                    log.warn("일괄 저장 문장 닫기 실패", closeEx);
+                }
+            }
+            restoreIndexesAndTriggers(suspended);
+            log.error("일괄 저장 준비 실패: {}", dataset, e);
+            throw new RuntimeException("데이터 저장 실패", e);
+        }
+    }
+
+    /**
+     * 보조 인덱스와 트리거 제거 (UNIQUE 제약의 자동 인덱스는 유지)
+     *
+     * @return 복원할 CREATE 문
+     */
+    private List<String> suspendIndexesAndTriggers(String table) throws SQLException {
+        List<String> names = new ArrayList<>();
+        List<String> definitions = new ArrayList<>();
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT type, name, sql FROM sqlite_master WHERE tbl_name = ? AND sql IS NOT NULL"
+                    + " AND type IN ('index', 'trigger')")) {
+            stmt.setString(1, table);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    names.add("DROP " + rs.getString("type").toUpperCase() + " IF EXISTS " + rs.getString("name"));
+                    definitions.add(rs.getString("sql"));
+                }
+            }
+        }
+
+        try (Statement stmt = connection.createStatement()) {
+            for (String drop : names) {
+                stmt.execute(drop);
+            }
+            connection.commit();
+            try (ResultSet rs = stmt.executeQuery("PRAGMA cache_size")) {
+                previousCacheSize = rs.next() ? rs.getInt(1) : BULK_CACHE_SIZE;
+            }
+            stmt.execute("PRAGMA cache_size = " + BULK_CACHE_SIZE);
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+        log.info("대량 적재 시작 - {}: 인덱스/트리거 {}개 일시 제거", table, definitions.size());
+        return definitions;
+    }
+
+    private void restoreIndexesAndTriggers(List<String> definitions) {
+        if (definitions.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try (Statement stmt = connection.createStatement()) {
+            for (String definition : definitions) {
+                stmt.execute(definition);
+            }
+            connection.commit();
+            stmt.execute("PRAGMA cache_size = " + previousCacheSize);
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackEx) {
+                log.error("롤백 실패", rollbackEx);
+            }
+            // 다음 실행 시 Repository 초기화에서 복구됨
+            log.error("인덱스/트리거 복원 실패", e);
+            throw new RuntimeException("데이터 저장 실패", e);
+        }
+        log.info("대량 적재 종료 - 인덱스/트리거 {}개 재생성, {}ms", definitions.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 한 트랜잭션으로 모아 저장할 행 묶음
+     */
+    public final class Batch implements AutoCloseable {
+        private final PreparedStatement stmt;
+        private final PreparedStatement upsert;     // ID를 유지하는 행 (근태는 null)
+        private final String companyId;
+        private final int keyCount;
+        private final int columnCount;
+        private final List<String> suspended;
+        private final long idHigh;
+        private final long idLow;
+        private int sequence;
+        private int pending;
+
+        private Batch(PreparedStatement stmt, PreparedStatement upsert, String companyId, int keyCount, int columnCount,
+                      List<String> suspended) {
+            this.stmt = stmt;
+            this.upsert = upsert;
+            this.companyId = companyId;
+            this.keyCount = keyCount;
+            this.columnCount = columnCount;
+            this.suspended = suspended;
+            // 버전 7 형식: 밀리초(48) | 버전(4) | 난수(12), 변형(2) | 난수(30) | 일련번호(32)
+            this.idHigh = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+            this.idLow = 0x8000000000000000L | ((random.nextLong() & 0x3FFFFFFFL) << 32);
+        }
+
+        /**
+         * 이번 적재에서 만든 ID는 문자열 순서가 생성 순서와 같음
+         */
+        private String nextId() {
+            return new UUID(idHigh, idLow | (sequence++ & 0xFFFFFFFFL)).toString();
+        }
+
+        /**
+         * 행 추가 (아직 커밋되지 않음)
+         *
+         * @param id 유지할 ID (이슈/고객 소통만, 없으면 null → 새 ID)
+         * @param developerId 근태만 사용 (그 외 null)
+         * @param values Dataset 열 순서의 값 (String, Integer 또는 null)
+         */
+        public void add(String id, String developerId, Object[] values) {
+            try {
+                // ID가 있는 행은 바로 실행해 같은 회사 행이 갱신되었는지 확인 (커밋은 묶음과 함께)
+                if (id != null && upsert != null) {
+                    bind(upsert, id, developerId, values);
+                    if (upsert.executeUpdate() > 0) {
+                        pending++;
+                        return;
+                    }
+                }
+                bind(stmt, nextId(), developerId, values);
+                stmt.addBatch();
+                pending++;
+            } catch (SQLException e) {
+                log.error("일괄 저장 행 추가 실패", e);
+                throw new RuntimeException("데이터 저장 실패", e);
+            }
+        }
+
+        private void bind(PreparedStatement target, String id, String developerId, Object[] values) throws SQLException {
+            target.setString(1, id);
+            target.setString(2, companyId);
+            if (keyCount == 3) {
+                target.setString(3, developerId);
+            }
+            for (int i = 0; i < columnCount; i++) {
+                target.setObject(keyCount + i + 1, values[i]);
+            }
+        }
+
+        /**
+         * 모아 둔 행을 한 트랜잭션으로 저장
+         *
+         * @return 저장한 행 수
+         */
+        public int commit() {
+            if (pending == 0) {
+                return 0;
+            }
+            try {
+                stmt.executeBatch();
+                connection.commit();
+                int committed = pending;
+                pending = 0;
+                return committed;
+
+            } catch (SQLException e) {
+                rollback();
+                log.error("일괄 저장 실패 ({}건)", pending, e);
+                throw new RuntimeException("데이터 저장 실패", e);
+            }
+        }
+
+        /**
+         * 아직 저장하지 않은 행 버리기
+         */
+        public void rollback() {
+            try {
+                stmt.clearBatch();
+                connection.rollback();
+            } catch (SQLException rollbackEx) {
+                log.error("롤백 실패", rollbackEx);
+            }
+            pending = 0;
+        }
+
+        public int getPending() {
+            return pending;
+        }
+
+        public boolean isBulkLoad() {
+            return !suspended.isEmpty();
+        }
+
+        /**
+         * 문장을 닫고 대량 적재 모드였으면 인덱스/트리거 복원 (커밋하지 않은 행은 버림)
+         */
+        @Override
+        public void close() {
+            if (pending > 0) {
+                rollback();
+            }
+            try {
+                stmt.close();
+                if (upsert != null) {
+                    upsert.close();
+                }
+            } catch (SQLException e) {
+                log.warn("일괄 저장 문장 닫기 실패", e);
+            }
+            restoreIndexesAndTriggers(suspended);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.softone.auto.repository.sqlite;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 원본 데이터 조회 저장소 (SQLite, 내보내기용)
+ *
+ * 엔티티 목록을 만들지 않고 전진 전용 ResultSet을 행 단위로 넘겨줍니다.
+ * 읽기 전용 연결(WAL 스냅샷)을 사용하므로 대량 조회 중에도 화면의 저장 작업을 막지 않습니다.
+ */
+@Slf4j
+public class RawDataSqliteRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    /**
+     * 열 값 형식 (Excel 셀 형식 결정용)
+     */
+    public enum ColumnType {
+        TEXT, INTEGER, DATE, DATETIME
+    }
+
+    /**
+     * 내보내기 열 정의
+     */
+    public static final class Column {
+        private final String header;
+        private final String expression;
+        private final ColumnType type;
+        private final int width;      // Excel 열 너비 (1/256 글자 단위)
+
+        Column(String header, String expression, ColumnType type, int width) {
+            this.header = header;
+            this.expression = expression;
+            this.type = type;
+            this.width = width;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        /**
+         * 테이블 열 이름
+         */
+        public String getName() {
+            return expression;
+        }
+
+        public ColumnType getType() {
+            return type;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+    }
+
+    /**
+     * 내보내기 대상 데이터
+     * 기간 조건은 dateColumn 기준이며, 날짜/일시 문자열 모두 사전순 비교로 인덱스를 사용
+     */
+    public enum Dataset {
+        ATTENDANCE("근태", "attendances", "date", List.of(
+            new Column("날짜", "date", ColumnType.DATE, 3200),
+            new Column("개발자", "developer_name", ColumnType.TEXT, 3500),
+            new Column("출근", "check_in", ColumnType.TEXT, 2500),
+            new Column("퇴근", "check_out", ColumnType.TEXT, 2500),
+            new Column("유형", "type", ColumnType.TEXT, 3000),
+            new Column("근무시간(분)", "work_minutes", ColumnType.INTEGER, 3500),
+            new Column("비고", "notes", ColumnType.TEXT, 8000))),
+        ISSUES("이슈", "issues", "created_date", List.of(
+            new Column("등록일", "created_date", ColumnType.DATETIME, 4500),
+            new Column("제목", "title", ColumnType.TEXT, 9000),
+            new Column("카테고리", "category", ColumnType.TEXT, 3000),
+            new Column("심각도", "severity", ColumnType.TEXT, 2500),
+            new Column("상태", "status", ColumnType.TEXT, 3000),
+            new Column("보고자", "reporter", ColumnType.TEXT, 3000),
+            new Column("담당자", "assignee", ColumnType.TEXT, 3000),
+            new Column("해결일", "resolved_date", ColumnType.DATETIME, 4500),
+            new Column("상세 내용", "description", ColumnType.TEXT, 12000),
+            new Column("해결 방안", "resolution", ColumnType.TEXT, 12000))),
+        COMMUNICATIONS("고객 소통", "customer_communications", "communication_date", List.of(
+            new Column("일시", "communication_date", ColumnType.DATETIME, 4500),
+            new Column("유형", "type", ColumnType.TEXT, 2500),
+            new Column("제목", "title", ColumnType.TEXT, 9000),
+            new Column("고객", "customer_name", ColumnType.TEXT, 3000),
+            new Column("담당", "our_representative", ColumnType.TEXT, 3000),
+            new Column("상태", "status", ColumnType.TEXT, 3000),
+            new Column("우선순위", "priority", ColumnType.TEXT, 2500),
+            new Column("기한", "due_date", ColumnType.DATETIME, 4500),
+            new Column("내용", "content", ColumnType.TEXT, 12000),
+            new Column("응답", "response", ColumnType.TEXT, 12000)));
+
+        private final String sheetName;
+        private final String table;
+        private final String dateColumn;
+        private final List<Column> columns;
+
+        Dataset(String sheetName, String table, String dateColumn, List<Column> columns) {
+            this.sheetName = sheetName;
+            this.table = table;
+            this.dateColumn = dateColumn;
+            this.columns = columns;
+        }
+
+        public String getSheetName() {
+            return sheetName;
+        }
+
+        public String getTable() {
+            return table;
+        }
+
+        public List<Column> getColumns() {
+            return columns;
+        }
+    }
+
+    /**
+     * 행 처리 (false를 반환하면 조회 중단)
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        boolean onRow(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * 기간 내 행 수 (진행률 계산용)
+     *
+     * @param companyId null이면 전체 회사
+     */
+    public long count(Dataset dataset, String companyId, LocalDate from, LocalDate to) {
+        String sql = "SELECT COUNT(*) FROM " + dataset.table + whereClause(dataset, companyId);
+
+        Connection conn = null;
+        try {
+            conn = SqliteConnectionPool.getInstance().getReadConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                bindParameters(stmt, companyId, from, to);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() ? rs.getLong(1) : 0;
+                }
+            }
+        } catch (SQLException e) {
+            log.error("원본 데이터 건수 조회 실패: {}", dataset, e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        } finally {
+            SqliteConnectionPool.getInstance().returnConnection(conn);
+        }
+    }
+
+    /**
+     * 기간 내 행을 날짜순으로 하나씩 전달 (열 순서는 Dataset.getColumns()와 동일, 1부터 시작)
+     *
+     * @param companyId null이면 전체 회사
+     * @return 전달한 행 수
+     */
+    public long stream(Dataset dataset, String companyId, LocalDate from, LocalDate to, RowHandler handler) {
+        return stream(dataset, companyId, from, to, false, handler);
+    }
+
+    /**
+     * 기간 내 행을 날짜순으로 하나씩 전달
+     *
+     * @param withId true면 Dataset 열 뒤에 id를 추가 (열 수 + 1 위치, CSV 왕복용)
+     */
+    public long stream(Dataset dataset, String companyId, LocalDate from, LocalDate to, boolean withId,
+                       RowHandler handler) {
+        StringBuilder select = new StringBuilder("SELECT ");
+        for (int i = 0; i < dataset.columns.size(); i++) {
+            if (i > 0) {
+                select.append(", ");
+            }
+            select.append(dataset.columns.get(i).expression);
+        }
+        if (withId) {
+            select.append(", id");
+        }
+        String sql = select + " FROM " + dataset.table + whereClause(dataset, companyId)
+            + " ORDER BY " + dataset.dateColumn;
+
+        Connection conn = null;
+        long rows = 0;
+        try {
+            conn = SqliteConnectionPool.getInstance().getReadConnection();
+            try (PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                stmt.setFetchSize(FETCH_SIZE);
+                bindParameters(stmt, companyId, from, to);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        rows++;
+                        if (!handler.onRow(rs)) {
+                            break;
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.error("원본 데이터 조회 실패: {}", dataset, e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        } finally {
+            SqliteConnectionPool.getInstance().returnConnection(conn);
+        }
+        return rows;
+    }
+
+    private static String whereClause(Dataset dataset, String companyId) {
+        String where = " WHERE " + dataset.dateColumn + " >= ? AND " + dataset.dateColumn + " < ?";
+        return companyId != null ? where + " AND company_id = ?" : where;
+    }
+
+    private static void bindParameters(PreparedStatement stmt, String companyId, LocalDate from, LocalDate to)
+            throws SQLException {
+        stmt.setString(1, from.toString());
+        stmt.setString(2, to.plusDays(1).toString());
+        if (companyId != null) {
+            stmt.setString(3, companyId);
+        }
+    }
+}
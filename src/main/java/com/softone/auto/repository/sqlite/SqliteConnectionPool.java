@@ -199,9 +199,17 @@ public class SqliteConnectionPool {
                 stmt.execute("PRAGMA foreign_keys = ON");
                 stmt.execute("PRAGMA busy_timeout = 30000");
                 stmt.execute("PRAGMA synchronous = NORMAL");
+                // INSERT OR REPLACE로 교체되는 행도 DELETE 트리거 실행 (dashboard_stats 카운터 유지)
+                stmt.execute("PRAGMA recursive_triggers = ON");
             }
             
             writeConnection.setAutoCommit(false);
+            
+            // 쓰기 감지로 조회 결과 캐시 무효화 (트리거/CASCADE 변경 포함)
+            QueryCache queryCache = QueryCache.getInstance();
+            queryCache.clear();
+            queryCache.attach(writeConnection);
+            queryCache.setEnabled(com.softone.auto.util.AppConfig.getInstance().isQueryCacheEnabled());
         }
         
         return writeConnection;
@@ -8,8 +8,11 @@ import java.sql.*;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 주간보고서 저장소 (SQLite)
@@ -21,6 +24,29 @@ public class WeeklyReportSqliteRepository {
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
     
+    /**
+     * 하위 항목 테이블 정의 (테이블명 + display_order를 제외한 값 컬럼)
+     */
+    private static final class ChildTable {
+        private final String name;
+        private final String[] columns;
+        
+        private ChildTable(String name, String... columns) {
+            this.name = name;
+            this.columns = columns;
+        }
+    }
+    
+    private static final ChildTable WORK_ITEMS = new ChildTable("weekly_report_work_items",
+        "task", "assignee", "status", "progress", "notes");
+    private static final ChildTable ISSUES = new ChildTable("weekly_report_issues",
+        "issue", "severity", "status", "action");
+    private static final ChildTable ATTENDANCE_SUMMARIES = new ChildTable("weekly_report_attendance_summaries",
+        "developer_name", "work_days", "late_days", "vacation_days", "notes");
+    
+    private static final Set<String> CACHE_TABLES = Set.of("weekly_reports", WORK_ITEMS.name, ISSUES.name,
+        ATTENDANCE_SUMMARIES.name);
+    
     public WeeklyReportSqliteRepository() {
         try {
             // Connection Pool 사용 (읽기는 Pool, 쓰기는 단일 연결)
@@ -147,16 +173,50 @@ public class WeeklyReportSqliteRepository {
         }
     }
     
+    /**
+     * 보고서 저장 (헤더는 UPSERT, 하위 항목은 순서 기준 비교 후 바뀐 행만 반영)
+     * 
+     * <p>INSERT OR REPLACE는 기존 행을 지운 뒤 다시 넣으므로 하위 항목까지 CASCADE 삭제되고
+     * 매번 모든 행을 다시 써야 했습니다. 헤더는 ON CONFLICT(id) DO UPDATE로 그 자리에서 수정하고,
+     * 하위 항목은 display_order 위치별로 기존 행과 비교해 변경분만 UPDATE/INSERT/DELETE 합니다.
+     * 같은 회사/주간에 ID가 다른 보고서가 있으면 이전처럼 새 보고서로 대체합니다.</p>
+     */
     public void save(WeeklyReport report) {
         try {
-            // 메인 보고서 저장
+            // 같은 회사/주간의 다른 보고서는 대체 (기존 INSERT OR REPLACE 동작 유지, 하위 항목은 CASCADE)
+            String replaceSql = "DELETE FROM weekly_reports WHERE company_id = ? AND start_date = ? AND id <> ?";
+            try (PreparedStatement stmt = connection.prepareStatement(replaceSql)) {
+                stmt.setString(1, report.getCompanyId());
+                stmt.setString(2, convertDateToString(report.getStartDate()));
+                stmt.setString(3, report.getId());
+                stmt.executeUpdate();
+            }
+            
+            // 메인 보고서 저장 (같은 ID는 그 자리에서 수정, created_at 유지)
             String sql = """
-                INSERT OR REPLACE INTO weekly_reports 
+                INSERT INTO weekly_reports 
                 (id, company_id, title, start_date, end_date, project_name, reporter,
                  additional_notes, created_date, this_week_request_count, this_week_complete_count,
                  next_week_request_count, next_week_complete_count, this_week_tasks_text,
                  next_week_tasks_text, check_items, updated_at)
                 VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, datetime('now', 'localtime'))
+                ON CONFLICT(id) DO UPDATE SET
+                    company_id = excluded.company_id,
+                    title = excluded.title,
+                    start_date = excluded.start_date,
+                    end_date = excluded.end_date,
+                    project_name = excluded.project_name,
+                    reporter = excluded.reporter,
+                    additional_notes = excluded.additional_notes,
+                    created_date = excluded.created_date,
+                    this_week_request_count = excluded.this_week_request_count,
+                    this_week_complete_count = excluded.this_week_complete_count,
+                    next_week_request_count = excluded.next_week_request_count,
+                    next_week_complete_count = excluded.next_week_complete_count,
+                    this_week_tasks_text = excluded.this_week_tasks_text,
+                    next_week_tasks_text = excluded.next_week_tasks_text,
+                    check_items = excluded.check_items,
+                    updated_at = excluded.updated_at
                 """;
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -180,38 +240,19 @@ public class WeeklyReportSqliteRepository {
                 stmt.executeUpdate();
             }
             
-            // 기존 하위 항목 삭제
-            deleteWorkItems(report.getId());
-            deleteIssues(report.getId());
-            deleteAttendanceSummaries(report.getId());
-            
-            // 업무 항목 저장
-            if (report.getLastWeekWork() != null) {
-                for (int i = 0; i < report.getLastWeekWork().size(); i++) {
-                    saveWorkItem(report.getId(), "LAST_WEEK", report.getLastWeekWork().get(i), i);
-                }
-            }
-            if (report.getThisWeekPlan() != null) {
-                for (int i = 0; i < report.getThisWeekPlan().size(); i++) {
-                    saveWorkItem(report.getId(), "THIS_WEEK", report.getThisWeekPlan().get(i), i);
-                }
-            }
-            
-            // 이슈 항목 저장
-            if (report.getIssues() != null) {
-                for (int i = 0; i < report.getIssues().size(); i++) {
-                    saveIssueItem(report.getId(), report.getIssues().get(i), i);
-                }
-            }
-            
-            // 근태 요약 저장
-            if (report.getAttendanceSummaries() != null) {
-                for (int i = 0; i < report.getAttendanceSummaries().size(); i++) {
-                    saveAttendanceSummary(report.getId(), report.getAttendanceSummaries().get(i), i);
-                }
-            }
+            // 하위 항목 변경분 반영
+            int changedRows = 0;
+            changedRows += syncChildRows(WORK_ITEMS, report.getId(), "LAST_WEEK",
+                report.getLastWeekWork(), this::workItemValues);
+            changedRows += syncChildRows(WORK_ITEMS, report.getId(), "THIS_WEEK",
+                report.getThisWeekPlan(), this::workItemValues);
+            changedRows += syncChildRows(ISSUES, report.getId(), null,
+                report.getIssues(), this::issueItemValues);
+            changedRows += syncChildRows(ATTENDANCE_SUMMARIES, report.getId(), null,
+                report.getAttendanceSummaries(), this::attendanceSummaryValues);
             
             connection.commit();
+            log.debug("주간보고서 저장 - ID: {}, 변경된 하위 항목: {}행", report.getId(), changedRows);
             
         } catch (SQLException e) {
             try {
@@ -224,85 +265,127 @@ public class WeeklyReportSqliteRepository {
         }
     }
     
-    private void saveWorkItem(String reportId, String itemType, WeeklyReport.WorkItem item, int order) throws SQLException {
-        String sql = """
-            INSERT INTO weekly_report_work_items 
-            (report_id, item_type, task, assignee, status, progress, notes, display_order)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
-            """;
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, reportId);
-            stmt.setString(2, itemType);
-            stmt.setString(3, item.getTask());
-            stmt.setString(4, item.getAssignee());
-            stmt.setString(5, item.getStatus());
-            stmt.setObject(6, item.getProgress());
-            stmt.setString(7, item.getNotes());
-            stmt.setInt(8, order);
-            stmt.executeUpdate();
-        }
+    private Object[] workItemValues(WeeklyReport.WorkItem item) {
+        return new Object[]{item.getTask(), item.getAssignee(), item.getStatus(), item.getProgress(), item.getNotes()};
     }
     
-    private void saveIssueItem(String reportId, WeeklyReport.IssueItem item, int order) throws SQLException {
-        String sql = """
-            INSERT INTO weekly_report_issues 
-            (report_id, issue, severity, status, action, display_order)
-            VALUES (?, ?, ?, ?, ?, ?)
-            """;
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, reportId);
-            stmt.setString(2, item.getIssue());
-            stmt.setString(3, item.getSeverity());
-            stmt.setString(4, item.getStatus());
-            stmt.setString(5, item.getAction());
-            stmt.setInt(6, order);
-            stmt.executeUpdate();
-        }
+    private Object[] issueItemValues(WeeklyReport.IssueItem item) {
+        return new Object[]{item.getIssue(), item.getSeverity(), item.getStatus(), item.getAction()};
     }
     
-    private void saveAttendanceSummary(String reportId, WeeklyReport.AttendanceSummary summary, int order) throws SQLException {
-        String sql = """
-            INSERT INTO weekly_report_attendance_summaries 
-            (report_id, developer_name, work_days, late_days, vacation_days, notes, display_order)
-            VALUES (?, ?, ?, ?, ?, ?, ?)
-            """;
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, reportId);
-            stmt.setString(2, summary.getDeveloperName());
-            stmt.setInt(3, summary.getWorkDays() != null ? summary.getWorkDays() : 0);
-            stmt.setInt(4, summary.getLateDays() != null ? summary.getLateDays() : 0);
-            stmt.setInt(5, summary.getVacationDays() != null ? summary.getVacationDays() : 0);
-            stmt.setString(6, summary.getNotes());
-            stmt.setInt(7, order);
-            stmt.executeUpdate();
-        }
+    private Object[] attendanceSummaryValues(WeeklyReport.AttendanceSummary summary) {
+        return new Object[]{
+            summary.getDeveloperName(),
+            summary.getWorkDays() != null ? summary.getWorkDays() : 0,
+            summary.getLateDays() != null ? summary.getLateDays() : 0,
+            summary.getVacationDays() != null ? summary.getVacationDays() : 0,
+            summary.getNotes()
+        };
     }
     
-    private void deleteWorkItems(String reportId) throws SQLException {
-        String sql = "DELETE FROM weekly_report_work_items WHERE report_id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+    /**
+     * 하위 항목 동기화 (display_order 위치별 비교)
+     * 같은 위치의 값이 같으면 그대로 두고, 다르면 UPDATE, 새 위치는 INSERT, 남는 행은 DELETE (각각 배치 실행)
+     * 
+     * @param itemType 업무 항목 구분 (LAST_WEEK/THIS_WEEK), 구분 컬럼이 없는 테이블은 null
+     * @return 변경된 행 수
+     */
+    private <T> int syncChildRows(ChildTable table, String reportId, String itemType, List<T> items,
+                                  java.util.function.Function<T, Object[]> valueExtractor) throws SQLException {
+        List<T> newItems = items != null ? items : List.of();
+        String typeCondition = itemType != null ? " AND item_type = ?" : "";
+        
+        // 기존 행: 위치 → (id, 값), 같은 위치가 중복된 행은 삭제 대상
+        Map<Integer, Long> existingIds = new HashMap<>();
+        Map<Integer, String[]> existingValues = new HashMap<>();
+        List<Long> deleteIds = new ArrayList<>();
+        String selectSql = "SELECT id, display_order, " + String.join(", ", table.columns)
+            + " FROM " + table.name + " WHERE report_id = ?" + typeCondition + " ORDER BY display_order, id";
+        try (PreparedStatement stmt = connection.prepareStatement(selectSql)) {
             stmt.setString(1, reportId);
-            stmt.executeUpdate();
+            if (itemType != null) {
+                stmt.setString(2, itemType);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    long id = rs.getLong("id");
+                    int order = rs.getInt("display_order");
+                    if (order < 0 || order >= newItems.size() || existingIds.containsKey(order)) {
+                        deleteIds.add(id);
+                        continue;
+                    }
+                    String[] values = new String[table.columns.length];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = rs.getString(table.columns[i]);
+                    }
+                    existingIds.put(order, id);
+                    existingValues.put(order, values);
+                }
+            }
         }
-    }
-    
-    private void deleteIssues(String reportId) throws SQLException {
-        String sql = "DELETE FROM weekly_report_issues WHERE report_id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, reportId);
-            stmt.executeUpdate();
+        
+        String assignments = String.join(" = ?, ", table.columns) + " = ?";
+        String updateSql = "UPDATE " + table.name + " SET " + assignments + " WHERE id = ?";
+        String insertSql = "INSERT INTO " + table.name + " (report_id, " + (itemType != null ? "item_type, " : "")
+            + String.join(", ", table.columns) + ", display_order) VALUES (?, " + (itemType != null ? "?, " : "")
+            + "?, ".repeat(table.columns.length) + "?)";
+        
+        int changed = 0;
+        try (PreparedStatement update = connection.prepareStatement(updateSql);
+             PreparedStatement insert = connection.prepareStatement(insertSql)) {
+            for (int order = 0; order < newItems.size(); order++) {
+                Object[] values = valueExtractor.apply(newItems.get(order));
+                Long id = existingIds.get(order);
+                if (id == null) {
+                    int index = 1;
+                    insert.setString(index++, reportId);
+                    if (itemType != null) {
+                        insert.setString(index++, itemType);
+                    }
+                    for (Object value : values) {
+                        insert.setObject(index++, value);
+                    }
+                    insert.setInt(index, order);
+                    insert.addBatch();
+                    changed++;
+                } else if (!sameValues(existingValues.get(order), values)) {
+                    for (int i = 0; i < values.length; i++) {
+                        update.setObject(i + 1, values[i]);
+                    }
+                    update.setLong(values.length + 1, id);
+                    update.addBatch();
+                    changed++;
+                }
+            }
+            insert.executeBatch();
+            update.executeBatch();
+        }
+        
+        if (!deleteIds.isEmpty()) {
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM " + table.name + " WHERE id = ?")) {
+                for (Long id : deleteIds) {
+                    delete.setLong(1, id);
+                    delete.addBatch();
+                }
+                delete.executeBatch();
+            }
+            changed += deleteIds.size();
         }
+        
+        return changed;
     }
     
-    private void deleteAttendanceSummaries(String reportId) throws SQLException {
-        String sql = "DELETE FROM weekly_report_attendance_summaries WHERE report_id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, reportId);
-            stmt.executeUpdate();
+    /**
+     * 저장된 값(문자열로 조회)과 새 값 비교
+     */
+    private boolean sameValues(String[] stored, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i] != null ? values[i].toString() : null;
+            if (!java.util.Objects.equals(stored[i], value)) {
+                return false;
+            }
         }
+        return true;
     }
     
     public List<WeeklyReport> findAll() {
@@ -348,6 +431,10 @@ public class WeeklyReportSqliteRepository {
         return Optional.empty();
     }
     
+    /**
+     * 시작일로 보고서 조회 (회사 구분 없음)
+     * 회사별 조회는 findByCompanyAndStartDate 사용
+     */
     public Optional<WeeklyReport> findByStartDate(LocalDate startDate) {
         String sql = "SELECT * FROM weekly_reports WHERE start_date = ?";
         
@@ -370,12 +457,121 @@ public class WeeklyReportSqliteRepository {
         return Optional.empty();
     }
     
+    /**
+     * 회사 + 시작일로 보고서 조회 (idx_weekly_reports_company_start 사용)
+     */
+    public Optional<WeeklyReport> findByCompanyAndStartDate(String companyId, LocalDate startDate) {
+        String sql = "SELECT * FROM weekly_reports WHERE company_id = ? AND start_date = ? LIMIT 1";
+        
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, companyId);
+            stmt.setString(2, convertDateToString(startDate));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    WeeklyReport report = mapRow(rs);
+                    loadSubItems(report);
+                    return Optional.of(report);
+                }
+            }
+            
+        } catch (SQLException e) {
+            log.error("주간보고서 조회 실패: {}, {}", companyId, startDate, e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        }
+        
+        return Optional.empty();
+    }
+    
+    /**
+     * 회사 + 시작일 보고서 존재 여부 (하위 항목 로드 없이 인덱스만 조회)
+     */
+    public boolean existsByCompanyAndStartDate(String companyId, LocalDate startDate) {
+        String sql = "SELECT 1 FROM weekly_reports WHERE company_id = ? AND start_date = ? LIMIT 1";
+        
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, companyId);
+            stmt.setString(2, convertDateToString(startDate));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+            
+        } catch (SQLException e) {
+            log.error("주간보고서 존재 여부 조회 실패: {}, {}", companyId, startDate, e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        }
+    }
+    
+    /**
+     * 회사의 보고서 시작일 목록 (idx_weekly_reports_company_start 커버링 인덱스로 조회)
+     */
+    public List<LocalDate> findStartDatesByCompanyId(String companyId) {
+        String sql = "SELECT start_date FROM weekly_reports WHERE company_id = ?";
+        List<LocalDate> results = new ArrayList<>();
+        
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, companyId);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    LocalDate startDate = convertStringToDate(rs.getString("start_date"));
+                    if (startDate != null) {
+                        results.add(startDate);
+                    }
+                }
+            }
+            
+        } catch (SQLException e) {
+            log.error("회사별 보고서 시작일 조회 실패: {}", companyId, e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        }
+        
+        return results;
+    }
+    
+    /**
+     * 회사별 보고서 (하위 항목 포함, 탭 예열과 탭 첫 로드가 같은 결과를 쓰도록 캐시)
+     */
     public List<WeeklyReport> findByCompanyId(String companyId) {
-        List<WeeklyReport> results = new ArrayList<>();
         String sql = "SELECT * FROM weekly_reports WHERE company_id = ? ORDER BY start_date DESC";
         
+        try {
+            return QueryCache.getInstance().getList(sql, new Object[]{companyId}, CACHE_TABLES,
+                WeeklyReportSqliteRepository::copyOf,
+                () -> {
+                    List<WeeklyReport> results = new ArrayList<>();
+                    try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                        stmt.setString(1, companyId);
+                        
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            while (rs.next()) {
+                                WeeklyReport report = mapRow(rs);
+                                loadSubItems(report);
+                                results.add(report);
+                            }
+                        }
+                    }
+                    return results;
+                });
+            
+        } catch (SQLException e) {
+            log.error("회사별 주간보고서 조회 실패: {}", companyId, e);
+            throw new RuntimeException("데이터 조회 실패", e);
+        }
+    }
+    
+    /**
+     * 회사 + 시작일 기간으로 보고서 조회 (일괄 내보내기용, idx_weekly_reports_company_start 사용)
+     */
+    public List<WeeklyReport> findByCompanyAndDateRange(String companyId, LocalDate from, LocalDate to) {
+        List<WeeklyReport> results = new ArrayList<>();
+        String sql = "SELECT * FROM weekly_reports WHERE company_id = ? AND start_date BETWEEN ? AND ? ORDER BY start_date";
+        
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setString(1, companyId);
+            stmt.setString(2, convertDateToString(from));
+            stmt.setString(3, convertDateToString(to));
             
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
@@ -386,7 +582,7 @@ public class WeeklyReportSqliteRepository {
             }
             
         } catch (SQLException e) {
-            log.error("회사별 주간보고서 조회 실패: {}", companyId, e);
+            log.error("기간별 주간보고서 조회 실패: {}, {} ~ {}", companyId, from, to, e);
             throw new RuntimeException("데이터 조회 실패", e);
         }
         
@@ -394,7 +590,52 @@ public class WeeklyReportSqliteRepository {
     }
     
     public void update(WeeklyReport report) {
-        save(report); // INSERT OR REPLACE로 처리
+        save(report); // UPSERT + 하위 항목 변경분만 반영
+    }
+    
+    /**
+     * 변경된 항목만 수정 (자동 저장용 부분 UPDATE, 하위 항목은 건드리지 않음)
+     * 컬럼 이름은 WeeklyReport.Field에 정의된 것만 사용
+     * 
+     * @return 수정된 행 수 (0이면 보고서 없음)
+     */
+    public int updateFields(String id, Map<WeeklyReport.Field, Object> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        
+        StringBuilder sql = new StringBuilder("UPDATE weekly_reports SET ");
+        List<Object> values = new ArrayList<>();
+        for (Map.Entry<WeeklyReport.Field, Object> entry : changes.entrySet()) {
+            sql.append(entry.getKey().getColumn()).append(" = ?, ");
+            if (entry.getKey() == WeeklyReport.Field.CHECK_ITEMS) {
+                @SuppressWarnings("unchecked")
+                List<Boolean> checkItems = (List<Boolean>) entry.getValue();
+                values.add(convertCheckItemsToString(checkItems));
+            } else {
+                values.add(entry.getValue());
+            }
+        }
+        sql.append("updated_at = datetime('now', 'localtime') WHERE id = ?");
+        
+        try (PreparedStatement stmt = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < values.size(); i++) {
+                stmt.setObject(i + 1, values.get(i));
+            }
+            stmt.setString(values.size() + 1, id);
+            int updated = stmt.executeUpdate();
+            connection.commit();
+            return updated;
+            
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackEx) {
+                log.error("롤백 실패", rollbackEx);
+            }
+            log.error("주간보고서 부분 수정 실패: {}", id, e);
+            throw new RuntimeException("데이터 저장 실패", e);
+        }
     }
     
     public void delete(String id) {
@@ -417,6 +658,52 @@ public class WeeklyReportSqliteRepository {
         }
     }
     
+    /**
+     * 캐시 보관용 복사본 (하위 항목 목록까지 복사)
+     */
+    private static WeeklyReport copyOf(WeeklyReport source) {
+        WeeklyReport copy = new WeeklyReport();
+        copy.setId(source.getId());
+        copy.setCompanyId(source.getCompanyId());
+        copy.setTitle(source.getTitle());
+        copy.setStartDate(source.getStartDate());
+        copy.setEndDate(source.getEndDate());
+        copy.setProjectName(source.getProjectName());
+        copy.setReporter(source.getReporter());
+        copy.setLastWeekWork(copyWorkItems(source.getLastWeekWork()));
+        copy.setThisWeekPlan(copyWorkItems(source.getThisWeekPlan()));
+        List<WeeklyReport.IssueItem> issues = new ArrayList<>();
+        for (WeeklyReport.IssueItem item : source.getIssues()) {
+            issues.add(new WeeklyReport.IssueItem(item.getIssue(), item.getSeverity(), item.getStatus(), item.getAction()));
+        }
+        copy.setIssues(issues);
+        List<WeeklyReport.AttendanceSummary> summaries = new ArrayList<>();
+        for (WeeklyReport.AttendanceSummary item : source.getAttendanceSummaries()) {
+            summaries.add(new WeeklyReport.AttendanceSummary(item.getDeveloperName(), item.getWorkDays(),
+                item.getLateDays(), item.getVacationDays(), item.getNotes()));
+        }
+        copy.setAttendanceSummaries(summaries);
+        copy.setAdditionalNotes(source.getAdditionalNotes());
+        copy.setCreatedDate(source.getCreatedDate());
+        copy.setCheckItems(source.getCheckItems() != null ? new ArrayList<>(source.getCheckItems()) : new ArrayList<>());
+        copy.setThisWeekRequestCount(source.getThisWeekRequestCount());
+        copy.setThisWeekCompleteCount(source.getThisWeekCompleteCount());
+        copy.setNextWeekRequestCount(source.getNextWeekRequestCount());
+        copy.setNextWeekCompleteCount(source.getNextWeekCompleteCount());
+        copy.setThisWeekTasksText(source.getThisWeekTasksText());
+        copy.setNextWeekTasksText(source.getNextWeekTasksText());
+        return copy;
+    }
+    
+    private static List<WeeklyReport.WorkItem> copyWorkItems(List<WeeklyReport.WorkItem> items) {
+        List<WeeklyReport.WorkItem> copies = new ArrayList<>(items.size());
+        for (WeeklyReport.WorkItem item : items) {
+            copies.add(new WeeklyReport.WorkItem(item.getTask(), item.getAssignee(), item.getStatus(),
+                item.getProgress(), item.getNotes()));
+        }
+        return copies;
+    }
+    
     private WeeklyReport mapRow(ResultSet rs) throws SQLException {
         WeeklyReport report = new WeeklyReport();
         report.setId(rs.getString("id"));
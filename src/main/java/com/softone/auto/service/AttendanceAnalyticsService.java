@@ -0,0 +1,187 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.repository.sqlite.AttendanceSqliteRepository;
+import com.softone.auto.repository.sqlite.QueryCache;
+import com.softone.auto.util.AppContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 근태 분석 서비스 (회사별 데이터 분리)
+ *
+ * <p>다년간 근태 집계를 위해 회사별 AttendanceColumnStore를 한 번 적재한 뒤,
+ * 이후에는 rowid 기준으로 새로 추가된 행만 이어 붙입니다.
+ * 근태 테이블에 수정/삭제가 있었으면(QueryCache의 수정 버전, 건수 불일치) 해당 회사 저장소를 다시 적재합니다.
+ * 수정 버전은 최댓값 rowid 행을 지운 뒤 같은 rowid로 새 행이 들어오는 경우처럼 건수로는 알 수 없는 변경도 잡습니다.</p>
+ *
+ * <p>적재/증분 갱신/집계는 회사별 잠금 안에서 함께 실행하므로, 동시에 들어온 요청이 같은 행을
+ * 두 번 이어 붙이거나 배열이 늘어나는 도중의 저장소를 읽지 않습니다. 저장소는 서비스 밖으로 내보내지 않습니다.</p>
+ */
+@Slf4j
+public class AttendanceAnalyticsService {
+
+    /**
+     * 회사별 저장소 자리 (자기 자신이 잠금 객체, store는 잠금 안에서만 접근)
+     * 무효화는 자리를 통째로 버리므로 진행 중인 적재가 끝나도 새 요청은 새 자리에서 다시 적재합니다.
+     */
+    private static final class Slot {
+        private AttendanceColumnStore store;
+        /** store 적재/갱신 시작 시점의 근태 테이블 수정 버전 */
+        private long modificationVersion;
+    }
+
+    private static final String TABLE = "attendances";
+
+    /** 회사 ID → 저장소 자리 (서비스 인스턴스 간 공유) */
+    private static final Map<String, Slot> STORES = new ConcurrentHashMap<>();
+
+    private final AttendanceSqliteRepository repository;
+
+    public AttendanceAnalyticsService() {
+        this(new AttendanceSqliteRepository());
+    }
+
+    AttendanceAnalyticsService(AttendanceSqliteRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * 기간 내 유형별 건수 (현재 회사)
+     */
+    public Map<String, Long> getTypeCounts(LocalDate from, LocalDate to) {
+        String companyId = currentCompanyId();
+        return companyId != null ? getTypeCounts(companyId, from, to) : new HashMap<>();
+    }
+
+    /**
+     * 기간 내 유형별 건수
+     */
+    public Map<String, Long> getTypeCounts(String companyId, LocalDate from, LocalDate to) {
+        return withStore(companyId, store -> {
+            Map<String, Long> result = new HashMap<>();
+            List<String> typeNames = store.getTypeNames();
+            long[] counts = store.countByType(from, to);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    result.put(typeNames.get(i), counts[i]);
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * 기간 내 개발자별 유형 건수 (현재 회사)
+     */
+    public Map<String, Map<String, Integer>> getDeveloperHistogram(LocalDate from, LocalDate to) {
+        String companyId = currentCompanyId();
+        return companyId != null ? getDeveloperHistogram(companyId, from, to) : new HashMap<>();
+    }
+
+    /**
+     * 기간 내 개발자별 유형 건수
+     */
+    public Map<String, Map<String, Integer>> getDeveloperHistogram(String companyId, LocalDate from, LocalDate to) {
+        return withStore(companyId, store -> store.histogramByDeveloperName(from, to));
+    }
+
+    /**
+     * 기간 내 개발자 ID별 유형 건수 (주간보고서 근태 현황용)
+     */
+    public Map<String, Map<String, Integer>> getDeveloperTypeCounts(String companyId, LocalDate from, LocalDate to) {
+        return withStore(companyId, store -> {
+            int[][] histogram = store.histogramByDeveloper(from, to);
+            List<String> developerIds = store.getDeveloperIds();
+            List<String> typeNames = store.getTypeNames();
+            Map<String, Map<String, Integer>> result = new HashMap<>();
+            for (int dev = 0; dev < histogram.length; dev++) {
+                Map<String, Integer> byType = result.computeIfAbsent(developerIds.get(dev), id -> new HashMap<>());
+                for (int type = 0; type < histogram[dev].length; type++) {
+                    if (histogram[dev][type] > 0) {
+                        byType.merge(typeNames.get(type), histogram[dev][type], Integer::sum);
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * 회사 저장소 무효화 (근태 수정 시)
+     */
+    public static void invalidate(String companyId) {
+        if (companyId != null) {
+            STORES.remove(companyId);
+        }
+    }
+
+    /**
+     * 전체 저장소 무효화 (회사를 알 수 없는 삭제, 데이터 복원 등)
+     */
+    public static void invalidateAll() {
+        STORES.clear();
+    }
+
+    /**
+     * 회사 저장소를 최신 상태로 갱신한 뒤 같은 잠금 안에서 집계
+     * (집계 함수는 저장소 참조를 결과에 담아 밖으로 내보내면 안 됨)
+     */
+    <T> T withStore(String companyId, Function<AttendanceColumnStore, T> reader) {
+        Slot slot = STORES.computeIfAbsent(companyId, id -> new Slot());
+        synchronized (slot) {
+            // 적재 전에 버전을 읽어, 적재 도중 수정/삭제가 있으면 다음 요청에서 다시 적재
+            long version = QueryCache.getInstance().getModificationVersion(TABLE);
+            if (slot.store == null || slot.modificationVersion != version || !refresh(slot.store)) {
+                slot.store = load(companyId);
+            }
+            slot.modificationVersion = version;
+            return reader.apply(slot.store);
+        }
+    }
+
+    private String currentCompanyId() {
+        Company currentCompany = AppContext.getInstance().getCurrentCompany();
+        return currentCompany != null ? currentCompany.getId() : null;
+    }
+
+    private AttendanceColumnStore load(String companyId) {
+        long start = System.currentTimeMillis();
+
+        int expectedRows = repository.countByCompanyAfterRowId(companyId, 0);
+        AttendanceColumnStore store = new AttendanceColumnStore(companyId, expectedRows);
+        repository.scanByCompany(companyId, 0, store::append);
+        store.trimToSize();
+
+        log.info("근태 분석 저장소 적재 - 회사: {}, {}건, 약 {}KB, {}ms", companyId, store.size(),
+            store.estimatedBytes() / 1024, System.currentTimeMillis() - start);
+        return store;
+    }
+
+    /**
+     * 새로 추가된 행만 이어 붙이기 (회사 잠금 안에서 호출)
+     *
+     * @return 증분 갱신으로 충분하면 true, 삭제/교체가 감지되어 재적재가 필요하면 false
+     */
+    private boolean refresh(AttendanceColumnStore store) {
+        String companyId = store.getCompanyId();
+        int total = repository.countByCompanyAfterRowId(companyId, 0);
+        int appended = repository.countByCompanyAfterRowId(companyId, store.getMaxRowId());
+
+        // INSERT OR REPLACE, 삭제 등으로 기존 행이 사라진 경우 건수가 맞지 않음
+        if (total != store.size() + appended) {
+            log.debug("근태 분석 저장소 재적재 - 회사: {}", companyId);
+            return false;
+        }
+        if (appended > 0) {
+            repository.scanByCompany(companyId, store.getMaxRowId(), store::append);
+        }
+        return true;
+    }
+}
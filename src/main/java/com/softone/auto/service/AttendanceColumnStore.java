@@ -0,0 +1,292 @@
+package com.softone.auto.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회사별 근태 컬럼 저장소 (분석용, 메모리)
+ *
+ * <p>근태 1건을 Attendance 객체 대신 원시 타입 배열의 한 칸으로 보관합니다.
+ * 행당 11바이트(날짜 int, 개발자 인덱스 int, 유형 byte, 근무 시간 short)이므로
+ * 1,000만 건도 약 110MB로 유지되며, 집계는 분기 없는 단순 루프로 배열을 순회합니다.</p>
+ *
+ * <p>개발자와 근태 유형은 사전(dictionary)으로 인코딩하며, 동시 접근은 인스턴스 잠금으로 보호합니다.</p>
+ */
+public class AttendanceColumnStore {
+
+    /** 근무 시간 없음 */
+    public static final short NO_MINUTES = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final String companyId;
+
+    private int[] epochDays;
+    private int[] developerIndexes;
+    private byte[] types;
+    private short[] minutes;
+    private int size;
+
+    private final List<String> developerIds = new ArrayList<>();
+    private final List<String> developerNames = new ArrayList<>();
+    private final Map<String, Integer> developerLookup = new HashMap<>();
+    private final List<String> typeNames = new ArrayList<>();
+    private final Map<String, Byte> typeLookup = new HashMap<>();
+
+    /** 적재된 원본 행 중 가장 큰 rowid (증분 적재 기준) */
+    private long maxRowId;
+
+    public AttendanceColumnStore(String companyId) {
+        this(companyId, INITIAL_CAPACITY);
+    }
+
+    public AttendanceColumnStore(String companyId, int expectedRows) {
+        this.companyId = companyId;
+        int capacity = Math.max(expectedRows, 16);
+        this.epochDays = new int[capacity];
+        this.developerIndexes = new int[capacity];
+        this.types = new byte[capacity];
+        this.minutes = new short[capacity];
+    }
+
+    /**
+     * 근태 1건 추가
+     *
+     * @param rowId 원본 rowid (증분 적재 기준, 모르면 0)
+     * @param date ISO 날짜 문자열 (yyyy-MM-dd)
+     * @param workMinutes 근무 시간 (null이면 NO_MINUTES)
+     */
+    public synchronized void append(long rowId, String developerId, String developerName,
+                                    String date, String type, Integer workMinutes) {
+        append(rowId, developerId, developerName, parseEpochDay(date), type, workMinutes);
+    }
+
+    public synchronized void append(long rowId, String developerId, String developerName,
+                                    long epochDay, String type, Integer workMinutes) {
+        ensureCapacity(size + 1);
+        epochDays[size] = (int) epochDay;
+        developerIndexes[size] = developerIndex(developerId, developerName);
+        types[size] = typeCode(type);
+        minutes[size] = workMinutes != null
+            ? (short) Math.max(0, Math.min(Short.MAX_VALUE, workMinutes))
+            : NO_MINUTES;
+        size++;
+        maxRowId = Math.max(maxRowId, rowId);
+    }
+
+    /**
+     * 기간 내 유형별 건수 (인덱스 = 유형 코드, getTypeNames() 순서)
+     */
+    public synchronized long[] countByType(LocalDate from, LocalDate to) {
+        int start = (int) from.toEpochDay();
+        int end = (int) to.toEpochDay();
+        long[] counts = new long[typeNames.size()];
+        for (int i = 0; i < size; i++) {
+            int day = epochDays[i];
+            counts[types[i]] += (day >= start && day <= end) ? 1 : 0;
+        }
+        return counts;
+    }
+
+    /**
+     * 기간 내 지정 유형 건수 합계
+     */
+    public synchronized long count(LocalDate from, LocalDate to, String... typeFilter) {
+        boolean[] mask = typeMask(typeFilter);
+        int start = (int) from.toEpochDay();
+        int end = (int) to.toEpochDay();
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            int day = epochDays[i];
+            count += (day >= start && day <= end && mask[types[i]]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * 기간 내 근무 시간 합계 (분, 근무 시간 없는 행 제외)
+     */
+    public synchronized long sumMinutes(LocalDate from, LocalDate to) {
+        int start = (int) from.toEpochDay();
+        int end = (int) to.toEpochDay();
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            int day = epochDays[i];
+            int value = minutes[i];
+            sum += (day >= start && day <= end && value > 0) ? value : 0;
+        }
+        return sum;
+    }
+
+    /**
+     * 기간 내 개발자별 근무 시간 합계 (인덱스 = 개발자 인덱스, getDeveloperIds() 순서)
+     */
+    public synchronized long[] sumMinutesByDeveloper(LocalDate from, LocalDate to) {
+        int start = (int) from.toEpochDay();
+        int end = (int) to.toEpochDay();
+        long[] sums = new long[developerIds.size()];
+        for (int i = 0; i < size; i++) {
+            int day = epochDays[i];
+            int value = minutes[i];
+            sums[developerIndexes[i]] += (day >= start && day <= end && value > 0) ? value : 0;
+        }
+        return sums;
+    }
+
+    /**
+     * 기간 내 개발자별 유형 히스토그램 ([개발자 인덱스][유형 코드] = 건수)
+     */
+    public synchronized int[][] histogramByDeveloper(LocalDate from, LocalDate to) {
+        int start = (int) from.toEpochDay();
+        int end = (int) to.toEpochDay();
+        int typeCount = typeNames.size();
+        // 1차원 배열로 누적 후 분할 (행마다 하위 배열을 따라가지 않도록)
+        int[] flat = new int[developerIds.size() * typeCount];
+        for (int i = 0; i < size; i++) {
+            int day = epochDays[i];
+            flat[developerIndexes[i] * typeCount + types[i]] += (day >= start && day <= end) ? 1 : 0;
+        }
+        int[][] histogram = new int[developerIds.size()][];
+        for (int dev = 0; dev < histogram.length; dev++) {
+            histogram[dev] = Arrays.copyOfRange(flat, dev * typeCount, (dev + 1) * typeCount);
+        }
+        return histogram;
+    }
+
+    /**
+     * 개발자 이름별 유형 건수 (표시용 변환)
+     */
+    public synchronized Map<String, Map<String, Integer>> histogramByDeveloperName(LocalDate from, LocalDate to) {
+        int[][] histogram = histogramByDeveloper(from, to);
+        Map<String, Map<String, Integer>> result = new HashMap<>();
+        for (int dev = 0; dev < histogram.length; dev++) {
+            Map<String, Integer> byType = result.computeIfAbsent(developerNames.get(dev), name -> new HashMap<>());
+            for (int type = 0; type < histogram[dev].length; type++) {
+                if (histogram[dev][type] > 0) {
+                    byType.merge(typeNames.get(type), histogram[dev][type], Integer::sum);
+                }
+            }
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getMaxRowId() {
+        return maxRowId;
+    }
+
+    public String getCompanyId() {
+        return companyId;
+    }
+
+    public synchronized List<String> getDeveloperIds() {
+        return Collections.unmodifiableList(new ArrayList<>(developerIds));
+    }
+
+    public synchronized List<String> getDeveloperNames() {
+        return Collections.unmodifiableList(new ArrayList<>(developerNames));
+    }
+
+    public synchronized List<String> getTypeNames() {
+        return Collections.unmodifiableList(new ArrayList<>(typeNames));
+    }
+
+    /**
+     * 배열 실제 크기에 맞게 축소 (전체 적재 완료 후 호출)
+     */
+    public synchronized void trimToSize() {
+        if (epochDays.length > size) {
+            epochDays = Arrays.copyOf(epochDays, size);
+            developerIndexes = Arrays.copyOf(developerIndexes, size);
+            types = Arrays.copyOf(types, size);
+            minutes = Arrays.copyOf(minutes, size);
+        }
+    }
+
+    /**
+     * 배열 점유 메모리 추정 (바이트, 사전 제외)
+     */
+    public synchronized long estimatedBytes() {
+        return (long) epochDays.length * (Integer.BYTES + Integer.BYTES + Byte.BYTES + Short.BYTES);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= epochDays.length) {
+            return;
+        }
+        int capacity = Math.max(required, epochDays.length + (epochDays.length >> 1));
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        developerIndexes = Arrays.copyOf(developerIndexes, capacity);
+        types = Arrays.copyOf(types, capacity);
+        minutes = Arrays.copyOf(minutes, capacity);
+    }
+
+    private int developerIndex(String developerId, String developerName) {
+        Integer index = developerLookup.get(developerId);
+        if (index == null) {
+            index = developerIds.size();
+            developerIds.add(developerId);
+            developerNames.add(developerName);
+            developerLookup.put(developerId, index);
+        }
+        return index;
+    }
+
+    private byte typeCode(String type) {
+        String key = type != null ? type : "";
+        Byte code = typeLookup.get(key);
+        if (code == null) {
+            if (typeNames.size() > Byte.MAX_VALUE) {
+                throw new IllegalStateException("근태 유형이 너무 많습니다: " + typeNames.size());
+            }
+            code = (byte) typeNames.size();
+            typeNames.add(key);
+            typeLookup.put(key, code);
+        }
+        return code;
+    }
+
+    private boolean[] typeMask(String... typeFilter) {
+        boolean[] mask = new boolean[Math.max(typeNames.size(), 1)];
+        for (String type : typeFilter) {
+            Byte code = typeLookup.get(type);
+            if (code != null) {
+                mask[code] = true;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * yyyy-MM-dd 문자열을 LocalDate 생성 없이 epoch day로 변환
+     */
+    static long parseEpochDay(String date) {
+        int year = (date.charAt(0) - '0') * 1000 + (date.charAt(1) - '0') * 100
+            + (date.charAt(2) - '0') * 10 + (date.charAt(3) - '0');
+        int month = (date.charAt(5) - '0') * 10 + (date.charAt(6) - '0');
+        int day = (date.charAt(8) - '0') * 10 + (date.charAt(9) - '0');
+
+        // java.time.LocalDate.toEpochDay와 같은 계산 (proleptic 그레고리력)
+        long y = year;
+        long total = 365 * y;
+        total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            boolean leap = (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+            if (!leap) {
+                total--;
+            }
+        }
+        return total - 719528;  // 0000-01-01 ~ 1970-01-01
+    }
+}
@@ -1,6 +1,7 @@
 package com.softone.auto.service;
 
 import com.softone.auto.model.Attendance;
+import com.softone.auto.model.AttendanceMonthlyRollup;
 import com.softone.auto.model.Company;
 import com.softone.auto.repository.sqlite.AttendanceSqliteRepository;
 import com.softone.auto.util.AppContext;
@@ -11,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -138,6 +140,8 @@ public class AttendanceService {
             attendance.setWorkMinutes((int) minutes);
         }
         repository.update(attendance);
+        // 분석 저장소는 다음 조회 때 다시 적재 (수정 버전으로도 감지되지만 이전 저장소를 바로 해제)
+        AttendanceAnalyticsService.invalidate(attendance.getCompanyId());
         
         // 감사 로그 기록 (개인정보 마스킹)
         String maskedDeveloperName = attendance.getDeveloperName() != null ? 
@@ -157,6 +161,30 @@ public class AttendanceService {
         AuditLogger.logDataModification("SYSTEM", "DELETE", "Attendance", id, null);
     }
     
+    /**
+     * 현재 회사의 근태 건수 (페이지 조회용)
+     * 
+     * @param type 근태 유형 (null이면 전체)
+     */
+    public int countAttendance(String type) {
+        return repository.countPage(currentCompanyId(), type);
+    }
+    
+    /**
+     * 현재 회사의 근태 한 페이지 조회
+     * 
+     * @param type 근태 유형 (null이면 전체)
+     * @param sortColumn 정렬 컬럼 (date, developer_name, check_in, check_out, work_minutes, type, notes)
+     */
+    public List<Attendance> getAttendancePage(String type, String sortColumn, boolean ascending, int offset, int limit) {
+        return repository.findPage(currentCompanyId(), type, sortColumn, ascending, offset, limit);
+    }
+    
+    private String currentCompanyId() {
+        Company currentCompany = AppContext.getInstance().getCurrentCompany();
+        return currentCompany != null ? currentCompany.getId() : null;
+    }
+    
     /**
      * 특정 개발자의 근태 조회
      */
@@ -182,45 +210,49 @@ public class AttendanceService {
     
     /**
      * 개발자별 주간 근태 요약
+     * 월 전체가 포함되는 구간은 월별 집계 테이블에서 합산
      */
     public Map<String, Long> getWeeklySummary(LocalDate startDate, LocalDate endDate) {
-        List<Attendance> attendances = repository.findByDateRange(startDate, endDate);
-        
-        return attendances.stream()
-                .collect(Collectors.groupingBy(
-                        Attendance::getDeveloperName,
-                        Collectors.counting()
-                ));
+        return repository.countByDeveloperName(startDate, endDate);
     }
     
     /**
      * 개발자별 근무 일수 계산
      */
     public long getWorkDays(String developerId, LocalDate startDate, LocalDate endDate) {
-        return repository.findByDeveloperAndDateRange(developerId, startDate, endDate)
-                .stream()
-                .filter(att -> "NORMAL".equals(att.getType()) || "LATE".equals(att.getType()))
-                .count();
+        return repository.countByDeveloperAndTypes(developerId, startDate, endDate, "NORMAL", "LATE");
     }
     
     /**
      * 개발자별 지각 일수 계산
      */
     public long getLateDays(String developerId, LocalDate startDate, LocalDate endDate) {
-        return repository.findByDeveloperAndDateRange(developerId, startDate, endDate)
-                .stream()
-                .filter(att -> "LATE".equals(att.getType()))
-                .count();
+        return repository.countByDeveloperAndTypes(developerId, startDate, endDate, "LATE");
     }
     
     /**
      * 개발자별 휴가 일수 계산
      */
     public long getVacationDays(String developerId, LocalDate startDate, LocalDate endDate) {
-        return repository.findByDeveloperAndDateRange(developerId, startDate, endDate)
-                .stream()
-                .filter(att -> "VACATION".equals(att.getType()) || "SICK_LEAVE".equals(att.getType()))
-                .count();
+        return repository.countByDeveloperAndTypes(developerId, startDate, endDate, "VACATION", "SICK_LEAVE");
+    }
+    
+    /**
+     * 현재 회사의 월별 근태 집계 조회
+     */
+    public List<AttendanceMonthlyRollup> getMonthlyRollups(YearMonth fromMonth, YearMonth toMonth) {
+        Company currentCompany = AppContext.getInstance().getCurrentCompany();
+        if (currentCompany == null) {
+            return new ArrayList<>();
+        }
+        return repository.findMonthlyRollups(currentCompany.getId(), fromMonth, toMonth);
+    }
+    
+    /**
+     * 원본 근태 데이터로부터 월별 집계 재구성
+     */
+    public void rebuildMonthlyRollups() {
+        log.info("월별 근태 집계 재구성");
+        repository.rebuildMonthlyRollups();
     }
 }
-
@@ -20,6 +20,8 @@ public class CommonCodeService {
     
     // 메모리 캐시: 카테고리별 코드 목록
     private final Map<String, List<CommonCode>> categoryCache = new ConcurrentHashMap<>();
+    // 카테고리별 코드 → 코드명 캐시 (테이블 표시용)
+    private final Map<String, Map<String, String>> codeNameCache = new ConcurrentHashMap<>();
     // 전체 코드 목록 캐시
     private List<CommonCode> allCodesCache = null;
     // 캐시 무효화 플래그
@@ -35,6 +37,7 @@ public class CommonCodeService {
     public void invalidateCache() {
         cacheInvalidated = true;
         categoryCache.clear();
+        codeNameCache.clear();
         allCodesCache = null;
         log.debug("CommonCode 캐시 무효화");
     }
@@ -136,5 +139,18 @@ public class CommonCodeService {
                 .map(CommonCode::getName)
                 .toArray(String[]::new);
     }
+    
+    /**
+     * 코드명 조회 (캐싱 사용, 등록되지 않은 코드는 코드 그대로 반환)
+     */
+    public String getCodeName(String category, String code) {
+        Map<String, String> names = codeNameCache.computeIfAbsent(category, key -> {
+            Map<String, String> map = new java.util.HashMap<>();
+            for (CommonCode commonCode : getCodesByCategory(key)) {
+                map.put(commonCode.getCode(), commonCode.getName());
+            }
+            return map;
+        });
+        return names.getOrDefault(code, code);
+    }
 }
-
@@ -0,0 +1,521 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.repository.sqlite.AttendanceSqliteRepository;
+import com.softone.auto.repository.sqlite.DashboardStatsSqliteRepository;
+import com.softone.auto.repository.sqlite.RawDataImportSqliteRepository;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.Column;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.ColumnType;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.Dataset;
+import com.softone.auto.util.AppContext;
+import com.softone.auto.util.AuditLogger;
+import com.softone.auto.util.CsvReader;
+import com.softone.auto.util.CsvWriter;
+import com.softone.auto.util.InputValidator;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+/**
+ * CSV 가져오기/내보내기 서비스
+ *
+ * 근태/이슈/고객 소통 원본 데이터를 CSV로 주고받습니다 (열 구성은 원본 Excel 내보내기와 동일).
+ * 내보내기는 전진 전용 조회 결과를 바로 파일에 쓰고, 가져오기는 한 줄씩 파싱/검증해 BATCH_SIZE건마다 커밋하므로
+ * 백만 행 파일도 메모리를 늘리지 않고 처리합니다.
+ * 검증에 실패한 행은 건너뛰고 줄 번호/사유/원본 값을 오류 보고서 CSV로 남깁니다.
+ * 이슈/고객 소통 CSV는 마지막 열에 ID를 함께 내보내며, 가져올 때 ID가 있으면 같은 회사의 행을 갱신하므로
+ * 같은 파일을 다시 가져와도 중복되지 않습니다 (근태는 개발자/날짜 기준으로 교체).
+ *
+ * BULK_LOAD_BYTES 이상의 파일은 대량 적재 모드로 저장합니다. 행마다 인덱스/집계 트리거를 갱신하는 대신
+ * 적재 후 인덱스를 한 번에 다시 만들고 근태 월별 집계/대시보드 통계를 재구성합니다.
+ */
+@Slf4j
+public class CsvTransferService {
+
+    /** 한 트랜잭션으로 저장할 행 수 */
+    static final int BATCH_SIZE = 5000;
+    /** 대량 적재 모드 기준 파일 크기 (약 20만 행, 이보다 작으면 인덱스 재생성 비용이 더 큼) */
+    static final long BULK_LOAD_BYTES = 16L * 1024 * 1024;
+    /** 진행률 보고/취소 확인 간격 (행) */
+    private static final int PROGRESS_INTERVAL = 1000;
+    /** 결과에 담아 둘 오류 수 (전체는 오류 보고서에 기록) */
+    private static final int MAX_SAMPLE_ERRORS = 20;
+    /** 값 하나의 최대 길이 */
+    private static final int MAX_VALUE_LENGTH = 10000;
+
+    private static final DateTimeFormatter TIME_INPUT = DateTimeFormatter.ofPattern("H:mm[:ss]");
+
+    /** 비어 있으면 안 되는 열 */
+    private static final Map<Dataset, Set<String>> REQUIRED_COLUMNS = Map.of(
+        Dataset.ATTENDANCE, Set.of("date", "developer_name"),
+        Dataset.ISSUES, Set.of("created_date", "title"),
+        Dataset.COMMUNICATIONS, Set.of("communication_date", "type", "title"));
+
+    /** 값이 없을 때 기본값 (NOT NULL 열) */
+    private static final Map<Dataset, Map<String, String>> DEFAULT_VALUES = Map.of(
+        Dataset.ATTENDANCE, Map.of("type", "NORMAL"),
+        Dataset.ISSUES, Map.of("severity", "보통", "status", "OPEN"),
+        Dataset.COMMUNICATIONS, Map.of("status", "PENDING"));
+
+    /** ID 열 머리글 (이슈/고객 소통 CSV의 마지막 열) */
+    static final String ID_HEADER = "ID";
+    /** ID 최대 길이 */
+    private static final int MAX_ID_LENGTH = 64;
+
+    /** 시간(HH:mm)으로 검증할 열 */
+    private static final Set<String> TIME_COLUMNS = Set.of("check_in", "check_out");
+
+    /**
+     * 진행률 (내보내기는 행 수, 가져오기는 읽은 바이트 수 기준)
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(long done, long total);
+    }
+
+    /**
+     * 가져오기 결과
+     */
+    @Data
+    public static class ImportResult {
+        private long totalRows;             // 빈 줄을 제외한 데이터 행 수
+        private long importedRows;          // 저장한 행 수
+        private long errorRows;             // 검증 실패로 건너뛴 행 수
+        private boolean cancelled;          // 취소 여부 (이미 커밋된 묶음은 유지)
+        private File errorReport;           // 오류 보고서 (오류가 없으면 null)
+        private long elapsedMillis;
+        private List<String> sampleErrors = new ArrayList<>();
+    }
+
+    private final RawDataSqliteRepository rawDataRepository;
+    private final RawDataImportSqliteRepository importRepository;
+    private final AttendanceSqliteRepository attendanceRepository;
+    private final DashboardStatsSqliteRepository dashboardStatsRepository;
+
+    public CsvTransferService() {
+        this.rawDataRepository = new RawDataSqliteRepository();
+        this.importRepository = new RawDataImportSqliteRepository();
+        this.attendanceRepository = new AttendanceSqliteRepository();
+        this.dashboardStatsRepository = new DashboardStatsSqliteRepository();
+    }
+
+    /**
+     * 현재 회사의 원본 데이터를 CSV로 내보내기 (회사 미선택 시 전체)
+     *
+     * @return 완료되면 true, 취소되면 false (취소 시 파일은 삭제됨)
+     */
+    public boolean exportToCsv(File target, Dataset dataset, LocalDate from, LocalDate to,
+                               ProgressListener listener, BooleanSupplier cancelled) throws IOException {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+
+        long startNanos = System.nanoTime();
+        String companyId = currentCompanyId();
+        long total = rawDataRepository.count(dataset, companyId, from, to);
+        List<Column> columns = dataset.getColumns();
+        long[] written = {0};
+        boolean[] stopped = {false};
+
+        boolean withId = keepsId(dataset);
+        try (CsvWriter writer = new CsvWriter(target.toPath())) {
+            for (Column column : columns) {
+                writer.writeField(column.getHeader());
+            }
+            if (withId) {
+                writer.writeField(ID_HEADER);
+            }
+            writer.endRow();
+
+            int fieldCount = withId ? columns.size() + 1 : columns.size();
+            rawDataRepository.stream(dataset, companyId, from, to, withId, rs -> {
+                try {
+                    for (int i = 1; i <= fieldCount; i++) {
+                        writer.writeField(rs.getString(i));
+                    }
+                    writer.endRow();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (++written[0] % PROGRESS_INTERVAL == 0) {
+                    if (cancelled.getAsBoolean()) {
+                        stopped[0] = true;
+                        return false;
+                    }
+                    if (listener != null) {
+                        listener.onProgress(written[0], total);
+                    }
+                }
+                return true;
+            });
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(target.toPath());
+            throw e.getCause();
+        }
+
+        if (stopped[0] || cancelled.getAsBoolean()) {
+            Files.deleteIfExists(target.toPath());
+            log.info("CSV 내보내기 취소: {} ({}행 기록 후)", dataset, written[0]);
+            return false;
+        }
+        if (listener != null) {
+            listener.onProgress(written[0], total);
+        }
+
+        log.info("CSV 내보내기 완료: {} {} ~ {}, {}행, {}ms", dataset, from, to, written[0],
+            (System.nanoTime() - startNanos) / 1_000_000);
+        AuditLogger.logDataAccess("SYSTEM", "EXPORT", "CSV", dataset + " " + written[0] + "행");
+        return true;
+    }
+
+    /**
+     * CSV를 현재 회사 데이터로 가져오기
+     *
+     * 첫 줄은 머리글이며 열 이름(예: "날짜") 또는 테이블 열 이름(예: "date")으로 대응시키고, 모르는 열은 무시합니다.
+     *
+     * @param errorReport 오류 보고서 경로 (오류가 있을 때만 생성)
+     */
+    public ImportResult importFromCsv(File source, Dataset dataset, Charset charset, File errorReport,
+                                      ProgressListener listener, BooleanSupplier cancelled) throws IOException {
+        return importFromCsv(source, dataset, charset, errorReport, listener, cancelled,
+            source.length() >= BULK_LOAD_BYTES);
+    }
+
+    ImportResult importFromCsv(File source, Dataset dataset, Charset charset, File errorReport,
+                               ProgressListener listener, BooleanSupplier cancelled, boolean bulkLoad) throws IOException {
+        Company currentCompany = AppContext.getInstance().getCurrentCompany();
+        if (currentCompany == null) {
+            throw new IllegalStateException("회사를 먼저 선택하세요.");
+        }
+
+        long startNanos = System.nanoTime();
+        ImportResult result = new ImportResult();
+
+        try (CsvReader reader = new CsvReader(source.toPath(), charset);
+             ErrorReportWriter errors = new ErrorReportWriter(errorReport, result);
+             RawDataImportSqliteRepository.Batch batch = importRepository.openBatch(
+                 dataset, currentCompany.getId(), bulkLoad)) {
+
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+            RowParser parser = new RowParser(dataset, header, dataset == Dataset.ATTENDANCE
+                ? importRepository.findDeveloperIdsByName(currentCompany.getId()) : Map.of());
+            errors.setHeader(header);
+
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (isBlank(record)) {
+                    continue;
+                }
+                result.totalRows++;
+
+                String error = parser.parse(record);
+                if (error != null) {
+                    errors.add(reader.getRecordLine(), error, record);
+                } else {
+                    batch.add(parser.id, parser.developerId, parser.values);
+                    if (batch.getPending() >= BATCH_SIZE) {
+                        result.importedRows += batch.commit();
+                    }
+                }
+
+                if (result.totalRows % PROGRESS_INTERVAL == 0) {
+                    if (cancelled.getAsBoolean()) {
+                        batch.rollback();
+                        result.cancelled = true;
+                        break;
+                    }
+                    if (listener != null) {
+                        listener.onProgress(reader.getBytesRead(), reader.getSize());
+                    }
+                }
+            }
+            if (!result.cancelled) {
+                result.importedRows += batch.commit();
+                if (listener != null) {
+                    listener.onProgress(reader.getSize(), reader.getSize());
+                }
+            }
+        } finally {
+            if (bulkLoad) {
+                // 트리거가 없던 동안의 변경(다른 화면의 저장 포함)까지 집계에 반영
+                if (dataset == Dataset.ATTENDANCE) {
+                    attendanceRepository.rebuildMonthlyRollups();
+                }
+                dashboardStatsRepository.rebuild();
+            }
+            if (result.importedRows > 0 && dataset == Dataset.ATTENDANCE) {
+                // INSERT OR REPLACE로 교체된 행은 분석 저장소가 건수로 감지하지만 즉시 재적재되도록 무효화
+                AttendanceAnalyticsService.invalidate(currentCompany.getId());
+            }
+        }
+
+        result.elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("CSV 가져오기 {}{}: {} {}행 중 {}행 저장, 오류 {}행, {}ms", result.cancelled ? "취소" : "완료",
+            bulkLoad ? " (대량 적재)" : "", dataset, result.totalRows, result.importedRows, result.errorRows,
+            result.elapsedMillis);
+        AuditLogger.logDataModification("SYSTEM", "IMPORT", "CSV", dataset.name(),
+            source.getName() + ", " + result.importedRows + "행");
+        return result;
+    }
+
+    /**
+     * ID를 CSV로 주고받는 데이터 (근태는 개발자/날짜로 교체되므로 제외)
+     */
+    private static boolean keepsId(Dataset dataset) {
+        return dataset != Dataset.ATTENDANCE;
+    }
+
+    private static boolean isBlank(List<String> record) {
+        for (String value : record) {
+            if (!value.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String currentCompanyId() {
+        Company currentCompany = AppContext.getInstance().getCurrentCompany();
+        return currentCompany != null ? currentCompany.getId() : null;
+    }
+
+    /**
+     * 한 행을 검증해 Dataset 열 순서의 값으로 변환 (행마다 재사용)
+     */
+    private static final class RowParser {
+        private final Dataset dataset;
+        private final List<Column> columns;
+        private final int[] sourceIndexes;          // 열별 CSV 위치 (-1이면 파일에 없음)
+        private final int idSourceIndex;            // ID 열 CSV 위치 (-1이면 없음)
+        private final Set<String> required;
+        private final Map<String, String> defaults;
+        private final Map<String, String> developerIds;
+        private final int checkInIndex;
+        private final int checkOutIndex;
+        private final int workMinutesIndex;
+
+        private final Object[] values;
+        private String id;
+        private String developerId;
+
+        RowParser(Dataset dataset, List<String> header, Map<String, String> developerIds) {
+            this.dataset = dataset;
+            this.columns = dataset.getColumns();
+            this.required = REQUIRED_COLUMNS.get(dataset);
+            this.defaults = DEFAULT_VALUES.get(dataset);
+            this.developerIds = developerIds;
+            this.values = new Object[columns.size()];
+            this.sourceIndexes = new int[columns.size()];
+            Arrays.fill(sourceIndexes, -1);
+
+            int idIndex = -1;
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).trim();
+                if (idIndex < 0 && keepsId(dataset) && ID_HEADER.equalsIgnoreCase(name)) {
+                    idIndex = i;
+                }
+                for (int c = 0; c < columns.size(); c++) {
+                    Column column = columns.get(c);
+                    if (sourceIndexes[c] < 0
+                            && (column.getHeader().equals(name) || column.getName().equalsIgnoreCase(name))) {
+                        sourceIndexes[c] = i;
+                    }
+                }
+            }
+
+            List<String> missing = new ArrayList<>();
+            for (int c = 0; c < columns.size(); c++) {
+                if (sourceIndexes[c] < 0 && required.contains(columns.get(c).getName())) {
+                    missing.add(columns.get(c).getHeader());
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("필수 열이 없습니다: " + String.join(", ", missing));
+            }
+            this.idSourceIndex = idIndex;
+
+            this.checkInIndex = indexOf("check_in");
+            this.checkOutIndex = indexOf("check_out");
+            this.workMinutesIndex = indexOf("work_minutes");
+        }
+
+        private int indexOf(String name) {
+            for (int c = 0; c < columns.size(); c++) {
+                if (columns.get(c).getName().equals(name)) {
+                    return c;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return 오류 사유 (정상이면 null)
+         */
+        String parse(List<String> record) {
+            for (int c = 0; c < columns.size(); c++) {
+                Column column = columns.get(c);
+                int index = sourceIndexes[c];
+                String raw = index >= 0 && index < record.size() ? record.get(index) : "";
+
+                if (!InputValidator.isSafeText(raw)) {
+                    return column.getHeader() + ": 허용되지 않는 제어 문자";
+                }
+                if (!InputValidator.isValidLength(raw, MAX_VALUE_LENGTH)) {
+                    return column.getHeader() + ": " + MAX_VALUE_LENGTH + "자 초과";
+                }
+                String value = column.getType() == ColumnType.TEXT
+                    ? InputValidator.sanitize(raw) : InputValidator.sanitizeSingleLine(raw);
+                if (value.isEmpty()) {
+                    value = defaults.get(column.getName());
+                }
+                if (value == null) {
+                    if (required.contains(column.getName())) {
+                        return column.getHeader() + ": 값이 없습니다";
+                    }
+                    values[c] = null;
+                    continue;
+                }
+
+                Object converted = convert(column, value);
+                if (converted == null) {
+                    return column.getHeader() + ": 형식 오류 (" + value + ")";
+                }
+                values[c] = converted;
+            }
+
+            id = null;
+            if (idSourceIndex >= 0 && idSourceIndex < record.size()) {
+                String rawId = InputValidator.sanitizeSingleLine(record.get(idSourceIndex));
+                if (!InputValidator.isValidLength(rawId, MAX_ID_LENGTH)) {
+                    return ID_HEADER + ": " + MAX_ID_LENGTH + "자 초과";
+                }
+                id = rawId.isEmpty() ? null : rawId;
+            }
+
+            developerId = null;
+            if (dataset == Dataset.ATTENDANCE) {
+                String developerName = (String) values[indexOf("developer_name")];
+                developerId = developerIds.get(developerName);
+                if (developerId == null) {
+                    return "등록되지 않은 개발자 (" + developerName + ")";
+                }
+                // 근무 시간이 없으면 출퇴근 시간으로 계산 (근태 등록 화면과 동일)
+                if (values[workMinutesIndex] == null && values[checkInIndex] != null && values[checkOutIndex] != null) {
+                    values[workMinutesIndex] = (int) Duration.between(LocalTime.parse((String) values[checkInIndex]),
+                        LocalTime.parse((String) values[checkOutIndex])).toMinutes();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 저장 형식으로 변환 (날짜 ISO, 일시 ISO_LOCAL_DATE_TIME, 시간 HH:mm[:ss])
+         *
+         * @return 형식이 맞지 않으면 null
+         */
+        private static Object convert(Column column, String value) {
+            try {
+                switch (column.getType()) {
+                    case INTEGER:
+                        return InputValidator.isValidInteger(value) ? Integer.parseInt(value) : null;
+                    case DATE: {
+                        String date = value.replace('/', '-').replace('.', '-');
+                        return InputValidator.isValidDateFormat(date) ? LocalDate.parse(date).toString() : null;
+                    }
+                    case DATETIME: {
+                        if (value.length() < 10) {
+                            return null;
+                        }
+                        String date = value.substring(0, 10).replace('/', '-').replace('.', '-');
+                        if (!InputValidator.isValidDateFormat(date)) {
+                            return null;
+                        }
+                        String time = value.substring(10).trim();
+                        if (time.startsWith("T")) {
+                            time = time.substring(1);
+                        }
+                        LocalDateTime dateTime = LocalDate.parse(date)
+                            .atTime(time.isEmpty() ? LocalTime.MIDNIGHT : LocalTime.parse(time, TIME_INPUT));
+                        return dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                    }
+                    default:
+                        if (TIME_COLUMNS.contains(column.getName())) {
+                            return LocalTime.parse(value, TIME_INPUT).format(DateTimeFormatter.ISO_LOCAL_TIME);
+                        }
+                        return value;
+                }
+            } catch (DateTimeParseException | NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 오류 보고서 (첫 오류가 생길 때 파일 생성: 줄, 오류, 원본 열...)
+     */
+    private static final class ErrorReportWriter implements AutoCloseable {
+        private final File target;
+        private final ImportResult result;
+        private List<String> header = List.of();
+        private CsvWriter writer;
+
+        ErrorReportWriter(File target, ImportResult result) {
+            this.target = target;
+            this.result = result;
+        }
+
+        void setHeader(List<String> header) {
+            this.header = header;
+        }
+
+        void add(long line, String error, List<String> record) throws IOException {
+            result.errorRows++;
+            if (result.sampleErrors.size() < MAX_SAMPLE_ERRORS) {
+                result.sampleErrors.add(line + "행: " + error);
+            }
+            if (target == null) {
+                return;
+            }
+            if (writer == null) {
+                writer = new CsvWriter(target.toPath());
+                writer.writeField("줄");
+                writer.writeField("오류");
+                header.forEach(writer::writeField);
+                writer.endRow();
+                result.errorReport = target;
+            }
+            writer.writeField(Long.toString(line));
+            writer.writeField(error);
+            record.forEach(writer::writeField);
+            writer.endRow();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.model.DashboardStats;
+import com.softone.auto.repository.sqlite.DashboardStatsSqliteRepository;
+import com.softone.auto.util.AppContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+
+/**
+ * 대시보드 통계 서비스 (회사별 데이터 분리)
+ * 트리거로 유지되는 dashboard_stats 카운터를 조회
+ */
+@Slf4j
+public class DashboardStatsService {
+
+    private final DashboardStatsSqliteRepository repository;
+
+    public DashboardStatsService() {
+        this.repository = new DashboardStatsSqliteRepository();
+    }
+
+    /**
+     * 현재 회사의 통계 조회 (날짜 버킷 카운터는 [from, to] 구간만 합산)
+     */
+    public DashboardStats getStats(LocalDate from, LocalDate to) {
+        try {
+            Company currentCompany = AppContext.getInstance().getCurrentCompany();
+            String companyId = currentCompany != null ? currentCompany.getId() : null;
+            return repository.findByCompany(companyId, from, to);
+        } catch (Exception e) {
+            log.error("대시보드 통계 조회 오류: {}", e.getMessage(), e);
+            return new DashboardStats();
+        }
+    }
+
+    /**
+     * 원본 데이터로부터 통계 재구성
+     */
+    public void rebuild() {
+        log.info("대시보드 통계 재구성");
+        repository.rebuild();
+    }
+}
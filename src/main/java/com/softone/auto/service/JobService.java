@@ -0,0 +1,656 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Job;
+import com.softone.auto.model.WeeklyReport;
+import com.softone.auto.repository.sqlite.JobSqliteRepository;
+import com.softone.auto.util.BackupManager;
+import com.softone.auto.util.BulkDataGenerator;
+import com.softone.auto.util.DataCleaner;
+import com.softone.auto.util.ExcelReportGenerator;
+import com.softone.auto.util.PdfReportGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 백그라운드 작업 서비스
+ *
+ * 보고서 생성, 백업, 샘플 데이터 리셋, 대량 데이터 생성 같은 긴 작업을 jobs 테이블에 등록하고
+ * 크기가 정해진 작업 스레드에서 실행합니다. 화면을 떠나도 작업은 계속되고, 상태는 리스너로 알립니다.
+ * <ul>
+ *   <li>유형별 동시 실행 수를 넘지 않으며, 단독 실행 유형은 다른 작업이 모두 끝난 뒤 혼자 실행됩니다.
+ *       대기 중인 단독 작업 뒤에 등록된 작업은 그 작업이 끝날 때까지 기다립니다 (등록 순서 보장).</li>
+ *   <li>실패하면 유형의 최대 실행 횟수까지 대기열 끝에서 다시 실행합니다.</li>
+ *   <li>시작 시 이전 실행에서 남은 대기 작업은 다시 대기열에 넣고, 실행 중이던 작업은
+ *       재개 가능한 유형이면 다시 실행하고 아니면 중단된 것으로 실패 처리합니다.</li>
+ *   <li>화면에서 직접 실행하는 데이터 작업(일괄 내보내기, CSV 가져오기 등)은 {@link #runShared}로 감싸
+ *       단독 실행 작업과 겹치지 않게 합니다.</li>
+ * </ul>
+ * 객체 락은 메모리 상태에만 쓰고 jobs 테이블 저장은 락 밖에서 하므로, EDT에서 부르는 조회가 저장을 기다리지 않습니다.
+ * 상태 변경과 저장은 {@code persistLock} 안에서 차례로 하므로 저장 순서는 변경 순서와 같습니다.
+ */
+@Slf4j
+public class JobService {
+
+    /** 작업 스레드 수 (유형별 제한과 별도로 전체 상한) */
+    static final int DEFAULT_MAX_WORKERS = 3;
+    /** 완료 작업 이력 보관 기간 */
+    private static final int HISTORY_DAYS = 30;
+    /** 진행률을 저장하는 최소 변화량 (상태 알림은 매번, 저장은 가끔) */
+    private static final int PROGRESS_SAVE_STEP = 10;
+
+    /**
+     * 작업 처리기 (작업 스레드에서 실행)
+     */
+    @FunctionalInterface
+    public interface JobHandler {
+        /**
+         * @return 결과 파일 경로 (없으면 null)
+         */
+        String run(Job job, JobContext context) throws Exception;
+    }
+
+    /**
+     * 작업 상태 변경 수신 (작업 스레드에서 호출되므로 UI는 invokeLater로 갱신)
+     */
+    @FunctionalInterface
+    public interface JobListener {
+        void onJobChanged(Job job);
+    }
+
+    /**
+     * 실행 중인 작업의 진행률 보고/취소 확인
+     */
+    public final class JobContext {
+        private final Job job;
+        private volatile boolean cancelled;
+        private int savedProgress;
+
+        private JobContext(Job job) {
+            this.job = job;
+        }
+
+        /**
+         * 진행률 보고 (0~100)
+         */
+        public void progress(int percent, String message) {
+            Job snapshot;
+            synchronized (persistLock) {
+                boolean save;
+                synchronized (JobService.this) {
+                    job.setProgress(Math.max(0, Math.min(100, percent)));
+                    job.setMessage(message);
+                    save = job.getProgress() - savedProgress >= PROGRESS_SAVE_STEP;
+                    if (save) {
+                        savedProgress = job.getProgress();
+                    }
+                    snapshot = job.copy();
+                }
+                if (save) {
+                    persist(snapshot);
+                }
+            }
+            notifyListeners(snapshot);
+        }
+
+        /**
+         * 취소 요청 여부 (처리기는 단계 사이에서 확인하고 중단)
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final JobSqliteRepository repository;
+    private final int maxWorkers;
+    private final ExecutorService executor;
+    private final Map<Job.Type, JobHandler> handlers = new EnumMap<>(Job.Type.class);
+    private final List<JobListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** 대기 작업 (등록 순) */
+    private final LinkedList<Job> queue = new LinkedList<>();
+    /** 실행 중 작업 ID → 작업 */
+    private final Map<String, Job> running = new HashMap<>();
+    private final Map<String, JobContext> contexts = new HashMap<>();
+    private final Map<String, Future<?>> futures = new HashMap<>();
+    /** 대기열 밖에서 실행 중인 데이터 작업 수 ({@link #runShared}) */
+    private int sharedRuns;
+
+    /**
+     * 상태 변경과 저장을 묶는 락 (항상 이 락을 먼저 잡고 객체 락을 잡음, 객체 락을 잡은 채로 잡지 않음)
+     */
+    private final Object persistLock = new Object();
+
+    public JobService() {
+        this(new JobSqliteRepository(), DEFAULT_MAX_WORKERS);
+        registerDefaultHandlers();
+        recover();
+    }
+
+    /**
+     * 처리기 없이 생성 (테스트용, 처리기 등록 후 {@link #recover()} 호출)
+     */
+    JobService(JobSqliteRepository repository, int maxWorkers) {
+        this.repository = repository;
+        this.maxWorkers = maxWorkers;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxWorkers, runnable -> {
+            Thread thread = new Thread(runnable, "job-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void registerDefaultHandlers() {
+        WeeklyReportService reportService = new WeeklyReportService();
+        registerHandler(Job.Type.REPORT_EXCEL, (job, context) ->
+            requireFile(ExcelReportGenerator.generateWeeklyReport(loadReport(reportService, job)), "Excel"));
+        registerHandler(Job.Type.REPORT_PDF, (job, context) ->
+            requireFile(PdfReportGenerator.generateWeeklyReport(loadReport(reportService, job)), "PDF"));
+        registerHandler(Job.Type.BACKUP, (job, context) -> BackupManager.createFullBackup().getAbsolutePath());
+        registerHandler(Job.Type.DATA_RESET, (job, context) -> {
+            DataCleaner.resetSampleData();
+            return null;
+        });
+        registerHandler(Job.Type.BULK_GENERATE, (job, context) -> {
+            BulkDataGenerator.generateYearlyData();
+            return null;
+        });
+    }
+
+    private static WeeklyReport loadReport(WeeklyReportService reportService, Job job) {
+        WeeklyReport report = reportService.getReportById(job.getPayload());
+        if (report == null) {
+            throw new IllegalStateException("보고서를 찾을 수 없습니다: " + job.getPayload());
+        }
+        return report;
+    }
+
+    private static String requireFile(String path, String fileType) {
+        if (path == null || path.isEmpty()) {
+            throw new IllegalStateException(fileType + " 파일 생성에 실패했습니다.");
+        }
+        return path;
+    }
+
+    /**
+     * 유형별 처리기 등록 (같은 유형이면 교체)
+     */
+    public synchronized void registerHandler(Job.Type type, JobHandler handler) {
+        handlers.put(type, handler);
+    }
+
+    public void addListener(JobListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(JobListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 이전 실행에서 남은 작업 복구 후 대기열 시작
+     * 실행 중이던 작업은 재개 가능한 유형이고 횟수가 남았으면 다시 대기, 아니면 실패로 보고
+     */
+    public void recover() {
+        try {
+            int deleted = repository.deleteFinishedBefore(LocalDateTime.now().minusDays(HISTORY_DAYS));
+            if (deleted > 0) {
+                log.info("오래된 작업 이력 {}건 정리", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("작업 이력 정리 실패 (무시)", e);
+        }
+
+        synchronized (persistLock) {
+            List<Job> recovered = new ArrayList<>();
+            List<Job> interrupted = repository.findByState(Job.State.RUNNING);
+            synchronized (this) {
+                for (Job job : interrupted) {
+                    if (running.containsKey(job.getId())) {
+                        continue;
+                    }
+                    if (job.getType().isResumable() && job.getAttempts() < job.getMaxAttempts()) {
+                        job.setState(Job.State.QUEUED);
+                        job.setMessage("재시작 후 다시 실행 대기");
+                    } else {
+                        job.setState(Job.State.FAILED);
+                        job.setMessage("애플리케이션 종료로 중단되었습니다");
+                        job.setFinishedAt(LocalDateTime.now());
+                    }
+                    recovered.add(job);
+                }
+            }
+            for (Job job : recovered) {
+                repository.update(job);
+                log.info("중단된 작업 복구: {} ({}) → {}", job.getTitle(), job.getId(), job.getState());
+            }
+
+            List<Job> queued = repository.findByState(Job.State.QUEUED);
+            synchronized (this) {
+                for (Job job : queued) {
+                    if (!running.containsKey(job.getId()) && findQueued(job.getId()) == null) {
+                        queue.add(job);
+                    }
+                }
+            }
+        }
+        dispatch();
+    }
+
+    /**
+     * 작업 등록
+     * 단독 실행 유형은 같은 유형이 이미 대기/실행 중이면 새로 등록하지 않고 그 작업을 돌려줌
+     *
+     * @param payload 처리기 입력 (재시작 후에도 다시 실행할 수 있도록 ID 같은 문자열만)
+     */
+    public Job submit(Job.Type type, String title, String payload) {
+        Job job;
+        Job snapshot;
+        // 등록끼리는 persistLock으로 줄을 세워 중복 확인 → 저장 → 대기열 추가가 한 번에 일어나게 함
+        synchronized (persistLock) {
+            synchronized (this) {
+                if (type.isExclusive()) {
+                    Job active = findActive(type);
+                    if (active != null) {
+                        log.info("이미 등록된 작업 재사용: {} ({})", active.getTitle(), active.getId());
+                        return active.copy();
+                    }
+                }
+            }
+
+            job = new Job();
+            job.setId(UUID.randomUUID().toString());
+            job.setType(type);
+            job.setState(Job.State.QUEUED);
+            job.setTitle(title != null ? title : type.getLabel());
+            job.setPayload(payload);
+            job.setMessage("대기 중");
+            job.setMaxAttempts(type.getMaxAttempts());
+            job.setCreatedAt(LocalDateTime.now());
+            repository.save(job);
+            synchronized (this) {
+                queue.add(job);
+                snapshot = job.copy();
+            }
+        }
+
+        log.info("작업 등록: {} ({}, {})", snapshot.getTitle(), type, snapshot.getId());
+        notifyListeners(snapshot);
+        dispatch();
+        return snapshot;
+    }
+
+    /**
+     * 작업 취소 (대기 중이면 바로, 실행 중이면 취소 가능한 유형만 중단 요청)
+     *
+     * @return 취소(요청)했으면 true
+     */
+    public boolean cancel(String jobId) {
+        Job snapshot;
+        synchronized (persistLock) {
+            boolean finished;
+            synchronized (this) {
+                Job queued = findQueued(jobId);
+                if (queued != null) {
+                    queue.remove(queued);
+                    finish(queued, Job.State.CANCELLED, "사용자 취소");
+                    notifyAll();
+                    snapshot = queued.copy();
+                    finished = true;
+                } else {
+                    Job job = running.get(jobId);
+                    if (job == null || !job.getType().isCancellable()) {
+                        return false;
+                    }
+                    contexts.get(jobId).cancelled = true;
+                    Future<?> future = futures.get(jobId);
+                    if (future != null) {
+                        future.cancel(true);
+                    }
+                    job.setMessage("취소 중...");
+                    snapshot = job.copy();
+                    finished = false;
+                }
+            }
+            if (finished) {
+                persist(snapshot);
+            }
+        }
+        notifyListeners(snapshot);
+        dispatch();
+        return true;
+    }
+
+    /**
+     * 최근 작업 목록 (대기/실행 중인 작업은 메모리의 최신 진행률로)
+     */
+    public List<Job> getRecentJobs(int limit) {
+        List<Job> jobs = repository.findRecent(limit);
+        synchronized (this) {
+            for (int i = 0; i < jobs.size(); i++) {
+                Job live = running.get(jobs.get(i).getId());
+                if (live != null) {
+                    jobs.set(i, live.copy());
+                }
+            }
+        }
+        return jobs;
+    }
+
+    public Job getJob(String jobId) {
+        synchronized (this) {
+            Job live = running.get(jobId);
+            if (live != null) {
+                return live.copy();
+            }
+        }
+        return repository.findById(jobId);
+    }
+
+    /**
+     * 대기/실행 중인 작업 수
+     */
+    public synchronized int getActiveCount() {
+        return queue.size() + running.size();
+    }
+
+    /**
+     * 대기열 밖에서 실행하는 데이터 작업 (화면의 SwingWorker 등, EDT에서 호출하지 않음)
+     * 단독 실행 작업이 대기/실행 중이면 끝날 때까지 기다렸다가 실행하고, 실행하는 동안에는 단독 작업이 시작되지 않음.
+     * 작업 스레드와 이력은 쓰지 않으며, 기다리는 중에 스레드가 중단되면 InterruptedException
+     *
+     * @param title 로그에 남길 작업 이름
+     */
+    public <T> T runShared(String title, Callable<T> task) throws Exception {
+        synchronized (this) {
+            boolean waited = false;
+            while (isExclusivePending()) {
+                if (!waited) {
+                    log.info("단독 작업이 끝날 때까지 대기: {}", title);
+                    waited = true;
+                }
+                wait();
+            }
+            sharedRuns++;
+        }
+        try {
+            return task.call();
+        } finally {
+            synchronized (this) {
+                sharedRuns--;
+            }
+            dispatch();
+        }
+    }
+
+    /**
+     * 작업 스레드 종료 (실행 중이던 작업은 다음 시작 시 복구)
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * 실행 조건을 만족하는 대기 작업 시작
+     */
+    private void dispatch() {
+        List<Job> started = new ArrayList<>();
+        synchronized (persistLock) {
+            synchronized (this) {
+                if (executor.isShutdown()) {
+                    return;
+                }
+                boolean exclusiveRunning = running.values().stream().anyMatch(job -> job.getType().isExclusive());
+                Iterator<Job> iterator = queue.iterator();
+                while (iterator.hasNext() && !exclusiveRunning && running.size() < maxWorkers) {
+                    Job job = iterator.next();
+                    Job.Type type = job.getType();
+                    if (type.isExclusive()) {
+                        // 단독 작업은 앞선 작업과 대기열 밖 데이터 작업이 모두 끝나야 시작하고,
+                        // 뒤의 작업은 단독 작업이 끝날 때까지 대기
+                        if (running.isEmpty() && sharedRuns == 0) {
+                            iterator.remove();
+                            start(job);
+                            started.add(job.copy());
+                        }
+                        break;
+                    }
+                    if (countRunning(type) >= type.getConcurrency()) {
+                        continue;
+                    }
+                    iterator.remove();
+                    start(job);
+                    started.add(job.copy());
+                }
+            }
+            // 작업 스레드가 진행률/종료 상태를 저장하려면 persistLock이 필요하므로 시작 상태가 먼저 저장됨
+            started.forEach(this::persist);
+        }
+        started.forEach(this::notifyListeners);
+    }
+
+    /**
+     * 작업 시작 (락 안에서 호출, 저장은 호출한 쪽에서 락 밖에서)
+     */
+    private void start(Job job) {
+        job.setState(Job.State.RUNNING);
+        job.setAttempts(job.getAttempts() + 1);
+        job.setProgress(0);
+        job.setMessage("실행 중");
+        job.setStartedAt(LocalDateTime.now());
+        job.setFinishedAt(null);
+
+        JobContext context = new JobContext(job);
+        running.put(job.getId(), job);
+        contexts.put(job.getId(), context);
+        futures.put(job.getId(), executor.submit(() -> execute(job, context)));
+    }
+
+    private void execute(Job job, JobContext context) {
+        JobHandler handler;
+        synchronized (this) {
+            handler = handlers.get(job.getType());
+        }
+
+        long startNanos = System.nanoTime();
+        Job snapshot;
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("작업 처리기가 없습니다: " + job.getType());
+            }
+            String resultPath = handler.run(job, context);
+            boolean cancelled;
+            synchronized (persistLock) {
+                synchronized (this) {
+                    release(job);
+                    // 취소 요청 뒤에 처리기가 정상 반환해도 완료로 기록하지 않음
+                    cancelled = context.isCancelled();
+                    if (cancelled) {
+                        finish(job, Job.State.CANCELLED, "사용자 취소");
+                    } else {
+                        job.setResultPath(resultPath);
+                        job.setProgress(100);
+                        finish(job, Job.State.SUCCEEDED, "완료");
+                    }
+                    snapshot = job.copy();
+                }
+                persist(snapshot);
+            }
+            if (cancelled) {
+                deleteResult(resultPath);
+                log.info("작업 취소: {} ({})", job.getTitle(), job.getId());
+            } else {
+                log.info("작업 완료: {} ({}), {}ms", job.getTitle(), job.getId(), (System.nanoTime() - startNanos) / 1_000_000);
+            }
+
+        } catch (Exception e) {
+            synchronized (persistLock) {
+                synchronized (this) {
+                    release(job);
+                    if (context.isCancelled()) {
+                        finish(job, Job.State.CANCELLED, "사용자 취소");
+                    } else if (job.getAttempts() < job.getMaxAttempts()) {
+                        job.setState(Job.State.QUEUED);
+                        job.setMessage(String.format("재시도 대기 (%d/%d): %s", job.getAttempts(), job.getMaxAttempts(),
+                            describe(e)));
+                        queue.add(job);
+                    } else {
+                        finish(job, Job.State.FAILED, describe(e));
+                    }
+                    snapshot = job.copy();
+                }
+                persist(snapshot);
+            }
+            if (snapshot.getState() == Job.State.CANCELLED) {
+                log.info("작업 취소: {} ({})", job.getTitle(), job.getId());
+            } else {
+                log.error("작업 실패: {} ({}), {}회째", job.getTitle(), job.getId(), job.getAttempts(), e);
+            }
+
+        } finally {
+            synchronized (this) {
+                release(job);
+            }
+        }
+
+        notifyListeners(snapshot);
+        dispatch();
+    }
+
+    /**
+     * 실행 중 목록에서 제거 (락 안에서 호출, 상태 변경과 같은 락 안에서 해야 활성 작업 수가 어긋나지 않음)
+     */
+    private void release(Job job) {
+        if (running.remove(job.getId()) != null) {
+            // 단독 작업이 끝나기를 기다리는 runShared 호출을 깨움
+            notifyAll();
+        }
+        contexts.remove(job.getId());
+        futures.remove(job.getId());
+    }
+
+    /**
+     * 종료 상태로 변경 (락 안에서 호출, 저장은 호출한 쪽에서 락 밖에서)
+     */
+    private void finish(Job job, Job.State state, String message) {
+        job.setState(state);
+        job.setMessage(message);
+        job.setFinishedAt(LocalDateTime.now());
+    }
+
+    /**
+     * 취소된 작업이 남긴 결과 파일 삭제 (완료되지 않은 파일이 남지 않도록)
+     */
+    private static void deleteResult(String resultPath) {
+        if (resultPath == null || resultPath.isEmpty()) {
+            return;
+        }
+        try {
+            if (Files.deleteIfExists(Paths.get(resultPath))) {
+                log.info("취소된 작업 결과 삭제: {}", resultPath);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("취소된 작업 결과 삭제 실패: {}", resultPath, e);
+        }
+    }
+
+    /**
+     * 상태 저장 (저장 실패로 작업 흐름이 끊기지 않도록 로그만 남김)
+     */
+    private void persist(Job job) {
+        try {
+            repository.update(job);
+        } catch (RuntimeException e) {
+            log.warn("작업 상태 저장 실패: {}", job.getId(), e);
+        }
+    }
+
+    private void notifyListeners(Job job) {
+        for (JobListener listener : listeners) {
+            try {
+                listener.onJobChanged(job);
+            } catch (RuntimeException e) {
+                log.warn("작업 리스너 오류", e);
+            }
+        }
+    }
+
+    private int countRunning(Job.Type type) {
+        int count = 0;
+        for (Job job : running.values()) {
+            if (job.getType() == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Job findQueued(String jobId) {
+        for (Job job : queue) {
+            if (job.getId().equals(jobId)) {
+                return job;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 단독 실행 작업이 대기/실행 중인지 (락 안에서 호출, 작업 스레드가 종료되면 대기 중인 작업은 실행되지 않으므로 제외)
+     */
+    private boolean isExclusivePending() {
+        if (executor.isShutdown()) {
+            return false;
+        }
+        for (Job job : running.values()) {
+            if (job.getType().isExclusive()) {
+                return true;
+            }
+        }
+        for (Job job : queue) {
+            if (job.getType().isExclusive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Job findActive(Job.Type type) {
+        for (Job job : running.values()) {
+            if (job.getType() == type) {
+                return job;
+            }
+        }
+        for (Job job : queue) {
+            if (job.getType() == type) {
+                return job;
+            }
+        }
+        return null;
+    }
+
+    private static String describe(Exception e) {
+        String message = e.getMessage();
+        return message != null && !message.isBlank() ? message : e.getClass().getSimpleName();
+    }
+}
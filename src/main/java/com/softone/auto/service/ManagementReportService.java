@@ -0,0 +1,74 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.model.ManagementReport;
+import com.softone.auto.repository.sqlite.ManagementReportSqliteRepository;
+import com.softone.auto.repository.sqlite.ManagementReportSqliteRepository.Period;
+import com.softone.auto.util.AppContext;
+import com.softone.auto.util.AuditLogger;
+import com.softone.auto.util.ManagementReportExcelWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.YearMonth;
+
+/**
+ * 경영 보고서 서비스
+ * 월별/분기별 근태, 이슈 접수/해결, 고객 소통 처리 현황을 집계 쿼리로 계산해 Excel로 생성
+ */
+@Slf4j
+public class ManagementReportService {
+
+    private final ManagementReportSqliteRepository repository;
+
+    public ManagementReportService() {
+        this.repository = new ManagementReportSqliteRepository();
+    }
+
+    /**
+     * 경영 보고서 집계 (분기별이면 시작/종료 월을 분기 경계로 확장)
+     *
+     * @param allCompanies true면 전체 회사, false면 현재 회사 (회사 미선택 시 전체)
+     */
+    public ManagementReport build(Period period, YearMonth from, YearMonth to, boolean allCompanies) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 월이 종료 월보다 늦습니다.");
+        }
+
+        YearMonth fromMonth = period.firstMonth(from);
+        YearMonth toMonth = period.lastMonth(to);
+        Company company = allCompanies ? null : AppContext.getInstance().getCurrentCompany();
+        String companyId = company != null ? company.getId() : null;
+
+        long startNanos = System.nanoTime();
+        ManagementReport report = new ManagementReport();
+        report.setPeriodType(period.getLabel());
+        report.setFromMonth(fromMonth);
+        report.setToMonth(toMonth);
+        report.setScope(company != null ? company.getName() : "전체 회사");
+
+        // 호출 스레드(작업 스레드)에서 차례로 집계 - 화면 로더 풀은 사용하지 않음
+        report.setAttendance(repository.findAttendance(period, fromMonth, toMonth, companyId));
+        report.setIssues(repository.findIssues(period, fromMonth, toMonth, companyId));
+        report.setCommunications(repository.findCommunications(period, fromMonth, toMonth, companyId));
+
+        log.info("경영 보고서 집계: {} {} ~ {} ({}), 근태 {}행, 이슈 {}행, 소통 {}행, {}ms", period, fromMonth, toMonth,
+            report.getScope(), report.getAttendance().size(), report.getIssues().size(),
+            report.getCommunications().size(), (System.nanoTime() - startNanos) / 1_000_000);
+        return report;
+    }
+
+    /**
+     * 경영 보고서를 집계해 Excel 파일로 생성
+     */
+    public ManagementReport exportToExcel(File target, Period period, YearMonth from, YearMonth to,
+                                          boolean allCompanies) throws IOException {
+        ManagementReport report = build(period, from, to, allCompanies);
+        ManagementReportExcelWriter.write(report, target);
+
+        AuditLogger.logDataAccess("SYSTEM", "EXPORT", "ManagementReport",
+            report.getPeriodType() + " " + report.getFromMonth() + " ~ " + report.getToMonth() + " " + report.getScope());
+        return report;
+    }
+}
@@ -0,0 +1,67 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.Dataset;
+import com.softone.auto.util.AppContext;
+import com.softone.auto.util.AuditLogger;
+import com.softone.auto.util.RawDataExcelExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 원본 데이터 내보내기 서비스
+ * 현재 회사의 근태/이슈/고객 소통 원본 데이터를 시트별로 Excel에 스트리밍 기록
+ */
+@Slf4j
+public class RawDataExportService {
+
+    private final RawDataSqliteRepository repository;
+
+    public RawDataExportService() {
+        this.repository = new RawDataSqliteRepository();
+    }
+
+    /**
+     * 현재 회사 기준 기간 내 건수 (회사 미선택 시 전체)
+     */
+    public long count(Dataset dataset, LocalDate from, LocalDate to) {
+        return repository.count(dataset, currentCompanyId(), from, to);
+    }
+
+    /**
+     * 현재 회사의 원본 데이터를 Excel 파일로 내보내기 (회사 미선택 시 전체)
+     *
+     * @return 완료되면 true, 취소되면 false (취소 시 파일은 삭제됨)
+     */
+    public boolean exportToExcel(File target, List<Dataset> datasets, LocalDate from, LocalDate to,
+                                 RawDataExcelExporter.ProgressListener listener, BooleanSupplier cancelled) throws IOException {
+        if (datasets.isEmpty()) {
+            throw new IllegalArgumentException("내보낼 데이터를 선택하세요.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+
+        long startNanos = System.nanoTime();
+        boolean completed = new RawDataExcelExporter(repository)
+            .export(target, datasets, currentCompanyId(), from, to, listener, cancelled);
+
+        log.info("원본 데이터 내보내기 {}: {} {} ~ {}, {}ms", completed ? "완료" : "취소",
+            datasets, from, to, (System.nanoTime() - startNanos) / 1_000_000);
+        if (completed) {
+            AuditLogger.logDataAccess("SYSTEM", "EXPORT", "RawData", datasets.toString());
+        }
+        return completed;
+    }
+
+    private static String currentCompanyId() {
+        Company currentCompany = AppContext.getInstance().getCurrentCompany();
+        return currentCompany != null ? currentCompany.getId() : null;
+    }
+}
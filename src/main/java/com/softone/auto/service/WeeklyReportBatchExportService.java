@@ -0,0 +1,401 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.model.WeeklyReport;
+import com.softone.auto.util.ExcelReportGenerator;
+import com.softone.auto.util.PathSecurityValidator;
+import com.softone.auto.util.PdfReportGenerator;
+import com.softone.auto.util.ReportArtifactCache;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 주간보고서 일괄 내보내기 서비스
+ *
+ * 기간과 회사 목록을 받아 해당 보고서를 Excel/PDF로 병렬 생성합니다.
+ * 작업 스레드 수는 CPU 코어 수와 가용 메모리로 제한하며, 동시에 진행 중인 결과도
+ * 스레드 수의 2배까지만 유지해 ZIP으로 묶을 때도 메모리 사용량이 늘지 않습니다.
+ * ZIP 파일은 완료된 순서대로 한 스레드에서 기록합니다.
+ */
+@Slf4j
+public class WeeklyReportBatchExportService {
+
+    /** 보고서 1건 생성 시 메모리 추정치 (SXSSF 창 + PDF 문서) */
+    private static final long ESTIMATED_TASK_MEMORY_BYTES = 64L * 1024 * 1024;
+    private static final long POLL_INTERVAL_MS = 200;
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        EXCEL("Excel", "xlsx", ExcelReportGenerator.GENERATOR_VERSION),
+        PDF("PDF", "pdf", PdfReportGenerator.GENERATOR_VERSION);
+
+        private final String displayName;
+        private final String extension;
+        private final String generatorVersion;
+
+        Format(String displayName, String extension, String generatorVersion) {
+            this.displayName = displayName;
+            this.extension = extension;
+            this.generatorVersion = generatorVersion;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * 내보내기 요청
+     */
+    @Data
+    public static class ExportRequest {
+        private LocalDate from;
+        private LocalDate to;
+        private List<Company> companies = new ArrayList<>();
+        private Set<Format> formats = EnumSet.of(Format.EXCEL);
+        private File outputDir;        // 파일 저장 폴더 (ZIP이면 ZIP 파일이 저장될 폴더)
+        private String zipFileName;    // null이면 개별 파일로 저장
+    }
+
+    /**
+     * 내보내기 결과
+     */
+    @Data
+    public static class ExportResult {
+        private int total;
+        private int succeeded;
+        private int reused;            // 내용이 바뀌지 않아 캐시된 파일을 그대로 쓴 건수
+        private boolean cancelled;
+        private long elapsedMillis;
+        private File zipFile;
+        private List<File> files = new ArrayList<>();
+        private List<String> failures = new ArrayList<>();
+    }
+
+    /**
+     * 진행률 수신 (호출 스레드에서 호출됨)
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int completed, int total, String item);
+    }
+
+    /**
+     * 생성 작업 1건 (보고서 x 형식)
+     */
+    private static final class ExportTask {
+        final WeeklyReport report;
+        final Format format;
+        final String entryName;   // ZIP 항목 이름 겸 저장 폴더 기준 상대 경로
+
+        ExportTask(WeeklyReport report, Format format, String entryName) {
+            this.report = report;
+            this.format = format;
+            this.entryName = entryName;
+        }
+    }
+
+    /**
+     * 생성 결과 1건 (ZIP이면 바이트, 아니면 저장된 파일, 실패 시 오류)
+     */
+    private static final class TaskOutput {
+        final ExportTask task;
+        byte[] content;
+        File file;
+        boolean reused;
+        Exception error;
+
+        TaskOutput(ExportTask task) {
+            this.task = task;
+        }
+    }
+
+    private final WeeklyReportService reportService;
+    private final ReportArtifactCache artifactCache;   // null이면 데이터 폴더의 기본 캐시
+
+    public WeeklyReportBatchExportService() {
+        this(new WeeklyReportService());
+    }
+
+    public WeeklyReportBatchExportService(WeeklyReportService reportService) {
+        this(reportService, null);
+    }
+
+    WeeklyReportBatchExportService(WeeklyReportService reportService, ReportArtifactCache artifactCache) {
+        this.reportService = reportService;
+        this.artifactCache = artifactCache;
+    }
+
+    /**
+     * 일괄 내보내기 실행 (완료 또는 취소될 때까지 대기)
+     *
+     * @param cancelled 취소 여부 (주기적으로 확인, 예: SwingWorker::isCancelled)
+     */
+    public ExportResult export(ExportRequest request, ProgressListener listener, BooleanSupplier cancelled) {
+        long startNanos = System.nanoTime();
+        ExportResult result = new ExportResult();
+
+        if (request.getFrom() == null || request.getTo() == null || request.getFrom().isAfter(request.getTo())) {
+            throw new IllegalArgumentException("내보내기 기간이 올바르지 않습니다.");
+        }
+        if (request.getFormats() == null || request.getFormats().isEmpty()) {
+            throw new IllegalArgumentException("내보낼 형식을 선택하세요.");
+        }
+        if (request.getOutputDir() == null) {
+            throw new IllegalArgumentException("저장 폴더가 지정되지 않았습니다.");
+        }
+
+        List<ExportTask> tasks = collectTasks(request, cancelled);
+        result.setTotal(tasks.size());
+        if (cancelled.getAsBoolean()) {
+            result.setCancelled(true);
+            return result;
+        }
+        if (tasks.isEmpty()) {
+            return result;
+        }
+
+        boolean zip = request.getZipFileName() != null;
+        int workers = workerCount(tasks.size());
+        log.info("주간보고서 일괄 내보내기 시작: {}건, 작업 스레드 {}개, ZIP {}", tasks.size(), workers, zip);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, "batch-export-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<TaskOutput> completion = new ExecutorCompletionService<>(executor);
+        ReportArtifactCache cache = artifactCache != null ? artifactCache : ReportArtifactCache.getDefault();
+
+        File zipFile = zip ? new File(request.getOutputDir(), request.getZipFileName()) : null;
+        File zipTempFile = zip ? new File(request.getOutputDir(), request.getZipFileName() + ".part") : null;
+        ZipOutputStream zipOut = null;
+
+        try {
+            if (!request.getOutputDir().exists() && !request.getOutputDir().mkdirs()) {
+                throw new IOException("저장 폴더 생성 실패: " + request.getOutputDir().getAbsolutePath());
+            }
+            if (zip) {
+                zipOut = new ZipOutputStream(new FileOutputStream(zipTempFile));
+            }
+
+            int maxInFlight = workers * 2;
+            int submitted = 0;
+            int inFlight = 0;
+            int completed = 0;
+
+            while (completed < tasks.size()) {
+                if (cancelled.getAsBoolean()) {
+                    result.setCancelled(true);
+                    break;
+                }
+
+                while (submitted < tasks.size() && inFlight < maxInFlight) {
+                    ExportTask task = tasks.get(submitted++);
+                    completion.submit(() -> generate(task, cache, request.getOutputDir(), zip));
+                    inFlight++;
+                }
+
+                Future<TaskOutput> future = completion.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (future == null) {
+                    continue;
+                }
+                inFlight--;
+                completed++;
+
+                String item = collect(future, zipOut, result);
+                if (listener != null) {
+                    listener.onProgress(completed, tasks.size(), item);
+                }
+            }
+
+            if (zipOut != null && !result.isCancelled()) {
+                zipOut.close();
+                zipOut = null;
+                Files.move(zipTempFile.toPath(), zipFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                result.setZipFile(zipFile);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.setCancelled(true);
+        } catch (IOException e) {
+            log.error("주간보고서 일괄 내보내기 실패", e);
+            throw new RuntimeException("일괄 내보내기 실패: " + e.getMessage(), e);
+        } finally {
+            executor.shutdownNow();
+            if (zipOut != null) {
+                try {
+                    zipOut.close();
+                } catch (IOException e) {
+                    log.warn("ZIP 파일 닫기 실패: {}", e.getMessage());
+                }
+            }
+            if (zipTempFile != null && zipTempFile.exists() && !zipTempFile.delete()) {
+                log.warn("임시 ZIP 파일 삭제 실패: {}", zipTempFile.getAbsolutePath());
+            }
+        }
+
+        result.setElapsedMillis((System.nanoTime() - startNanos) / 1_000_000);
+        log.info("주간보고서 일괄 내보내기 {}: 성공 {}/{}건 (캐시 재사용 {}건), 실패 {}건, {}ms",
+            result.isCancelled() ? "취소" : "완료", result.getSucceeded(), result.getTotal(), result.getReused(),
+            result.getFailures().size(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 회사별 기간 내 보고서를 조회해 생성 작업 목록 구성
+     */
+    private List<ExportTask> collectTasks(ExportRequest request, BooleanSupplier cancelled) {
+        List<ExportTask> tasks = new ArrayList<>();
+        Map<String, Integer> folderNames = new HashMap<>();
+
+        for (Company company : request.getCompanies()) {
+            if (cancelled.getAsBoolean()) {
+                break;
+            }
+
+            // 같은 이름의 회사는 폴더명 뒤에 번호를 붙여 구분
+            String folder = PathSecurityValidator.sanitizeFileName(company.getName());
+            int duplicate = folderNames.merge(folder, 1, Integer::sum);
+            if (duplicate > 1) {
+                folder = folder + "_" + duplicate;
+            }
+
+            List<WeeklyReport> reports = reportService.getReportsByCompanyAndDateRange(
+                company.getId(), request.getFrom(), request.getTo());
+            for (WeeklyReport report : reports) {
+                for (Format format : request.getFormats()) {
+                    String entryName = folder + "/" + report.getStartDate() + "_주간보고서." + format.getExtension();
+                    tasks.add(new ExportTask(report, format, entryName));
+                }
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * 보고서 1건 생성 (작업 스레드, 실패는 결과에 담아 반환)
+     * 내용이 바뀌지 않은 보고서는 캐시된 파일을 복사하고, 바뀐 보고서만 다시 생성
+     */
+    private TaskOutput generate(ExportTask task, ReportArtifactCache cache, File outputDir, boolean zip) {
+        TaskOutput output = new TaskOutput(task);
+        try {
+            if (zip) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+                output.reused = write(task, cache, buffer);
+                output.content = buffer.toByteArray();
+                return output;
+            }
+
+            File file = new File(outputDir, task.entryName.replace('/', File.separatorChar));
+            if (!file.getCanonicalPath().startsWith(outputDir.getCanonicalPath())) {
+                throw new SecurityException("안전하지 않은 파일 경로입니다.");
+            }
+            File parent = file.getParentFile();
+            if (!parent.exists() && !parent.mkdirs() && !parent.exists()) {
+                throw new IOException("폴더 생성 실패: " + parent.getAbsolutePath());
+            }
+            try (OutputStream out = new FileOutputStream(file)) {
+                output.reused = write(task, cache, out);
+            }
+            output.file = file;
+        } catch (Exception e) {
+            log.error("보고서 생성 실패: {}", task.entryName, e);
+            output.error = e;
+        }
+        return output;
+    }
+
+    /**
+     * @return 캐시된 파일을 그대로 썼으면 true
+     */
+    private static boolean write(ExportTask task, ReportArtifactCache cache, OutputStream out) throws Exception {
+        return cache.writeTo(ReportArtifactCache.key(task.report, task.format.generatorVersion),
+            task.format.getExtension(), target -> {
+                switch (task.format) {
+                    case EXCEL -> ExcelReportGenerator.writeWeeklyReport(task.report, target);
+                    case PDF -> PdfReportGenerator.writeWeeklyReport(task.report, target);
+                }
+            }, out);
+    }
+
+    /**
+     * 완료된 작업 결과 반영 (호출 스레드, ZIP 기록은 여기서만 수행)
+     *
+     * @return 진행률에 표시할 항목 이름
+     */
+    private String collect(Future<TaskOutput> future, ZipOutputStream zipOut, ExportResult result)
+            throws InterruptedException, IOException {
+        TaskOutput output;
+        try {
+            output = future.get();
+        } catch (ExecutionException e) {
+            // generate()가 오류를 결과로 돌려주므로 여기에는 Error만 도달
+            throw new IllegalStateException("보고서 생성 작업 오류", e.getCause());
+        }
+
+        if (output.error != null) {
+            String message = output.error.getMessage() != null
+                ? output.error.getMessage() : output.error.getClass().getSimpleName();
+            result.getFailures().add(output.task.entryName + ": " + message);
+            return output.task.entryName + " (실패)";
+        }
+
+        if (zipOut != null) {
+            zipOut.putNextEntry(new ZipEntry(output.task.entryName));
+            zipOut.write(output.content);
+            zipOut.closeEntry();
+        } else {
+            result.getFiles().add(output.file);
+        }
+        result.setSucceeded(result.getSucceeded() + 1);
+        if (output.reused) {
+            result.setReused(result.getReused() + 1);
+        }
+        return output.task.entryName;
+    }
+
+    /**
+     * 작업 스레드 수 (코어 수와 가용 메모리 중 작은 쪽, 최소 1)
+     */
+    static int workerCount(int taskCount) {
+        Runtime runtime = Runtime.getRuntime();
+        long available = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        int byMemory = (int) Math.max(1, available / ESTIMATED_TASK_MEMORY_BYTES);
+        int byCores = Math.max(1, runtime.availableProcessors());
+        return Math.max(1, Math.min(taskCount, Math.min(byCores, byMemory)));
+    }
+}
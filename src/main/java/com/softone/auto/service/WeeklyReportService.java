@@ -9,8 +9,13 @@ import com.softone.auto.util.PrivacyMaskingUtil;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 주간 보고서 서비스
@@ -18,13 +23,18 @@ import java.util.UUID;
 @Slf4j
 public class WeeklyReportService {
     
+    /** 회사 ID → 보고서가 있는 ISO 주 (서비스 인스턴스 간 공유) */
+    private static final Map<String, Set<String>> REPORT_WEEKS = new ConcurrentHashMap<>();
+    
     private final WeeklyReportSqliteRepository repository;
     private final AttendanceService attendanceService;
+    private final AttendanceAnalyticsService analyticsService;
     private final DeveloperService developerService;
     
     public WeeklyReportService() {
         this.repository = new WeeklyReportSqliteRepository();
         this.attendanceService = new AttendanceService();
+        this.analyticsService = new AttendanceAnalyticsService();
         this.developerService = new DeveloperService();
     }
     
@@ -58,6 +68,15 @@ public class WeeklyReportService {
         }
     }
     
+    /**
+     * 지정한 회사의 기간 내 보고서 조회 (시작일 기준, 일괄 내보내기용 - 현재 회사와 무관)
+     */
+    public List<WeeklyReport> getReportsByCompanyAndDateRange(String companyId, LocalDate from, LocalDate to) {
+        List<WeeklyReport> reports = repository.findByCompanyAndDateRange(companyId, from, to);
+        AuditLogger.logDataAccess("SYSTEM", "READ", "WeeklyReport", String.valueOf(reports.size()));
+        return reports;
+    }
+    
     /**
      * 주간 보고서 생성 (현재 회사에 자동 할당)
      */
@@ -84,6 +103,11 @@ public class WeeklyReportService {
         
         repository.save(report);
         
+        Set<String> weeks = report.getCompanyId() != null ? REPORT_WEEKS.get(report.getCompanyId()) : null;
+        if (weeks != null && startDate != null) {
+            weeks.add(toIsoWeek(startDate));
+        }
+        
         // 감사 로그 기록 (개인정보 마스킹)
         String maskedReporter = PrivacyMaskingUtil.maskName(reporter);
         String maskedProjectName = PrivacyMaskingUtil.maskName(projectName);
@@ -105,17 +129,46 @@ public class WeeklyReportService {
             report.getId(), report.getTitle(), maskedReporter);
         
         repository.update(report);
+        // 시작일이 바뀌었을 수 있으므로 다음 조회 시 다시 로드
+        if (report.getCompanyId() != null) {
+            REPORT_WEEKS.remove(report.getCompanyId());
+        }
         
         AuditLogger.logDataModification("SYSTEM", "UPDATE", "WeeklyReport", report.getId(), 
             "제목: " + report.getTitle() + ", 작성자: " + maskedReporter);
     }
     
+    /**
+     * 주간 보고서 부분 수정 (자동 저장, 변경된 항목만 UPDATE)
+     * 
+     * @return 보고서가 존재하여 수정되었으면 true
+     */
+    public boolean updateReportFields(String id, Map<WeeklyReport.Field, Object> changes) {
+        if (changes.isEmpty()) {
+            return true;
+        }
+        
+        boolean updated = repository.updateFields(id, changes) > 0;
+        log.debug("주간보고서 자동 저장 - ID: {}, 항목: {}, 결과: {}", id, changes.keySet(), updated);
+        
+        if (updated) {
+            AuditLogger.logDataModification("SYSTEM", "UPDATE", "WeeklyReport", id, 
+                "자동 저장: " + changes.keySet());
+        }
+        return updated;
+    }
+    
     /**
      * 주간 보고서 삭제
      */
     public void deleteReport(String id) {
         log.info("주간보고서 삭제 - ID: {}", id);
+        String companyId = repository.findById(id).map(WeeklyReport::getCompanyId).orElse(null);
         repository.delete(id);
+        // 같은 주에 다른 보고서가 남아 있을 수 있으므로 해당 회사만 다음 조회 시 다시 로드
+        if (companyId != null) {
+            REPORT_WEEKS.remove(companyId);
+        }
         AuditLogger.logDataModification("SYSTEM", "DELETE", "WeeklyReport", id, null);
     }
     
@@ -135,10 +188,8 @@ public class WeeklyReportService {
             return false;
         }
         
-        // 현재 회사의 보고서만 확인
-        List<WeeklyReport> reports = repository.findByCompanyId(currentCompany.getId());
-        return reports.stream()
-                .anyMatch(report -> report.getStartDate().equals(startDate));
+        // 하위 항목 로드 없이 회사 + 시작일 인덱스만 조회
+        return repository.existsByCompanyAndStartDate(currentCompany.getId(), startDate);
     }
     
     /**
@@ -150,31 +201,80 @@ public class WeeklyReportService {
             return null;
         }
         
-        // 현재 회사의 보고서만 검색
-        List<WeeklyReport> reports = repository.findByCompanyId(currentCompany.getId());
-        return reports.stream()
-                .filter(report -> report.getStartDate().equals(startDate))
-                .findFirst()
-                .orElse(null);
+        return repository.findByCompanyAndStartDate(currentCompany.getId(), startDate).orElse(null);
+    }
+    
+    /**
+     * 해당 날짜가 속한 ISO 주에 현재 회사의 보고서가 있는지 확인 (메모리 조회)
+     * 날짜 선택기 등에서 작성된 주를 즉시 표시할 때 사용
+     */
+    public boolean hasReportForWeek(LocalDate date) {
+        return getReportWeeks().contains(toIsoWeek(date));
+    }
+    
+    /**
+     * 현재 회사의 보고서가 있는 ISO 주 목록 (예: "2024-W20")
+     */
+    public Set<String> getReportWeeks() {
+        Company currentCompany = com.softone.auto.util.AppContext.getInstance().getCurrentCompany();
+        if (currentCompany == null) {
+            return Collections.emptySet();
+        }
+        
+        Set<String> weeks = REPORT_WEEKS.computeIfAbsent(currentCompany.getId(), companyId -> {
+            Set<String> loaded = ConcurrentHashMap.newKeySet();
+            for (LocalDate startDate : repository.findStartDatesByCompanyId(companyId)) {
+                loaded.add(toIsoWeek(startDate));
+            }
+            return loaded;
+        });
+        return Collections.unmodifiableSet(weeks);
+    }
+    
+    /**
+     * ISO 주 키 (주 기준 연도 + 주차)
+     */
+    public static String toIsoWeek(LocalDate date) {
+        return String.format("%d-W%02d",
+            date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
     }
     
     /**
      * 근태 현황 자동 생성
+     * 회사가 지정된 보고서는 근태 분석 저장소에서 개발자별 유형 건수를 한 번에 집계
      */
     private void generateAttendanceSummaries(WeeklyReport report, LocalDate startDate, LocalDate endDate) {
         List<Developer> developers = developerService.getAllDevelopers();
+        Map<String, Map<String, Integer>> typeCounts = report.getCompanyId() != null && startDate != null && endDate != null
+            ? analyticsService.getDeveloperTypeCounts(report.getCompanyId(), startDate, endDate)
+            : null;
         
         for (Developer dev : developers) {
             if ("ACTIVE".equals(dev.getStatus())) {
                 WeeklyReport.AttendanceSummary summary = new WeeklyReport.AttendanceSummary();
                 summary.setDeveloperName(dev.getName());
-                summary.setWorkDays((int) attendanceService.getWorkDays(dev.getId(), startDate, endDate));
-                summary.setLateDays((int) attendanceService.getLateDays(dev.getId(), startDate, endDate));
-                summary.setVacationDays((int) attendanceService.getVacationDays(dev.getId(), startDate, endDate));
+                if (typeCounts != null) {
+                    Map<String, Integer> counts = typeCounts.getOrDefault(dev.getId(), Collections.emptyMap());
+                    summary.setWorkDays(sum(counts, "NORMAL", "LATE"));
+                    summary.setLateDays(sum(counts, "LATE"));
+                    summary.setVacationDays(sum(counts, "VACATION", "SICK_LEAVE"));
+                } else {
+                    summary.setWorkDays((int) attendanceService.getWorkDays(dev.getId(), startDate, endDate));
+                    summary.setLateDays((int) attendanceService.getLateDays(dev.getId(), startDate, endDate));
+                    summary.setVacationDays((int) attendanceService.getVacationDays(dev.getId(), startDate, endDate));
+                }
                 
                 report.getAttendanceSummaries().add(summary);
             }
         }
     }
+    
+    private static int sum(Map<String, Integer> counts, String... types) {
+        int total = 0;
+        for (String type : types) {
+            total += counts.getOrDefault(type, 0);
+        }
+        return total;
+    }
 }
 
@@ -8,14 +8,13 @@ import com.softone.auto.util.AsyncDataLoader;
 import com.softone.auto.util.ErrorMessageMapper;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableRowSorter;
-import javax.swing.RowFilter;
+import javax.swing.table.JTableHeader;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 /**
  * 근태 관리 패널
@@ -26,8 +25,7 @@ public class AttendancePanel extends JPanel {
     private final DeveloperService developerService;
     
     private JTable attendanceTable;
-    private DefaultTableModel tableModel;
-    private TableRowSorter<DefaultTableModel> tableSorter;
+    private PagedAttendanceTableModel tableModel;
     private JComboBox<String> typeFilterCombo;
     
     private JComboBox<String> developerCombo;
@@ -174,23 +172,31 @@ public class AttendancePanel extends JPanel {
         filterPanel.add(typeFilterCombo);
         
         // 테이블
-        String[] columnNames = {"날짜", "개발자", "출근", "퇴근", "근무시간(분)", "유형", "비고"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        // 페이지 단위 지연 로드 모델 (정렬/필터는 SQL에서 처리)
+        tableModel = new PagedAttendanceTableModel(attendanceService);
         
         attendanceTable = new JTable(tableModel);
         ModernDesign.styleTable(attendanceTable);
+        // 근무시간(분) 컬럼은 오른쪽 정렬 (모델 값은 Integer, 0이면 근무시간 없음)
+        attendanceTable.getColumnModel().getColumn(4).setCellRenderer(OptimizedTableRenderer.getNumberInstance());
         
         // 테이블 자동 리사이즈 모드 설정 (수평 스크롤 활성화)
         attendanceTable.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
         
-        // TableRowSorter 설정
-        tableSorter = new TableRowSorter<>(tableModel);
-        attendanceTable.setRowSorter(tableSorter);
+        // 헤더 클릭 시 SQL 정렬 (TableRowSorter는 전체 행이 필요하므로 사용하지 않음)
+        JTableHeader tableHeader = attendanceTable.getTableHeader();
+        tableHeader.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int viewColumn = tableHeader.columnAtPoint(e.getPoint());
+                if (viewColumn < 0) {
+                    return;
+                }
+                tableModel.toggleSort(attendanceTable.convertColumnIndexToModel(viewColumn), AttendancePanel.this::selectFirstRow);
+                updateHeaderLabels();
+            }
+        });
+        updateHeaderLabels();
         
         attendanceTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         attendanceTable.getSelectionModel().addListSelectionListener(e -> {
@@ -224,11 +230,22 @@ public class AttendancePanel extends JPanel {
         
         if (selectedType == null || "전체".equals(selectedType)) {
             // 전체 표시
-            tableSorter.setRowFilter(null);
+            tableModel.setTypeFilter(null, this::selectFirstRow);
         } else {
-            // 선택한 유형만 표시 (유형 컬럼은 인덱스 5)
-            tableSorter.setRowFilter(RowFilter.regexFilter("^" + selectedType + "$", 5));
+            // 선택한 유형만 조회 (WHERE type = ?)
+            tableModel.setTypeFilter(selectedType, this::selectFirstRow);
+        }
+    }
+    
+    /**
+     * 헤더에 정렬 방향 표시 (컬럼 폭 유지를 위해 헤더 값만 변경)
+     */
+    private void updateHeaderLabels() {
+        for (int i = 0; i < attendanceTable.getColumnModel().getColumnCount(); i++) {
+            javax.swing.table.TableColumn column = attendanceTable.getColumnModel().getColumn(i);
+            column.setHeaderValue(tableModel.getColumnName(column.getModelIndex()));
         }
+        attendanceTable.getTableHeader().repaint();
     }
     
     /**
@@ -486,79 +503,42 @@ public class AttendancePanel extends JPanel {
     
     /**
      * 근태 목록 로드 (비동기 처리)
+     * 건수와 첫 페이지만 조회하고 나머지 페이지는 스크롤 시 로드
      */
     private void loadAttendances() {
-        AsyncDataLoader.loadAsync(
-            () -> {
-                // 백그라운드 스레드에서 실행
-                System.out.println("=== 근태 목록 로드 시작 (비동기) ===");
-                List<Attendance> attendances = attendanceService.getAllAttendance();
-                System.out.println("  조회된 근태 데이터: " + attendances.size() + "건");
-                return attendances;
-            },
-            (attendances) -> {
-                // EDT에서 실행 - UI 업데이트
-                if (attendances == null) {
-                    System.err.println("근태 데이터 로드 실패");
-                    return;
-                }
-                
-                // 개발자 목록도 함께 새로고침
-                loadDevelopers();
-                
-                // 테이블 모델 초기화
-                tableModel.setRowCount(0);
-                
-                // 현재 회사 정보 출력
-                com.softone.auto.model.Company currentCompany = com.softone.auto.util.AppContext.getInstance().getCurrentCompany();
-                System.out.println("  현재 회사: " + (currentCompany != null ? currentCompany.getName() + " (ID: " + currentCompany.getId() + ")" : "없음"));
-                
-                if (attendances.isEmpty()) {
-                    System.out.println("  ⚠️ 근태 데이터가 없습니다.");
-                } else {
-                    int rowCount = 0;
-                    for (Attendance att : attendances) {
-                        try {
-                            // 회사 ID 확인
-                            System.out.println("    - 근태: 날짜=" + att.getDate() + ", 개발자=" + att.getDeveloperName() + ", 회사ID=" + att.getCompanyId());
-                        
-                        tableModel.addRow(new Object[]{
-                                att.getDate() != null ? att.getDate().format(DateTimeFormatter.ISO_LOCAL_DATE) : "",
-                                att.getDeveloperName() != null ? att.getDeveloperName() : "",
-                                att.getCheckIn() != null ? att.getCheckIn().format(DateTimeFormatter.ofPattern("HH:mm")) : "",
-                                att.getCheckOut() != null ? att.getCheckOut().format(DateTimeFormatter.ofPattern("HH:mm")) : "",
-                                att.getWorkMinutes() != null ? att.getWorkMinutes() : 0,
-                                att.getType() != null ? att.getType() : "",
-                                att.getNotes() != null ? att.getNotes() : ""
-                        });
-                        rowCount++;
-                    } catch (Exception rowEx) {
-                        System.err.println("  ✗ 근태 데이터 행 추가 실패: " + rowEx.getMessage());
-                        System.err.println("    - 날짜: " + att.getDate());
-                        System.err.println("    - 개발자: " + att.getDeveloperName());
-                        rowEx.printStackTrace();
-                    }
-                    }
-                    System.out.println("  ✓ 테이블에 추가된 행: " + rowCount + "건");
-                }
-                
-                // 테이블 모델 갱신
-                tableModel.fireTableDataChanged();
-                
-                // 첫 번째 행 자동 선택
-                if (tableModel.getRowCount() > 0) {
-                    try {
-                        attendanceTable.setRowSelectionInterval(0, 0);
-                        attendanceTable.scrollRectToVisible(attendanceTable.getCellRect(0, 0, true));
-                        System.out.println("  ✓ 첫 번째 행 자동 선택 완료");
-                    } catch (Exception selectEx) {
-                        System.err.println("  ✗ 행 선택 실패: " + selectEx.getMessage());
-                    }
-                }
-                
-                System.out.println("=== 근태 목록 로드 완료 ===\n");
+        // 개발자 목록도 함께 새로고침
+        loadDevelopers();
+        
+        String previousId = selectedAttendance != null ? selectedAttendance.getId() : null;
+        tableModel.reload(() -> {
+            com.softone.auto.model.Company currentCompany = com.softone.auto.util.AppContext.getInstance().getCurrentCompany();
+            System.out.println("=== 근태 목록 로드 완료 - 회사: "
+                + (currentCompany != null ? currentCompany.getName() : "없음")
+                + ", " + tableModel.getRowCount() + "건 ===");
+            
+            // 이전에 선택한 근태가 첫 페이지에 있으면 선택 유지
+            int previousRow = previousId != null ? tableModel.findLoadedRow(previousId) : -1;
+            if (previousRow >= 0) {
+                attendanceTable.setRowSelectionInterval(previousRow, previousRow);
+                attendanceTable.scrollRectToVisible(attendanceTable.getCellRect(previousRow, 0, true));
+            } else {
+                selectFirstRow();
             }
-        );
+        });
+    }
+    
+    /**
+     * 첫 번째 행 자동 선택
+     */
+    private void selectFirstRow() {
+        if (tableModel.getRowCount() > 0) {
+            try {
+                attendanceTable.setRowSelectionInterval(0, 0);
+                attendanceTable.scrollRectToVisible(attendanceTable.getCellRect(0, 0, true));
+            } catch (Exception selectEx) {
+                System.err.println("  ✗ 행 선택 실패: " + selectEx.getMessage());
+            }
+        }
     }
     
     /**
@@ -571,64 +551,33 @@ public class AttendancePanel extends JPanel {
         }
         
         try {
-            // 필터링된 테이블의 경우 뷰 인덱스를 모델 인덱스로 변환
-            int modelRow = attendanceTable.convertRowIndexToModel(selectedRow);
-            
-            if (modelRow < 0 || modelRow >= tableModel.getRowCount()) {
-                System.err.println("  ✗ 잘못된 행 인덱스: " + modelRow);
-                return;
-            }
-            
-            String dateStr = (String) tableModel.getValueAt(modelRow, 0);
-            String devName = (String) tableModel.getValueAt(modelRow, 1);
-            
-            if (dateStr == null || dateStr.isEmpty() || devName == null || devName.isEmpty()) {
-                System.err.println("  ✗ 날짜 또는 개발자 이름이 비어있음");
+            // 선택된 행은 화면에 보이는 페이지에 있으므로 이미 로드되어 있음 (전체 목록 재조회 불필요)
+            Attendance att = tableModel.getAttendanceAt(selectedRow);
+            if (att == null) {
+                System.err.println("  ✗ 아직 로드되지 않은 행: " + selectedRow);
                 return;
             }
             
-            System.out.println("=== 근태 선택: " + dateStr + ", " + devName + " ===");
+            selectedAttendance = att;
             
-            List<Attendance> attendances = attendanceService.getAllAttendance();
-            System.out.println("  전체 근태 데이터: " + attendances.size() + "건");
+            // 수정 모드로 전환
+            enterEditMode();
             
-            boolean found = false;
-            for (Attendance att : attendances) {
-                if (att.getDate() != null && att.getDeveloperName() != null) {
-                    String attDateStr = att.getDate().format(DateTimeFormatter.ISO_LOCAL_DATE);
-                    if (attDateStr.equals(dateStr) && att.getDeveloperName().equals(devName)) {
-                        selectedAttendance = att;
-                        found = true;
-                        
-                        // 수정 모드로 전환
-                        enterEditMode();
-                        
-                        // 폼 필드 채우기
-                        if (att.getDeveloperName() != null) {
-                            developerCombo.setSelectedItem(att.getDeveloperName());
-                        }
-                        if (att.getDate() != null) {
-                            dateField.setText(att.getDate().format(DateTimeFormatter.ISO_LOCAL_DATE));
-                        }
-                        checkInField.setText(att.getCheckIn() != null ? 
-                                att.getCheckIn().format(DateTimeFormatter.ofPattern("HH:mm")) : "");
-                        checkOutField.setText(att.getCheckOut() != null ? 
-                                att.getCheckOut().format(DateTimeFormatter.ofPattern("HH:mm")) : "");
-                        if (att.getType() != null) {
-                            typeCombo.setSelectedItem(att.getType());
-                        }
-                        notesArea.setText(att.getNotes() != null ? att.getNotes() : "");
-                        
-                        System.out.println("  ✓ 근태 정보 로드 완료");
-                        break;
-                    }
-                }
+            // 폼 필드 채우기
+            if (att.getDeveloperName() != null) {
+                developerCombo.setSelectedItem(att.getDeveloperName());
             }
-            
-            if (!found) {
-                System.err.println("  ✗ 일치하는 근태 데이터를 찾을 수 없음");
-                System.err.println("    - 검색 조건: 날짜=" + dateStr + ", 개발자=" + devName);
+            if (att.getDate() != null) {
+                dateField.setText(att.getDate().format(DateTimeFormatter.ISO_LOCAL_DATE));
+            }
+            checkInField.setText(att.getCheckIn() != null ? 
+                    att.getCheckIn().format(DateTimeFormatter.ofPattern("HH:mm")) : "");
+            checkOutField.setText(att.getCheckOut() != null ? 
+                    att.getCheckOut().format(DateTimeFormatter.ofPattern("HH:mm")) : "");
+            if (att.getType() != null) {
+                typeCombo.setSelectedItem(att.getType());
             }
+            notesArea.setText(att.getNotes() != null ? att.getNotes() : "");
         } catch (Exception e) {
             System.err.println("✗ 근태 선택 처리 오류: " + e.getMessage());
             e.printStackTrace();
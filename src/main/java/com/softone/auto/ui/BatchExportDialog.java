@@ -0,0 +1,352 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.service.WeeklyReportBatchExportService;
+import com.softone.auto.service.WeeklyReportBatchExportService.ExportRequest;
+import com.softone.auto.service.WeeklyReportBatchExportService.ExportResult;
+import com.softone.auto.service.WeeklyReportBatchExportService.Format;
+import com.softone.auto.util.AppConfig;
+import com.softone.auto.util.AsyncDataLoader;
+import com.softone.auto.util.ErrorMessageMapper;
+import com.softone.auto.util.ServiceRegistry;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.io.File;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 주간보고서 일괄 내보내기 다이얼로그
+ * 기간과 회사를 선택해 모든 보고서를 Excel/PDF로 내보냄 (진행률 표시, 취소 가능, ZIP 묶음 선택)
+ */
+public class BatchExportDialog extends JDialog {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private final JTextField fromField = new JTextField(10);
+    private final JTextField toField = new JTextField(10);
+    private final JCheckBox excelCheckBox = new JCheckBox("Excel", true);
+    private final JCheckBox pdfCheckBox = new JCheckBox("PDF", false);
+    private final JCheckBox zipCheckBox = new JCheckBox("ZIP 파일 하나로 묶기", true);
+    private final JCheckBox selectAllCheckBox = new JCheckBox("전체 선택", true);
+    private final DefaultTableModel companyModel;
+    private final JProgressBar progressBar = new JProgressBar(0, 100);
+    private final JLabel statusLabel = new JLabel(" ");
+    private final JButton exportButton = ModernDesign.createPrimaryButton("내보내기");
+    private final JButton cancelButton = ModernDesign.createSecondaryButton("취소");
+    private final JButton closeButton = ModernDesign.createSecondaryButton("닫기");
+
+    private final List<Company> companies = new ArrayList<>();
+    private SwingWorker<ExportResult, Object[]> worker;
+
+    public BatchExportDialog(Frame parent) {
+        super(parent, "주간보고서 일괄 내보내기", true);
+
+        companyModel = new DefaultTableModel(new Object[]{"선택", "회사", "프로젝트"}, 0) {
+            @Override
+            public Class<?> getColumnClass(int column) {
+                return column == 0 ? Boolean.class : String.class;
+            }
+
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return column == 0 && worker == null;
+            }
+        };
+
+        initializeUI();
+        loadCompanies();
+    }
+
+    private void initializeUI() {
+        setSize(620, 560);
+        setLocationRelativeTo(getParent());
+        setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                closeDialog();
+            }
+        });
+
+        JPanel mainPanel = new JPanel(new BorderLayout(0, 10));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+        mainPanel.setBackground(ModernDesign.BG_PRIMARY);
+
+        // 기간 / 형식
+        JPanel optionSection = ModernDesign.createSection("내보내기 조건");
+        JPanel optionPanel = new JPanel(new GridBagLayout());
+        optionPanel.setBackground(ModernDesign.BG_SECONDARY);
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(4, 4, 4, 4);
+        gbc.anchor = GridBagConstraints.WEST;
+
+        LocalDate today = LocalDate.now();
+        fromField.setText(today.withDayOfMonth(1).toString());
+        toField.setText(today.withDayOfMonth(today.lengthOfMonth()).toString());
+
+        gbc.gridx = 0; gbc.gridy = 0;
+        optionPanel.add(new JLabel("기간 (시작일 기준)"), gbc);
+        JPanel periodPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        periodPanel.setOpaque(false);
+        periodPanel.add(fromField);
+        periodPanel.add(new JLabel("~"));
+        periodPanel.add(toField);
+        gbc.gridx = 1;
+        optionPanel.add(periodPanel, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 1;
+        optionPanel.add(new JLabel("형식"), gbc);
+        JPanel formatPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        formatPanel.setOpaque(false);
+        for (JCheckBox checkBox : new JCheckBox[]{excelCheckBox, pdfCheckBox, zipCheckBox}) {
+            checkBox.setOpaque(false);
+            formatPanel.add(checkBox);
+        }
+        gbc.gridx = 1;
+        optionPanel.add(formatPanel, gbc);
+        optionSection.add(optionPanel, BorderLayout.CENTER);
+
+        // 회사 선택
+        JPanel companySection = ModernDesign.createSection("회사");
+        JTable companyTable = new JTable(companyModel);
+        ModernDesign.styleTable(companyTable);
+        companyTable.getColumnModel().getColumn(0).setMaxWidth(60);
+        companySection.add(new JScrollPane(companyTable), BorderLayout.CENTER);
+        selectAllCheckBox.setOpaque(false);
+        selectAllCheckBox.addActionListener(e -> {
+            for (int i = 0; i < companyModel.getRowCount(); i++) {
+                companyModel.setValueAt(selectAllCheckBox.isSelected(), i, 0);
+            }
+        });
+        companySection.add(selectAllCheckBox, BorderLayout.SOUTH);
+
+        JPanel centerPanel = new JPanel(new BorderLayout(0, 10));
+        centerPanel.setOpaque(false);
+        centerPanel.add(optionSection, BorderLayout.NORTH);
+        centerPanel.add(companySection, BorderLayout.CENTER);
+        mainPanel.add(centerPanel, BorderLayout.CENTER);
+
+        // 진행률 / 버튼
+        JPanel bottomPanel = new JPanel(new BorderLayout(0, 8));
+        bottomPanel.setOpaque(false);
+        progressBar.setStringPainted(true);
+        statusLabel.setFont(ModernDesign.FONT_SMALL);
+        statusLabel.setForeground(ModernDesign.TEXT_SECONDARY);
+        bottomPanel.add(progressBar, BorderLayout.NORTH);
+        bottomPanel.add(statusLabel, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+        buttonPanel.setOpaque(false);
+        exportButton.addActionListener(e -> startExport());
+        cancelButton.addActionListener(e -> cancelExport());
+        cancelButton.setEnabled(false);
+        closeButton.addActionListener(e -> closeDialog());
+        buttonPanel.add(exportButton);
+        buttonPanel.add(cancelButton);
+        buttonPanel.add(closeButton);
+        bottomPanel.add(buttonPanel, BorderLayout.SOUTH);
+        mainPanel.add(bottomPanel, BorderLayout.SOUTH);
+
+        add(mainPanel);
+    }
+
+    /**
+     * 회사 목록 로드 (백그라운드)
+     */
+    private void loadCompanies() {
+        exportButton.setEnabled(false);
+        statusLabel.setText("회사 목록을 불러오는 중...");
+        AsyncDataLoader.loadAsync(
+            () -> ServiceRegistry.getCompanyService().getActiveCompanies(),
+            loaded -> {
+                companies.clear();
+                companyModel.setRowCount(0);
+                if (loaded != null) {
+                    companies.addAll(loaded);
+                    for (Company company : loaded) {
+                        companyModel.addRow(new Object[]{Boolean.TRUE, company.getName(), company.getProjectName()});
+                    }
+                }
+                statusLabel.setText("회사 " + companies.size() + "곳");
+                exportButton.setEnabled(!companies.isEmpty());
+            });
+    }
+
+    private void startExport() {
+        if (!DateValidator.validateDateBeforeSave(fromField.getText(), "시작일", this)
+                || !DateValidator.validateDateBeforeSave(toField.getText(), "종료일", this)) {
+            return;
+        }
+
+        LocalDate from = LocalDate.parse(fromField.getText().trim());
+        LocalDate to = LocalDate.parse(toField.getText().trim());
+        if (from.isAfter(to)) {
+            JOptionPane.showMessageDialog(this, "시작일이 종료일보다 늦습니다.", "입력 오류", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        Set<Format> formats = EnumSet.noneOf(Format.class);
+        if (excelCheckBox.isSelected()) {
+            formats.add(Format.EXCEL);
+        }
+        if (pdfCheckBox.isSelected()) {
+            formats.add(Format.PDF);
+        }
+        if (formats.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "내보낼 형식을 선택하세요.", "입력 오류", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        List<Company> selected = new ArrayList<>();
+        for (int i = 0; i < companyModel.getRowCount(); i++) {
+            if (Boolean.TRUE.equals(companyModel.getValueAt(i, 0))) {
+                selected.add(companies.get(i));
+            }
+        }
+        if (selected.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "회사를 하나 이상 선택하세요.", "입력 오류", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        // reports/batch 아래에 저장 (ZIP이 아니면 실행 시각 폴더에 회사별 하위 폴더)
+        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
+        File batchDir = new File(new File(AppConfig.getInstance().getOrSelectDataPath()).getAbsoluteFile(),
+            "reports" + File.separator + "batch");
+
+        ExportRequest request = new ExportRequest();
+        request.setFrom(from);
+        request.setTo(to);
+        request.setCompanies(selected);
+        request.setFormats(formats);
+        if (zipCheckBox.isSelected()) {
+            request.setOutputDir(batchDir);
+            request.setZipFileName("주간보고서_" + from + "_" + to + "_" + timestamp + ".zip");
+        } else {
+            request.setOutputDir(new File(batchDir, timestamp));
+        }
+
+        WeeklyReportBatchExportService exportService = ServiceRegistry.getWeeklyReportBatchExportService();
+        worker = new SwingWorker<>() {
+            @Override
+            protected ExportResult doInBackground() throws Exception {
+                return ServiceRegistry.getJobService().runShared("주간보고서 일괄 내보내기", () ->
+                    exportService.export(request,
+                        (completed, total, item) -> publish(new Object[]{completed, total, item}),
+                        this::isCancelled));
+            }
+
+            @Override
+            protected void process(List<Object[]> chunks) {
+                Object[] latest = chunks.get(chunks.size() - 1);
+                int completed = (Integer) latest[0];
+                int total = (Integer) latest[1];
+                progressBar.setValue(completed * 100 / total);
+                progressBar.setString(completed + " / " + total);
+                statusLabel.setText((String) latest[2]);
+            }
+
+            @Override
+            protected void done() {
+                onExportFinished(this, request.getOutputDir());
+            }
+        };
+
+        setRunning(true);
+        progressBar.setValue(0);
+        progressBar.setString("보고서 조회 중...");
+        statusLabel.setText(" ");
+        worker.execute();
+    }
+
+    private void onExportFinished(SwingWorker<ExportResult, Object[]> finished, File outputDir) {
+        worker = null;
+        setRunning(false);
+
+        if (finished.isCancelled()) {
+            progressBar.setString("취소됨");
+            statusLabel.setText("내보내기를 취소했습니다.");
+            return;
+        }
+
+        try {
+            ExportResult result = finished.get();
+            progressBar.setValue(100);
+            progressBar.setString(result.getSucceeded() + " / " + result.getTotal());
+
+            if (result.getTotal() == 0) {
+                statusLabel.setText("선택한 기간에 보고서가 없습니다.");
+                JOptionPane.showMessageDialog(this, "선택한 기간에 내보낼 보고서가 없습니다.", "알림",
+                    JOptionPane.INFORMATION_MESSAGE);
+                return;
+            }
+
+            String location = result.getZipFile() != null
+                ? result.getZipFile().getAbsolutePath()
+                : outputDir.getAbsolutePath();
+            StringBuilder message = new StringBuilder();
+            message.append("보고서 ").append(result.getSucceeded()).append("건을 내보냈습니다. (")
+                .append(result.getElapsedMillis() / 1000.0).append("초)\n");
+            if (result.getReused() > 0) {
+                message.append("변경 없는 ").append(result.getReused()).append("건은 이전에 만든 파일을 재사용했습니다.\n");
+            }
+            message.append('\n').append(location);
+            if (!result.getFailures().isEmpty()) {
+                message.append("\n\n실패 ").append(result.getFailures().size()).append("건:\n");
+                result.getFailures().stream().limit(10).forEach(f -> message.append(" - ").append(f).append('\n'));
+            }
+            statusLabel.setText("완료: " + result.getSucceeded() + "건");
+            JOptionPane.showMessageDialog(this, message.toString(), "일괄 내보내기 완료",
+                result.getFailures().isEmpty() ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            ErrorMessageMapper.logError("일괄 내보내기", cause);
+            progressBar.setString("실패");
+            JOptionPane.showMessageDialog(this,
+                "일괄 내보내기 중 오류가 발생했습니다:\n\n" + ErrorMessageMapper.getUserFriendlyMessage(cause),
+                "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private void cancelExport() {
+        if (worker != null) {
+            cancelButton.setEnabled(false);
+            statusLabel.setText("취소하는 중...");
+            worker.cancel(false);
+        }
+    }
+
+    private void closeDialog() {
+        if (worker != null) {
+            int choice = JOptionPane.showConfirmDialog(this,
+                "내보내기가 진행 중입니다. 취소하고 닫으시겠습니까?", "확인", JOptionPane.YES_NO_OPTION);
+            if (choice != JOptionPane.YES_OPTION) {
+                return;
+            }
+            worker.cancel(false);
+        }
+        dispose();
+    }
+
+    private void setRunning(boolean running) {
+        exportButton.setEnabled(!running);
+        cancelButton.setEnabled(running);
+        fromField.setEnabled(!running);
+        toField.setEnabled(!running);
+        excelCheckBox.setEnabled(!running);
+        pdfCheckBox.setEnabled(!running);
+        zipCheckBox.setEnabled(!running);
+        selectAllCheckBox.setEnabled(!running);
+    }
+}
@@ -0,0 +1,355 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.Dataset;
+import com.softone.auto.service.CsvTransferService;
+import com.softone.auto.service.CsvTransferService.ImportResult;
+import com.softone.auto.util.AppConfig;
+import com.softone.auto.util.AppContext;
+import com.softone.auto.util.ErrorMessageMapper;
+import com.softone.auto.util.ServiceRegistry;
+
+import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import java.awt.*;
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * CSV 가져오기/내보내기 다이얼로그
+ * 근태/이슈/고객 소통 데이터를 CSV로 내보내거나 인사 시스템/스프레드시트의 CSV를 가져옴 (진행률 표시, 취소 가능)
+ */
+public class CsvTransferDialog extends JDialog {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final String[] ENCODINGS = {"UTF-8", "MS949"};
+
+    private final JComboBox<Dataset> datasetCombo = new JComboBox<>(Dataset.values());
+    private final JTextField fromField = new JTextField(10);
+    private final JTextField toField = new JTextField(10);
+    private final JComboBox<String> encodingCombo = new JComboBox<>(ENCODINGS);
+    private final JProgressBar progressBar = new JProgressBar(0, 100);
+    private final JLabel statusLabel = new JLabel(" ");
+    private final JButton exportButton = ModernDesign.createPrimaryButton("내보내기");
+    private final JButton importButton = ModernDesign.createPrimaryButton("가져오기");
+    private final JButton cancelButton = ModernDesign.createSecondaryButton("취소");
+    private final JButton closeButton = ModernDesign.createSecondaryButton("닫기");
+
+    private SwingWorker<?, long[]> worker;
+    /** 취소 요청 (가져오기는 취소 전까지 저장한 결과를 보여줘야 하므로 SwingWorker.cancel 대신 사용) */
+    private volatile boolean cancelRequested;
+
+    public CsvTransferDialog(Frame parent) {
+        super(parent, "CSV 가져오기/내보내기", true);
+        initializeUI();
+    }
+
+    private void initializeUI() {
+        setSize(560, 360);
+        setLocationRelativeTo(getParent());
+        setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                closeDialog();
+            }
+        });
+
+        JPanel mainPanel = new JPanel(new BorderLayout(0, 10));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+        mainPanel.setBackground(ModernDesign.BG_PRIMARY);
+
+        Company currentCompany = AppContext.getInstance().getCurrentCompany();
+        JPanel optionSection = ModernDesign.createSection(
+            "CSV 조건 - " + (currentCompany != null ? currentCompany.getName() : "전체 회사"));
+        JPanel optionPanel = new JPanel(new GridBagLayout());
+        optionPanel.setBackground(ModernDesign.BG_SECONDARY);
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(4, 4, 4, 4);
+        gbc.anchor = GridBagConstraints.WEST;
+
+        datasetCombo.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                Object label = value instanceof Dataset ? ((Dataset) value).getSheetName() : value;
+                return super.getListCellRendererComponent(list, label, index, isSelected, cellHasFocus);
+            }
+        });
+
+        LocalDate today = LocalDate.now();
+        fromField.setText(today.withDayOfMonth(1).toString());
+        toField.setText(today.withDayOfMonth(today.lengthOfMonth()).toString());
+
+        gbc.gridx = 0; gbc.gridy = 0;
+        optionPanel.add(new JLabel("데이터"), gbc);
+        gbc.gridx = 1;
+        optionPanel.add(datasetCombo, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 1;
+        optionPanel.add(new JLabel("내보낼 기간"), gbc);
+        JPanel periodPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        periodPanel.setOpaque(false);
+        periodPanel.add(fromField);
+        periodPanel.add(new JLabel("~"));
+        periodPanel.add(toField);
+        gbc.gridx = 1;
+        optionPanel.add(periodPanel, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 2;
+        optionPanel.add(new JLabel("가져올 파일 인코딩"), gbc);
+        encodingCombo.setToolTipText("Excel에서 'CSV (쉼표로 분리)'로 저장한 파일은 MS949입니다");
+        gbc.gridx = 1;
+        optionPanel.add(encodingCombo, gbc);
+
+        optionSection.add(optionPanel, BorderLayout.CENTER);
+        mainPanel.add(optionSection, BorderLayout.CENTER);
+
+        // 진행률 / 버튼
+        JPanel bottomPanel = new JPanel(new BorderLayout(0, 8));
+        bottomPanel.setOpaque(false);
+        progressBar.setStringPainted(true);
+        statusLabel.setFont(ModernDesign.FONT_SMALL);
+        statusLabel.setForeground(ModernDesign.TEXT_SECONDARY);
+        bottomPanel.add(progressBar, BorderLayout.NORTH);
+        bottomPanel.add(statusLabel, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+        buttonPanel.setOpaque(false);
+        exportButton.addActionListener(e -> startExport());
+        importButton.addActionListener(e -> startImport());
+        cancelButton.addActionListener(e -> cancelWork());
+        cancelButton.setEnabled(false);
+        closeButton.addActionListener(e -> closeDialog());
+        buttonPanel.add(exportButton);
+        buttonPanel.add(importButton);
+        buttonPanel.add(cancelButton);
+        buttonPanel.add(closeButton);
+        bottomPanel.add(buttonPanel, BorderLayout.SOUTH);
+        mainPanel.add(bottomPanel, BorderLayout.SOUTH);
+
+        add(mainPanel);
+    }
+
+    private void startExport() {
+        if (!DateValidator.validateDateBeforeSave(fromField.getText(), "시작일", this)
+                || !DateValidator.validateDateBeforeSave(toField.getText(), "종료일", this)) {
+            return;
+        }
+
+        LocalDate from = LocalDate.parse(fromField.getText().trim());
+        LocalDate to = LocalDate.parse(toField.getText().trim());
+        if (from.isAfter(to)) {
+            JOptionPane.showMessageDialog(this, "시작일이 종료일보다 늦습니다.", "입력 오류", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        File csvDir = csvDirectory();
+        if (csvDir == null) {
+            return;
+        }
+        Dataset dataset = (Dataset) datasetCombo.getSelectedItem();
+        File target = new File(csvDir, dataset.getSheetName() + "_" + LocalDateTime.now().format(TIMESTAMP_FORMATTER) + ".csv");
+
+        CsvTransferService csvService = ServiceRegistry.getCsvTransferService();
+        SwingWorker<Boolean, long[]> exportWorker = new SwingWorker<>() {
+            @Override
+            protected Boolean doInBackground() throws Exception {
+                return ServiceRegistry.getJobService().runShared("CSV 내보내기", () ->
+                    csvService.exportToCsv(target, dataset, from, to,
+                        (done, total) -> publish(new long[]{done, total}), () -> cancelRequested));
+            }
+
+            @Override
+            protected void process(List<long[]> chunks) {
+                long[] latest = chunks.get(chunks.size() - 1);
+                progressBar.setValue(latest[1] > 0 ? (int) (latest[0] * 100 / latest[1]) : 100);
+                progressBar.setString(String.format("%,d / %,d행", latest[0], latest[1]));
+            }
+
+            @Override
+            protected void done() {
+                onFinished("내보내기", () -> {
+                    if (!get()) {
+                        statusLabel.setText("내보내기를 취소했습니다.");
+                        return false;
+                    }
+                    statusLabel.setText("완료: " + target.getName());
+                    JOptionPane.showMessageDialog(CsvTransferDialog.this,
+                        "CSV 파일로 내보냈습니다.\n\n" + target.getAbsolutePath(),
+                        "내보내기 완료", JOptionPane.INFORMATION_MESSAGE);
+                    return true;
+                });
+            }
+        };
+        start(exportWorker, "데이터 조회 중...");
+    }
+
+    private void startImport() {
+        if (AppContext.getInstance().getCurrentCompany() == null) {
+            JOptionPane.showMessageDialog(this, "가져올 회사를 먼저 선택하세요.", "입력 오류", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("가져올 CSV 파일 선택");
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV 파일 (*.csv)", "csv"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File source = chooser.getSelectedFile();
+
+        File csvDir = csvDirectory();
+        if (csvDir == null) {
+            return;
+        }
+        Dataset dataset = (Dataset) datasetCombo.getSelectedItem();
+        Charset charset = Charset.forName((String) encodingCombo.getSelectedItem());
+        String baseName = source.getName().replaceFirst("(?i)\\.csv$", "");
+        File errorReport = new File(csvDir, baseName + "_오류_" + LocalDateTime.now().format(TIMESTAMP_FORMATTER) + ".csv");
+
+        CsvTransferService csvService = ServiceRegistry.getCsvTransferService();
+        SwingWorker<ImportResult, long[]> importWorker = new SwingWorker<>() {
+            @Override
+            protected ImportResult doInBackground() throws Exception {
+                return ServiceRegistry.getJobService().runShared("CSV 가져오기", () ->
+                    csvService.importFromCsv(source, dataset, charset, errorReport,
+                        (done, total) -> publish(new long[]{done, total}), () -> cancelRequested));
+            }
+
+            @Override
+            protected void process(List<long[]> chunks) {
+                long[] latest = chunks.get(chunks.size() - 1);
+                progressBar.setValue(latest[1] > 0 ? (int) (latest[0] * 100 / latest[1]) : 100);
+                progressBar.setString(String.format("%,d / %,dKB", latest[0] / 1024, latest[1] / 1024));
+            }
+
+            @Override
+            protected void done() {
+                onFinished("가져오기", () -> {
+                    ImportResult result = get();
+                    showImportResult(result);
+                    return !result.isCancelled();
+                });
+            }
+        };
+        start(importWorker, "파일 읽는 중...");
+    }
+
+    private void showImportResult(ImportResult result) {
+        StringBuilder message = new StringBuilder();
+        message.append(String.format("전체 %,d행 중 %,d행을 저장했습니다.", result.getTotalRows(), result.getImportedRows()));
+        if (result.isCancelled()) {
+            message.append("\n(취소됨 - 취소 전에 저장된 행은 유지됩니다)");
+        }
+        if (result.getErrorRows() > 0) {
+            message.append(String.format("\n\n오류 %,d행 (건너뜀):", result.getErrorRows()));
+            result.getSampleErrors().forEach(error -> message.append("\n  ").append(error));
+            if (result.getErrorReport() != null) {
+                message.append("\n\n오류 보고서: ").append(result.getErrorReport().getAbsolutePath());
+            }
+        }
+        statusLabel.setText(String.format("저장 %,d행, 오류 %,d행, %.1f초", result.getImportedRows(),
+            result.getErrorRows(), result.getElapsedMillis() / 1000.0));
+        JOptionPane.showMessageDialog(this, message.toString(), "가져오기 결과",
+            result.getErrorRows() > 0 ? JOptionPane.WARNING_MESSAGE : JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    /**
+     * reports/csv 폴더 (없으면 생성, 실패 시 null)
+     */
+    private File csvDirectory() {
+        File csvDir = new File(new File(AppConfig.getInstance().getOrSelectDataPath()).getAbsoluteFile(),
+            "reports" + File.separator + "csv");
+        if (!csvDir.exists() && !csvDir.mkdirs()) {
+            JOptionPane.showMessageDialog(this, "저장 폴더를 만들 수 없습니다:\n" + csvDir.getAbsolutePath(),
+                "오류", JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+        return csvDir;
+    }
+
+    private void start(SwingWorker<?, long[]> newWorker, String initialMessage) {
+        worker = newWorker;
+        cancelRequested = false;
+        setRunning(true);
+        progressBar.setValue(0);
+        progressBar.setString(initialMessage);
+        statusLabel.setText(" ");
+        worker.execute();
+    }
+
+    /**
+     * 완료 처리 (결과 처리기가 false를 반환하면 취소로 표시)
+     */
+    private interface ResultHandler {
+        boolean handle() throws InterruptedException, ExecutionException;
+    }
+
+    private void onFinished(String action, ResultHandler handler) {
+        worker = null;
+        setRunning(false);
+
+        try {
+            if (handler.handle()) {
+                progressBar.setValue(100);
+                progressBar.setString("완료");
+            } else {
+                progressBar.setString("취소됨");
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            ErrorMessageMapper.logError("CSV " + action, cause);
+            progressBar.setString("실패");
+            String message = cause instanceof CharacterCodingException
+                ? "파일 인코딩이 맞지 않습니다. 인코딩을 " + otherEncoding() + "(으)로 바꿔 다시 시도하세요."
+                : ErrorMessageMapper.getUserFriendlyMessage(cause);
+            JOptionPane.showMessageDialog(this, "CSV " + action + " 중 오류가 발생했습니다:\n\n" + message,
+                "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private String otherEncoding() {
+        return StandardCharsets.UTF_8.name().equals(encodingCombo.getSelectedItem()) ? ENCODINGS[1] : ENCODINGS[0];
+    }
+
+    private void cancelWork() {
+        if (worker != null) {
+            cancelButton.setEnabled(false);
+            statusLabel.setText("취소하는 중...");
+            cancelRequested = true;
+        }
+    }
+
+    private void closeDialog() {
+        if (worker != null) {
+            int choice = JOptionPane.showConfirmDialog(this,
+                "작업이 진행 중입니다. 취소하고 닫으시겠습니까?", "확인", JOptionPane.YES_NO_OPTION);
+            if (choice != JOptionPane.YES_OPTION) {
+                return;
+            }
+            cancelRequested = true;
+        }
+        dispose();
+    }
+
+    private void setRunning(boolean running) {
+        exportButton.setEnabled(!running);
+        importButton.setEnabled(!running);
+        cancelButton.setEnabled(running);
+        datasetCombo.setEnabled(!running);
+        fromField.setEnabled(!running);
+        toField.setEnabled(!running);
+        encodingCombo.setEnabled(!running);
+    }
+}
@@ -2,12 +2,14 @@ package com.softone.auto.ui;
 
 import com.softone.auto.model.CustomerCommunication;
 import com.softone.auto.service.CustomerCommunicationService;
+import com.softone.auto.util.AsyncDataLoader;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * 고객 소통 관리 패널
@@ -17,7 +19,14 @@ public class CustomerCommunicationPanel extends JPanel {
     private final CustomerCommunicationService communicationService;
     
     private JTable communicationTable;
-    private DefaultTableModel tableModel;
+    private KeyedTableModel<CustomerCommunication> tableModel;
+    private DebouncedTableFilter<CustomerCommunication> tableFilter;
+    
+    // 목록 필터
+    private JTextField searchField;
+    private JComboBox<String> filterTypeCombo;
+    private JComboBox<String> filterStatusCombo;
+    private JComboBox<String> filterPeriodCombo;
     
     private JComboBox<String> typeCombo;
     private JTextField titleField;
@@ -139,16 +148,52 @@ public class CustomerCommunicationPanel extends JPanel {
         
         // 테이블
         String[] columnNames = {"유형", "제목", "고객", "당사", "일시", "상태", "우선순위"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        tableModel = new KeyedTableModel<>(columnNames, CustomerCommunication::getId, comm -> new Object[]{
+                comm.getType(),
+                comm.getTitle(),
+                comm.getCustomerName(),
+                comm.getOurRepresentative(),
+                DisplayFormats.dateTime(comm.getCommunicationDate()),
+                comm.getStatus(),
+                comm.getPriority()
+        });
         
         communicationTable = new JTable(tableModel);
         ModernDesign.styleTable(communicationTable);
         
+        // 필터 (백그라운드 디바운스 필터링)
+        searchField = new JTextField(15);
+        searchField.setToolTipText("제목/내용/고객/당사 담당자 검색");
+        filterTypeCombo = new JComboBox<>(new String[]{"전체", "MEETING", "REQUEST", "QA", "EMAIL", "PHONE"});
+        filterStatusCombo = new JComboBox<>(new String[]{"전체", "PENDING", "IN_PROGRESS", "COMPLETED"});
+        filterPeriodCombo = new JComboBox<>(new String[]{"전체 기간", "최근 7일", "최근 30일", "최근 90일"});
+        
+        tableFilter = new DebouncedTableFilter<CustomerCommunication>(
+                comm -> TableFilterIndex.joinText(comm.getTitle(), comm.getContent(), comm.getCustomerName(), comm.getOurRepresentative()),
+                comm -> comm.getCommunicationDate() != null ? comm.getCommunicationDate().toLocalDate() : null,
+                () -> new TableFilterIndex.Criteria()
+                        .text(searchField.getText())
+                        .column("type", DebouncedTableFilter.selectedValue(filterTypeCombo))
+                        .column("status", DebouncedTableFilter.selectedValue(filterStatusCombo))
+                        .dateRange(getFilterPeriodStart(), null),
+                this::showCommunications)
+                .indexColumn("type", CustomerCommunication::getType)
+                .indexColumn("status", CustomerCommunication::getStatus)
+                .bind(searchField)
+                .bind(filterTypeCombo)
+                .bind(filterStatusCombo)
+                .bind(filterPeriodCombo);
+        
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 4));
+        filterPanel.setBackground(ModernDesign.BG_SECONDARY);
+        filterPanel.add(new JLabel("검색"));
+        filterPanel.add(searchField);
+        filterPanel.add(new JLabel("유형"));
+        filterPanel.add(filterTypeCombo);
+        filterPanel.add(new JLabel("상태"));
+        filterPanel.add(filterStatusCombo);
+        filterPanel.add(filterPeriodCombo);
+        
         // 테이블 자동 리사이즈 모드 설정 (수평 스크롤 활성화)
         communicationTable.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
         
@@ -168,6 +213,7 @@ public class CustomerCommunicationPanel extends JPanel {
         
         JPanel contentPanel = new JPanel(new BorderLayout());
         contentPanel.setBackground(ModernDesign.BG_SECONDARY);
+        contentPanel.add(filterPanel, BorderLayout.NORTH);
         contentPanel.add(scrollPane, BorderLayout.CENTER);
         
         panel.add(contentPanel, BorderLayout.CENTER);
@@ -455,56 +501,72 @@ public class CustomerCommunicationPanel extends JPanel {
      * 소통 목록 로드
      */
     private void loadCommunications() {
-        try {
-            tableModel.setRowCount(0);
-            for (CustomerCommunication comm : communicationService.getAllCommunications()) {
-                tableModel.addRow(new Object[]{
-                        comm.getType(),
-                        comm.getTitle(),
-                        comm.getCustomerName(),
-                        comm.getOurRepresentative(),
-                        comm.getCommunicationDate() != null ? comm.getCommunicationDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) : "",
-                        comm.getStatus(),
-                        comm.getPriority()
-                });
-            }
-            
-            // 첫 번째 행 자동 선택
-            if (tableModel.getRowCount() > 0) {
-                SwingUtilities.invokeLater(() -> {
-                    communicationTable.setRowSelectionInterval(0, 0);
-                    communicationTable.scrollRectToVisible(communicationTable.getCellRect(0, 0, true));
-                });
+        // 연속 호출 시 이전 로드 결과는 버림
+        AsyncDataLoader.loadKeyed(this,
+            () -> communicationService.getAllCommunications(),
+            (list) -> {
+                if (list == null) {
+                    System.err.println("고객 소통 목록 로드 실패");
+                    return;
+                }
+                applyCommunications(list);
             }
-        } catch (Exception e) {
-            System.err.println("고객 소통 목록 로드 오류: " + e.getMessage());
-            e.printStackTrace();
-            // 에러가 발생해도 UI는 표시되도록 함
-        }
+        );
     }
     
     /**
      * 대기중인 소통만 로드
      */
     private void loadPendingCommunications() {
-        tableModel.setRowCount(0);
-        for (CustomerCommunication comm : communicationService.getPendingCommunications()) {
-            tableModel.addRow(new Object[]{
-                    comm.getType(),
-                    comm.getTitle(),
-                    comm.getCustomerName(),
-                    comm.getOurRepresentative(),
-                    comm.getCommunicationDate() != null ? comm.getCommunicationDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) : "",
-                    comm.getStatus(),
-                    comm.getPriority()
-            });
+        // 전체 목록 로드와 같은 키 사용 (마지막으로 누른 버튼의 결과만 반영)
+        AsyncDataLoader.loadKeyed(this,
+            () -> communicationService.getPendingCommunications(),
+            (list) -> {
+                if (list == null) {
+                    System.err.println("대기중인 소통 목록 로드 실패");
+                    return;
+                }
+                applyCommunications(list);
+            }
+        );
+    }
+    
+    /**
+     * 기간 필터 시작일 (전체 기간이면 null)
+     */
+    private LocalDate getFilterPeriodStart() {
+        switch (filterPeriodCombo.getSelectedIndex()) {
+            case 1: return LocalDate.now().minusDays(7);
+            case 2: return LocalDate.now().minusDays(30);
+            case 3: return LocalDate.now().minusDays(90);
+            default: return null;
+        }
+    }
+    
+    /**
+     * 목록 반영 (필터 인덱스 재구성 후 현재 필터 조건으로 표시)
+     */
+    private void applyCommunications(List<CustomerCommunication> communications) {
+        tableFilter.setItems(communications);
+    }
+    
+    /**
+     * 필터링된 목록 표시 (다시 불러온 목록은 변경된 행만 갱신, 선택 유지)
+     */
+    private void showCommunications(List<CustomerCommunication> communications, boolean reloaded) {
+        if (reloaded) {
+            tableModel.setItems(communications);
+        } else {
+            tableModel.replaceItems(communications, communicationTable);
         }
         
-        // 첫 번째 행 자동 선택
-        if (tableModel.getRowCount() > 0) {
+        // 선택된 행이 없을 때만 첫 번째 행 자동 선택
+        if (tableModel.getRowCount() > 0 && communicationTable.getSelectedRow() < 0) {
             SwingUtilities.invokeLater(() -> {
-                communicationTable.setRowSelectionInterval(0, 0);
-                communicationTable.scrollRectToVisible(communicationTable.getCellRect(0, 0, true));
+                if (tableModel.getRowCount() > 0 && communicationTable.getSelectedRow() < 0) {
+                    communicationTable.setRowSelectionInterval(0, 0);
+                    communicationTable.scrollRectToVisible(communicationTable.getCellRect(0, 0, true));
+                }
             });
         }
     }
@@ -515,32 +577,29 @@ public class CustomerCommunicationPanel extends JPanel {
     private void onCommunicationSelected() {
         int selectedRow = communicationTable.getSelectedRow();
         if (selectedRow >= 0) {
-            String title = (String) tableModel.getValueAt(selectedRow, 1);
+            CustomerCommunication comm = tableModel.getItem(communicationTable.convertRowIndexToModel(selectedRow));
             
-            for (CustomerCommunication comm : communicationService.getAllCommunications()) {
-                if (comm.getTitle().equals(title)) {
-                    selectedCommunication = comm;
-                    
-                    // 수정 모드로 전환
-                    enterEditMode();
-                    
-                    typeCombo.setSelectedItem(comm.getType());
-                    titleField.setText(comm.getTitle() != null ? comm.getTitle() : "");
-                    contentArea.setText(comm.getContent() != null ? comm.getContent() : "");
-                    customerNameField.setText(comm.getCustomerName() != null ? comm.getCustomerName() : "");
-                    ourRepField.setText(comm.getOurRepresentative() != null ? comm.getOurRepresentative() : "");
-                    if (comm.getCommunicationDate() != null) {
-                        commDateField.setText(comm.getCommunicationDate().format(
-                                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
-                    }
-                    statusCombo.setSelectedItem(comm.getStatus());
-                    priorityCombo.setSelectedItem(comm.getPriority());
-                    dueDateField.setText(comm.getDueDate() != null ? 
-                            comm.getDueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) : "");
-                    responseArea.setText(comm.getResponse() != null ? comm.getResponse() : "");
-                    notesArea.setText(comm.getNotes() != null ? comm.getNotes() : "");
-                    break;
+            if (comm != null) {
+                selectedCommunication = comm;
+                
+                // 수정 모드로 전환
+                enterEditMode();
+                
+                typeCombo.setSelectedItem(comm.getType());
+                titleField.setText(comm.getTitle() != null ? comm.getTitle() : "");
+                contentArea.setText(comm.getContent() != null ? comm.getContent() : "");
+                customerNameField.setText(comm.getCustomerName() != null ? comm.getCustomerName() : "");
+                ourRepField.setText(comm.getOurRepresentative() != null ? comm.getOurRepresentative() : "");
+                if (comm.getCommunicationDate() != null) {
+                    commDateField.setText(comm.getCommunicationDate().format(
+                            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
                 }
+                statusCombo.setSelectedItem(comm.getStatus());
+                priorityCombo.setSelectedItem(comm.getPriority());
+                dueDateField.setText(comm.getDueDate() != null ? 
+                        comm.getDueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) : "");
+                responseArea.setText(comm.getResponse() != null ? comm.getResponse() : "");
+                notesArea.setText(comm.getNotes() != null ? comm.getNotes() : "");
             }
         }
     }
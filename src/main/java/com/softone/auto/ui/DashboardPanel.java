@@ -1,11 +1,18 @@
 package com.softone.auto.ui;
 
+import com.softone.auto.model.DashboardStats;
+import com.softone.auto.repository.sqlite.DashboardStatsSqliteRepository;
 import com.softone.auto.service.*;
+import com.softone.auto.util.AsyncDataLoader;
 
 import javax.swing.*;
 import java.awt.*;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 대시보드 패널 - 프로젝트 현황 요약 (모던 디자인)
@@ -15,10 +22,29 @@ import java.time.format.DateTimeFormatter;
  */
 public class DashboardPanel extends JPanel {
     
+    /** 로드 전 카드 값 (스켈레톤) */
+    private static final String SKELETON_VALUE = "···";
+    
     private final DeveloperService developerService;
     private final AttendanceService attendanceService;
     private final IssueService issueService;
     private final CustomerCommunicationService communicationService;
+    private final DashboardStatsService statsService;
+    
+    // 갱신 시 값만 바꾸는 컴포넌트
+    private JLabel companyNameLabel;
+    private JLabel projectLabel;
+    private JLabel developerCountLabel;
+    private JLabel openIssueLabel;
+    private JLabel pendingCommLabel;
+    private JLabel attendanceRateLabel;
+    private JLabel completedIssueLabel;
+    private JLabel currentWeekLabel;
+    private JPanel activityContentPanel;
+    private List<ActivityItem> shownActivities;
+    
+    /** refresh() 호출마다 증가 (이전 갱신의 늦은 결과 폐기, EDT 전용) */
+    private int generation = 0;
     
     /**
      * 생성자 - 의존성 주입 방식
@@ -27,51 +53,102 @@ public class DashboardPanel extends JPanel {
      * @param attendanceService 근태 관리 서비스
      * @param issueService 이슈 관리 서비스
      * @param communicationService 고객 소통 관리 서비스
+     * @param statsService 대시보드 통계 서비스 (통계 카드용 집계 카운터)
      */
     public DashboardPanel(DeveloperService developerService,
                          AttendanceService attendanceService,
                          IssueService issueService,
-                         CustomerCommunicationService communicationService) {
+                         CustomerCommunicationService communicationService,
+                         DashboardStatsService statsService) {
         this.developerService = developerService;
         this.attendanceService = attendanceService;
         this.issueService = issueService;
         this.communicationService = communicationService;
+        this.statsService = statsService;
         
         try {
+            // 스켈레톤 상태로 화면을 먼저 구성하고 데이터는 백그라운드에서 채움
             initializeUI();
+            refresh();
         } catch (Exception e) {
             System.err.println("DashboardPanel 초기화 오류: " + e.getMessage());
             e.printStackTrace();
-            try {
-                initializeUI();
-            } catch (Exception uiEx) {
-                System.err.println("UI 초기화도 실패: " + uiEx.getMessage());
-            }
         }
     }
     
     /**
      * 대시보드 갱신 (탭 선택 시 호출)
+     * 
+     * <p>통계 카운터, 이슈, 개발자, 소통 목록을 백그라운드에서 동시에 조회하고
+     * 끝나는 순서대로 카드 값과 최근 활동만 바꿉니다. (컴포넌트 트리는 다시 만들지 않음)</p>
+     * 
+     * @return 모든 항목 반영이 끝나면 완료되는 Future (EDT에서 완료)
      */
-    public void refresh() {
+    public CompletableFuture<Void> refresh() {
+        int requestGeneration = ++generation;
+        long start = System.currentTimeMillis();
         System.out.println("=== 대시보드 갱신 시작 ===");
         
-        try {
-            // UI를 다시 그림
-            removeAll();
-            initializeUI();
-            revalidate();
-            repaint();
-        } catch (Exception e) {
-            System.err.println("대시보드 갱신 오류: " + e.getMessage());
-            e.printStackTrace();
-        }
+        updateCompanyInfo();
+        currentWeekLabel.setText(getCurrentWeek());
+        
+        LocalDate today = LocalDate.now();
+        LocalDate monday = today.minusDays(today.getDayOfWeek().getValue() - 1);
+        LocalDate friday = monday.plusDays(4);
         
-        System.out.println("=== 대시보드 갱신 완료 ===\n");
+        // 1. 통계 카드 (집계 카운터 단건 조회, 근태는 금주 날짜 버킷만 합산)
+        CompletableFuture<Void> statsDone = AsyncDataLoader.loadAsyncFuture(() -> statsService.getStats(monday, friday))
+            .handle((stats, error) -> {
+                SwingUtilities.invokeLater(() -> {
+                    if (requestGeneration != generation) {
+                        return;
+                    }
+                    if (error != null) {
+                        System.err.println("대시보드 데이터 로드 중 오류: " + error.getMessage());
+                        showStatsError();
+                    } else {
+                        applyStats(stats, monday, today);
+                    }
+                });
+                return null;
+            });
+        
+        // 2. 최근 활동 (세 목록을 동시에 조회, 모두 끝나면 한 번에 반영)
+        CompletableFuture<List<ActivityItem>> issueActivities = AsyncDataLoader.loadAsyncFuture(this::loadIssueActivities);
+        CompletableFuture<List<ActivityItem>> developerActivities = AsyncDataLoader.loadAsyncFuture(this::loadDeveloperActivities);
+        CompletableFuture<List<ActivityItem>> communicationActivities = AsyncDataLoader.loadAsyncFuture(this::loadCommunicationActivities);
+        
+        CompletableFuture<Void> activitiesDone = CompletableFuture.allOf(issueActivities, developerActivities, communicationActivities)
+            .handle((ignored, error) -> {
+                List<ActivityItem> activities = null;
+                if (error == null) {
+                    activities = new ArrayList<>();
+                    activities.addAll(issueActivities.join());
+                    activities.addAll(developerActivities.join());
+                    activities.addAll(communicationActivities.join());
+                } else {
+                    System.err.println("최근 활동 로드 중 오류: " + error.getMessage());
+                }
+                List<ActivityItem> loaded = activities;
+                SwingUtilities.invokeLater(() -> {
+                    if (requestGeneration == generation) {
+                        applyActivities(loaded);
+                    }
+                });
+                return null;
+            });
+        
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        CompletableFuture.allOf(statsDone, activitiesDone).whenComplete((ignored, error) ->
+            SwingUtilities.invokeLater(() -> {
+                System.out.println("=== 대시보드 갱신 완료 (" + (System.currentTimeMillis() - start) + "ms) ===\n");
+                done.complete(null);
+            }));
+        return done;
     }
     
     /**
-     * UI 초기화
+     * UI 초기화 (한 번만 호출)
      */
     private void initializeUI() {
         setLayout(new BorderLayout(0, 0));
@@ -130,29 +207,20 @@ public class DashboardPanel extends JPanel {
         leftPanel.add(subtitleLabel);
         leftPanel.add(Box.createVerticalStrut(10));
         
-        // 현재 회사 정보 표시
+        // 현재 회사 정보 표시 (갱신 시 텍스트만 변경)
         JPanel companyInfoPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
         companyInfoPanel.setBackground(ModernDesign.BG_PRIMARY);
         companyInfoPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
-        com.softone.auto.model.Company currentCompany = com.softone.auto.util.AppContext.getInstance().getCurrentCompany();
-        String companyInfo = "전체";
-        String projectInfo = "";
-        
-        if (currentCompany != null) {
-            companyInfo = currentCompany.getName();
-            projectInfo = " • " + currentCompany.getProjectName();
-        }
-        
         JLabel companyLabel = new JLabel("현재 보기: ");
         companyLabel.setFont(ModernDesign.FONT_BODY);
         companyLabel.setForeground(ModernDesign.TEXT_SECONDARY);
         
-        JLabel companyNameLabel = new JLabel(companyInfo);
+        companyNameLabel = new JLabel("전체");
         companyNameLabel.setFont(new Font("맑은 고딕", Font.BOLD, 16));
         companyNameLabel.setForeground(ModernDesign.PRIMARY);
         
-        JLabel projectLabel = new JLabel(projectInfo);
+        projectLabel = new JLabel("");
         projectLabel.setFont(ModernDesign.FONT_SMALL);
         projectLabel.setForeground(ModernDesign.TEXT_SECONDARY);
         
@@ -168,8 +236,11 @@ public class DashboardPanel extends JPanel {
         
         JButton refreshButton = createUnifiedButton("새로고침");
         refreshButton.addActionListener(e -> {
-            refresh();
-            JOptionPane.showMessageDialog(this, "데이터가 새로고침되었습니다.", "완료", JOptionPane.INFORMATION_MESSAGE);
+            refreshButton.setEnabled(false);
+            refresh().thenRun(() -> {
+                refreshButton.setEnabled(true);
+                JOptionPane.showMessageDialog(this, "데이터가 새로고침되었습니다.", "완료", JOptionPane.INFORMATION_MESSAGE);
+            });
         });
         rightPanel.add(refreshButton);
         
@@ -180,78 +251,89 @@ public class DashboardPanel extends JPanel {
     }
     
     /**
-     * 통계 카드 섹션 생성
+     * 현재 회사 정보 갱신
+     */
+    private void updateCompanyInfo() {
+        com.softone.auto.model.Company currentCompany = com.softone.auto.util.AppContext.getInstance().getCurrentCompany();
+        if (currentCompany != null) {
+            companyNameLabel.setText(currentCompany.getName());
+            projectLabel.setText(" • " + currentCompany.getProjectName());
+        } else {
+            companyNameLabel.setText("전체");
+            projectLabel.setText("");
+        }
+    }
+    
+    /**
+     * 통계 카드 섹션 생성 (값은 스켈레톤으로 시작)
      */
     private JPanel createStatsSection() {
         JPanel section = new JPanel(new GridLayout(2, 3, 20, 20));
         section.setBackground(ModernDesign.BG_PRIMARY);
         section.setMaximumSize(new Dimension(Integer.MAX_VALUE, 400));
         
-        // 실제 데이터 조회 (안전하게)
-        int developerCount = 0;
-        int openIssueCount = 0;
-        int pendingCommCount = 0;
-        int completedIssueCount = 0;
-        String attendanceRate = "0%";
+        developerCountLabel = addStatsCard(section, "전체 개발자", "👥");
+        openIssueLabel = addStatsCard(section, "미해결 이슈", "⚠️");
+        pendingCommLabel = addStatsCard(section, "대기중인 소통", "💬");
+        attendanceRateLabel = addStatsCard(section, "금주 출석률", "📊");
+        completedIssueLabel = addStatsCard(section, "완료된 이슈", "✅");
+        currentWeekLabel = addStatsCard(section, "현재 주차", "📅");
+        currentWeekLabel.setText(getCurrentWeek());
+        currentWeekLabel.setForeground(ModernDesign.PRIMARY);
         
-        try {
-            // 개발자 수
-            var developers = developerService.getAllDevelopers();
-            developerCount = developers != null ? developers.size() : 0;
-            
-            // 미해결 이슈 수
-            var allIssues = issueService.getAllIssues();
-            if (allIssues != null) {
-                openIssueCount = (int) allIssues.stream()
-                    .filter(issue -> "OPEN".equals(issue.getStatus()) || "IN_PROGRESS".equals(issue.getStatus()))
-                    .count();
-                
-                // 완료된 이슈 수
-                completedIssueCount = (int) allIssues.stream()
-                    .filter(issue -> "RESOLVED".equals(issue.getStatus()) || "CLOSED".equals(issue.getStatus()))
-                    .count();
-            }
-            
-            // 대기중인 소통 수
-            var allComms = communicationService.getAllCommunications();
-            if (allComms != null) {
-                pendingCommCount = (int) allComms.stream()
-                    .filter(comm -> "PENDING".equals(comm.getStatus()))
-                    .count();
-            }
-            
-            // 금주 출석률 계산
-            LocalDate today = LocalDate.now();
-            LocalDate monday = today.minusDays(today.getDayOfWeek().getValue() - 1);
-            LocalDate friday = monday.plusDays(4);
-            
-            if (developers != null && !developers.isEmpty()) {
-                var attendances = attendanceService.getAttendanceByDateRange(monday, friday);
-                if (attendances != null && !attendances.isEmpty()) {
-                    long presentCount = attendances.stream()
-                        .filter(att -> "PRESENT".equals(att.getType()) || "LATE".equals(att.getType()))
-                        .count();
-                    long totalExpected = (long) developers.size() * getDaysUntilToday(monday, today);
-                    if (totalExpected > 0) {
-                        attendanceRate = String.format("%.0f%%", (presentCount * 100.0 / totalExpected));
-                    }
-                }
+        return section;
+    }
+    
+    /**
+     * 통계 카드 추가 후 값 레이블 반환
+     */
+    private JLabel addStatsCard(JPanel section, String title, String icon) {
+        JPanel card = ModernDesign.createStatsCard(title, SKELETON_VALUE, ModernDesign.PRIMARY, icon);
+        JLabel valueLabel = (JLabel) ((BorderLayout) card.getLayout()).getLayoutComponent(BorderLayout.CENTER);
+        valueLabel.setForeground(ModernDesign.BORDER);
+        section.add(card);
+        return valueLabel;
+    }
+    
+    /**
+     * 통계 카드 값 반영
+     */
+    private void applyStats(DashboardStats stats, LocalDate monday, LocalDate today) {
+        int developerCount = (int) stats.getTotal(DashboardStatsSqliteRepository.DEVELOPER_STATUS);
+        int openIssueCount = (int) stats.getCount(DashboardStatsSqliteRepository.ISSUE_STATUS, "OPEN", "IN_PROGRESS");
+        int completedIssueCount = (int) stats.getCount(DashboardStatsSqliteRepository.ISSUE_STATUS, "RESOLVED", "CLOSED");
+        int pendingCommCount = (int) stats.getCount(DashboardStatsSqliteRepository.COMM_STATUS, "PENDING");
+        
+        // 금주 출석률 계산
+        String attendanceRate = "0%";
+        if (developerCount > 0) {
+            long presentCount = stats.getCount(DashboardStatsSqliteRepository.ATTENDANCE_TYPE, "PRESENT", "LATE");
+            long totalExpected = (long) developerCount * getDaysUntilToday(monday, today);
+            if (totalExpected > 0) {
+                attendanceRate = String.format("%.0f%%", (presentCount * 100.0 / totalExpected));
             }
-            
-        } catch (Exception e) {
-            System.err.println("대시보드 데이터 로드 중 오류: " + e.getMessage());
-            e.printStackTrace();
         }
         
-        // 카드 생성
-        section.add(ModernDesign.createStatsCard("전체 개발자", String.valueOf(developerCount), ModernDesign.PRIMARY, "👥"));
-        section.add(ModernDesign.createStatsCard("미해결 이슈", String.valueOf(openIssueCount), ModernDesign.PRIMARY, "⚠️"));
-        section.add(ModernDesign.createStatsCard("대기중인 소통", String.valueOf(pendingCommCount), ModernDesign.PRIMARY, "💬"));
-        section.add(ModernDesign.createStatsCard("금주 출석률", attendanceRate, ModernDesign.PRIMARY, "📊"));
-        section.add(ModernDesign.createStatsCard("완료된 이슈", String.valueOf(completedIssueCount), ModernDesign.PRIMARY, "✅"));
-        section.add(ModernDesign.createStatsCard("현재 주차", getCurrentWeek(), ModernDesign.PRIMARY, "📅"));
-        
-        return section;
+        setCardValue(developerCountLabel, String.valueOf(developerCount));
+        setCardValue(openIssueLabel, String.valueOf(openIssueCount));
+        setCardValue(pendingCommLabel, String.valueOf(pendingCommCount));
+        setCardValue(attendanceRateLabel, attendanceRate);
+        setCardValue(completedIssueLabel, String.valueOf(completedIssueCount));
+    }
+    
+    /**
+     * 통계 조회 실패 시 카드 값 표시
+     */
+    private void showStatsError() {
+        for (JLabel label : new JLabel[]{developerCountLabel, openIssueLabel, pendingCommLabel, attendanceRateLabel, completedIssueLabel}) {
+            label.setText("-");
+            label.setForeground(ModernDesign.TEXT_SECONDARY);
+        }
+    }
+    
+    private void setCardValue(JLabel label, String value) {
+        label.setText(value);
+        label.setForeground(ModernDesign.PRIMARY);
     }
     
     /**
@@ -303,104 +385,138 @@ public class DashboardPanel extends JPanel {
     }
     
     /**
-     * 최근 활동 섹션 생성
+     * 최근 활동 섹션 생성 (로드 전에는 안내 문구)
      */
     private JPanel createRecentActivitySection() {
         JPanel section = ModernDesign.createSection("최근 활동");
         section.setMaximumSize(new Dimension(Integer.MAX_VALUE, 300));
         
-        JPanel contentPanel = new JPanel();
-        contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
-        contentPanel.setBackground(ModernDesign.BG_SECONDARY);
+        activityContentPanel = new JPanel();
+        activityContentPanel.setLayout(new BoxLayout(activityContentPanel, BoxLayout.Y_AXIS));
+        activityContentPanel.setBackground(ModernDesign.BG_SECONDARY);
+        showActivityMessage("불러오는 중...", ModernDesign.TEXT_SECONDARY);
         
-        try {
-            java.util.List<ActivityItem> activities = new java.util.ArrayList<>();
-            
-            // 최근 이슈 조회 (최대 2개)
-            var issues = issueService.getAllIssues();
-            if (issues != null && !issues.isEmpty()) {
-                issues.stream()
-                    .sorted((i1, i2) -> {
-                        if (i1.getCreatedDate() == null) return 1;
-                        if (i2.getCreatedDate() == null) return -1;
-                        return i2.getCreatedDate().compareTo(i1.getCreatedDate());
-                    })
-                    .limit(2)
-                    .forEach(issue -> {
-                        String icon = "RESOLVED".equals(issue.getStatus()) ? "✅" : "⚠️";
-                        String title = issue.getTitle();
-                        String user = issue.getAssignee() != null ? issue.getAssignee() : "담당자 없음";
-                        String time = issue.getCreatedDate() != null ? formatTimeAgo(issue.getCreatedDate().toLocalDate()) : "알 수 없음";
-                        activities.add(new ActivityItem(icon, title, user, time));
-                    });
-            }
-            
-            // 최근 개발자 추가 (최대 1개)
-            var developers = developerService.getAllDevelopers();
-            if (developers != null && !developers.isEmpty()) {
-                developers.stream()
-                    .filter(dev -> dev.getJoinDate() != null)
-                    .sorted((d1, d2) -> d2.getJoinDate().compareTo(d1.getJoinDate()))
-                    .limit(1)
-                    .forEach(dev -> {
-                        String title = "새 개발자: " + dev.getName();
-                        String time = formatTimeAgo(dev.getJoinDate().atStartOfDay().toLocalDate());
-                        activities.add(new ActivityItem("👤", title, "시스템", time));
-                    });
-            }
-            
-            // 최근 소통 (최대 2개)
-            var comms = communicationService.getAllCommunications();
-            if (comms != null && !comms.isEmpty()) {
-                comms.stream()
-                    .filter(comm -> comm.getCommunicationDate() != null)
-                    .sorted((c1, c2) -> c2.getCommunicationDate().compareTo(c1.getCommunicationDate()))
-                    .limit(2)
-                    .forEach(comm -> {
-                        String title = comm.getTitle();
-                        String user = comm.getOurRepresentative() != null ? comm.getOurRepresentative() : "담당자 없음";
-                        String time = formatTimeAgo(comm.getCommunicationDate().toLocalDate());
-                        activities.add(new ActivityItem("💬", title, user, time));
-                    });
-            }
-            
-            // 활동이 없으면 기본 메시지
-            if (activities.isEmpty()) {
-                JLabel noDataLabel = new JLabel("최근 활동이 없습니다.");
-                noDataLabel.setFont(ModernDesign.FONT_BODY);
-                noDataLabel.setForeground(ModernDesign.TEXT_SECONDARY);
-                noDataLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                contentPanel.add(Box.createVerticalStrut(20));
-                contentPanel.add(noDataLabel);
-            } else {
-                // 최대 5개 항목 표시
-                for (int i = 0; i < Math.min(5, activities.size()); i++) {
-                    ActivityItem activity = activities.get(i);
-                    contentPanel.add(createActivityItem(activity.icon, activity.title, activity.user, activity.time, ModernDesign.PRIMARY));
-                    
-                    if (i < Math.min(5, activities.size()) - 1) {
-                        contentPanel.add(Box.createVerticalStrut(1));
-                        contentPanel.add(createSeparator());
-                        contentPanel.add(Box.createVerticalStrut(1));
-                    }
-                }
-            }
-            
-        } catch (Exception e) {
-            System.err.println("최근 활동 로드 중 오류: " + e.getMessage());
-            e.printStackTrace();
-            
-            JLabel errorLabel = new JLabel("데이터를 불러올 수 없습니다.");
-            errorLabel.setFont(ModernDesign.FONT_BODY);
-            errorLabel.setForeground(ModernDesign.ERROR);
-            errorLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            contentPanel.add(Box.createVerticalStrut(20));
-            contentPanel.add(errorLabel);
+        section.add(activityContentPanel, BorderLayout.CENTER);
+        
+        return section;
+    }
+    
+    /**
+     * 최근 이슈 (최대 2개, 백그라운드 스레드에서 실행)
+     */
+    private List<ActivityItem> loadIssueActivities() {
+        List<ActivityItem> activities = new ArrayList<>();
+        var issues = issueService.getAllIssues();
+        if (issues != null && !issues.isEmpty()) {
+            issues.stream()
+                .sorted((i1, i2) -> {
+                    if (i1.getCreatedDate() == null) return 1;
+                    if (i2.getCreatedDate() == null) return -1;
+                    return i2.getCreatedDate().compareTo(i1.getCreatedDate());
+                })
+                .limit(2)
+                .forEach(issue -> {
+                    String icon = "RESOLVED".equals(issue.getStatus()) ? "✅" : "⚠️";
+                    String title = issue.getTitle();
+                    String user = issue.getAssignee() != null ? issue.getAssignee() : "담당자 없음";
+                    String time = issue.getCreatedDate() != null ? formatTimeAgo(issue.getCreatedDate().toLocalDate()) : "알 수 없음";
+                    activities.add(new ActivityItem(icon, title, user, time));
+                });
+        }
+        return activities;
+    }
+    
+    /**
+     * 최근 개발자 추가 (최대 1개, 백그라운드 스레드에서 실행)
+     */
+    private List<ActivityItem> loadDeveloperActivities() {
+        List<ActivityItem> activities = new ArrayList<>();
+        var developers = developerService.getAllDevelopers();
+        if (developers != null && !developers.isEmpty()) {
+            developers.stream()
+                .filter(dev -> dev.getJoinDate() != null)
+                .sorted((d1, d2) -> d2.getJoinDate().compareTo(d1.getJoinDate()))
+                .limit(1)
+                .forEach(dev -> {
+                    String title = "새 개발자: " + dev.getName();
+                    String time = formatTimeAgo(dev.getJoinDate());
+                    activities.add(new ActivityItem("👤", title, "시스템", time));
+                });
+        }
+        return activities;
+    }
+    
+    /**
+     * 최근 소통 (최대 2개, 백그라운드 스레드에서 실행)
+     */
+    private List<ActivityItem> loadCommunicationActivities() {
+        List<ActivityItem> activities = new ArrayList<>();
+        var comms = communicationService.getAllCommunications();
+        if (comms != null && !comms.isEmpty()) {
+            comms.stream()
+                .filter(comm -> comm.getCommunicationDate() != null)
+                .sorted((c1, c2) -> c2.getCommunicationDate().compareTo(c1.getCommunicationDate()))
+                .limit(2)
+                .forEach(comm -> {
+                    String title = comm.getTitle();
+                    String user = comm.getOurRepresentative() != null ? comm.getOurRepresentative() : "담당자 없음";
+                    String time = formatTimeAgo(comm.getCommunicationDate().toLocalDate());
+                    activities.add(new ActivityItem("💬", title, user, time));
+                });
+        }
+        return activities;
+    }
+    
+    /**
+     * 최근 활동 반영 (이전과 같으면 그대로 둠, null이면 오류 표시)
+     */
+    private void applyActivities(List<ActivityItem> activities) {
+        if (activities == null) {
+            shownActivities = null;
+            showActivityMessage("데이터를 불러올 수 없습니다.", ModernDesign.ERROR);
+            return;
+        }
+        if (activities.equals(shownActivities)) {
+            return;
         }
+        shownActivities = activities;
         
-        section.add(contentPanel, BorderLayout.CENTER);
+        // 활동이 없으면 기본 메시지
+        if (activities.isEmpty()) {
+            showActivityMessage("최근 활동이 없습니다.", ModernDesign.TEXT_SECONDARY);
+            return;
+        }
         
-        return section;
+        activityContentPanel.removeAll();
+        // 최대 5개 항목 표시
+        int count = Math.min(5, activities.size());
+        for (int i = 0; i < count; i++) {
+            ActivityItem activity = activities.get(i);
+            activityContentPanel.add(createActivityItem(activity.icon, activity.title, activity.user, activity.time, ModernDesign.PRIMARY));
+            
+            if (i < count - 1) {
+                activityContentPanel.add(Box.createVerticalStrut(1));
+                activityContentPanel.add(createSeparator());
+                activityContentPanel.add(Box.createVerticalStrut(1));
+            }
+        }
+        activityContentPanel.revalidate();
+        activityContentPanel.repaint();
+    }
+    
+    /**
+     * 최근 활동 영역에 안내 문구 표시
+     */
+    private void showActivityMessage(String message, Color color) {
+        activityContentPanel.removeAll();
+        JLabel label = new JLabel(message);
+        label.setFont(ModernDesign.FONT_BODY);
+        label.setForeground(color);
+        label.setAlignmentX(Component.CENTER_ALIGNMENT);
+        activityContentPanel.add(Box.createVerticalStrut(20));
+        activityContentPanel.add(label);
+        activityContentPanel.revalidate();
+        activityContentPanel.repaint();
     }
     
     /**
@@ -433,6 +549,21 @@ public class DashboardPanel extends JPanel {
             this.user = user;
             this.time = time;
         }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ActivityItem)) {
+                return false;
+            }
+            ActivityItem other = (ActivityItem) o;
+            return Objects.equals(icon, other.icon) && Objects.equals(title, other.title)
+                && Objects.equals(user, other.user) && Objects.equals(time, other.time);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(icon, title, user, time);
+        }
     }
     
     /**
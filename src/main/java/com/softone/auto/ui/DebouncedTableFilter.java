@@ -0,0 +1,181 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.util.AsyncDataLoader;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 디바운스 + 백그라운드 테이블 필터
+ *
+ * <p>목록이 바뀌면 TableFilterIndex를 백그라운드에서 다시 만들고,
+ * 필터 조건이 바뀌면 마지막 입력 후 잠시 기다렸다가 백그라운드에서 필터링합니다.
+ * 결과는 EDT에서 한 번에 전달되며, 목록을 다시 불러온 결과인지 조건만 바뀐 결과인지 함께 알려줍니다
+ * (다시 불러온 목록은 KeyedTableModel::setItems로 차이만, 필터 결과는 KeyedTableModel::replaceItems로 한 번에 교체).
+ * 인스턴스를 키로 하는 AsyncDataLoader 키 요청이므로 더 최신 요청이 있으면 이전 결과는 버려집니다.</p>
+ *
+ * <p>모든 public 메서드는 EDT에서 호출해야 합니다.</p>
+ *
+ * @param <T> 행 엔티티 타입
+ */
+public class DebouncedTableFilter<T> {
+
+    private static final int DEBOUNCE_MS = 150;
+
+    /**
+     * 필터링 결과 반영 (EDT에서 호출)
+     */
+    @FunctionalInterface
+    public interface ResultConsumer<T> {
+        /**
+         * @param filtered 현재 조건에 맞는 목록
+         * @param reloaded 목록을 다시 불러온 결과면 true, 필터 조건만 바뀐 결과면 false
+         */
+        void accept(List<T> filtered, boolean reloaded);
+    }
+
+    private final Map<String, Function<T, String>> columns = new LinkedHashMap<>();
+    private final Function<T, String> searchText;
+    private final Function<T, LocalDate> date;
+    private final Supplier<TableFilterIndex.Criteria> criteriaSupplier;
+    private final ResultConsumer<T> resultConsumer;
+    private final Timer debounceTimer;
+
+    private TableFilterIndex<T> index;
+    /** 인덱스 재구성 중 여부 / 그동안 조건이 바뀌었는지 여부 */
+    private boolean itemsLoading = false;
+    private boolean filterPending = false;
+
+    /**
+     * @param searchText       검색 대상 문자열 추출 함수 (null 가능)
+     * @param date             날짜 범위 필터용 날짜 추출 함수 (null 가능)
+     * @param criteriaSupplier 현재 화면의 필터 조건 (EDT에서 호출됨)
+     * @param resultConsumer   필터링 결과 반영 (EDT에서 호출됨)
+     */
+    public DebouncedTableFilter(Function<T, String> searchText,
+                                Function<T, LocalDate> date,
+                                Supplier<TableFilterIndex.Criteria> criteriaSupplier,
+                                ResultConsumer<T> resultConsumer) {
+        this.searchText = searchText;
+        this.date = date;
+        this.criteriaSupplier = criteriaSupplier;
+        this.resultConsumer = resultConsumer;
+        this.debounceTimer = new Timer(DEBOUNCE_MS, e -> runFilter());
+        this.debounceTimer.setRepeats(false);
+    }
+
+    /**
+     * 값 일치 필터용 컬럼 인덱스 등록 (setItems 전에 호출)
+     */
+    public DebouncedTableFilter<T> indexColumn(String column, Function<T, String> extractor) {
+        columns.put(column, extractor);
+        return this;
+    }
+
+    /**
+     * 검색어 입력 필드 연결 (입력할 때마다 조건 변경 알림)
+     */
+    public DebouncedTableFilter<T> bind(JTextField field) {
+        field.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                criteriaChanged();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                criteriaChanged();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                criteriaChanged();
+            }
+        });
+        return this;
+    }
+
+    /**
+     * 조건 콤보박스 연결 (선택 변경 시 조건 변경 알림)
+     */
+    public DebouncedTableFilter<T> bind(JComboBox<String> combo) {
+        combo.addActionListener(e -> criteriaChanged());
+        return this;
+    }
+
+    /**
+     * 콤보박스 선택 값 (첫 항목 "전체"는 null)
+     */
+    public static String selectedValue(JComboBox<String> combo) {
+        return combo.getSelectedIndex() > 0 ? (String) combo.getSelectedItem() : null;
+    }
+
+    /**
+     * 전체 목록 교체 (인덱스 재구성 후 현재 조건으로 즉시 필터링)
+     */
+    public void setItems(List<T> items) {
+        debounceTimer.stop();
+        TableFilterIndex.Criteria criteria = criteriaSupplier.get();
+        itemsLoading = true;
+        filterPending = false;
+
+        AsyncDataLoader.loadKeyed(this,
+            () -> {
+                TableFilterIndex<T> newIndex = new TableFilterIndex<>(items, columns, searchText, date);
+                return new Object[]{newIndex, newIndex.filter(criteria)};
+            },
+            result -> {
+                itemsLoading = false;
+                if (result == null) {
+                    return;
+                }
+                @SuppressWarnings("unchecked")
+                TableFilterIndex<T> newIndex = (TableFilterIndex<T>) result[0];
+                @SuppressWarnings("unchecked")
+                List<T> filtered = (List<T>) result[1];
+                index = newIndex;
+                resultConsumer.accept(filtered, true);
+                if (filterPending) {
+                    // 재구성 중에 바뀐 조건 반영
+                    runFilter();
+                }
+            }
+        );
+    }
+
+    /**
+     * 필터 조건 변경 알림 (연속 입력은 마지막 한 번만 처리)
+     */
+    public void criteriaChanged() {
+        debounceTimer.restart();
+    }
+
+    private void runFilter() {
+        TableFilterIndex<T> currentIndex = index;
+        if (itemsLoading || currentIndex == null) {
+            // 인덱스 재구성이 끝나면 현재 조건으로 다시 필터링
+            filterPending = true;
+            return;
+        }
+        filterPending = false;
+
+        TableFilterIndex.Criteria criteria = criteriaSupplier.get();
+
+        AsyncDataLoader.loadKeyed(this,
+            () -> currentIndex.filter(criteria),
+            filtered -> {
+                if (filtered == null) {
+                    return;
+                }
+                resultConsumer.accept(filtered, false);
+            }
+        );
+    }
+}
@@ -5,7 +5,6 @@ import com.softone.auto.service.DeveloperService;
 import com.softone.auto.util.AsyncDataLoader;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -18,7 +17,12 @@ public class DeveloperPanel extends JPanel {
     
     private final DeveloperService developerService;
     private JTable developerTable;
-    private DefaultTableModel tableModel;
+    private KeyedTableModel<Developer> tableModel;
+    private DebouncedTableFilter<Developer> tableFilter;
+    
+    // 목록 필터
+    private JTextField searchField;
+    private JComboBox<String> filterStatusCombo;
     
     private JTextField nameField;
     private JTextField positionField;
@@ -133,16 +137,41 @@ public class DeveloperPanel extends JPanel {
         
         // 테이블
         String[] columnNames = {"이름", "직급", "역할", "팀", "상태", "투입일"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        tableModel = new KeyedTableModel<>(columnNames, Developer::getId, dev -> new Object[]{
+            dev.getName(),
+            dev.getPosition(),
+            dev.getRole(),
+            dev.getTeam(),
+            getStatusBadge(dev.getStatus()),
+            DisplayFormats.date(dev.getJoinDate())
+        });
         
         developerTable = new JTable(tableModel);
         ModernDesign.styleTable(developerTable);
         
+        // 필터 (백그라운드 디바운스 필터링)
+        searchField = new JTextField(15);
+        searchField.setToolTipText("이름/직급/역할/팀 검색");
+        filterStatusCombo = new JComboBox<>(new String[]{"전체", "ACTIVE", "INACTIVE", "VACATION"});
+        
+        tableFilter = new DebouncedTableFilter<Developer>(
+                dev -> TableFilterIndex.joinText(dev.getName(), dev.getPosition(), dev.getRole(), dev.getTeam()),
+                Developer::getJoinDate,
+                () -> new TableFilterIndex.Criteria()
+                        .text(searchField.getText())
+                        .column("status", DebouncedTableFilter.selectedValue(filterStatusCombo)),
+                this::showDevelopers)
+                .indexColumn("status", Developer::getStatus)
+                .bind(searchField)
+                .bind(filterStatusCombo);
+        
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 4));
+        filterPanel.setBackground(ModernDesign.BG_SECONDARY);
+        filterPanel.add(new JLabel("검색"));
+        filterPanel.add(searchField);
+        filterPanel.add(new JLabel("상태"));
+        filterPanel.add(filterStatusCombo);
+        
         // 테이블 자동 리사이즈 모드 설정 (수평 스크롤 활성화)
         developerTable.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
         
@@ -162,6 +191,7 @@ public class DeveloperPanel extends JPanel {
         
         JPanel contentPanel = new JPanel(new BorderLayout());
         contentPanel.setBackground(ModernDesign.BG_SECONDARY);
+        contentPanel.add(filterPanel, BorderLayout.NORTH);
         contentPanel.add(scrollPane, BorderLayout.CENTER);
         
         panel.add(contentPanel, BorderLayout.CENTER);
@@ -407,7 +437,8 @@ public class DeveloperPanel extends JPanel {
      * 개발자 목록 로드 (비동기 처리)
      */
     private void loadDevelopers() {
-        AsyncDataLoader.loadAsync(
+        // 연속 호출 시 이전 로드 결과는 버림
+        AsyncDataLoader.loadKeyed(this,
             () -> {
                 // 백그라운드 스레드에서 실행
                 System.out.println("=== 개발자 목록 로드 시작 (비동기) ===");
@@ -423,24 +454,8 @@ public class DeveloperPanel extends JPanel {
                 }
                 
                 try {
-                    tableModel.setRowCount(0);
-                    for (Developer dev : developers) {
-                        Object[] row = new Object[]{
-                            dev.getName(),
-                            dev.getPosition(),
-                            dev.getRole(),
-                            dev.getTeam(),
-                            getStatusBadge(dev.getStatus()),
-                            dev.getJoinDate() != null ? dev.getJoinDate().format(DateTimeFormatter.ISO_LOCAL_DATE) : ""
-                        };
-                        tableModel.addRow(row);
-                    }
-                    
-                    // 첫 번째 행 자동 선택
-                    if (tableModel.getRowCount() > 0) {
-                        developerTable.setRowSelectionInterval(0, 0);
-                        developerTable.scrollRectToVisible(developerTable.getCellRect(0, 0, true));
-                    }
+                    // 필터 인덱스 재구성 후 현재 필터 조건으로 표시
+                    tableFilter.setItems(developers);
                     
                     System.out.println("=== 개발자 목록 로드 완료 ===\n");
                 } catch (Exception e) {
@@ -451,6 +466,23 @@ public class DeveloperPanel extends JPanel {
         );
     }
     
+    /**
+     * 필터링된 목록 표시 (다시 불러온 목록은 변경된 행만 갱신, 선택/스크롤 위치 유지)
+     */
+    private void showDevelopers(List<Developer> developers, boolean reloaded) {
+        if (reloaded) {
+            tableModel.setItems(developers);
+        } else {
+            tableModel.replaceItems(developers, developerTable);
+        }
+        
+        // 선택된 행이 없을 때만 첫 번째 행 자동 선택
+        if (tableModel.getRowCount() > 0 && developerTable.getSelectedRow() < 0) {
+            developerTable.setRowSelectionInterval(0, 0);
+            developerTable.scrollRectToVisible(developerTable.getCellRect(0, 0, true));
+        }
+    }
+    
     /**
      * 상태 배지 생성
      */
@@ -469,8 +501,7 @@ public class DeveloperPanel extends JPanel {
     private void onDeveloperSelected() {
         int selectedRow = developerTable.getSelectedRow();
         if (selectedRow >= 0) {
-            String name = (String) tableModel.getValueAt(selectedRow, 0);
-            selectedDeveloper = developerService.getDeveloperByName(name);
+            selectedDeveloper = tableModel.getItem(developerTable.convertRowIndexToModel(selectedRow));
             
             if (selectedDeveloper != null) {
                 // 수정 모드로 전환
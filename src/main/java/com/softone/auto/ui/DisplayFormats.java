@@ -0,0 +1,79 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.util.ServiceRegistry;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 테이블 표시 문자열 변환
+ *
+ * <p>테이블 모델은 데이터를 불러올 때 이 메서드들로 행 값을 한 번만 문자열로 바꿔 두고,
+ * 렌더러는 그 문자열을 그대로 그립니다. (스크롤/다시 그리기 때마다 포맷하지 않음)
+ * 백그라운드 스레드에서 호출해도 안전합니다.</p>
+ */
+public final class DisplayFormats {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private DisplayFormats() {
+    }
+
+    /**
+     * 날짜 (yyyy-MM-dd, null이면 빈 문자열)
+     */
+    public static String date(LocalDate date) {
+        return date != null ? date.format(DATE_FORMATTER) : "";
+    }
+
+    /**
+     * 시각 (HH:mm, null이면 빈 문자열)
+     */
+    public static String time(LocalTime time) {
+        return time != null ? time.format(TIME_FORMATTER) : "";
+    }
+
+    /**
+     * 일시 (yyyy-MM-dd HH:mm, null이면 빈 문자열)
+     */
+    public static String dateTime(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.format(DATE_TIME_FORMATTER) : "";
+    }
+
+    /**
+     * 문자열 (null이면 빈 문자열)
+     */
+    public static String text(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    /**
+     * 공통코드 → 코드명 (등록되지 않은 코드는 그대로)
+     */
+    public static String code(String category, String code) {
+        if (code == null) {
+            return "";
+        }
+        return ServiceRegistry.getCommonCodeService().getCodeName(category, code);
+    }
+
+    /**
+     * 공통코드 콤보 상자 렌더러 (항목은 코드 그대로 두고 테이블과 같은 코드명으로 표시)
+     */
+    public static ListCellRenderer<Object> codeRenderer(String category) {
+        return new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                Object display = value instanceof String ? code(category, (String) value) : value;
+                return super.getListCellRendererComponent(list, display, index, isSelected, cellHasFocus);
+            }
+        };
+    }
+}
@@ -2,10 +2,11 @@ package com.softone.auto.ui;
 
 import com.softone.auto.model.Issue;
 import com.softone.auto.service.IssueService;
+import com.softone.auto.util.AsyncDataLoader;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.util.List;
 
 /**
  * 이슈 관리 패널
@@ -15,7 +16,14 @@ public class IssuePanel extends JPanel {
     private final IssueService issueService;
     
     private JTable issueTable;
-    private DefaultTableModel tableModel;
+    private KeyedTableModel<Issue> tableModel;
+    private DebouncedTableFilter<Issue> tableFilter;
+    
+    // 목록 필터
+    private JTextField searchField;
+    private JComboBox<String> filterCategoryCombo;
+    private JComboBox<String> filterSeverityCombo;
+    private JComboBox<String> filterStatusCombo;
     
     private JTextField titleField;
     private JTextArea descriptionArea;
@@ -135,16 +143,55 @@ public class IssuePanel extends JPanel {
         
         // 테이블
         String[] columnNames = {"제목", "카테고리", "심각도", "상태", "보고자", "담당자"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        tableModel = new KeyedTableModel<>(columnNames, Issue::getId, issue -> new Object[]{
+                issue.getTitle(),
+                issue.getCategory(),
+                issue.getSeverity(),
+                DisplayFormats.code("ISSUE_STATUS", issue.getStatus()),
+                issue.getReporter(),
+                issue.getAssignee()
+        });
         
         issueTable = new JTable(tableModel);
         ModernDesign.styleTable(issueTable);
         
+        // 필터 (백그라운드 디바운스 필터링)
+        searchField = new JTextField(15);
+        searchField.setToolTipText("제목/설명/보고자/담당자 검색");
+        filterCategoryCombo = new JComboBox<>(new String[]{"전체", "기술", "일정", "인력", "기타"});
+        filterSeverityCombo = new JComboBox<>(new String[]{"전체", "높음", "보통", "낮음"});
+        filterStatusCombo = new JComboBox<>(new String[]{"전체", "OPEN", "IN_PROGRESS", "RESOLVED", "CLOSED"});
+        // 항목은 코드 그대로 두어 필터는 코드로 비교하고, 표시는 상태 컬럼과 같은 코드명
+        filterStatusCombo.setRenderer(DisplayFormats.codeRenderer("ISSUE_STATUS"));
+        
+        tableFilter = new DebouncedTableFilter<Issue>(
+                issue -> TableFilterIndex.joinText(issue.getTitle(), issue.getDescription(), issue.getReporter(), issue.getAssignee()),
+                issue -> issue.getCreatedDate() != null ? issue.getCreatedDate().toLocalDate() : null,
+                () -> new TableFilterIndex.Criteria()
+                        .text(searchField.getText())
+                        .column("category", DebouncedTableFilter.selectedValue(filterCategoryCombo))
+                        .column("severity", DebouncedTableFilter.selectedValue(filterSeverityCombo))
+                        .column("status", DebouncedTableFilter.selectedValue(filterStatusCombo)),
+                this::showIssues)
+                .indexColumn("category", Issue::getCategory)
+                .indexColumn("severity", Issue::getSeverity)
+                .indexColumn("status", Issue::getStatus)
+                .bind(searchField)
+                .bind(filterCategoryCombo)
+                .bind(filterSeverityCombo)
+                .bind(filterStatusCombo);
+        
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 4));
+        filterPanel.setBackground(ModernDesign.BG_SECONDARY);
+        filterPanel.add(new JLabel("검색"));
+        filterPanel.add(searchField);
+        filterPanel.add(new JLabel("카테고리"));
+        filterPanel.add(filterCategoryCombo);
+        filterPanel.add(new JLabel("심각도"));
+        filterPanel.add(filterSeverityCombo);
+        filterPanel.add(new JLabel("상태"));
+        filterPanel.add(filterStatusCombo);
+        
         issueTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         issueTable.getSelectionModel().addListSelectionListener(e -> {
             if (!e.getValueIsAdjusting()) {
@@ -157,6 +204,7 @@ public class IssuePanel extends JPanel {
         
         JPanel contentPanel = new JPanel(new BorderLayout());
         contentPanel.setBackground(ModernDesign.BG_SECONDARY);
+        contentPanel.add(filterPanel, BorderLayout.NORTH);
         contentPanel.add(scrollPane, BorderLayout.CENTER);
         
         panel.add(contentPanel, BorderLayout.CENTER);
@@ -205,6 +253,7 @@ public class IssuePanel extends JPanel {
         formPanel.add(createCompactLabel("상태"), gbc);
         gbc.gridx = 1; gbc.weightx = 1.0;
         statusCombo = createCompactCombo(new String[]{"OPEN", "IN_PROGRESS", "RESOLVED", "CLOSED"});
+        statusCombo.setRenderer(DisplayFormats.codeRenderer("ISSUE_STATUS"));
         formPanel.add(statusCombo, gbc);
         row++;
         
@@ -411,54 +460,61 @@ public class IssuePanel extends JPanel {
      * 이슈 목록 로드
      */
     private void loadIssues() {
-        try {
-            tableModel.setRowCount(0);
-            for (Issue issue : issueService.getAllIssues()) {
-                tableModel.addRow(new Object[]{
-                        issue.getTitle(),
-                        issue.getCategory(),
-                        issue.getSeverity(),
-                        issue.getStatus(),
-                        issue.getReporter(),
-                        issue.getAssignee()
-                });
-            }
-            
-            // 첫 번째 행 자동 선택
-            if (tableModel.getRowCount() > 0) {
-                SwingUtilities.invokeLater(() -> {
-                    issueTable.setRowSelectionInterval(0, 0);
-                    issueTable.scrollRectToVisible(issueTable.getCellRect(0, 0, true));
-                });
+        // 연속 호출 시 이전 로드 결과는 버림
+        AsyncDataLoader.loadKeyed(this,
+            () -> issueService.getAllIssues(),
+            (list) -> {
+                if (list == null) {
+                    System.err.println("이슈 목록 로드 실패");
+                    return;
+                }
+                applyIssues(list);
             }
-        } catch (Exception e) {
-            System.err.println("이슈 목록 로드 오류: " + e.getMessage());
-            e.printStackTrace();
-            // 에러가 발생해도 UI는 표시되도록 함
-        }
+        );
     }
     
     /**
      * 미해결 이슈만 로드
      */
     private void loadOpenIssues() {
-        tableModel.setRowCount(0);
-        for (Issue issue : issueService.getOpenIssues()) {
-            tableModel.addRow(new Object[]{
-                    issue.getTitle(),
-                    issue.getCategory(),
-                    issue.getSeverity(),
-                    issue.getStatus(),
-                    issue.getReporter(),
-                    issue.getAssignee()
-            });
+        // 전체 목록 로드와 같은 키 사용 (마지막으로 누른 버튼의 결과만 반영)
+        AsyncDataLoader.loadKeyed(this,
+            () -> issueService.getOpenIssues(),
+            (list) -> {
+                if (list == null) {
+                    System.err.println("미해결 이슈 목록 로드 실패");
+                    return;
+                }
+                applyIssues(list);
+            }
+        );
+    }
+    
+    /**
+     * 목록 반영 (필터 인덱스 재구성 후 현재 필터 조건으로 표시)
+     */
+    private void applyIssues(List<Issue> issues) {
+        tableFilter.setItems(issues);
+    }
+    
+    /**
+     * 필터링된 목록 표시 (다시 불러온 목록은 변경된 행만 갱신, 선택 유지)
+     */
+    private void showIssues(List<Issue> issues, boolean reloaded) {
+        if (reloaded) {
+            tableModel.setItems(issues);
+        } else {
+            // 필터 조건 변경은 한 번에 교체 (선택은 키로 복원)
+            tableModel.replaceItems(issues, issueTable);
         }
         
-        // 첫 번째 행 자동 선택
-        if (tableModel.getRowCount() > 0) {
+        // 선택된 행이 없을 때만 첫 번째 행 자동 선택
+        if (tableModel.getRowCount() > 0 && issueTable.getSelectedRow() < 0) {
             SwingUtilities.invokeLater(() -> {
-                issueTable.setRowSelectionInterval(0, 0);
-                issueTable.scrollRectToVisible(issueTable.getCellRect(0, 0, true));
+                if (tableModel.getRowCount() > 0 && issueTable.getSelectedRow() < 0) {
+                    issueTable.setRowSelectionInterval(0, 0);
+                    issueTable.scrollRectToVisible(issueTable.getCellRect(0, 0, true));
+                }
             });
         }
     }
@@ -469,26 +525,23 @@ public class IssuePanel extends JPanel {
     private void onIssueSelected() {
         int selectedRow = issueTable.getSelectedRow();
         if (selectedRow >= 0) {
-            String title = (String) tableModel.getValueAt(selectedRow, 0);
+            Issue issue = tableModel.getItem(issueTable.convertRowIndexToModel(selectedRow));
             
-            for (Issue issue : issueService.getAllIssues()) {
-                if (issue.getTitle().equals(title)) {
-                    selectedIssue = issue;
-                    
-                    // 수정 모드로 전환
-                    enterEditMode();
-                    
-                    titleField.setText(issue.getTitle());
-                    descriptionArea.setText(issue.getDescription() != null ? issue.getDescription() : "");
-                    categoryCombo.setSelectedItem(issue.getCategory());
-                    severityCombo.setSelectedItem(issue.getSeverity());
-                    statusCombo.setSelectedItem(issue.getStatus());
-                    reporterField.setText(issue.getReporter() != null ? issue.getReporter() : "");
-                    assigneeField.setText(issue.getAssignee() != null ? issue.getAssignee() : "");
-                    resolutionArea.setText(issue.getResolution() != null ? issue.getResolution() : "");
-                    notesArea.setText(issue.getNotes() != null ? issue.getNotes() : "");
-                    break;
-                }
+            if (issue != null) {
+                selectedIssue = issue;
+                
+                // 수정 모드로 전환
+                enterEditMode();
+                
+                titleField.setText(issue.getTitle());
+                descriptionArea.setText(issue.getDescription() != null ? issue.getDescription() : "");
+                categoryCombo.setSelectedItem(issue.getCategory());
+                severityCombo.setSelectedItem(issue.getSeverity());
+                statusCombo.setSelectedItem(issue.getStatus());
+                reporterField.setText(issue.getReporter() != null ? issue.getReporter() : "");
+                assigneeField.setText(issue.getAssignee() != null ? issue.getAssignee() : "");
+                resolutionArea.setText(issue.getResolution() != null ? issue.getResolution() : "");
+                notesArea.setText(issue.getNotes() != null ? issue.getNotes() : "");
             }
         }
     }
@@ -0,0 +1,181 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.model.Job;
+import com.softone.auto.service.JobService;
+import com.softone.auto.util.AsyncDataLoader;
+import com.softone.auto.util.ServiceRegistry;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.io.File;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 작업 모니터 다이얼로그
+ * 최근 백그라운드 작업의 상태/진행률/결과 표시와 취소 (열려 있는 동안 1초마다 갱신)
+ */
+public class JobMonitorDialog extends JDialog {
+
+    private static final int REFRESH_INTERVAL_MS = 1000;
+    private static final int MAX_ROWS = 100;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("MM-dd HH:mm:ss");
+
+    private final JobService jobService;
+    private final DefaultTableModel jobModel;
+    private final JTable jobTable;
+    private final JButton cancelButton = ModernDesign.createSecondaryButton("취소");
+    private final JButton openButton = ModernDesign.createSecondaryButton("결과 열기");
+    private final Timer refreshTimer;
+    private List<Job> jobs = List.of();
+
+    public JobMonitorDialog(Frame parent) {
+        super(parent, "작업 모니터", false);
+        this.jobService = ServiceRegistry.getJobService();
+
+        jobModel = new DefaultTableModel(new String[]{"등록", "작업", "유형", "상태", "진행률", "시도", "메시지"}, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        jobTable = new JTable(jobModel);
+        refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refreshData());
+
+        initializeUI();
+        refreshData();
+    }
+
+    private void initializeUI() {
+        setSize(1000, 500);
+        setLocationRelativeTo(getParent());
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        JPanel mainPanel = new JPanel(new BorderLayout(0, 10));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+        mainPanel.setBackground(ModernDesign.BG_PRIMARY);
+
+        JPanel jobSection = ModernDesign.createSection("백그라운드 작업");
+        ModernDesign.styleTable(jobTable);
+        jobTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        int[] widths = {110, 260, 120, 70, 70, 50, 300};
+        for (int i = 0; i < widths.length; i++) {
+            jobTable.getColumnModel().getColumn(i).setPreferredWidth(widths[i]);
+        }
+        jobTable.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                updateButtons();
+            }
+        });
+        jobSection.add(new JScrollPane(jobTable), BorderLayout.CENTER);
+        mainPanel.add(jobSection, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+        buttonPanel.setBackground(ModernDesign.BG_PRIMARY);
+
+        cancelButton.setToolTipText("대기 중인 작업은 바로, 실행 중인 작업은 중단할 수 있는 유형만 취소합니다");
+        cancelButton.addActionListener(e -> cancelSelected());
+        buttonPanel.add(cancelButton);
+
+        openButton.addActionListener(e -> openSelectedResult());
+        buttonPanel.add(openButton);
+
+        JButton closeButton = ModernDesign.createPrimaryButton("닫기");
+        closeButton.addActionListener(e -> dispose());
+        buttonPanel.add(closeButton);
+
+        mainPanel.add(buttonPanel, BorderLayout.SOUTH);
+        add(mainPanel);
+
+        updateButtons();
+        refreshTimer.start();
+    }
+
+    @Override
+    public void dispose() {
+        refreshTimer.stop();
+        AsyncDataLoader.cancel(this);
+        super.dispose();
+    }
+
+    /**
+     * 작업 목록 다시 조회 (백그라운드, 선택 행 유지)
+     */
+    private void refreshData() {
+        AsyncDataLoader.loadKeyed(this, () -> jobService.getRecentJobs(MAX_ROWS), latest -> {
+            if (latest == null || !isDisplayable()) {
+                return;
+            }
+            String selectedId = getSelectedJob() != null ? getSelectedJob().getId() : null;
+            jobs = latest;
+            jobModel.setRowCount(0);
+            int selectedRow = -1;
+            for (Job job : jobs) {
+                if (job.getId().equals(selectedId)) {
+                    selectedRow = jobModel.getRowCount();
+                }
+                jobModel.addRow(new Object[]{
+                    job.getCreatedAt() != null ? job.getCreatedAt().format(TIME_FORMATTER) : "",
+                    job.getTitle(),
+                    job.getType().getLabel(),
+                    job.getState().getLabel(),
+                    job.getState() == Job.State.RUNNING && job.getProgress() == 0 ? "-" : job.getProgress() + "%",
+                    job.getAttempts() + "/" + job.getMaxAttempts(),
+                    job.getMessage()
+                });
+            }
+            if (selectedRow >= 0) {
+                jobTable.setRowSelectionInterval(selectedRow, selectedRow);
+            }
+            updateButtons();
+        });
+    }
+
+    private Job getSelectedJob() {
+        int row = jobTable.getSelectedRow();
+        return row >= 0 && row < jobs.size() ? jobs.get(row) : null;
+    }
+
+    private void updateButtons() {
+        Job job = getSelectedJob();
+        cancelButton.setEnabled(job != null && (job.getState() == Job.State.QUEUED
+            || (job.getState() == Job.State.RUNNING && job.getType().isCancellable())));
+        openButton.setEnabled(job != null && job.getResultPath() != null && job.getState() == Job.State.SUCCEEDED);
+    }
+
+    private void cancelSelected() {
+        Job job = getSelectedJob();
+        if (job == null) {
+            return;
+        }
+        int choice = JOptionPane.showConfirmDialog(this, "'" + job.getTitle() + "' 작업을 취소하시겠습니까?",
+            "작업 취소", JOptionPane.YES_NO_OPTION);
+        if (choice == JOptionPane.YES_OPTION) {
+            if (!jobService.cancel(job.getId())) {
+                JOptionPane.showMessageDialog(this, "이미 끝났거나 실행 중에는 취소할 수 없는 작업입니다.",
+                    "알림", JOptionPane.INFORMATION_MESSAGE);
+            }
+            refreshData();
+        }
+    }
+
+    private void openSelectedResult() {
+        Job job = getSelectedJob();
+        if (job == null || job.getResultPath() == null) {
+            return;
+        }
+        File file = new File(job.getResultPath());
+        try {
+            if (!file.exists()) {
+                JOptionPane.showMessageDialog(this, "결과 파일이 없습니다:\n" + file.getAbsolutePath(),
+                    "알림", JOptionPane.WARNING_MESSAGE);
+                return;
+            }
+            Desktop.getDesktop().open(file);
+        } catch (Exception e) {
+            JOptionPane.showMessageDialog(this, "파일을 열 수 없습니다:\n" + file.getAbsolutePath(),
+                "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.softone.auto.ui;
+
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 키(ID) 기반 차이 갱신 테이블 모델
+ *
+ * <p>목록을 다시 불러올 때 setRowCount(0) + addRow 대신 이전 목록과 새 목록을 키로 비교하여
+ * 사라진 행은 삭제, 새 행은 삽입, 값이 바뀐 행만 갱신 이벤트를 발생시킵니다.
+ * 행 단위(구간) 이벤트만 발생하므로 JTable의 선택 상태와 RowSorter의 정렬 상태가 유지됩니다.
+ * 대부분의 행이 움직인 경우에는 전체 갱신 이벤트 한 번으로 대신합니다.</p>
+ *
+ * <p>모든 메서드는 EDT에서 호출해야 합니다.</p>
+ *
+ * @param <T> 행 엔티티 타입
+ */
+public class KeyedTableModel<T> extends AbstractTableModel {
+
+    /** 이 수보다 삭제/삽입 구간이 많으면 행 이벤트 대신 전체 갱신 한 번 */
+    static final int MAX_RANGE_EVENTS = 32;
+
+    private final String[] columnNames;
+    private final Function<T, String> keyFunction;
+    private final Function<T, Object[]> rowFunction;
+
+    private final List<T> items = new ArrayList<>();
+    private final List<String> keys = new ArrayList<>();
+    private final List<Object[]> rows = new ArrayList<>();
+    /** 키 → 모델 행 번호 (setItems마다 다시 만듦) */
+    private final Map<String, Integer> keyIndex = new HashMap<>();
+
+    /**
+     * @param columnNames 컬럼명
+     * @param keyFunction 행 식별 키 (엔티티 ID)
+     * @param rowFunction 엔티티 → 표시 값 배열
+     */
+    public KeyedTableModel(String[] columnNames, Function<T, String> keyFunction, Function<T, Object[]> rowFunction) {
+        this.columnNames = columnNames;
+        this.keyFunction = keyFunction;
+        this.rowFunction = rowFunction;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        return rows.get(row)[column];
+    }
+
+    /**
+     * 모델 행의 엔티티
+     */
+    public T getItem(int modelRow) {
+        return modelRow >= 0 && modelRow < items.size() ? items.get(modelRow) : null;
+    }
+
+    /**
+     * 키의 모델 행 번호 (없으면 -1)
+     */
+    public int indexOfKey(String key) {
+        Integer index = keyIndex.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 새 목록으로 교체 (이전 목록과의 차이만 이벤트 발생)
+     *
+     * <p>키 → 행 번호 맵으로 이전 위치를 찾고, 새 순서에서 상대 순서가 유지되는 행(최장 증가 부분 수열)은 그대로 두고
+     * 나머지(사라진 행, 순서가 바뀐 행)는 삭제 후 새 위치에 삽입합니다. 연속된 삭제/삽입/갱신은 구간 이벤트 하나로 묶고,
+     * 대부분의 행이 움직였거나 구간이 너무 많으면 fireTableDataChanged 한 번으로 대신합니다.</p>
+     */
+    public void setItems(List<T> newItems) {
+        int newSize = newItems.size();
+        List<String> newKeys = new ArrayList<>(newSize);
+        for (T item : newItems) {
+            newKeys.add(keyFunction.apply(item));
+        }
+
+        // 1. 새 순서대로 이전 행 번호 (이전에 없거나 중복 키면 -1)
+        int[] oldPositions = new int[newSize];
+        boolean[] matched = new boolean[keys.size()];
+        int common = 0;
+        for (int i = 0; i < newSize; i++) {
+            Integer old = keyIndex.get(newKeys.get(i));
+            if (old != null && !matched[old]) {
+                matched[old] = true;
+                oldPositions[i] = old;
+                common++;
+            } else {
+                oldPositions[i] = -1;
+            }
+        }
+
+        // 2. 순서가 유지되는 행 (나머지 공통 행은 이동)
+        boolean[] stable = new boolean[keys.size()];
+        int stableCount = markLongestIncreasing(oldPositions, stable);
+        if (common - stableCount > common / 2) {
+            replaceAll(newItems, newKeys);
+            return;
+        }
+
+        List<int[]> deletions = ranges(stable, false);
+        boolean[] inserted = new boolean[newSize];
+        for (int i = 0; i < newSize; i++) {
+            inserted[i] = oldPositions[i] < 0 || !stable[oldPositions[i]];
+        }
+        List<int[]> insertions = ranges(inserted, true);
+        if (deletions.size() + insertions.size() > MAX_RANGE_EVENTS) {
+            replaceAll(newItems, newKeys);
+            return;
+        }
+
+        // 3. 삭제 (뒤에서부터 구간 단위)
+        for (int r = deletions.size() - 1; r >= 0; r--) {
+            int[] range = deletions.get(r);
+            removeRange(range[0], range[1]);
+        }
+
+        // 4. 남은 행은 새 목록과 상대 순서가 같으므로 차례로 값 비교 후 갱신 (연속 구간은 한 번에)
+        int row = 0;
+        int updateFirst = -1;
+        for (int i = 0; i < newSize; i++) {
+            if (inserted[i]) {
+                continue;
+            }
+            T item = newItems.get(i);
+            Object[] values = rowFunction.apply(item);
+            items.set(row, item);
+            boolean changed = !Arrays.equals(rows.get(row), values);
+            if (changed) {
+                rows.set(row, values);
+                if (updateFirst < 0) {
+                    updateFirst = row;
+                }
+            } else if (updateFirst >= 0) {
+                fireTableRowsUpdated(updateFirst, row - 1);
+                updateFirst = -1;
+            }
+            row++;
+        }
+        if (updateFirst >= 0) {
+            fireTableRowsUpdated(updateFirst, row - 1);
+        }
+
+        // 5. 삽입 (앞에서부터, 삽입 위치 앞은 이미 새 목록과 같음)
+        for (int[] range : insertions) {
+            List<Object[]> values = new ArrayList<>(range[1] - range[0] + 1);
+            for (int i = range[0]; i <= range[1]; i++) {
+                values.add(rowFunction.apply(newItems.get(i)));
+            }
+            items.addAll(range[0], newItems.subList(range[0], range[1] + 1));
+            keys.addAll(range[0], newKeys.subList(range[0], range[1] + 1));
+            rows.addAll(range[0], values);
+            fireTableRowsInserted(range[0], range[1]);
+        }
+
+        rebuildKeyIndex();
+    }
+
+    /**
+     * 새 목록으로 한 번에 교체 (필터 결과처럼 행 구성이 크게 바뀔 때)
+     * 행 단위 비교 없이 목록을 바꾸고 fireTableDataChanged 한 번만 발생시킨 뒤, 표의 선택을 키로 다시 맞춤
+     *
+     * @param table 이 모델을 쓰는 표 (선택 복원용, null 가능)
+     */
+    public void replaceItems(List<T> newItems, JTable table) {
+        List<String> selectedKeys = new ArrayList<>();
+        if (table != null) {
+            for (int viewRow : table.getSelectedRows()) {
+                int modelRow = table.convertRowIndexToModel(viewRow);
+                if (modelRow >= 0 && modelRow < keys.size()) {
+                    selectedKeys.add(keys.get(modelRow));
+                }
+            }
+        }
+
+        List<String> newKeys = new ArrayList<>(newItems.size());
+        for (T item : newItems) {
+            newKeys.add(keyFunction.apply(item));
+        }
+        replaceAll(newItems, newKeys);
+
+        if (table != null && !selectedKeys.isEmpty()) {
+            ListSelectionModel selection = table.getSelectionModel();
+            selection.setValueIsAdjusting(true);
+            try {
+                table.clearSelection();
+                for (String key : selectedKeys) {
+                    int modelRow = indexOfKey(key);
+                    int viewRow = modelRow >= 0 ? table.convertRowIndexToView(modelRow) : -1;
+                    if (viewRow >= 0) {
+                        selection.addSelectionInterval(viewRow, viewRow);
+                    }
+                }
+            } finally {
+                selection.setValueIsAdjusting(false);
+            }
+        }
+    }
+
+    /**
+     * 목록 전체 교체 후 fireTableDataChanged 한 번
+     */
+    private void replaceAll(List<T> newItems, List<String> newKeys) {
+        items.clear();
+        keys.clear();
+        rows.clear();
+        items.addAll(newItems);
+        keys.addAll(newKeys);
+        for (T item : newItems) {
+            rows.add(rowFunction.apply(item));
+        }
+        rebuildKeyIndex();
+        fireTableDataChanged();
+    }
+
+    private void rebuildKeyIndex() {
+        keyIndex.clear();
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            // 중복 키는 앞쪽 행 기준
+            keyIndex.put(keys.get(i), i);
+        }
+    }
+
+    private void removeRange(int first, int last) {
+        items.subList(first, last + 1).clear();
+        keys.subList(first, last + 1).clear();
+        rows.subList(first, last + 1).clear();
+        fireTableRowsDeleted(first, last);
+    }
+
+    /**
+     * 값이 {@code value}인 연속 구간 [first, last] 목록
+     */
+    private static List<int[]> ranges(boolean[] flags, boolean value) {
+        List<int[]> result = new ArrayList<>();
+        int i = 0;
+        while (i < flags.length) {
+            if (flags[i] != value) {
+                i++;
+                continue;
+            }
+            int first = i;
+            while (i < flags.length && flags[i] == value) {
+                i++;
+            }
+            result.add(new int[]{first, i - 1});
+        }
+        return result;
+    }
+
+    /**
+     * 이전 행 번호 수열에서 최장 증가 부분 수열에 속하는 행 표시 (O(n log n), -1은 건너뜀)
+     *
+     * @return 표시한 행 수
+     */
+    private static int markLongestIncreasing(int[] positions, boolean[] stable) {
+        int n = positions.length;
+        int[] tails = new int[n];      // 길이 k+1 수열의 마지막 원소 위치(positions 인덱스)
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            int value = positions[i];
+            if (value < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (positions[tails[mid]] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            stable[positions[i]] = true;
+        }
+        return length;
+    }
+}
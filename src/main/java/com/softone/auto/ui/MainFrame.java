@@ -1,15 +1,21 @@
 package com.softone.auto.ui;
 
 import com.softone.auto.model.Company;
+import com.softone.auto.model.Job;
+import com.softone.auto.service.AttendanceService;
 import com.softone.auto.service.CompanyService;
+import com.softone.auto.service.JobService;
 import com.softone.auto.util.AppContext;
+import com.softone.auto.util.AsyncDataLoader;
 import com.softone.auto.util.ApplicationMode;
 import com.softone.auto.util.AppConfig;
 import com.softone.auto.util.ErrorMessageMapper;
 import com.softone.auto.util.SampleDataInitializer;
+import com.softone.auto.util.ServiceRegistry;
 
 import javax.swing.*;
 import java.awt.*;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -20,11 +26,28 @@ public class MainFrame extends JFrame {
     private JTabbedPane tabbedPane;
     private JLabel companyTitleLabel;  // 현재 선택된 회사 이름을 표시할 레이블
     private CompanyService companyService;  // final 제거 (샘플 데이터 초기화 후 재생성 가능하도록)
-    private DashboardPanel dashboardPanel;  // 대시보드 참조
+    private DashboardPanel dashboardPanel;  // 대시보드 참조 (생성 전에는 null)
+    
+    // 탭 정의 (인덱스 순서)
+    private static final String[] TAB_TITLES = {
+        "  대시보드  ", "  파견회사  ", "  개발자 관리  ", "  근태 관리  ",
+        "  주간보고서  ", "  이슈 관리  ", "  고객 소통  ", "  시스템 관리  "
+    };
+    private static final String[] TAB_ICONS = {
+        "dashboard", "company", "developer", "attendance", "report", "issue", "communication", "settings"
+    };
+    private static final String[] TAB_TOOLTIPS = {
+        "프로젝트 현황 대시보드", "파견회사 관리", "개발자 정보 관리", "개발자 근태 관리",
+        "주간보고서 작성 및 생성", "프로젝트 이슈 관리", "고객 소통 관리", "시스템 설정 및 공통코드 관리"
+    };
+    
+    private final JComponent[] tabPanels = new JComponent[TAB_TITLES.length];  // 처음 선택될 때 생성
+    private TabPreloader tabPreloader;  // 유휴 시간 탭 데이터 예열
+    private JButton jobButton;  // 상태바 작업 모니터 버튼 (진행 중 작업 수 표시)
     
     public MainFrame() {
-        // companyService는 final이므로 먼저 초기화
-        this.companyService = new CompanyService();
+        // 시작 단계에서 미리 조회한 인스턴스 재사용 (회사 목록 캐시 공유)
+        this.companyService = ServiceRegistry.getCompanyService();
         
         try {
             // 데이터 경로 초기화 (AppConfig 사용)
@@ -39,15 +62,18 @@ public class MainFrame extends JFrame {
             
             initializeUI();
             
+            // 이전 실행에서 남은 작업 복구/재개 (백그라운드)
+            AsyncDataLoader.loadAsync(ServiceRegistry::getJobService, jobService -> {
+                if (jobService != null) {
+                    watchJobs(jobService);
+                }
+            });
+            
             // 샘플 데이터 초기화 (모드에 따라 선택적 실행)
             if (config.isSampleDataEnabled()) {
                 // UI 초기화 후 샘플 데이터 초기화 시작
                 // initializeSampleData()의 done()에서 loadCompanies()를 호출함
                 initializeSampleData();
-                // 1년치 대량 샘플 데이터 생성 (백그라운드, 개발/데모 모드에서만)
-                if (config.isDevelopmentMode()) {
-                    generateBulkData();
-                }
             } else {
                 System.out.println("프로덕션 모드: 샘플 데이터 생성을 건너뜁니다.");
                 // 프로덕션 모드에서는 기존 데이터 즉시 로드
@@ -122,6 +148,11 @@ public class MainFrame extends JFrame {
                         // 재생성 실패해도 기존 서비스로 시도
                         MainFrame.this.loadCompanies();
                     }
+                    
+                    // 1년치 대량 샘플 데이터 생성 (기본 샘플 데이터 생성 후, 개발/데모 모드에서만)
+                    if (AppConfig.getInstance().isDevelopmentMode()) {
+                        generateBulkData();
+                    }
                 });
             }
         };
@@ -129,35 +160,30 @@ public class MainFrame extends JFrame {
     }
     
     /**
-     * 1년치 대량 데이터 생성 (백그라운드)
+     * 1년치 대량 데이터 생성 (백그라운드 작업)
+     * 단독 실행 작업이므로 앞서 등록된 작업이 끝난 뒤 시작되고, 이미 대기/실행 중이면 다시 등록하지 않음
      */
     private void generateBulkData() {
-        SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() throws Exception {
-                // 5초 대기 후 생성 (기본 샘플 데이터가 먼저 생성되도록)
-                try {
-                    Thread.sleep(5000);
-                    com.softone.auto.util.BulkDataGenerator.generateYearlyData();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("대량 데이터 생성이 중단되었습니다", e);
-                }
-                return null;
-            }
-            
-            @Override
-            protected void done() {
-                try {
-                    get();
-                    System.out.println("대량 데이터 생성 완료");
-                } catch (Exception e) {
-                    ErrorMessageMapper.logError("대량 데이터 생성", e);
-                    // 오류는 조용히 로그만 기록 (백그라운드 작업)
-                }
+        try {
+            ServiceRegistry.getJobService().submit(Job.Type.BULK_GENERATE, null, null);
+        } catch (Exception e) {
+            ErrorMessageMapper.logError("대량 데이터 생성", e);
+            // 오류는 조용히 로그만 기록 (백그라운드 작업)
+        }
+    }
+    
+    /**
+     * 작업 상태가 바뀔 때마다 상태바에 진행 중 작업 수 표시
+     */
+    private void watchJobs(JobService jobService) {
+        Runnable update = () -> {
+            int active = jobService.getActiveCount();
+            if (jobButton != null) {
+                jobButton.setText(active > 0 ? "⚙ 작업 " + active : "⚙ 작업");
             }
         };
-        worker.execute();
+        jobService.addListener(job -> SwingUtilities.invokeLater(update));
+        update.run();
     }
     
     /**
@@ -270,6 +296,8 @@ public class MainFrame extends JFrame {
             if (companies.isEmpty()) {
                 System.out.println("  ⚠️ 회사 데이터가 없습니다. 샘플 데이터 초기화를 기다리는 중...");
                 companyTitleLabel.setText("SoftOne Auto Manager");
+                // 회사 등록을 위해 선택된 탭은 생성
+                ensureTabCreated(Math.max(tabbedPane.getSelectedIndex(), 0));
                 return;
             }
             
@@ -387,94 +415,29 @@ public class MainFrame extends JFrame {
     
     /**
      * 모든 탭 새로고침
+     * 
+     * <p>생성된 탭 패널을 모두 placeholder로 되돌리고 현재 선택된 탭만 다시 생성합니다.
+     * 나머지 탭은 다음에 선택될 때 새 회사 기준으로 생성되므로 회사 변경 비용은 탭 하나 분량입니다.</p>
      */
     private void refreshTabs() {
         try {
             // 현재 선택된 탭 인덱스 저장
-            int selectedIndex = tabbedPane.getSelectedIndex();
-            
-            // 모든 탭 제거
-            tabbedPane.removeAll();
+            int selectedIndex = Math.max(tabbedPane.getSelectedIndex(), 0);
             
-            // 탭 다시 추가 (에러 발생 시에도 계속 진행)
-            try {
-                // 대시보드 패널 재생성 및 참조 저장 (ServiceRegistry를 통한 의존성 주입)
-                dashboardPanel = new DashboardPanel(
-                    com.softone.auto.util.ServiceRegistry.getDeveloperService(),
-                    com.softone.auto.util.ServiceRegistry.getAttendanceService(),
-                    com.softone.auto.util.ServiceRegistry.getIssueService(),
-                    com.softone.auto.util.ServiceRegistry.getCustomerCommunicationService()
-                );
-                tabbedPane.addTab("  대시보드  ", createIcon("dashboard"), dashboardPanel, "프로젝트 현황 대시보드");
-            } catch (Exception e) {
-                System.err.println("대시보드 패널 생성 오류: " + e.getMessage());
-                e.printStackTrace();
-            }
-            
-            try {
-                tabbedPane.addTab("  파견회사  ", createIcon("company"), new CompanyPanel(), "파견회사 관리");
-            } catch (Exception e) {
-                System.err.println("파견회사 패널 생성 오류: " + e.getMessage());
-                e.printStackTrace();
-            }
-            
-            try {
-                tabbedPane.addTab("  개발자 관리  ", createIcon("developer"), new DeveloperPanel(), "개발자 정보 관리");
-            } catch (Exception e) {
-                System.err.println("개발자 관리 패널 생성 오류: " + e.getMessage());
-                e.printStackTrace();
-            }
-            
-            try {
-                tabbedPane.addTab("  근태 관리  ", createIcon("attendance"), new AttendancePanel(), "개발자 근태 관리");
-            } catch (Exception e) {
-                System.err.println("근태 관리 패널 생성 오류: " + e.getMessage());
-                e.printStackTrace();
-            }
-            
-            try {
-                tabbedPane.addTab("  주간보고서  ", createIcon("report"), new WeeklyReportPanel(), "주간보고서 작성 및 생성");
-            } catch (Exception e) {
-                System.err.println("주간보고서 패널 생성 오류: " + e.getMessage());
-                e.printStackTrace();
-            }
-            
-            try {
-                tabbedPane.addTab("  이슈 관리  ", createIcon("issue"), new IssuePanel(), "프로젝트 이슈 관리");
-            } catch (Exception e) {
-                System.err.println("이슈 관리 패널 생성 오류: " + e.getMessage());
-                e.printStackTrace();
-            }
-            
-            try {
-                tabbedPane.addTab("  고객 소통  ", createIcon("communication"), new CustomerCommunicationPanel(), "고객 소통 관리");
-            } catch (Exception e) {
-                System.err.println("고객 소통 패널 생성 오류: " + e.getMessage());
-                e.printStackTrace();
-            }
-            
-            try {
-                tabbedPane.addTab("  시스템 관리  ", createIcon("settings"), new SystemSettingsPanel(), "시스템 설정 및 공통코드 관리");
-            } catch (Exception e) {
-                System.err.println("시스템 관리 패널 생성 오류: " + e.getMessage());
-                e.printStackTrace();
+            // 생성된 패널 해제 (placeholder로 교체)
+            for (int i = 0; i < tabPanels.length; i++) {
+                if (tabPanels[i] != null) {
+                    tabPanels[i] = null;
+                    tabbedPane.setComponentAt(i, createTabPlaceholder());
+                }
             }
+            dashboardPanel = null;
             
-            // 탭 변경 이벤트 리스너 재등록 (refreshTabs 후에도 유지)
-            tabbedPane.addChangeListener(e -> {
-                int idx = tabbedPane.getSelectedIndex();
-                String tabName = idx >= 0 ? tabbedPane.getTitleAt(idx).trim() : "";
-                System.out.println("탭 변경: " + tabName + " (인덱스: " + idx + ")");
-                
-                if (idx == 0 && dashboardPanel != null) {
-                    SwingUtilities.invokeLater(() -> dashboardPanel.refresh());
-                }
-            });
+            // 선택된 탭만 즉시 생성
+            ensureTabCreated(selectedIndex);
             
-            // 이전 선택 복원
-            if (selectedIndex >= 0 && selectedIndex < tabbedPane.getTabCount()) {
-                tabbedPane.setSelectedIndex(selectedIndex);
-            }
+            // 나머지 탭 데이터는 유휴 시간에 예열
+            tabPreloader.restart();
             
         } catch (Exception e) {
             System.err.println("탭 새로고침 중 오류 발생: " + e.getMessage());
@@ -488,6 +451,8 @@ public class MainFrame extends JFrame {
     
     /**
      * 탭 패널 생성
+     * 
+     * <p>탭 헤더와 가벼운 placeholder만 추가하고, 실제 패널은 탭이 처음 선택될 때 생성합니다.</p>
      */
     private JComponent createTabbedPane() {
         // 탭 패널 생성
@@ -496,86 +461,124 @@ public class MainFrame extends JFrame {
         tabbedPane.setBackground(ModernDesign.BG_PRIMARY);
         tabbedPane.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         
-        // 각 기능별 패널 추가 (에러 발생 시에도 계속 진행)
-        try {
-            // 대시보드 패널 생성 및 참조 저장
-            // ServiceRegistry를 통한 의존성 주입
-            dashboardPanel = new DashboardPanel(
-                com.softone.auto.util.ServiceRegistry.getDeveloperService(),
-                com.softone.auto.util.ServiceRegistry.getAttendanceService(),
-                com.softone.auto.util.ServiceRegistry.getIssueService(),
-                com.softone.auto.util.ServiceRegistry.getCustomerCommunicationService()
-            );
-            tabbedPane.addTab("  대시보드  ", createIcon("dashboard"), dashboardPanel, "프로젝트 현황 대시보드");
-        } catch (Exception e) {
-            System.err.println("대시보드 패널 생성 오류: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        try {
-            tabbedPane.addTab("  파견회사  ", createIcon("company"), new CompanyPanel(), "파견회사 관리");
-        } catch (Exception e) {
-            System.err.println("파견회사 패널 생성 오류: " + e.getMessage());
-            e.printStackTrace();
+        for (int i = 0; i < TAB_TITLES.length; i++) {
+            tabbedPane.addTab(TAB_TITLES[i], createIcon(TAB_ICONS[i]), createTabPlaceholder(), TAB_TOOLTIPS[i]);
         }
         
-        try {
-            tabbedPane.addTab("  개발자 관리  ", createIcon("developer"), new DeveloperPanel(), "개발자 정보 관리");
-        } catch (Exception e) {
-            System.err.println("개발자 관리 패널 생성 오류: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        try {
-            tabbedPane.addTab("  근태 관리  ", createIcon("attendance"), new AttendancePanel(), "개발자 근태 관리");
-        } catch (Exception e) {
-            System.err.println("근태 관리 패널 생성 오류: " + e.getMessage());
-            e.printStackTrace();
-        }
+        // 탭 변경 이벤트 리스너 추가
+        tabbedPane.addChangeListener(e -> {
+            int selectedIndex = tabbedPane.getSelectedIndex();
+            String selectedTab = selectedIndex >= 0 ? tabbedPane.getTitleAt(selectedIndex).trim() : "";
+            System.out.println("탭 변경: " + selectedTab + " (인덱스: " + selectedIndex + ")");
+            
+            // 처음 선택된 탭이면 생성 (생성 시 데이터 로드)
+            boolean created = ensureTabCreated(selectedIndex);
+            
+            // 이미 생성된 대시보드 탭이 다시 선택되면 갱신
+            if (selectedIndex == 0 && !created && dashboardPanel != null) {
+                SwingUtilities.invokeLater(() -> dashboardPanel.refresh());
+            }
+        });
         
-        try {
-            tabbedPane.addTab("  주간보고서  ", createIcon("report"), new WeeklyReportPanel(), "주간보고서 작성 및 생성");
-        } catch (Exception e) {
-            System.err.println("주간보고서 패널 생성 오류: " + e.getMessage());
-            e.printStackTrace();
-        }
+        tabPreloader = createTabPreloader();
         
-        try {
-            tabbedPane.addTab("  이슈 관리  ", createIcon("issue"), new IssuePanel(), "프로젝트 이슈 관리");
-        } catch (Exception e) {
-            System.err.println("이슈 관리 패널 생성 오류: " + e.getMessage());
-            e.printStackTrace();
+        return tabbedPane;
+    }
+    
+    /**
+     * 탭 패널이 아직 없으면 생성하여 placeholder와 교체
+     * 
+     * @return 이번 호출에서 새로 생성했으면 true
+     */
+    private boolean ensureTabCreated(int index) {
+        if (index < 0 || index >= tabPanels.length || tabPanels[index] != null) {
+            return false;
         }
         
+        long start = System.currentTimeMillis();
         try {
-            tabbedPane.addTab("  고객 소통  ", createIcon("communication"), new CustomerCommunicationPanel(), "고객 소통 관리");
+            JComponent panel = createTabPanel(index);
+            tabPanels[index] = panel;
+            tabbedPane.setComponentAt(index, panel);
+            System.out.println("탭 생성: " + TAB_TITLES[index].trim() + " (" + (System.currentTimeMillis() - start) + "ms)");
+            return true;
         } catch (Exception e) {
-            System.err.println("고객 소통 패널 생성 오류: " + e.getMessage());
+            // placeholder 유지 (다음 선택 시 재시도)
+            System.err.println(TAB_TITLES[index].trim() + " 패널 생성 오류: " + e.getMessage());
             e.printStackTrace();
+            return false;
         }
-        
-        try {
-            tabbedPane.addTab("  시스템 관리  ", createIcon("settings"), new SystemSettingsPanel(), "시스템 설정 및 공통코드 관리");
-        } catch (Exception e) {
-            System.err.println("시스템 관리 패널 생성 오류: " + e.getMessage());
-            e.printStackTrace();
+    }
+    
+    /**
+     * 탭 인덱스별 패널 생성
+     */
+    private JComponent createTabPanel(int index) {
+        switch (index) {
+            case 0:
+                // 대시보드 패널 생성 및 참조 저장 (ServiceRegistry를 통한 의존성 주입)
+                dashboardPanel = new DashboardPanel(
+                    ServiceRegistry.getDeveloperService(),
+                    ServiceRegistry.getAttendanceService(),
+                    ServiceRegistry.getIssueService(),
+                    ServiceRegistry.getCustomerCommunicationService(),
+                    ServiceRegistry.getDashboardStatsService()
+                );
+                return dashboardPanel;
+            case 1:
+                return new CompanyPanel();
+            case 2:
+                return new DeveloperPanel();
+            case 3:
+                return new AttendancePanel();
+            case 4:
+                return new WeeklyReportPanel();
+            case 5:
+                return new IssuePanel();
+            case 6:
+                return new CustomerCommunicationPanel();
+            case 7:
+                return new SystemSettingsPanel();
+            default:
+                throw new IllegalArgumentException("알 수 없는 탭 인덱스: " + index);
         }
+    }
+    
+    /**
+     * 탭이 생성되기 전 표시할 빈 패널
+     */
+    private JComponent createTabPlaceholder() {
+        JPanel placeholder = new JPanel(new BorderLayout());
+        placeholder.setBackground(ModernDesign.BG_PRIMARY);
+        JLabel label = new JLabel("불러오는 중...", JLabel.CENTER);
+        label.setFont(ModernDesign.FONT_BODY);
+        label.setForeground(ModernDesign.TEXT_SECONDARY);
+        placeholder.add(label, BorderLayout.CENTER);
+        return placeholder;
+    }
+    
+    /**
+     * 유휴 시간 예열기 생성 (등록 순서가 우선순위: 자주 쓰는 탭부터)
+     */
+    private TabPreloader createTabPreloader() {
+        TabPreloader preloader = new TabPreloader(index -> tabPanels[index] != null);
         
-        // 탭 변경 이벤트 리스너 추가
-        tabbedPane.addChangeListener(e -> {
-            int selectedIndex = tabbedPane.getSelectedIndex();
-            String selectedTab = selectedIndex >= 0 ? tabbedPane.getTitleAt(selectedIndex).trim() : "";
-            System.out.println("탭 변경: " + selectedTab + " (인덱스: " + selectedIndex + ")");
-            
-            // 대시보드 탭이 선택되면 갱신
-            if (selectedIndex == 0) {  // 대시보드는 첫 번째 탭
-                if (dashboardPanel != null) {
-                    SwingUtilities.invokeLater(() -> dashboardPanel.refresh());
-                }
-            }
+        preloader.addTask(0, "대시보드", () -> {
+            LocalDate today = LocalDate.now();
+            LocalDate monday = today.minusDays(today.getDayOfWeek().getValue() - 1);
+            ServiceRegistry.getDashboardStatsService().getStats(monday, monday.plusDays(4));
+        });
+        preloader.addTask(3, "근태 관리", () -> {
+            AttendanceService attendanceService = ServiceRegistry.getAttendanceService();
+            attendanceService.countAttendance(null);
+            attendanceService.getAttendancePage(null, "date", false, 0, 200);
         });
+        preloader.addTask(4, "주간보고서", () -> ServiceRegistry.getWeeklyReportService().getAllReports());
+        preloader.addTask(5, "이슈 관리", () -> ServiceRegistry.getIssueService().getAllIssues());
+        preloader.addTask(2, "개발자 관리", () -> ServiceRegistry.getDeveloperService().getAllDevelopers());
+        preloader.addTask(6, "고객 소통", () -> ServiceRegistry.getCustomerCommunicationService().getAllCommunications());
         
-        return tabbedPane;
+        return preloader;
     }
     
     /**
@@ -621,6 +624,28 @@ public class MainFrame extends JFrame {
         aboutButton.addActionListener(e -> showAboutDialog());
         rightPanel.add(aboutButton);
         
+        JButton monitorButton = new JButton("⏱ 응답성");
+        monitorButton.setFont(ModernDesign.FONT_SMALL);
+        monitorButton.setForeground(ModernDesign.PRIMARY);
+        monitorButton.setBackground(ModernDesign.BG_SECONDARY);
+        monitorButton.setBorderPainted(false);
+        monitorButton.setFocusPainted(false);
+        monitorButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        monitorButton.setToolTipText("동작별 응답 시간과 최근 화면 멈춤 보기");
+        monitorButton.addActionListener(e -> new PerformanceMonitorDialog(this).setVisible(true));
+        rightPanel.add(monitorButton);
+        
+        jobButton = new JButton("⚙ 작업");
+        jobButton.setFont(ModernDesign.FONT_SMALL);
+        jobButton.setForeground(ModernDesign.PRIMARY);
+        jobButton.setBackground(ModernDesign.BG_SECONDARY);
+        jobButton.setBorderPainted(false);
+        jobButton.setFocusPainted(false);
+        jobButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        jobButton.setToolTipText("보고서 생성, 백업 등 백그라운드 작업 보기");
+        jobButton.addActionListener(e -> new JobMonitorDialog(this).setVisible(true));
+        rightPanel.add(jobButton);
+        
         JLabel versionLabel = new JLabel("v1.0.0");
         versionLabel.setFont(ModernDesign.FONT_SMALL);
         versionLabel.setForeground(ModernDesign.TEXT_SECONDARY);
@@ -0,0 +1,251 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.model.ManagementReport;
+import com.softone.auto.repository.sqlite.ManagementReportSqliteRepository.Period;
+import com.softone.auto.service.ManagementReportService;
+import com.softone.auto.util.AppConfig;
+import com.softone.auto.util.AppContext;
+import com.softone.auto.util.ErrorMessageMapper;
+import com.softone.auto.util.ServiceRegistry;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 경영 보고서 다이얼로그
+ * 기간(월)과 집계 단위(월별/분기별), 대상(현재 회사/전체 회사)을 선택해 경영 보고서 Excel 생성
+ */
+public class ManagementReportDialog extends JDialog {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private final JTextField fromField = new JTextField(7);
+    private final JTextField toField = new JTextField(7);
+    private final JComboBox<Period> periodCombo = new JComboBox<>(Period.values());
+    private final JRadioButton currentCompanyRadio = new JRadioButton();
+    private final JRadioButton allCompaniesRadio = new JRadioButton("전체 회사");
+    private final JProgressBar progressBar = new JProgressBar();
+    private final JLabel statusLabel = new JLabel(" ");
+    private final JButton generateButton = ModernDesign.createPrimaryButton("생성");
+    private final JButton closeButton = ModernDesign.createSecondaryButton("닫기");
+
+    private SwingWorker<ManagementReport, Void> worker;
+
+    public ManagementReportDialog(Frame parent) {
+        super(parent, "경영 보고서", true);
+        initializeUI();
+    }
+
+    private void initializeUI() {
+        setSize(500, 320);
+        setLocationRelativeTo(getParent());
+        setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                closeDialog();
+            }
+        });
+
+        JPanel mainPanel = new JPanel(new BorderLayout(0, 10));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+        mainPanel.setBackground(ModernDesign.BG_PRIMARY);
+
+        JPanel optionSection = ModernDesign.createSection("보고서 조건");
+        JPanel optionPanel = new JPanel(new GridBagLayout());
+        optionPanel.setBackground(ModernDesign.BG_SECONDARY);
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(4, 4, 4, 4);
+        gbc.anchor = GridBagConstraints.WEST;
+
+        // 기본값: 올해 1월 ~ 지난달
+        YearMonth lastMonth = YearMonth.now().minusMonths(1);
+        fromField.setText(YearMonth.of(lastMonth.getYear(), 1).toString());
+        toField.setText(lastMonth.toString());
+
+        gbc.gridx = 0; gbc.gridy = 0;
+        optionPanel.add(new JLabel("기간"), gbc);
+        JPanel monthPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        monthPanel.setOpaque(false);
+        monthPanel.add(fromField);
+        monthPanel.add(new JLabel("~"));
+        monthPanel.add(toField);
+        JLabel formatLabel = new JLabel("(yyyy-MM)");
+        formatLabel.setFont(ModernDesign.FONT_SMALL);
+        formatLabel.setForeground(ModernDesign.TEXT_SECONDARY);
+        monthPanel.add(formatLabel);
+        gbc.gridx = 1;
+        optionPanel.add(monthPanel, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 1;
+        optionPanel.add(new JLabel("집계 단위"), gbc);
+        periodCombo.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+                if (value instanceof Period period) {
+                    setText(period.getLabel());
+                }
+                return this;
+            }
+        });
+        gbc.gridx = 1;
+        optionPanel.add(periodCombo, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 2;
+        optionPanel.add(new JLabel("대상"), gbc);
+        Company currentCompany = AppContext.getInstance().getCurrentCompany();
+        currentCompanyRadio.setText(currentCompany != null ? currentCompany.getName() : "현재 회사");
+        currentCompanyRadio.setEnabled(currentCompany != null);
+        currentCompanyRadio.setOpaque(false);
+        allCompaniesRadio.setOpaque(false);
+        ButtonGroup scopeGroup = new ButtonGroup();
+        scopeGroup.add(currentCompanyRadio);
+        scopeGroup.add(allCompaniesRadio);
+        (currentCompany != null ? currentCompanyRadio : allCompaniesRadio).setSelected(true);
+        JPanel scopePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        scopePanel.setOpaque(false);
+        scopePanel.add(currentCompanyRadio);
+        scopePanel.add(allCompaniesRadio);
+        gbc.gridx = 1;
+        optionPanel.add(scopePanel, gbc);
+        optionSection.add(optionPanel, BorderLayout.CENTER);
+        mainPanel.add(optionSection, BorderLayout.CENTER);
+
+        // 진행 상태 / 버튼
+        JPanel bottomPanel = new JPanel(new BorderLayout(0, 8));
+        bottomPanel.setOpaque(false);
+        progressBar.setStringPainted(true);
+        progressBar.setString(" ");
+        statusLabel.setFont(ModernDesign.FONT_SMALL);
+        statusLabel.setForeground(ModernDesign.TEXT_SECONDARY);
+        bottomPanel.add(progressBar, BorderLayout.NORTH);
+        bottomPanel.add(statusLabel, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+        buttonPanel.setOpaque(false);
+        generateButton.addActionListener(e -> startGenerate());
+        closeButton.addActionListener(e -> closeDialog());
+        buttonPanel.add(generateButton);
+        buttonPanel.add(closeButton);
+        bottomPanel.add(buttonPanel, BorderLayout.SOUTH);
+        mainPanel.add(bottomPanel, BorderLayout.SOUTH);
+
+        add(mainPanel);
+    }
+
+    private void startGenerate() {
+        YearMonth from = parseMonth(fromField, "시작 월");
+        YearMonth to = from != null ? parseMonth(toField, "종료 월") : null;
+        if (to == null) {
+            return;
+        }
+        if (from.isAfter(to)) {
+            JOptionPane.showMessageDialog(this, "시작 월이 종료 월보다 늦습니다.", "입력 오류", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        // reports/management 아래에 저장
+        File reportDir = new File(new File(AppConfig.getInstance().getOrSelectDataPath()).getAbsoluteFile(),
+            "reports" + File.separator + "management");
+        if (!reportDir.exists() && !reportDir.mkdirs()) {
+            JOptionPane.showMessageDialog(this, "저장 폴더를 만들 수 없습니다:\n" + reportDir.getAbsolutePath(),
+                "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        Period period = (Period) periodCombo.getSelectedItem();
+        boolean allCompanies = allCompaniesRadio.isSelected();
+        File target = new File(reportDir, String.format("경영보고서_%s_%s_%s_%s.xlsx", period.getLabel(),
+            period.firstMonth(from), period.lastMonth(to), LocalDateTime.now().format(TIMESTAMP_FORMATTER)));
+
+        ManagementReportService reportService = ServiceRegistry.getManagementReportService();
+        long startMillis = System.currentTimeMillis();
+        worker = new SwingWorker<>() {
+            @Override
+            protected ManagementReport doInBackground() throws Exception {
+                return ServiceRegistry.getJobService().runShared("경영 보고서 생성", () ->
+                    reportService.exportToExcel(target, period, from, to, allCompanies));
+            }
+
+            @Override
+            protected void done() {
+                onGenerateFinished(this, target, System.currentTimeMillis() - startMillis);
+            }
+        };
+
+        setRunning(true);
+        progressBar.setIndeterminate(true);
+        progressBar.setString("집계 중...");
+        statusLabel.setText(" ");
+        worker.execute();
+    }
+
+    private void onGenerateFinished(SwingWorker<ManagementReport, Void> finished, File target, long elapsedMillis) {
+        worker = null;
+        setRunning(false);
+        progressBar.setIndeterminate(false);
+
+        try {
+            ManagementReport report = finished.get();
+            progressBar.setValue(progressBar.getMaximum());
+            progressBar.setString("완료");
+            statusLabel.setText(String.format("%s, %.1f초", target.getName(), elapsedMillis / 1000.0));
+            JOptionPane.showMessageDialog(this, String.format(
+                    "경영 보고서를 생성했습니다.\n\n%s %s ~ %s (%s)\n근태 %,d행, 이슈 %,d행, 고객 소통 %,d행\n\n%s",
+                    report.getPeriodType(), report.getFromMonth(), report.getToMonth(), report.getScope(),
+                    report.getAttendance().size(), report.getIssues().size(), report.getCommunications().size(),
+                    target.getAbsolutePath()),
+                "생성 완료", JOptionPane.INFORMATION_MESSAGE);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            ErrorMessageMapper.logError("경영 보고서 생성", cause);
+            progressBar.setString("실패");
+            JOptionPane.showMessageDialog(this,
+                "경영 보고서 생성 중 오류가 발생했습니다:\n\n" + ErrorMessageMapper.getUserFriendlyMessage(cause),
+                "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private YearMonth parseMonth(JTextField field, String name) {
+        try {
+            return YearMonth.parse(field.getText().trim());
+        } catch (DateTimeParseException e) {
+            JOptionPane.showMessageDialog(this, name + " 형식이 올바르지 않습니다. (예: 2024-01)",
+                "입력 오류", JOptionPane.WARNING_MESSAGE);
+            field.requestFocus();
+            return null;
+        }
+    }
+
+    private void closeDialog() {
+        if (worker != null) {
+            int choice = JOptionPane.showConfirmDialog(this,
+                "보고서를 생성하는 중입니다. 닫으시겠습니까?\n(생성은 백그라운드에서 계속됩니다)", "확인", JOptionPane.YES_NO_OPTION);
+            if (choice != JOptionPane.YES_OPTION) {
+                return;
+            }
+        }
+        dispose();
+    }
+
+    private void setRunning(boolean running) {
+        generateButton.setEnabled(!running);
+        fromField.setEnabled(!running);
+        toField.setEnabled(!running);
+        periodCombo.setEnabled(!running);
+        currentCompanyRadio.setEnabled(!running && AppContext.getInstance().getCurrentCompany() != null);
+        allCompaniesRadio.setEnabled(!running);
+    }
+}
@@ -324,6 +324,10 @@ public class ModernDesign {
         table.setShowVerticalLines(false);
         table.setIntercellSpacing(new Dimension(0, 1));
         
+        // 할당 없는 공유 렌더러 (셀 값은 모델에서 미리 문자열로 변환)
+        table.setDefaultRenderer(Object.class, OptimizedTableRenderer.getInstance());
+        table.setDefaultRenderer(Number.class, OptimizedTableRenderer.getNumberInstance());
+        
         // 헤더 스타일링
         table.getTableHeader().setFont(FONT_SUBHEADING);
         table.getTableHeader().setBackground(BG_PRIMARY);
@@ -1,66 +1,110 @@
 package com.softone.auto.ui;
 
 import javax.swing.*;
+import javax.swing.border.Border;
+import javax.swing.border.EmptyBorder;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
 
 /**
  * 최적화된 테이블 셀 렌더러
  * 대용량 데이터 렌더링 성능 향상을 위한 최적화
+ *
+ * <p>셀 값은 데이터 로드 시점에 표시 문자열로 미리 변환해 두는 것을 전제로 하며(DisplayFormats),
+ * 렌더링 중에는 색상/테두리 객체를 새로 만들지 않습니다.
+ * 교차 행 색상과 포커스 테두리는 기준 색상이 바뀔 때만 다시 계산합니다.</p>
+ *
+ * <p>정렬 방식별 공유 인스턴스를 제공하며, EDT에서만 사용해야 합니다.</p>
  */
 public class OptimizedTableRenderer extends DefaultTableCellRenderer {
-    
-    private static final OptimizedTableRenderer INSTANCE = new OptimizedTableRenderer();
-    
-    private OptimizedTableRenderer() {
+
+    private static final Border NO_FOCUS_BORDER = new EmptyBorder(1, 1, 1, 1);
+
+    private static final OptimizedTableRenderer INSTANCE = new OptimizedTableRenderer(SwingConstants.LEADING);
+    private static final OptimizedTableRenderer CENTER_INSTANCE = new OptimizedTableRenderer(SwingConstants.CENTER);
+    private static final OptimizedTableRenderer NUMBER_INSTANCE = new OptimizedTableRenderer(SwingConstants.TRAILING);
+
+    // 교차 행 색상 캐시 (테이블 배경색 기준)
+    private Color alternateBase;
+    private Color alternateColor;
+
+    // 포커스 테두리 캐시 (선택 배경색 기준)
+    private Color focusBase;
+    private Border focusBorder;
+
+    private OptimizedTableRenderer(int alignment) {
         // 기본 설정
         setOpaque(true);
+        setHorizontalAlignment(alignment);
     }
-    
+
+    /**
+     * 텍스트 셀 렌더러 (왼쪽 정렬)
+     */
     public static OptimizedTableRenderer getInstance() {
         return INSTANCE;
     }
-    
+
+    /**
+     * 코드/상태 셀 렌더러 (가운데 정렬)
+     */
+    public static OptimizedTableRenderer getCenterInstance() {
+        return CENTER_INSTANCE;
+    }
+
+    /**
+     * 숫자 셀 렌더러 (오른쪽 정렬)
+     */
+    public static OptimizedTableRenderer getNumberInstance() {
+        return NUMBER_INSTANCE;
+    }
+
     @Override
     public Component getTableCellRendererComponent(
-            JTable table, Object value, boolean isSelected, 
+            JTable table, Object value, boolean isSelected,
             boolean hasFocus, int row, int column) {
-        
-        // 부모 클래스의 기본 렌더링 수행
-        Component component = super.getTableCellRendererComponent(
-            table, value, isSelected, hasFocus, row, column);
-        
-        // 선택 상태에 따른 배경색 설정 (최적화)
+
+        // 선택 상태에 따른 배경색 설정 (캐시된 색상만 사용)
         if (isSelected) {
-            component.setBackground(table.getSelectionBackground());
-            component.setForeground(table.getSelectionForeground());
+            setBackground(table.getSelectionBackground());
+            setForeground(table.getSelectionForeground());
         } else {
             // 짝수/홀수 행 구분 (가독성 향상)
-            if (row % 2 == 0) {
-                component.setBackground(table.getBackground());
-            } else {
-                Color altColor = new Color(
-                    Math.max(0, table.getBackground().getRed() - 5),
-                    Math.max(0, table.getBackground().getGreen() - 5),
-                    Math.max(0, table.getBackground().getBlue() - 5)
-                );
-                component.setBackground(altColor);
-            }
-            component.setForeground(table.getForeground());
+            setBackground(row % 2 == 0 ? table.getBackground() : getAlternateColor(table.getBackground()));
+            setForeground(table.getForeground());
         }
-        
-        // 포커스 표시 최적화 (렌더링 성능 향상)
-        if (hasFocus && isSelected) {
-            // 포커스가 있을 때만 테두리 표시
-            setBorder(BorderFactory.createCompoundBorder(
-                BorderFactory.createLineBorder(table.getSelectionBackground().darker(), 1),
-                BorderFactory.createEmptyBorder(1, 1, 1, 1)
-            ));
-        } else {
-            setBorder(BorderFactory.createEmptyBorder(1, 1, 1, 1));
+
+        setFont(table.getFont());
+
+        // 포커스가 있을 때만 테두리 표시 (테두리 객체 재사용)
+        setBorder(hasFocus && isSelected ? getFocusBorder(table.getSelectionBackground()) : NO_FOCUS_BORDER);
+
+        // 미리 포맷된 문자열은 toString()이 자기 자신을 반환하므로 추가 할당 없음
+        setValue(value);
+
+        return this;
+    }
+
+    private Color getAlternateColor(Color base) {
+        if (!base.equals(alternateBase)) {
+            alternateBase = base;
+            alternateColor = new Color(
+                Math.max(0, base.getRed() - 5),
+                Math.max(0, base.getGreen() - 5),
+                Math.max(0, base.getBlue() - 5)
+            );
         }
-        
-        return component;
+        return alternateColor;
     }
-}
 
+    private Border getFocusBorder(Color selectionBackground) {
+        if (!selectionBackground.equals(focusBase)) {
+            focusBase = selectionBackground;
+            focusBorder = BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(selectionBackground.darker(), 1),
+                NO_FOCUS_BORDER
+            );
+        }
+        return focusBorder;
+    }
+}
@@ -0,0 +1,273 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.model.Attendance;
+import com.softone.auto.service.AttendanceService;
+import com.softone.auto.util.AsyncDataLoader;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 근태 목록 페이지 단위 지연 로드 테이블 모델
+ *
+ * <p>전체 건수만 먼저 조회하고, 화면에 보이는 행이 속한 페이지를 필요할 때 SQLite에서 가져옵니다.
+ * 최근 사용한 몇 페이지만 메모리에 두고 인접 페이지는 미리 읽으며,
+ * 정렬과 유형 필터는 SQL(ORDER BY / WHERE)로 처리하므로 이력 규모와 무관하게 탭이 바로 열립니다.
+ * 표시 문자열은 페이지를 불러올 때 백그라운드에서 한 번만 만들어 두고 getValueAt은 그대로 반환합니다.
+ * 근무시간(분)은 숫자 컬럼(Integer)으로 유지해 오른쪽 정렬/숫자 비교가 가능합니다.</p>
+ *
+ * <p>모든 메서드는 EDT에서 호출해야 합니다.</p>
+ */
+public class PagedAttendanceTableModel extends AbstractTableModel {
+
+    private static final int PAGE_SIZE = 200;
+    private static final int MAX_CACHED_PAGES = 8;
+
+    private static final String[] COLUMN_NAMES = {"날짜", "개발자", "출근", "퇴근", "근무시간(분)", "유형", "비고"};
+    private static final String[] SORT_COLUMNS = {"date", "developer_name", "check_in", "check_out", "work_minutes", "type", "notes"};
+    private static final int WORK_MINUTES_COLUMN = 4;
+    private static final Object[] EMPTY_ROW = {"", "", "", "", null, "", ""};
+
+    /**
+     * 로드된 페이지 (엔티티 + 미리 포맷된 표시 값)
+     */
+    private static final class Page {
+        private final List<Attendance> items;
+        private final Object[][] cells;
+
+        private Page(List<Attendance> items) {
+            this.items = items;
+            this.cells = new Object[items.size()][];
+            for (int i = 0; i < items.size(); i++) {
+                Attendance attendance = items.get(i);
+                cells[i] = new Object[]{
+                    DisplayFormats.date(attendance.getDate()),
+                    DisplayFormats.text(attendance.getDeveloperName()),
+                    DisplayFormats.time(attendance.getCheckIn()),
+                    DisplayFormats.time(attendance.getCheckOut()),
+                    attendance.getWorkMinutes() != null ? attendance.getWorkMinutes() : 0,
+                    DisplayFormats.text(attendance.getType()),
+                    DisplayFormats.text(attendance.getNotes())
+                };
+            }
+        }
+    }
+
+    private final AttendanceService attendanceService;
+
+    /** 페이지 번호 → 페이지 (접근 순서 LRU) */
+    private final Map<Integer, Page> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Page> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+    private final Set<Integer> loadingPages = new HashSet<>();
+
+    private int rowCount = 0;
+    private String typeFilter;          // null이면 전체
+    private int sortColumn = 0;         // 날짜
+    private boolean ascending = false;  // 최신순
+    /** 필터/정렬/데이터 변경 시 증가 (이전 조건으로 요청된 페이지 결과 폐기) */
+    private int generation = 0;
+
+    public PagedAttendanceTableModel(AttendanceService attendanceService) {
+        this.attendanceService = attendanceService;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        if (column == sortColumn) {
+            return COLUMN_NAMES[column] + (ascending ? " ▲" : " ▼");
+        }
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return column == WORK_MINUTES_COLUMN ? Integer.class : String.class;
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        return getRowCells(row)[column];
+    }
+
+    /**
+     * 행의 근태 (페이지가 아직 로드되지 않았으면 null, 로드 요청)
+     */
+    public Attendance getAttendanceAt(int row) {
+        Page page = getPage(row);
+        if (page == null) {
+            return null;
+        }
+        int offsetInPage = row % PAGE_SIZE;
+        return offsetInPage < page.items.size() ? page.items.get(offsetInPage) : null;
+    }
+
+    /**
+     * 행의 표시 값 (아직 로드되지 않은 페이지는 빈 칸, 로드 완료 시 갱신 이벤트 발생)
+     */
+    private Object[] getRowCells(int row) {
+        Page page = getPage(row);
+        if (page == null) {
+            return EMPTY_ROW;
+        }
+        int offsetInPage = row % PAGE_SIZE;
+        return offsetInPage < page.cells.length ? page.cells[offsetInPage] : EMPTY_ROW;
+    }
+
+    private Page getPage(int row) {
+        if (row < 0 || row >= rowCount) {
+            return null;
+        }
+
+        int pageNumber = row / PAGE_SIZE;
+        Page page = pages.get(pageNumber);
+        if (page == null) {
+            requestPage(pageNumber, AsyncDataLoader.Priority.VISIBLE);
+            return null;
+        }
+
+        // 인접 페이지 미리 읽기 (화면 페이지 로드보다 낮은 우선순위)
+        int offsetInPage = row % PAGE_SIZE;
+        if (offsetInPage >= PAGE_SIZE / 2) {
+            requestPage(pageNumber + 1, AsyncDataLoader.Priority.PREFETCH);
+        } else if (pageNumber > 0) {
+            requestPage(pageNumber - 1, AsyncDataLoader.Priority.PREFETCH);
+        }
+        return page;
+    }
+
+    /**
+     * 로드된 페이지에서 근태 ID의 행 번호 찾기 (없으면 -1)
+     */
+    public int findLoadedRow(String attendanceId) {
+        for (Map.Entry<Integer, Page> entry : pages.entrySet()) {
+            List<Attendance> rows = entry.getValue().items;
+            for (int i = 0; i < rows.size(); i++) {
+                if (rows.get(i).getId().equals(attendanceId)) {
+                    return entry.getKey() * PAGE_SIZE + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 유형 필터 변경 (null이면 전체)
+     */
+    public void setTypeFilter(String type, Runnable onLoaded) {
+        this.typeFilter = type;
+        reload(onLoaded);
+    }
+
+    /**
+     * 컬럼 정렬 (같은 컬럼을 다시 누르면 방향 전환)
+     */
+    public void toggleSort(int column, Runnable onLoaded) {
+        if (column < 0 || column >= SORT_COLUMNS.length) {
+            return;
+        }
+        if (column == sortColumn) {
+            ascending = !ascending;
+        } else {
+            sortColumn = column;
+            ascending = column != 0;   // 날짜는 최신순부터
+        }
+        reload(onLoaded);
+    }
+
+    /**
+     * 건수와 첫 페이지를 다시 조회 (데이터 변경 후 호출)
+     *
+     * @param onLoaded 첫 페이지 반영 후 EDT에서 실행 (null 가능)
+     */
+    public void reload(Runnable onLoaded) {
+        int requestGeneration = ++generation;
+        String type = typeFilter;
+        String column = SORT_COLUMNS[sortColumn];
+        boolean asc = ascending;
+
+        // 연속 새로고침/정렬 시 이전 요청은 합쳐지거나 결과가 버려짐
+        AsyncDataLoader.loadKeyed(this,
+            () -> {
+                int count = attendanceService.countAttendance(type);
+                Page firstPage = new Page(attendanceService.getAttendancePage(type, column, asc, 0, PAGE_SIZE));
+                return new Object[]{count, firstPage};
+            },
+            result -> {
+                if (requestGeneration != generation) {
+                    return;
+                }
+                pages.clear();
+                loadingPages.clear();
+                if (result == null) {
+                    rowCount = 0;
+                } else {
+                    rowCount = (Integer) result[0];
+                    pages.put(0, (Page) result[1]);
+                }
+                fireTableDataChanged();
+                if (onLoaded != null) {
+                    onLoaded.run();
+                }
+            }
+        );
+    }
+
+    private void requestPage(int page, AsyncDataLoader.Priority priority) {
+        if (page < 0 || page * PAGE_SIZE >= rowCount || pages.containsKey(page)) {
+            return;
+        }
+        List<Object> key = List.of(this, page);
+        if (!loadingPages.add(page)) {
+            // 미리 읽기로 대기 중인 페이지가 화면에 보이게 되면 우선순위 올림
+            AsyncDataLoader.prioritize(key, priority);
+            return;
+        }
+
+        int requestGeneration = generation;
+        String type = typeFilter;
+        String column = SORT_COLUMNS[sortColumn];
+        boolean asc = ascending;
+
+        AsyncDataLoader.loadKeyed(key, priority,
+            () -> new Page(attendanceService.getAttendancePage(type, column, asc, page * PAGE_SIZE, PAGE_SIZE)),
+            loaded -> {
+                if (requestGeneration != generation) {
+                    return;
+                }
+                loadingPages.remove(page);
+                if (loaded == null) {
+                    return;
+                }
+                pages.put(page, loaded);
+                int firstRow = page * PAGE_SIZE;
+                int lastRow = Math.min(rowCount, firstRow + PAGE_SIZE) - 1;
+                if (firstRow <= lastRow) {
+                    fireTableRowsUpdated(firstRow, lastRow);
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,189 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.util.EdtWatchdog;
+import com.softone.auto.util.LatencyHistogram;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UI 응답성 모니터 다이얼로그
+ * 동작별 응답 시간 분포와 최근 EDT 멈춤 목록 표시 (열려 있는 동안 2초마다 갱신)
+ */
+public class PerformanceMonitorDialog extends JDialog {
+
+    private static final int REFRESH_INTERVAL_MS = 2000;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private final EdtWatchdog watchdog;
+    private final DefaultTableModel actionModel;
+    private final DefaultTableModel stallModel;
+    private final JTextArea stallDetailArea;
+    private final Timer refreshTimer;
+    private List<EdtWatchdog.StallEvent> stalls = List.of();
+
+    public PerformanceMonitorDialog(Frame parent) {
+        super(parent, "UI 응답성 모니터", false);
+        this.watchdog = EdtWatchdog.getInstance();
+
+        actionModel = createReadOnlyModel("동작", "횟수", "평균(ms)", "p50(ms)", "p95(ms)", "최대(ms)", "16ms 초과", "200ms 초과");
+        stallModel = createReadOnlyModel("시각", "시간(ms)", "동작", "위치");
+        stallDetailArea = new JTextArea(6, 40);
+        refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refreshData());
+
+        initializeUI();
+        refreshData();
+    }
+
+    private void initializeUI() {
+        setSize(1000, 650);
+        setLocationRelativeTo(getParent());
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        JPanel mainPanel = new JPanel(new BorderLayout(0, 10));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+        mainPanel.setBackground(ModernDesign.BG_PRIMARY);
+
+        if (watchdog == null) {
+            JLabel disabledLabel = new JLabel("EDT 멈춤 감지가 설치되지 않았습니다.", SwingConstants.CENTER);
+            disabledLabel.setFont(ModernDesign.FONT_BODY);
+            disabledLabel.setForeground(ModernDesign.TEXT_SECONDARY);
+            mainPanel.add(disabledLabel, BorderLayout.CENTER);
+            add(mainPanel);
+            return;
+        }
+
+        // 동작별 응답 시간
+        JPanel actionSection = ModernDesign.createSection("동작별 응답 시간");
+        JTable actionTable = new JTable(actionModel);
+        ModernDesign.styleTable(actionTable);
+        actionTable.getColumnModel().getColumn(0).setPreferredWidth(320);
+        for (int i = 1; i < actionModel.getColumnCount(); i++) {
+            actionTable.getColumnModel().getColumn(i).setCellRenderer(OptimizedTableRenderer.getNumberInstance());
+        }
+        actionSection.add(new JScrollPane(actionTable), BorderLayout.CENTER);
+
+        // 최근 멈춤
+        JPanel stallSection = ModernDesign.createSection("최근 EDT 멈춤 (기준 200ms)");
+        JTable stallTable = new JTable(stallModel);
+        ModernDesign.styleTable(stallTable);
+        stallTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        stallTable.getColumnModel().getColumn(0).setPreferredWidth(70);
+        stallTable.getColumnModel().getColumn(1).setPreferredWidth(70);
+        stallTable.getColumnModel().getColumn(1).setCellRenderer(OptimizedTableRenderer.getNumberInstance());
+        stallTable.getColumnModel().getColumn(2).setPreferredWidth(260);
+        stallTable.getColumnModel().getColumn(3).setPreferredWidth(420);
+        stallTable.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                showStallDetail(stallTable.getSelectedRow());
+            }
+        });
+
+        stallDetailArea.setEditable(false);
+        stallDetailArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+
+        JSplitPane stallSplit = new JSplitPane(JSplitPane.VERTICAL_SPLIT,
+            new JScrollPane(stallTable), new JScrollPane(stallDetailArea));
+        stallSplit.setResizeWeight(0.6);
+        stallSection.add(stallSplit, BorderLayout.CENTER);
+
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, actionSection, stallSection);
+        splitPane.setResizeWeight(0.5);
+        mainPanel.add(splitPane, BorderLayout.CENTER);
+
+        // 버튼
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+        buttonPanel.setBackground(ModernDesign.BG_PRIMARY);
+
+        JButton resetButton = ModernDesign.createSecondaryButton("초기화");
+        resetButton.addActionListener(e -> {
+            watchdog.reset();
+            refreshData();
+        });
+        buttonPanel.add(resetButton);
+
+        JButton closeButton = ModernDesign.createPrimaryButton("닫기");
+        closeButton.addActionListener(e -> dispose());
+        buttonPanel.add(closeButton);
+
+        mainPanel.add(buttonPanel, BorderLayout.SOUTH);
+        add(mainPanel);
+
+        refreshTimer.start();
+    }
+
+    @Override
+    public void dispose() {
+        refreshTimer.stop();
+        super.dispose();
+    }
+
+    /**
+     * 수집된 통계 다시 표시
+     */
+    private void refreshData() {
+        if (watchdog == null) {
+            return;
+        }
+
+        actionModel.setRowCount(0);
+        for (Map.Entry<String, LatencyHistogram> entry : watchdog.getHistograms().entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            actionModel.addRow(new Object[]{
+                entry.getKey(),
+                histogram.getCount(),
+                Math.round(histogram.getAverageMillis()),
+                histogram.getPercentileMillis(0.5),
+                histogram.getPercentileMillis(0.95),
+                histogram.getMaxMillis(),
+                histogram.countAbove(16),
+                histogram.countAbove(200)
+            });
+        }
+
+        List<EdtWatchdog.StallEvent> latest = watchdog.getRecentStalls();
+        if (!latest.equals(stalls)) {
+            stalls = latest;
+            stallModel.setRowCount(0);
+            for (EdtWatchdog.StallEvent stall : stalls) {
+                stallModel.addRow(new Object[]{
+                    stall.getOccurredAt().format(TIME_FORMATTER),
+                    stall.getDurationMillis(),
+                    stall.getAction(),
+                    stall.getHotspot()
+                });
+            }
+            stallDetailArea.setText("");
+        }
+    }
+
+    private void showStallDetail(int row) {
+        if (row < 0 || row >= stalls.size()) {
+            stallDetailArea.setText("");
+            return;
+        }
+
+        EdtWatchdog.StallEvent stall = stalls.get(row);
+        StringBuilder detail = new StringBuilder();
+        detail.append(stall.getDurationMillis()).append("ms  ").append(stall.getAction())
+            .append("  (샘플 ").append(stall.getSampleCount()).append("개)\n");
+        for (String frame : stall.getTopFrames()) {
+            detail.append("    at ").append(frame).append('\n');
+        }
+        stallDetailArea.setText(detail.toString());
+        stallDetailArea.setCaretPosition(0);
+    }
+
+    private static DefaultTableModel createReadOnlyModel(String... columns) {
+        return new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,251 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.Dataset;
+import com.softone.auto.service.RawDataExportService;
+import com.softone.auto.util.AppConfig;
+import com.softone.auto.util.AppContext;
+import com.softone.auto.util.ErrorMessageMapper;
+import com.softone.auto.util.ServiceRegistry;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.File;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 원본 데이터 내보내기 다이얼로그
+ * 기간과 데이터(근태/이슈/고객 소통)를 선택해 시트별 Excel 파일로 내보냄 (진행률 표시, 취소 가능)
+ */
+public class RawDataExportDialog extends JDialog {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private final JTextField fromField = new JTextField(10);
+    private final JTextField toField = new JTextField(10);
+    private final Map<Dataset, JCheckBox> datasetCheckBoxes = new EnumMap<>(Dataset.class);
+    private final JProgressBar progressBar = new JProgressBar(0, 100);
+    private final JLabel statusLabel = new JLabel(" ");
+    private final JButton exportButton = ModernDesign.createPrimaryButton("내보내기");
+    private final JButton cancelButton = ModernDesign.createSecondaryButton("취소");
+    private final JButton closeButton = ModernDesign.createSecondaryButton("닫기");
+
+    private SwingWorker<Boolean, Object[]> worker;
+
+    public RawDataExportDialog(Frame parent) {
+        super(parent, "원본 데이터 내보내기", true);
+        initializeUI();
+    }
+
+    private void initializeUI() {
+        setSize(520, 330);
+        setLocationRelativeTo(getParent());
+        setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                closeDialog();
+            }
+        });
+
+        JPanel mainPanel = new JPanel(new BorderLayout(0, 10));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+        mainPanel.setBackground(ModernDesign.BG_PRIMARY);
+
+        Company currentCompany = AppContext.getInstance().getCurrentCompany();
+        JPanel optionSection = ModernDesign.createSection(
+            "내보내기 조건 - " + (currentCompany != null ? currentCompany.getName() : "전체 회사"));
+        JPanel optionPanel = new JPanel(new GridBagLayout());
+        optionPanel.setBackground(ModernDesign.BG_SECONDARY);
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(4, 4, 4, 4);
+        gbc.anchor = GridBagConstraints.WEST;
+
+        LocalDate today = LocalDate.now();
+        fromField.setText(today.withDayOfMonth(1).toString());
+        toField.setText(today.withDayOfMonth(today.lengthOfMonth()).toString());
+
+        gbc.gridx = 0; gbc.gridy = 0;
+        optionPanel.add(new JLabel("기간"), gbc);
+        JPanel periodPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        periodPanel.setOpaque(false);
+        periodPanel.add(fromField);
+        periodPanel.add(new JLabel("~"));
+        periodPanel.add(toField);
+        gbc.gridx = 1;
+        optionPanel.add(periodPanel, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 1;
+        optionPanel.add(new JLabel("데이터"), gbc);
+        JPanel datasetPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        datasetPanel.setOpaque(false);
+        for (Dataset dataset : Dataset.values()) {
+            JCheckBox checkBox = new JCheckBox(dataset.getSheetName(), true);
+            checkBox.setOpaque(false);
+            datasetCheckBoxes.put(dataset, checkBox);
+            datasetPanel.add(checkBox);
+        }
+        gbc.gridx = 1;
+        optionPanel.add(datasetPanel, gbc);
+        optionSection.add(optionPanel, BorderLayout.CENTER);
+        mainPanel.add(optionSection, BorderLayout.CENTER);
+
+        // 진행률 / 버튼
+        JPanel bottomPanel = new JPanel(new BorderLayout(0, 8));
+        bottomPanel.setOpaque(false);
+        progressBar.setStringPainted(true);
+        statusLabel.setFont(ModernDesign.FONT_SMALL);
+        statusLabel.setForeground(ModernDesign.TEXT_SECONDARY);
+        bottomPanel.add(progressBar, BorderLayout.NORTH);
+        bottomPanel.add(statusLabel, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+        buttonPanel.setOpaque(false);
+        exportButton.addActionListener(e -> startExport());
+        cancelButton.addActionListener(e -> cancelExport());
+        cancelButton.setEnabled(false);
+        closeButton.addActionListener(e -> closeDialog());
+        buttonPanel.add(exportButton);
+        buttonPanel.add(cancelButton);
+        buttonPanel.add(closeButton);
+        bottomPanel.add(buttonPanel, BorderLayout.SOUTH);
+        mainPanel.add(bottomPanel, BorderLayout.SOUTH);
+
+        add(mainPanel);
+    }
+
+    private void startExport() {
+        if (!DateValidator.validateDateBeforeSave(fromField.getText(), "시작일", this)
+                || !DateValidator.validateDateBeforeSave(toField.getText(), "종료일", this)) {
+            return;
+        }
+
+        LocalDate from = LocalDate.parse(fromField.getText().trim());
+        LocalDate to = LocalDate.parse(toField.getText().trim());
+        if (from.isAfter(to)) {
+            JOptionPane.showMessageDialog(this, "시작일이 종료일보다 늦습니다.", "입력 오류", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        List<Dataset> datasets = new ArrayList<>();
+        datasetCheckBoxes.forEach((dataset, checkBox) -> {
+            if (checkBox.isSelected()) {
+                datasets.add(dataset);
+            }
+        });
+        if (datasets.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "내보낼 데이터를 선택하세요.", "입력 오류", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        // reports/raw 아래에 저장
+        File rawDir = new File(new File(AppConfig.getInstance().getOrSelectDataPath()).getAbsoluteFile(),
+            "reports" + File.separator + "raw");
+        if (!rawDir.exists() && !rawDir.mkdirs()) {
+            JOptionPane.showMessageDialog(this, "저장 폴더를 만들 수 없습니다:\n" + rawDir.getAbsolutePath(),
+                "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        File target = new File(rawDir, "원본데이터_" + LocalDateTime.now().format(TIMESTAMP_FORMATTER) + ".xlsx");
+
+        RawDataExportService exportService = ServiceRegistry.getRawDataExportService();
+        worker = new SwingWorker<>() {
+            @Override
+            protected Boolean doInBackground() throws Exception {
+                return ServiceRegistry.getJobService().runShared("원본 데이터 내보내기", () ->
+                    exportService.exportToExcel(target, datasets, from, to,
+                        (written, total, sheetName) -> publish(new Object[]{written, total, sheetName}),
+                        this::isCancelled));
+            }
+
+            @Override
+            protected void process(List<Object[]> chunks) {
+                Object[] latest = chunks.get(chunks.size() - 1);
+                long written = (Long) latest[0];
+                long total = (Long) latest[1];
+                progressBar.setValue(total > 0 ? (int) (written * 100 / total) : 100);
+                progressBar.setString(String.format("%,d / %,d행", written, total));
+                statusLabel.setText(latest[2] + " 시트 기록 중...");
+            }
+
+            @Override
+            protected void done() {
+                onExportFinished(this, target);
+            }
+        };
+
+        setRunning(true);
+        progressBar.setValue(0);
+        progressBar.setString("데이터 조회 중...");
+        statusLabel.setText(" ");
+        worker.execute();
+    }
+
+    private void onExportFinished(SwingWorker<Boolean, Object[]> finished, File target) {
+        worker = null;
+        setRunning(false);
+
+        if (finished.isCancelled()) {
+            progressBar.setString("취소됨");
+            statusLabel.setText("내보내기를 취소했습니다.");
+            return;
+        }
+
+        try {
+            if (!finished.get()) {
+                progressBar.setString("취소됨");
+                statusLabel.setText("내보내기를 취소했습니다.");
+                return;
+            }
+            progressBar.setValue(100);
+            statusLabel.setText("완료: " + target.getName());
+            JOptionPane.showMessageDialog(this, "원본 데이터를 내보냈습니다.\n\n" + target.getAbsolutePath(),
+                "내보내기 완료", JOptionPane.INFORMATION_MESSAGE);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            ErrorMessageMapper.logError("원본 데이터 내보내기", cause);
+            progressBar.setString("실패");
+            JOptionPane.showMessageDialog(this,
+                "원본 데이터 내보내기 중 오류가 발생했습니다:\n\n" + ErrorMessageMapper.getUserFriendlyMessage(cause),
+                "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private void cancelExport() {
+        if (worker != null) {
+            cancelButton.setEnabled(false);
+            statusLabel.setText("취소하는 중...");
+            worker.cancel(false);
+        }
+    }
+
+    private void closeDialog() {
+        if (worker != null) {
+            int choice = JOptionPane.showConfirmDialog(this,
+                "내보내기가 진행 중입니다. 취소하고 닫으시겠습니까?", "확인", JOptionPane.YES_NO_OPTION);
+            if (choice != JOptionPane.YES_OPTION) {
+                return;
+            }
+            worker.cancel(false);
+        }
+        dispose();
+    }
+
+    private void setRunning(boolean running) {
+        exportButton.setEnabled(!running);
+        cancelButton.setEnabled(running);
+        fromField.setEnabled(!running);
+        toField.setEnabled(!running);
+        datasetCheckBoxes.values().forEach(checkBox -> checkBox.setEnabled(!running));
+    }
+}
@@ -0,0 +1,91 @@
+package com.softone.auto.ui;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * 시작 화면
+ * 초기화가 진행되는 동안 진행률을 표시 (어느 스레드에서 호출해도 EDT에서 갱신)
+ */
+public class StartupSplash {
+
+    private final JWindow window;
+    private final JProgressBar progressBar;
+    private final JLabel statusLabel;
+
+    private StartupSplash() {
+        window = new JWindow();
+
+        JPanel content = new JPanel(new BorderLayout(0, 12));
+        content.setBackground(ModernDesign.BG_SECONDARY);
+        content.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(ModernDesign.BORDER),
+            BorderFactory.createEmptyBorder(30, 30, 24, 30)));
+
+        JLabel titleLabel = new JLabel("SoftOne Auto Manager");
+        titleLabel.setFont(ModernDesign.FONT_HEADING);
+        titleLabel.setForeground(ModernDesign.PRIMARY);
+        content.add(titleLabel, BorderLayout.NORTH);
+
+        statusLabel = new JLabel("시작 준비 중...");
+        statusLabel.setFont(ModernDesign.FONT_SMALL);
+        statusLabel.setForeground(ModernDesign.TEXT_SECONDARY);
+        content.add(statusLabel, BorderLayout.CENTER);
+
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setIndeterminate(true);
+        progressBar.setPreferredSize(new Dimension(360, 8));
+        content.add(progressBar, BorderLayout.SOUTH);
+
+        window.setContentPane(content);
+        window.pack();
+        window.setLocationRelativeTo(null);
+    }
+
+    /**
+     * 시작 화면 생성 후 표시
+     */
+    public static StartupSplash showSplash() {
+        StartupSplash[] holder = new StartupSplash[1];
+        Runnable create = () -> {
+            holder[0] = new StartupSplash();
+            holder[0].window.setVisible(true);
+        };
+
+        if (SwingUtilities.isEventDispatchThread()) {
+            create.run();
+        } else {
+            try {
+                SwingUtilities.invokeAndWait(create);
+            } catch (Exception e) {
+                System.err.println("시작 화면 표시 실패: " + e.getMessage());
+            }
+        }
+        return holder[0];
+    }
+
+    /**
+     * 진행률 갱신
+     */
+    public void setProgress(int completed, int total, String message) {
+        SwingUtilities.invokeLater(() -> {
+            progressBar.setIndeterminate(false);
+            progressBar.setValue(total == 0 ? 100 : completed * 100 / total);
+            statusLabel.setText(message);
+        });
+    }
+
+    /**
+     * 상태 문구만 갱신
+     */
+    public void setStatus(String message) {
+        SwingUtilities.invokeLater(() -> statusLabel.setText(message));
+    }
+
+    /**
+     * 시작 화면 닫기
+     */
+    public void close() {
+        SwingUtilities.invokeLater(window::dispose);
+    }
+}
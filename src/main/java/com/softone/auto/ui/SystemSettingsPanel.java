@@ -2,10 +2,13 @@ package com.softone.auto.ui;
 
 import com.softone.auto.model.CommonCode;
 import com.softone.auto.model.Company;
+import com.softone.auto.model.Job;
 import com.softone.auto.service.CommonCodeService;
 import com.softone.auto.service.CompanyService;
 import com.softone.auto.util.AppConfig;
 import com.softone.auto.util.AppContext;
+import com.softone.auto.util.AsyncDataLoader;
+import com.softone.auto.util.ServiceRegistry;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -42,7 +45,8 @@ public class SystemSettingsPanel extends JPanel {
     private boolean isNewMode = false;
     
     public SystemSettingsPanel() {
-        this.commonCodeService = new CommonCodeService();
+        // 공유 인스턴스 사용 (코드 수정 시 테이블 표시용 코드명 캐시도 함께 무효화)
+        this.commonCodeService = ServiceRegistry.getCommonCodeService();
         this.companyService = new CompanyService();
         initializeUI();
         loadCategories();
@@ -119,7 +123,7 @@ public class SystemSettingsPanel extends JPanel {
         // 버튼 패널 (오른쪽에 배치)
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
         buttonPanel.setBackground(ModernDesign.BG_SECONDARY);
-        buttonPanel.setPreferredSize(new Dimension(240, 45));
+        buttonPanel.setPreferredSize(new Dimension(650, 45));
         
         JButton changePathButton = UIUtils.createUnifiedButton("경로 변경");
         changePathButton.setPreferredSize(new Dimension(110, 38));
@@ -133,6 +137,36 @@ public class SystemSettingsPanel extends JPanel {
         openFolderButton.addActionListener(e -> openDataFolder());
         buttonPanel.add(openFolderButton);
         
+        JButton rebuildStatsButton = UIUtils.createUnifiedButton("통계 재구성");
+        rebuildStatsButton.setPreferredSize(new Dimension(110, 38));
+        rebuildStatsButton.setFont(new Font("맑은 고딕", Font.BOLD, 13));
+        rebuildStatsButton.setToolTipText("근태 월별 집계와 대시보드 통계를 원본 데이터로부터 다시 계산합니다");
+        rebuildStatsButton.addActionListener(e -> rebuildStatistics(rebuildStatsButton));
+        buttonPanel.add(rebuildStatsButton);
+        
+        JButton rawExportButton = UIUtils.createUnifiedButton("원본 내보내기");
+        rawExportButton.setPreferredSize(new Dimension(110, 38));
+        rawExportButton.setFont(new Font("맑은 고딕", Font.BOLD, 13));
+        rawExportButton.setToolTipText("근태/이슈/고객 소통 원본 데이터를 시트별 Excel 파일로 내보냅니다");
+        rawExportButton.addActionListener(e -> new RawDataExportDialog(
+            (Frame) SwingUtilities.getWindowAncestor(this)).setVisible(true));
+        buttonPanel.add(rawExportButton);
+        
+        JButton csvButton = UIUtils.createUnifiedButton("CSV");
+        csvButton.setPreferredSize(new Dimension(70, 38));
+        csvButton.setFont(new Font("맑은 고딕", Font.BOLD, 13));
+        csvButton.setToolTipText("근태/이슈/고객 소통 데이터를 CSV로 가져오거나 내보냅니다");
+        csvButton.addActionListener(e -> new CsvTransferDialog(
+            (Frame) SwingUtilities.getWindowAncestor(this)).setVisible(true));
+        buttonPanel.add(csvButton);
+        
+        JButton backupButton = UIUtils.createUnifiedButton("백업");
+        backupButton.setPreferredSize(new Dimension(80, 38));
+        backupButton.setFont(new Font("맑은 고딕", Font.BOLD, 13));
+        backupButton.setToolTipText("전체 데이터를 backups 폴더에 ZIP으로 백업합니다 (백그라운드 작업)");
+        backupButton.addActionListener(e -> submitBackup());
+        buttonPanel.add(backupButton);
+        
         pathRowPanel.add(buttonPanel, BorderLayout.EAST);
         
         contentPanel.add(pathRowPanel);
@@ -602,6 +636,55 @@ public class SystemSettingsPanel extends JPanel {
         }
     }
     
+    /**
+     * 전체 데이터 백업 작업 등록 (진행 상황은 작업 모니터에서 확인)
+     */
+    private void submitBackup() {
+        AsyncDataLoader.loadAsync(
+            () -> ServiceRegistry.getJobService().submit(Job.Type.BACKUP, null, null),
+            job -> {
+                if (job == null) {
+                    JOptionPane.showMessageDialog(this, "백업 작업을 등록하지 못했습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(this,
+                        "백업 작업을 등록했습니다.\n하단 [작업]에서 진행 상황과 결과 파일을 확인할 수 있습니다.",
+                        "백업", JOptionPane.INFORMATION_MESSAGE);
+                }
+            });
+    }
+    
+    /**
+     * 근태 월별 집계 및 대시보드 통계 재구성 (백그라운드 실행)
+     */
+    private void rebuildStatistics(JButton button) {
+        button.setEnabled(false);
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() {
+                ServiceRegistry.getAttendanceService().rebuildMonthlyRollups();
+                ServiceRegistry.getDashboardStatsService().rebuild();
+                return null;
+            }
+            
+            @Override
+            protected void done() {
+                button.setEnabled(true);
+                try {
+                    get();
+                    JOptionPane.showMessageDialog(SystemSettingsPanel.this,
+                        "통계 재구성이 완료되었습니다.",
+                        "완료",
+                        JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception e) {
+                    JOptionPane.showMessageDialog(SystemSettingsPanel.this,
+                        "통계 재구성 실패: " + e.getMessage(),
+                        "오류",
+                        JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+    
     /**
      * 회사 목록 로드
      */
@@ -0,0 +1,136 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.util.AsyncDataLoader;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.AWTEventListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * 유휴 시간 탭 데이터 예열기
+ *
+ * <p>사용자 입력(마우스/키보드)이 일정 시간 없으면 아직 열지 않은 탭의 데이터를
+ * 우선순위 순서대로 한 번에 하나씩 AsyncDataLoader의 미리 읽기 우선순위로 조회합니다.
+ * 예열 작업은 탭이 처음 열릴 때 실행하는 조회와 같은 조회여야 효과가 있습니다.
+ * 목록 조회(이슈/개발자/고객소통 findAll, 회사별 주간보고서)는 QueryCache에 결과가 남아 탭의 첫 조회가
+ * 그대로 재사용하며, 그 사이 해당 테이블에 쓰기가 있으면 무효화되어 탭은 최신 데이터를 다시 읽습니다.
+ * 대시보드 통계와 근태 첫 페이지는 인덱스를 쓰는 가벼운 조회라 결과를 보관하지 않고 SQLite 페이지만 데웁니다.</p>
+ *
+ * <p>입력이 들어오면 다음 작업부터 유휴 상태가 될 때까지 미루고,
+ * 회사 변경 등으로 {@link #restart()}가 호출되면 진행 중인 예열은 중단됩니다.
+ * {@link #restart()}, {@link #stop()}은 EDT에서 호출해야 합니다.</p>
+ */
+public class TabPreloader {
+
+    private static final int IDLE_DELAY_MS = 1500;
+
+    /**
+     * 예열 작업 (탭 인덱스 + 데이터 조회)
+     */
+    private static class Task {
+        private final int tabIndex;
+        private final String name;
+        private final Runnable loader;
+
+        private Task(int tabIndex, String name, Runnable loader) {
+            this.tabIndex = tabIndex;
+            this.name = name;
+            this.loader = loader;
+        }
+    }
+
+    private final List<Task> tasks = new ArrayList<>();
+    private final IntPredicate alreadyLoaded;
+    private final Timer idleTimer;
+    private final AWTEventListener activityListener;
+
+    /** 다음에 실행할 작업 위치 (EDT 전용) */
+    private int nextTask = 0;
+    /** restart() 시 증가 (이전 회사 기준 작업은 실행 전이면 건너뜀) */
+    private volatile int generation = 0;
+    private boolean running = false;
+
+    /**
+     * @param alreadyLoaded 이미 생성된 탭이면 true (해당 탭 예열 생략, EDT에서 호출됨)
+     */
+    public TabPreloader(IntPredicate alreadyLoaded) {
+        this.alreadyLoaded = alreadyLoaded;
+        this.idleTimer = new Timer(IDLE_DELAY_MS, e -> runNext());
+        this.idleTimer.setRepeats(false);
+        // 사용자 입력이 있으면 유휴 타이머 재시작
+        this.activityListener = event -> {
+            if (nextTask < tasks.size() && !running) {
+                idleTimer.restart();
+            }
+        };
+    }
+
+    /**
+     * 예열 작업 등록 (등록 순서가 우선순위)
+     */
+    public void addTask(int tabIndex, String name, Runnable loader) {
+        tasks.add(new Task(tabIndex, name, loader));
+    }
+
+    /**
+     * 처음부터 다시 예열 (회사 변경 후 호출)
+     */
+    public void restart() {
+        generation++;
+        nextTask = 0;
+        running = false;
+        Toolkit.getDefaultToolkit().removeAWTEventListener(activityListener);
+        Toolkit.getDefaultToolkit().addAWTEventListener(activityListener,
+            AWTEvent.KEY_EVENT_MASK | AWTEvent.MOUSE_EVENT_MASK | AWTEvent.MOUSE_WHEEL_EVENT_MASK);
+        idleTimer.restart();
+    }
+
+    /**
+     * 예열 중지
+     */
+    public void stop() {
+        generation++;
+        idleTimer.stop();
+        Toolkit.getDefaultToolkit().removeAWTEventListener(activityListener);
+    }
+
+    private void runNext() {
+        // 이미 열린 탭은 자체적으로 데이터를 로드했으므로 건너뜀
+        while (nextTask < tasks.size() && alreadyLoaded.test(tasks.get(nextTask).tabIndex)) {
+            nextTask++;
+        }
+        if (nextTask >= tasks.size()) {
+            stop();
+            return;
+        }
+
+        Task task = tasks.get(nextTask++);
+        int requestGeneration = generation;
+        running = true;
+        AsyncDataLoader.loadKeyed(this, AsyncDataLoader.Priority.PREFETCH,
+            () -> {
+                if (requestGeneration != generation) {
+                    return 0L;
+                }
+                long start = System.currentTimeMillis();
+                task.loader.run();
+                return System.currentTimeMillis() - start;
+            },
+            elapsed -> {
+                if (elapsed == null) {
+                    System.err.println("탭 예열 실패: " + task.name);
+                } else {
+                    System.out.println("탭 예열 완료: " + task.name + " (" + elapsed + "ms)");
+                }
+                if (requestGeneration != generation) {
+                    return;
+                }
+                running = false;
+                // 작업 사이에도 입력이 있으면 다시 유휴 대기
+                idleTimer.restart();
+            });
+    }
+}
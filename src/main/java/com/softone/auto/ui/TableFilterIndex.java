@@ -0,0 +1,239 @@
+package com.softone.auto.ui;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 테이블 필터용 사전 계산 인덱스 (불변)
+ *
+ * <p>목록을 한 번 훑어 컬럼 값 → 행 BitSet, 날짜순 행 번호, 소문자 검색 문자열을 만들어 둡니다.
+ * 필터 조건은 BitSet AND로 후보를 줄인 뒤 남은 행에만 텍스트 검색을 수행하므로
+ * 10만 행 조합 필터도 수 ms 안에 끝납니다.</p>
+ *
+ * <p>생성과 조회 모두 EDT 밖에서 수행해도 안전합니다.</p>
+ *
+ * @param <T> 행 엔티티 타입
+ */
+public class TableFilterIndex<T> {
+
+    /**
+     * 필터 조건 (null 또는 빈 값은 조건 없음)
+     */
+    public static class Criteria {
+        private String text;
+        private final Map<String, String> columnValues = new HashMap<>();
+        private LocalDate from;
+        private LocalDate to;
+
+        /** 검색어 (검색 대상 문자열 부분 일치, 대소문자 무시) */
+        public Criteria text(String text) {
+            this.text = text;
+            return this;
+        }
+
+        /** 컬럼 값 일치 (인덱스를 만든 컬럼만 사용 가능) */
+        public Criteria column(String column, String value) {
+            columnValues.put(column, value);
+            return this;
+        }
+
+        /** 날짜 범위 (양끝 포함, 한쪽만 지정 가능) */
+        public Criteria dateRange(LocalDate from, LocalDate to) {
+            this.from = from;
+            this.to = to;
+            return this;
+        }
+
+        boolean isEmpty() {
+            return normalizedText() == null && from == null && to == null
+                && columnValues.values().stream().allMatch(value -> value == null || value.isEmpty());
+        }
+
+        private String normalizedText() {
+            if (text == null || text.trim().isEmpty()) {
+                return null;
+            }
+            return text.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 검색 대상 문자열 조합 (null 값 제외)
+     */
+    public static String joinText(String... values) {
+        StringBuilder builder = new StringBuilder();
+        for (String value : values) {
+            if (value != null && !value.isEmpty()) {
+                builder.append(value).append(' ');
+            }
+        }
+        return builder.toString();
+    }
+
+    private final List<T> items;
+    private final Map<String, Map<String, BitSet>> columnIndexes = new LinkedHashMap<>();
+    private final String[] searchTexts;
+    /** 날짜 오름차순 epochDay / 해당 행 번호 (날짜 없는 행 제외) */
+    private final int[] sortedDays;
+    private final int[] sortedRows;
+
+    /**
+     * @param items      대상 목록 (복사하여 보관)
+     * @param columns    인덱스를 만들 컬럼명 → 값 추출 함수
+     * @param searchText 검색 대상 문자열 추출 함수 (null 가능)
+     * @param date       날짜 추출 함수 (null 가능)
+     */
+    public TableFilterIndex(List<T> items,
+                            Map<String, Function<T, String>> columns,
+                            Function<T, String> searchText,
+                            Function<T, LocalDate> date) {
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+        int size = this.items.size();
+
+        for (Map.Entry<String, Function<T, String>> column : columns.entrySet()) {
+            Map<String, BitSet> valueIndex = new HashMap<>();
+            for (int row = 0; row < size; row++) {
+                String value = column.getValue().apply(this.items.get(row));
+                valueIndex.computeIfAbsent(value != null ? value : "", key -> new BitSet(size)).set(row);
+            }
+            columnIndexes.put(column.getKey(), valueIndex);
+        }
+
+        searchTexts = new String[size];
+        if (searchText != null) {
+            for (int row = 0; row < size; row++) {
+                String text = searchText.apply(this.items.get(row));
+                searchTexts[row] = text != null ? text.toLowerCase(Locale.ROOT) : "";
+            }
+        }
+
+        if (date != null) {
+            long[] packed = new long[size];
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                LocalDate value = date.apply(this.items.get(row));
+                if (value != null) {
+                    // 상위 32비트 epochDay, 하위 32비트 행 번호 → 정렬 한 번으로 날짜순 행 배열 생성
+                    packed[count++] = (value.toEpochDay() << 32) | row;
+                }
+            }
+            Arrays.sort(packed, 0, count);
+            sortedDays = new int[count];
+            sortedRows = new int[count];
+            for (int i = 0; i < count; i++) {
+                sortedDays[i] = (int) (packed[i] >> 32);
+                sortedRows[i] = (int) packed[i];
+            }
+        } else {
+            sortedDays = null;
+            sortedRows = null;
+        }
+    }
+
+    /**
+     * 전체 행 수
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * 전체 목록
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * 조건에 맞는 행 번호 집합
+     */
+    public BitSet match(Criteria criteria) {
+        int size = items.size();
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+        if (criteria == null || criteria.isEmpty()) {
+            return result;
+        }
+
+        // 1. 컬럼 값 조건 (BitSet AND)
+        for (Map.Entry<String, String> entry : criteria.columnValues.entrySet()) {
+            String value = entry.getValue();
+            if (value == null || value.isEmpty()) {
+                continue;
+            }
+            Map<String, BitSet> valueIndex = columnIndexes.get(entry.getKey());
+            if (valueIndex == null) {
+                throw new IllegalArgumentException("인덱스가 없는 컬럼: " + entry.getKey());
+            }
+            BitSet rows = valueIndex.get(value);
+            if (rows == null) {
+                return new BitSet();
+            }
+            result.and(rows);
+        }
+
+        // 2. 날짜 범위 (이진 탐색으로 구간의 행만 표시)
+        if ((criteria.from != null || criteria.to != null) && sortedDays != null) {
+            int fromDay = criteria.from != null ? (int) criteria.from.toEpochDay() : Integer.MIN_VALUE;
+            int toDay = criteria.to != null ? (int) criteria.to.toEpochDay() : Integer.MAX_VALUE;
+            int start = lowerBound(fromDay);
+            int end = toDay == Integer.MAX_VALUE ? sortedDays.length : lowerBound(toDay + 1);
+
+            BitSet inRange = new BitSet(size);
+            for (int i = start; i < end; i++) {
+                inRange.set(sortedRows[i]);
+            }
+            result.and(inRange);
+        }
+
+        // 3. 검색어 (남은 후보 행만 검사)
+        String text = criteria.normalizedText();
+        if (text != null) {
+            for (int row = result.nextSetBit(0); row >= 0; row = result.nextSetBit(row + 1)) {
+                if (searchTexts[row] == null || !searchTexts[row].contains(text)) {
+                    result.clear(row);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 조건에 맞는 행 목록 (원래 순서 유지)
+     */
+    public List<T> filter(Criteria criteria) {
+        BitSet rows = match(criteria);
+        if (rows.cardinality() == items.size()) {
+            return items;
+        }
+        List<T> result = new ArrayList<>(rows.cardinality());
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            result.add(items.get(row));
+        }
+        return result;
+    }
+
+    private int lowerBound(int day) {
+        int low = 0;
+        int high = sortedDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedDays[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -1,28 +1,47 @@
 package com.softone.auto.ui;
 
+import com.softone.auto.model.Job;
 import com.softone.auto.model.WeeklyReport;
+import com.softone.auto.service.JobService;
 import com.softone.auto.service.WeeklyReportService;
 import com.softone.auto.util.AppContext;
 import com.softone.auto.util.AsyncDataLoader;
 import com.softone.auto.util.ErrorMessageMapper;
-import com.softone.auto.util.ExcelReportGenerator;
-import com.softone.auto.util.PdfReportGenerator;
+import com.softone.auto.util.ServiceRegistry;
+import com.softone.auto.util.WeeklyReportHtmlRenderer;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
+import javax.swing.text.DefaultCaret;
+import javax.swing.text.Element;
+import javax.swing.text.html.HTMLDocument;
 import java.awt.*;
 import java.io.File;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 주간보고서 작성 패널 (리스트 + 작성 폼)
  */
 public class WeeklyReportPanel extends JPanel {
     
+    /** 마지막 입력 후 자동 저장까지 대기 시간 */
+    private static final int AUTOSAVE_DELAY_MS = 1500;
+    private static final DateTimeFormatter AUTOSAVE_TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final int PREVIEW_DELAY_MS = 100;
+    private static final long PREVIEW_SLOW_MS = 50;
+    
     private final WeeklyReportService reportService;
     
     private JTable reportTable;
@@ -51,6 +70,26 @@ public class WeeklyReportPanel extends JPanel {
     private boolean isFormModified = false;  // 폼 수정 여부 체크
     private boolean isProgrammaticUpdate = false;  // 프로그래밍 방식의 업데이트 플래그
     
+    // 자동 저장 (수정 모드에서 변경된 항목만 입력이 멈춘 뒤 백그라운드에서 부분 UPDATE)
+    private final Set<WeeklyReport.Field> dirtyFields = EnumSet.noneOf(WeeklyReport.Field.class);
+    private boolean isPeriodModified = false;  // 보고 기간 변경 (자동 저장 대상 아님, [수정] 버튼으로 저장)
+    private final Timer autosaveTimer = new Timer(AUTOSAVE_DELAY_MS, e -> flushAutosave());
+    private JLabel autosaveStatusLabel;
+    
+    // 미리보기 (입력이 잠시 멈추면 바뀐 섹션만 다시 그림)
+    private final WeeklyReportHtmlRenderer previewRenderer = new WeeklyReportHtmlRenderer();
+    private final Timer previewTimer = new Timer(PREVIEW_DELAY_MS, e -> refreshPreview());
+    private JSplitPane formSplitPane;
+    private JScrollPane previewScrollPane;
+    private JEditorPane previewPane;
+    private boolean isPreviewLoaded = false;  // 미리보기 문서가 만들어져 섹션 단위 교체가 가능한지
+    
+    /** 보고서 ID → 저장 대기 중인 변경 항목 (pendingChanges 자체로 동기화) */
+    private final Map<String, Map<WeeklyReport.Field, Object>> pendingChanges = new LinkedHashMap<>();
+    
+    /** 자동 저장/수동 저장 쓰기 순서 보장용 락 (EDT에서 입력 중에는 잡지 않음) */
+    private final Object saveLock = new Object();
+    
     // 캐시된 보고서 목록 (스레드 안전 컬렉션 사용)
     private final List<WeeklyReport> cachedReports = new CopyOnWriteArrayList<>();
     
@@ -61,6 +100,8 @@ public class WeeklyReportPanel extends JPanel {
         this.reportService = new WeeklyReportService();
         
         try {
+            autosaveTimer.setRepeats(false);
+            previewTimer.setRepeats(false);
             isProgrammaticUpdate = true;  // 초기화 시작
             initializeUI();
             isProgrammaticUpdate = false;  // 초기화 완료
@@ -246,11 +287,33 @@ public class WeeklyReportPanel extends JPanel {
         scrollPane.setBorder(null);
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
         
-        panel.add(scrollPane, BorderLayout.CENTER);
+        // 오른쪽 미리보기 (처음에는 숨김, [미리보기] 버튼으로 표시)
+        formSplitPane = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, scrollPane, createPreviewPanel());
+        formSplitPane.setResizeWeight(0.6);
+        formSplitPane.setBorder(null);
+        previewScrollPane.setVisible(false);
+        
+        panel.add(formSplitPane, BorderLayout.CENTER);
         
         return panel;
     }
     
+    /**
+     * 미리보기 패널 (읽기 전용 HTML)
+     */
+    private JScrollPane createPreviewPanel() {
+        previewPane = new JEditorPane("text/html", "");
+        previewPane.setEditable(false);
+        // 문서를 교체해도 스크롤 위치가 맨 위로 이동하지 않도록 함
+        ((DefaultCaret) previewPane.getCaret()).setUpdatePolicy(DefaultCaret.NEVER_UPDATE);
+        
+        previewScrollPane = new JScrollPane(previewPane);
+        previewScrollPane.setBorder(BorderFactory.createLineBorder(ModernDesign.BORDER));
+        previewScrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        previewScrollPane.setMinimumSize(new Dimension(300, 0));
+        return previewScrollPane;
+    }
+    
     /**
      * 헤더 섹션
      */
@@ -263,6 +326,11 @@ public class WeeklyReportPanel extends JPanel {
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
         buttonPanel.setBackground(ModernDesign.BG_PRIMARY);
         
+        autosaveStatusLabel = new JLabel(" ");
+        autosaveStatusLabel.setFont(ModernDesign.FONT_SMALL);
+        autosaveStatusLabel.setForeground(ModernDesign.TEXT_SECONDARY);
+        buttonPanel.add(autosaveStatusLabel);
+        
         saveUpdateButton = UIUtils.createUnifiedButton("저장");
         saveUpdateButton.addActionListener(e -> saveOrUpdateReport());
         buttonPanel.add(saveUpdateButton);
@@ -277,6 +345,25 @@ public class WeeklyReportPanel extends JPanel {
         pdfButton.addActionListener(e -> generatePdf());
         buttonPanel.add(pdfButton);
         
+        JButton previewButton = UIUtils.createUnifiedButton("미리보기");
+        previewButton.setPreferredSize(new Dimension(90, 30));
+        previewButton.setToolTipText("파일을 만들지 않고 PDF와 같은 구성으로 화면 오른쪽에 바로 표시합니다");
+        previewButton.addActionListener(e -> togglePreview());
+        buttonPanel.add(previewButton);
+        
+        JButton batchExportButton = UIUtils.createUnifiedButton("일괄 내보내기");
+        batchExportButton.setPreferredSize(new Dimension(110, 30));
+        batchExportButton.addActionListener(e ->
+            new BatchExportDialog((Frame) SwingUtilities.getWindowAncestor(this)).setVisible(true));
+        buttonPanel.add(batchExportButton);
+        
+        JButton managementReportButton = UIUtils.createUnifiedButton("경영 보고서");
+        managementReportButton.setPreferredSize(new Dimension(100, 30));
+        managementReportButton.setToolTipText("월별/분기별 근태, 이슈 접수/해결, 고객 소통 처리 현황을 Excel로 생성합니다");
+        managementReportButton.addActionListener(e ->
+            new ManagementReportDialog((Frame) SwingUtilities.getWindowAncestor(this)).setVisible(true));
+        buttonPanel.add(managementReportButton);
+        
         JButton deleteButton = UIUtils.createUnifiedButton("삭제");
         deleteButton.addActionListener(e -> deleteReport());
         buttonPanel.add(deleteButton);
@@ -312,14 +399,14 @@ public class WeeklyReportPanel extends JPanel {
         gbc.gridx = 1; gbc.weightx = 0.4;
         titleField = createCompactTextField();
         titleField.setText("주간 업무 보고서");
-        titleField.getDocument().addDocumentListener(createDocumentListener());
+        titleField.getDocument().addDocumentListener(createDocumentListener(WeeklyReport.Field.TITLE));
         formPanel.add(titleField, gbc);
         
         gbc.gridx = 2; gbc.weightx = 0.1;
         formPanel.add(createCompactLabel("프로젝트명"), gbc);
         gbc.gridx = 3; gbc.weightx = 0.4;
         projectNameField = createCompactTextField();
-        projectNameField.getDocument().addDocumentListener(createDocumentListener());
+        projectNameField.getDocument().addDocumentListener(createDocumentListener(WeeklyReport.Field.PROJECT_NAME));
         var currentCompany = AppContext.getInstance().getCurrentCompany();
         if (currentCompany != null) {
             projectNameField.setText(currentCompany.getProjectName());
@@ -333,7 +420,7 @@ public class WeeklyReportPanel extends JPanel {
         gbc.gridx = 1; gbc.weightx = 0.4;
         reporterField = createCompactTextField();
         reporterField.setText("관리자");
-        reporterField.getDocument().addDocumentListener(createDocumentListener());
+        reporterField.getDocument().addDocumentListener(createDocumentListener(WeeklyReport.Field.REPORTER));
         formPanel.add(reporterField, gbc);
         
         gbc.gridx = 2; gbc.weightx = 0.1;
@@ -346,7 +433,7 @@ public class WeeklyReportPanel extends JPanel {
         LocalDate monday = getMonday(LocalDate.now());
         startDateField = createCompactTextField();
         startDateField.setText(monday.format(DateTimeFormatter.ISO_LOCAL_DATE));
-        startDateField.getDocument().addDocumentListener(createDocumentListener());
+        startDateField.getDocument().addDocumentListener(createDocumentListener(null));
         datePanel.add(startDateField);
         
         JLabel tildeLabel = new JLabel("~");
@@ -355,7 +442,7 @@ public class WeeklyReportPanel extends JPanel {
         
         endDateField = createCompactTextField();
         endDateField.setText(monday.plusDays(4).format(DateTimeFormatter.ISO_LOCAL_DATE));
-        endDateField.getDocument().addDocumentListener(createDocumentListener());
+        endDateField.getDocument().addDocumentListener(createDocumentListener(null));
         datePanel.add(endDateField);
         
         gbc.gridx = 3; gbc.weightx = 0.4;
@@ -403,11 +490,13 @@ public class WeeklyReportPanel extends JPanel {
         statsPanel.add(createTinyLabel("요청:"));
         thisWeekRequestField = createTinyTextField();
         thisWeekRequestField.setText("0");
+        thisWeekRequestField.getDocument().addDocumentListener(createDocumentListener(WeeklyReport.Field.THIS_WEEK_REQUEST_COUNT));
         statsPanel.add(thisWeekRequestField);
         
         statsPanel.add(createTinyLabel("완료:"));
         thisWeekCompleteField = createTinyTextField();
         thisWeekCompleteField.setText("0");
+        thisWeekCompleteField.getDocument().addDocumentListener(createDocumentListener(WeeklyReport.Field.THIS_WEEK_COMPLETE_COUNT));
         statsPanel.add(thisWeekCompleteField);
         
         thisWeekTasksArea = new JTextArea(6, 30);  // 행 수 줄임
@@ -435,7 +524,7 @@ public class WeeklyReportPanel extends JPanel {
                 }
             });
         
-        thisWeekTasksArea.getDocument().addDocumentListener(createDocumentListener());
+        thisWeekTasksArea.getDocument().addDocumentListener(createDocumentListener(WeeklyReport.Field.THIS_WEEK_TASKS_TEXT));
         
         JPanel contentPanel = new JPanel(new BorderLayout(3, 3));
         contentPanel.setBackground(ModernDesign.BG_SECONDARY);
@@ -466,11 +555,13 @@ public class WeeklyReportPanel extends JPanel {
         statsPanel.add(createTinyLabel("요청:"));
         nextWeekRequestField = createTinyTextField();
         nextWeekRequestField.setText("0");
+        nextWeekRequestField.getDocument().addDocumentListener(createDocumentListener(WeeklyReport.Field.NEXT_WEEK_REQUEST_COUNT));
         statsPanel.add(nextWeekRequestField);
         
         statsPanel.add(createTinyLabel("완료:"));
         nextWeekCompleteField = createTinyTextField();
         nextWeekCompleteField.setText("0");
+        nextWeekCompleteField.getDocument().addDocumentListener(createDocumentListener(WeeklyReport.Field.NEXT_WEEK_COMPLETE_COUNT));
         statsPanel.add(nextWeekCompleteField);
         
         nextWeekTasksArea = new JTextArea(6, 30);  // 행 수 줄임
@@ -498,7 +589,7 @@ public class WeeklyReportPanel extends JPanel {
                 }
             });
         
-        nextWeekTasksArea.getDocument().addDocumentListener(createDocumentListener());
+        nextWeekTasksArea.getDocument().addDocumentListener(createDocumentListener(WeeklyReport.Field.NEXT_WEEK_TASKS_TEXT));
         
         JPanel contentPanel = new JPanel(new BorderLayout(3, 3));
         contentPanel.setBackground(ModernDesign.BG_SECONDARY);
@@ -525,7 +616,7 @@ public class WeeklyReportPanel extends JPanel {
             BorderFactory.createLineBorder(ModernDesign.BORDER, 1),
             BorderFactory.createEmptyBorder(4, 6, 4, 6)  // 패딩 줄임
         ));
-        issuesArea.getDocument().addDocumentListener(createDocumentListener());
+        issuesArea.getDocument().addDocumentListener(createDocumentListener(WeeklyReport.Field.ADDITIONAL_NOTES));
         
         // 기본 섹션 제목 설정
         issuesArea.setText(
@@ -563,32 +654,16 @@ public class WeeklyReportPanel extends JPanel {
         JPanel checkPanel = new JPanel(new GridLayout(5, 2, 12, 3));  // 간격 줄임
         checkPanel.setBackground(ModernDesign.BG_SECONDARY);
         
-        String[] checkItems = {
-            "고객사 보안 규정 준수",
-            "품질(납기, 생산성) 양호",
-            "불법 S/W 미사용",
-            "사고 대응 체계 숙지",
-            "고객사 생산성 향상 노력",
-            "고객 중심적 업무 수행",
-            "회사 대표 의식",
-            "성실한 근태",
-            "단정한 복장",
-            "자기/회사 발전 노력"
-        };
-        
-        checkBoxes = new JCheckBox[10];
-        for (int i = 0; i < checkItems.length; i++) {
-            checkBoxes[i] = new JCheckBox(checkItems[i]);
+        List<String> checkItems = WeeklyReport.CHECK_ITEM_NAMES;
+        checkBoxes = new JCheckBox[checkItems.size()];
+        for (int i = 0; i < checkItems.size(); i++) {
+            checkBoxes[i] = new JCheckBox(checkItems.get(i));
             checkBoxes[i].setFont(new Font("맑은 고딕", Font.PLAIN, 11));
             checkBoxes[i].setBackground(ModernDesign.BG_SECONDARY);
             checkBoxes[i].setSelected(true);
             
             // 체크박스 변경 시 수정 플래그 설정
-            checkBoxes[i].addItemListener(e -> {
-                if (!isProgrammaticUpdate) {
-                    isFormModified = true;
-                }
-            });
+            checkBoxes[i].addItemListener(e -> markModified(WeeklyReport.Field.CHECK_ITEMS));
             
             checkPanel.add(checkBoxes[i]);
         }
@@ -655,7 +730,8 @@ public class WeeklyReportPanel extends JPanel {
         // 로딩 인디케이터 표시 (선택적 - 필요시 활성화)
         // 현재는 백그라운드에서 조용히 로드하고, 완료 시 테이블만 갱신
         
-        AsyncDataLoader.loadAsync(
+        // 연속 호출 시 이전 로드 결과는 버림 (늦게 끝난 이전 목록이 최신 목록을 덮어쓰지 않도록)
+        AsyncDataLoader.loadKeyed(this,
             () -> {
                 // 백그라운드 스레드에서 실행
                 try {
@@ -831,6 +907,9 @@ public class WeeklyReportPanel extends JPanel {
                 return;
             }
             
+            // 수정 모드의 변경 항목은 바로 자동 저장 (보고 기간 변경 등 남은 변경만 경고)
+            flushAutosave();
+            
             // 작성 중인 내용이 있으면 경고
             if (isFormModified) {
                 System.out.println("  → 폼이 수정됨, 경고 표시");
@@ -954,7 +1033,7 @@ public class WeeklyReportPanel extends JPanel {
         
         // 프로그래밍 방식의 업데이트 종료
         isProgrammaticUpdate = false;
-        isFormModified = false;  // 로드는 수정으로 간주하지 않음
+        resetModificationState();  // 로드는 수정으로 간주하지 않음
         
         System.out.println("  ✓ 폼 로드 완료");
         System.out.println("    - 금주 업무: " + (report.getThisWeekTasksText() != null ? report.getThisWeekTasksText().length() : 0) + "자");
@@ -967,6 +1046,9 @@ public class WeeklyReportPanel extends JPanel {
     private void enterNewMode() {
         System.out.println("=== enterNewMode() 시작 ===");
         
+        // 수정 중이던 보고서의 변경 항목은 바로 자동 저장
+        flushAutosave();
+        
         // 작성 중인 내용이 있으면 경고
         if (isFormModified) {
             System.out.println("  → 폼이 수정됨, 경고 표시");
@@ -1123,10 +1205,15 @@ public class WeeklyReportPanel extends JPanel {
             // 저장 전에 현재 보고서 백업
             WeeklyReport savedReport = currentReport;
             
-            reportService.updateReport(currentReport);
+            // 전체 저장이 모든 항목을 쓰므로 대기 중인 자동 저장은 버림 (진행 중인 자동 저장이 끝난 뒤 저장)
+            synchronized (saveLock) {
+                discardPendingChanges(currentReport.getId());
+                reportService.updateReport(currentReport);
+            }
             System.out.println("  → 저장 완료");
             
-            isFormModified = false;
+            resetModificationState();
+            showAutosaveStatus(" ", ModernDesign.TEXT_SECONDARY);
             System.out.println("  → isFormModified = false");
             
             // 저장된 보고서 ID 확인
@@ -1161,36 +1248,29 @@ public class WeeklyReportPanel extends JPanel {
     }
     
     /**
-     * Excel 생성 (비동기 처리)
+     * Excel 생성 (백그라운드 작업)
      */
     private void generateExcel() {
-        generateReportFile("Excel", "Excel 생성", "Excel 파일을 생성하고 있습니다...", 
-            "Excel 파일이 생성되었습니다:\n", "Excel 생성 실패", 
-            () -> ExcelReportGenerator.generateWeeklyReport(currentReport));
+        generateReportFile(Job.Type.REPORT_EXCEL, "Excel");
     }
     
     /**
-     * PDF 생성 (비동기 처리)
+     * PDF 생성 (백그라운드 작업)
      */
     private void generatePdf() {
-        generateReportFile("PDF", "PDF 생성", "PDF 파일을 생성하고 있습니다...", 
-            "PDF 파일이 생성되었습니다:\n", "PDF 생성 실패", 
-            () -> PdfReportGenerator.generateWeeklyReport(currentReport));
+        generateReportFile(Job.Type.REPORT_PDF, "PDF");
     }
     
     /**
      * 보고서 파일 생성 공통 메서드 (Excel/PDF)
      * 
+     * <p>작업 대기열에 등록하므로 다른 화면으로 이동해도 생성은 계속되고, 끝나면 결과를 알립니다.
+     * 처리기는 저장된 보고서를 다시 읽으므로 대기 중인 자동 저장을 먼저 반영한 뒤 등록합니다.</p>
+     * 
+     * @param type 작업 유형
      * @param fileType 파일 타입 (예: "Excel", "PDF")
-     * @param dialogTitle 다이얼로그 제목
-     * @param progressMessage 진행 메시지
-     * @param successMessage 성공 메시지
-     * @param errorTitle 오류 제목
-     * @param generator 파일 생성 함수
      */
-    private void generateReportFile(String fileType, String dialogTitle, String progressMessage,
-                                     String successMessage, String errorTitle,
-                                     java.util.function.Supplier<String> generator) {
+    private void generateReportFile(Job.Type type, String fileType) {
         if (currentReport == null) {
             saveOrUpdateReport();
             if (currentReport == null) {
@@ -1198,68 +1278,72 @@ public class WeeklyReportPanel extends JPanel {
             }
         }
         
-        // 진행률 표시 다이얼로그
-        JProgressBar progressBar = new JProgressBar(0, 100);
-        progressBar.setStringPainted(true);
-        progressBar.setString(fileType + " 생성 중...");
-        progressBar.setIndeterminate(true); // 실제 진행률을 알 수 없으므로 무한 진행 표시
-        
-        JDialog progressDialog = new JDialog((Frame) SwingUtilities.getWindowAncestor(this), dialogTitle, true);
-        progressDialog.setLayout(new BorderLayout());
-        progressDialog.add(new JLabel(progressMessage), BorderLayout.NORTH);
-        progressDialog.add(progressBar, BorderLayout.CENTER);
-        progressDialog.setSize(350, 120);
-        progressDialog.setLocationRelativeTo(this);
-        progressDialog.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE); // 작업 중 닫기 방지
-        
-        SwingWorker<String, Integer> worker = new SwingWorker<String, Integer>() {
-            @Override
-            protected String doInBackground() throws Exception {
-                try {
-                    return generator.get();
-                } catch (Exception e) {
-                    ErrorMessageMapper.logError(fileType + " 생성", e);
-                    throw e;
-                }
+        flushAutosave();
+        String reportId = currentReport.getId();
+        String title = fileType + " - " + currentReport.getTitle();
+        JobService jobService = ServiceRegistry.getJobService();
+        Window owner = SwingUtilities.getWindowAncestor(this);
+        
+        showAutosaveStatus(fileType + " 생성 요청 중...", ModernDesign.TEXT_SECONDARY);
+        AsyncDataLoader.loadAsync(() -> {
+            writePendingChanges();
+            Job job = jobService.submit(type, title, reportId);
+            ReportJobNotifier notifier = new ReportJobNotifier(jobService, job.getId(), fileType, owner);
+            jobService.addListener(notifier);
+            // 등록 직후 끝난 작업은 리스너가 놓쳤을 수 있으므로 현재 상태로 한 번 확인
+            notifier.onJobChanged(jobService.getJob(job.getId()));
+            return job;
+        }, job -> {
+            if (job == null) {
+                showAutosaveStatus("자동 저장 실패 - [수정] 버튼으로 저장하세요", ModernDesign.DANGER);
+                JOptionPane.showMessageDialog(WeeklyReportPanel.this,
+                    fileType + " 생성을 요청하지 못했습니다.\n보고서를 저장한 뒤 다시 시도해주세요.",
+                    "오류", JOptionPane.ERROR_MESSAGE);
+            } else {
+                showAutosaveStatus(fileType + " 생성 중 (하단 [작업]에서 진행 상황 확인)", ModernDesign.TEXT_SECONDARY);
             }
-            
-            @Override
-            protected void done() {
-                progressBar.setIndeterminate(false);
-                progressBar.setValue(100);
-                progressDialog.dispose();
-                
-                try {
-                    String fileName = get();
-                    if (fileName != null && !fileName.isEmpty()) {
-                        JOptionPane.showMessageDialog(WeeklyReportPanel.this,
-                            successMessage + new File(fileName).getAbsolutePath(),
-                            "완료", JOptionPane.INFORMATION_MESSAGE);
-                    } else {
-                        JOptionPane.showMessageDialog(WeeklyReportPanel.this,
-                            errorTitle, "오류", JOptionPane.ERROR_MESSAGE);
-                    }
-                } catch (java.util.concurrent.ExecutionException e) {
-                    Throwable cause = e.getCause();
-                    Exception exceptionToLog = (cause instanceof Exception) ? (Exception) cause : 
-                                              (cause != null ? new Exception(cause) : e);
-                    ErrorMessageMapper.logError(fileType + " 생성", exceptionToLog);
-                    String userMessage = ErrorMessageMapper.getUserFriendlyMessage(exceptionToLog);
-                    JOptionPane.showMessageDialog(WeeklyReportPanel.this,
-                        fileType + " 파일 생성 중 오류가 발생했습니다:\n\n" + userMessage,
-                        "오류", JOptionPane.ERROR_MESSAGE);
-                } catch (Exception e) {
-                    ErrorMessageMapper.logError(fileType + " 생성", e);
-                    String userMessage = ErrorMessageMapper.getUserFriendlyMessage(e);
-                    JOptionPane.showMessageDialog(WeeklyReportPanel.this,
-                        fileType + " 파일 생성 중 오류가 발생했습니다:\n\n" + userMessage,
+        });
+    }
+    
+    /**
+     * 보고서 생성 작업 완료 알림 (한 번만 알리고 리스너 해제)
+     */
+    private static final class ReportJobNotifier implements JobService.JobListener {
+        private final JobService jobService;
+        private final String jobId;
+        private final String fileType;
+        private final Window owner;
+        private final AtomicBoolean notified = new AtomicBoolean();
+        
+        ReportJobNotifier(JobService jobService, String jobId, String fileType, Window owner) {
+            this.jobService = jobService;
+            this.jobId = jobId;
+            this.fileType = fileType;
+            this.owner = owner;
+        }
+        
+        @Override
+        public void onJobChanged(Job job) {
+            if (job == null || !jobId.equals(job.getId()) || !job.getState().isFinished()
+                    || !notified.compareAndSet(false, true)) {
+                return;
+            }
+            jobService.removeListener(this);
+            if (job.getState() == Job.State.CANCELLED) {
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                if (job.getState() == Job.State.SUCCEEDED) {
+                    JOptionPane.showMessageDialog(owner,
+                        fileType + " 파일이 생성되었습니다:\n" + new File(job.getResultPath()).getAbsolutePath(),
+                        "완료", JOptionPane.INFORMATION_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(owner,
+                        fileType + " 파일 생성 중 오류가 발생했습니다:\n\n" + job.getMessage(),
                         "오류", JOptionPane.ERROR_MESSAGE);
                 }
-            }
-        };
-        
-        worker.execute();
-        progressDialog.setVisible(true);
+            });
+        }
     }
     
     /**
@@ -1283,6 +1367,8 @@ public class WeeklyReportPanel extends JPanel {
         
         if (result == JOptionPane.YES_OPTION) {
             System.out.println("  → 삭제 확인");
+            discardPendingChanges(currentReport.getId());
+            resetModificationState();
             reportService.deleteReport(currentReport.getId());
             System.out.println("  → 삭제 완료");
             
@@ -1343,32 +1429,312 @@ public class WeeklyReportPanel extends JPanel {
         }
         
         isProgrammaticUpdate = false;  // 프로그래밍 방식의 업데이트 종료
-        isFormModified = false;  // 초기화 시 수정 플래그 초기화
+        resetModificationState();  // 초기화 시 수정 플래그 초기화
     }
     
     /**
      * DocumentListener 생성 (필드 변경 감지)
      */
-    private javax.swing.event.DocumentListener createDocumentListener() {
+    private javax.swing.event.DocumentListener createDocumentListener(WeeklyReport.Field field) {
         return new javax.swing.event.DocumentListener() {
             public void insertUpdate(javax.swing.event.DocumentEvent e) {
-                if (!isProgrammaticUpdate) {
-                    isFormModified = true;
-                }
+                markModified(field);
             }
             public void removeUpdate(javax.swing.event.DocumentEvent e) {
-                if (!isProgrammaticUpdate) {
-                    isFormModified = true;
-                }
+                markModified(field);
             }
             public void changedUpdate(javax.swing.event.DocumentEvent e) {
-                if (!isProgrammaticUpdate) {
-                    isFormModified = true;
-                }
+                markModified(field);
             }
         };
     }
     
+    /**
+     * 항목 변경 기록 (field가 null이면 보고 기간 변경)
+     * 수정 모드에서는 입력이 멈춘 뒤 자동 저장되도록 타이머 재시작 (연속 입력은 한 번의 저장으로 합침)
+     */
+    private void markModified(WeeklyReport.Field field) {
+        // 미리보기는 폼 로드/초기화로 바뀐 값도 반영
+        if (previewScrollPane != null && previewScrollPane.isVisible()) {
+            previewTimer.restart();
+        }
+        if (isProgrammaticUpdate) {
+            return;
+        }
+        isFormModified = true;
+        if (field == null) {
+            isPeriodModified = true;
+            return;
+        }
+        dirtyFields.add(field);
+        if (!isNewMode && currentReport != null) {
+            autosaveTimer.restart();
+        }
+    }
+    
+    /**
+     * 수정 추적 상태 초기화 (폼 로드/초기화/전체 저장 후)
+     */
+    private void resetModificationState() {
+        autosaveTimer.stop();
+        dirtyFields.clear();
+        isPeriodModified = false;
+        isFormModified = false;
+    }
+    
+    /**
+     * 변경된 항목 값을 모아 백그라운드 저장 요청 (EDT, SQLite를 기다리지 않음)
+     */
+    private void flushAutosave() {
+        autosaveTimer.stop();
+        if (isNewMode || currentReport == null || dirtyFields.isEmpty()) {
+            return;
+        }
+        
+        Map<WeeklyReport.Field, Object> changes = new EnumMap<>(WeeklyReport.Field.class);
+        for (WeeklyReport.Field field : dirtyFields) {
+            Object value = readField(field);
+            if (value != null) {
+                changes.put(field, value);
+            }
+        }
+        // 값이 올바르지 않은 항목(빈 제목, 숫자가 아닌 건수)은 수정될 때까지 대기
+        dirtyFields.removeAll(changes.keySet());
+        isFormModified = isPeriodModified || !dirtyFields.isEmpty();
+        if (changes.isEmpty()) {
+            return;
+        }
+        
+        // 목록 캐시와 같은 객체이므로 화면 상태도 함께 반영
+        changes.forEach((field, value) -> applyField(currentReport, field, value));
+        if (changes.containsKey(WeeklyReport.Field.REPORTER)) {
+            int row = cachedReports.indexOf(currentReport);
+            if (row >= 0 && row < tableModel.getRowCount()) {
+                tableModel.setValueAt(currentReport.getReporter(), row, 1);
+            }
+        }
+        
+        synchronized (pendingChanges) {
+            pendingChanges.computeIfAbsent(currentReport.getId(), id -> new EnumMap<>(WeeklyReport.Field.class))
+                .putAll(changes);
+        }
+        
+        showAutosaveStatus("저장 중...", ModernDesign.TEXT_SECONDARY);
+        AsyncDataLoader.loadKeyed(pendingChanges, this::writePendingChanges, saved -> {
+            if (saved == null) {
+                showAutosaveStatus("자동 저장 실패 - [수정] 버튼으로 저장하세요", ModernDesign.DANGER);
+                isFormModified = true;
+            } else {
+                showAutosaveStatus("자동 저장됨 " + LocalTime.now().format(AUTOSAVE_TIME_FORMATTER), ModernDesign.TEXT_SECONDARY);
+            }
+        });
+    }
+    
+    /**
+     * 대기 중인 변경 항목 저장 (백그라운드)
+     * 대기열을 비우는 것과 쓰기를 같은 락 안에서 하므로 늦게 끝난 이전 저장이 최신 값을 덮어쓰지 않음
+     */
+    private Boolean writePendingChanges() {
+        synchronized (saveLock) {
+            Map<String, Map<WeeklyReport.Field, Object>> batch;
+            synchronized (pendingChanges) {
+                batch = new LinkedHashMap<>(pendingChanges);
+                pendingChanges.clear();
+            }
+            
+            try {
+                var iterator = batch.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    var entry = iterator.next();
+                    reportService.updateReportFields(entry.getKey(), entry.getValue());
+                    iterator.remove();
+                }
+                return Boolean.TRUE;
+            } catch (RuntimeException e) {
+                // 저장하지 못한 변경은 다시 대기열로 (그 사이 들어온 값이 더 최신)
+                synchronized (pendingChanges) {
+                    batch.forEach((reportId, changes) -> {
+                        Map<WeeklyReport.Field, Object> newer = pendingChanges.get(reportId);
+                        if (newer != null) {
+                            changes.putAll(newer);
+                        }
+                        pendingChanges.put(reportId, changes);
+                    });
+                }
+                ErrorMessageMapper.logError("보고서 자동 저장", e);
+                throw e;
+            }
+        }
+    }
+    
+    /**
+     * 보고서의 대기 중인 자동 저장 취소 (전체 저장/삭제 시)
+     */
+    private void discardPendingChanges(String reportId) {
+        synchronized (pendingChanges) {
+            pendingChanges.remove(reportId);
+        }
+    }
+    
+    /**
+     * 폼에서 항목 값 읽기 (저장할 수 없는 값이면 null)
+     */
+    private Object readField(WeeklyReport.Field field) {
+        switch (field) {
+            case TITLE: {
+                String title = titleField.getText().trim();
+                return title.isEmpty() ? null : title;
+            }
+            case PROJECT_NAME:
+                return projectNameField.getText().trim();
+            case REPORTER:
+                return reporterField.getText().trim();
+            case ADDITIONAL_NOTES:
+                return issuesArea.getText();
+            case THIS_WEEK_TASKS_TEXT:
+                return thisWeekTasksArea.getText().trim();
+            case NEXT_WEEK_TASKS_TEXT:
+                return nextWeekTasksArea.getText().trim();
+            case THIS_WEEK_REQUEST_COUNT:
+                return parseCount(thisWeekRequestField);
+            case THIS_WEEK_COMPLETE_COUNT:
+                return parseCount(thisWeekCompleteField);
+            case NEXT_WEEK_REQUEST_COUNT:
+                return parseCount(nextWeekRequestField);
+            case NEXT_WEEK_COMPLETE_COUNT:
+                return parseCount(nextWeekCompleteField);
+            case CHECK_ITEMS: {
+                List<Boolean> checkItems = new ArrayList<>();
+                for (JCheckBox checkBox : checkBoxes) {
+                    checkItems.add(checkBox.isSelected());
+                }
+                return checkItems;
+            }
+            default:
+                return null;
+        }
+    }
+    
+    private Integer parseCount(JTextField field) {
+        try {
+            return Integer.parseInt(field.getText().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void applyField(WeeklyReport report, WeeklyReport.Field field, Object value) {
+        switch (field) {
+            case TITLE -> report.setTitle((String) value);
+            case PROJECT_NAME -> report.setProjectName((String) value);
+            case REPORTER -> report.setReporter((String) value);
+            case ADDITIONAL_NOTES -> report.setAdditionalNotes((String) value);
+            case THIS_WEEK_TASKS_TEXT -> report.setThisWeekTasksText((String) value);
+            case NEXT_WEEK_TASKS_TEXT -> report.setNextWeekTasksText((String) value);
+            case THIS_WEEK_REQUEST_COUNT -> report.setThisWeekRequestCount((Integer) value);
+            case THIS_WEEK_COMPLETE_COUNT -> report.setThisWeekCompleteCount((Integer) value);
+            case NEXT_WEEK_REQUEST_COUNT -> report.setNextWeekRequestCount((Integer) value);
+            case NEXT_WEEK_COMPLETE_COUNT -> report.setNextWeekCompleteCount((Integer) value);
+            case CHECK_ITEMS -> report.setCheckItems(new ArrayList<>((List<Boolean>) value));
+        }
+    }
+    
+    /**
+     * 미리보기 표시/숨김
+     */
+    private void togglePreview() {
+        boolean visible = !previewScrollPane.isVisible();
+        previewScrollPane.setVisible(visible);
+        if (visible) {
+            refreshPreview();
+            formSplitPane.setDividerLocation(0.55);
+        } else {
+            previewTimer.stop();
+        }
+        formSplitPane.revalidate();
+    }
+    
+    /**
+     * 미리보기 갱신 (EDT)
+     * 렌더러가 바뀐 섹션만 다시 그리고, 문서에서도 해당 섹션 요소만 교체해 전체를 다시 해석하지 않음
+     */
+    private void refreshPreview() {
+        previewTimer.stop();
+        if (!previewScrollPane.isVisible()) {
+            return;
+        }
+        
+        long start = System.nanoTime();
+        Map<WeeklyReportHtmlRenderer.Section, String> changed = previewRenderer.update(buildPreviewReport());
+        if (changed.isEmpty()) {
+            return;
+        }
+        
+        if (!isPreviewLoaded || !replacePreviewSections(changed)) {
+            Point position = previewScrollPane.getViewport().getViewPosition();
+            previewPane.setText(previewRenderer.getDocument());
+            isPreviewLoaded = true;
+            SwingUtilities.invokeLater(() -> previewScrollPane.getViewport().setViewPosition(position));
+        }
+        
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        if (elapsedMs > PREVIEW_SLOW_MS) {
+            System.out.println("미리보기 갱신 지연: " + elapsedMs + "ms (섹션 " + changed.size() + "개)");
+        }
+    }
+    
+    /**
+     * 문서의 섹션 요소 내용만 교체 (요소를 찾지 못하거나 실패하면 false, 전체를 다시 설정)
+     */
+    private boolean replacePreviewSections(Map<WeeklyReportHtmlRenderer.Section, String> changed) {
+        HTMLDocument document = (HTMLDocument) previewPane.getDocument();
+        try {
+            for (Map.Entry<WeeklyReportHtmlRenderer.Section, String> entry : changed.entrySet()) {
+                Element element = document.getElement(entry.getKey().getId());
+                if (element == null) {
+                    return false;
+                }
+                document.setInnerHTML(element, entry.getValue());
+            }
+            return true;
+        } catch (Exception e) {
+            System.err.println("미리보기 섹션 갱신 실패: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * 폼의 현재 값으로 미리보기용 보고서 구성 (저장하지 않음, 올바르지 않은 값은 기본값)
+     */
+    private WeeklyReport buildPreviewReport() {
+        WeeklyReport report = new WeeklyReport();
+        for (WeeklyReport.Field field : WeeklyReport.Field.values()) {
+            Object value = readField(field);
+            if (value != null) {
+                applyField(report, field, value);
+            }
+        }
+        report.setStartDate(parsePreviewDate(startDateField));
+        report.setEndDate(parsePreviewDate(endDateField));
+        report.setCreatedDate(currentReport != null && currentReport.getCreatedDate() != null
+            ? currentReport.getCreatedDate() : LocalDate.now());
+        return report;
+    }
+    
+    private LocalDate parsePreviewDate(JTextField field) {
+        try {
+            return LocalDate.parse(field.getText().trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+    
+    private void showAutosaveStatus(String text, Color color) {
+        autosaveStatusLabel.setText(text);
+        autosaveStatusLabel.setForeground(color);
+    }
+    
     private LocalDate getMonday(LocalDate date) {
         return date.minusDays(date.getDayOfWeek().getValue() - 1);
     }
@@ -37,6 +37,7 @@ public class AppConfig {
     private String language = "ko";
     private String applicationMode = "DEVELOPMENT"; // DEVELOPMENT, PRODUCTION, DEMO
     private boolean enableSampleData = true; // 샘플 데이터 활성화 여부
+    private boolean queryCacheEnabled = true; // 저장소 조회 결과 캐시 사용 여부
     private WindowSettings windowSettings = new WindowSettings();
     
     @Data
@@ -1,26 +1,109 @@
 package com.softone.auto.util;
 
 import javax.swing.*;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
  * 비동기 데이터 로더
  * UI 블로킹을 방지하기 위한 유틸리티 클래스
+ *
+ * <p>모든 작업은 동시 실행 수가 제한된 하나의 우선순위 실행기에서 처리됩니다.
+ * 화면에 보이는 탭의 로드({@link Priority#VISIBLE})가 미리 읽기({@link Priority#PREFETCH})보다 먼저 실행됩니다.</p>
+ *
+ * <p>키 기반 로드({@link #loadKeyed})는 같은 키의 요청을 하나로 합치고,
+ * 더 새로운 요청이 들어오면 이전 요청의 결과를 UI에 반영하지 않습니다.
+ * (회사 전환, 새로고침 연타 시 늦게 끝난 이전 결과가 최신 결과를 덮어쓰지 않음)</p>
  */
 public class AsyncDataLoader {
-    
-    private static final ExecutorService executorService = Executors.newFixedThreadPool(
-        Math.max(2, Runtime.getRuntime().availableProcessors() / 2)
-    );
-    
+
+    /**
+     * 작업 우선순위 (선언 순서가 높은 우선순위)
+     */
+    public enum Priority {
+        /** 현재 보이는 화면의 로드 */
+        VISIBLE,
+        /** 미리 읽기 (유휴 시간 예열, 인접 페이지 등) */
+        PREFETCH
+    }
+
+    static final int MAX_CONCURRENCY = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private static final ThreadPoolExecutor executorService = createExecutor();
+
+    /** 키 → 최신 요청 세대 (세대가 다르면 결과 폐기) */
+    private static final Map<Object, Long> latestGenerations = new HashMap<>();
+    /** 키 → 아직 시작되지 않은 요청 (같은 키 요청은 여기에 합쳐짐) */
+    private static final Map<Object, KeyedRequest<?>> queuedRequests = new HashMap<>();
+    private static final Object lock = new Object();
+
+    /**
+     * 우선순위 → 요청 순서로 정렬되는 작업
+     */
+    private static final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+        private final Priority priority;
+        private final long sequence = SEQUENCE.incrementAndGet();
+        private final Runnable body;
+
+        private PrioritizedTask(Priority priority, Runnable body) {
+            this.priority = priority;
+            this.body = body;
+        }
+
+        @Override
+        public void run() {
+            body.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            int result = priority.compareTo(other.priority);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * 시작 전 키 요청 (합쳐질 때 최신 supplier/updater/세대로 교체)
+     */
+    private static final class KeyedRequest<T> {
+        private final Object key;
+        private Supplier<T> dataSupplier;
+        private Consumer<T> uiUpdater;
+        private long generation;
+        private PrioritizedTask task;
+
+        private KeyedRequest(Object key) {
+            this.key = key;
+        }
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            MAX_CONCURRENCY, MAX_CONCURRENCY, 30, TimeUnit.SECONDS,
+            new PriorityBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "async-loader-" + THREAD_NUMBER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * 데이터를 비동기로 로드하고 UI를 업데이트
-     * 
+     *
      * @param dataSupplier 데이터를 제공하는 Supplier (백그라운드 스레드에서 실행)
      * @param uiUpdater UI를 업데이트하는 Consumer (EDT에서 실행)
      * @param progressCallback 진행률 업데이트 콜백 (선택적)
@@ -29,63 +112,185 @@ public class AsyncDataLoader {
             Supplier<T> dataSupplier,
             Consumer<T> uiUpdater,
             Consumer<Integer> progressCallback) {
-        
-        SwingWorker<T, Integer> worker = new SwingWorker<T, Integer>() {
-            @Override
-            protected T doInBackground() throws Exception {
-                if (progressCallback != null) {
-                    publish(0);
-                }
-                T result = dataSupplier.get();
-                if (progressCallback != null) {
-                    publish(100);
-                }
-                return result;
+
+        executorService.execute(new PrioritizedTask(Priority.VISIBLE, () -> {
+            if (progressCallback != null) {
+                SwingUtilities.invokeLater(() -> progressCallback.accept(0));
             }
-            
-            @Override
-            protected void process(List<Integer> chunks) {
-                if (progressCallback != null && !chunks.isEmpty()) {
-                    progressCallback.accept(chunks.get(chunks.size() - 1));
-                }
+
+            T result;
+            try {
+                result = dataSupplier.get();
+            } catch (Exception e) {
+                System.err.println("비동기 데이터 로드 실패: " + e.getMessage());
+                e.printStackTrace();
+                // 오류 발생 시 빈 결과로 UI 업데이트
+                SwingUtilities.invokeLater(() -> uiUpdater.accept(null));
+                return;
             }
-            
-            @Override
-            protected void done() {
-                try {
-                    T result = get();
-                    uiUpdater.accept(result);
-                } catch (Exception e) {
-                    System.err.println("비동기 데이터 로드 실패: " + e.getMessage());
-                    e.printStackTrace();
-                    // 오류 발생 시 빈 결과로 UI 업데이트
-                    uiUpdater.accept(null);
-                }
+
+            if (progressCallback != null) {
+                SwingUtilities.invokeLater(() -> progressCallback.accept(100));
             }
-        };
-        
-        worker.execute();
+            SwingUtilities.invokeLater(() -> deliver(uiUpdater, result));
+        }));
     }
-    
+
     /**
      * 간단한 비동기 로드 (진행률 없음)
      */
     public static <T> void loadAsync(Supplier<T> dataSupplier, Consumer<T> uiUpdater) {
         loadAsync(dataSupplier, uiUpdater, null);
     }
-    
+
+    /**
+     * 키 기반 비동기 로드
+     *
+     * <ul>
+     *   <li>같은 키의 요청이 아직 시작 전이면 새로 추가하지 않고 최신 요청 내용으로 합칩니다.</li>
+     *   <li>같은 키의 요청이 실행 중이면 새 요청을 추가하고, 이전 요청의 결과는 버립니다.</li>
+     *   <li>시작 전 요청에 더 높은 우선순위가 들어오면 우선순위를 올립니다.</li>
+     * </ul>
+     *
+     * @param key 요청 식별 키 (equals/hashCode 기준, 예: 패널 인스턴스, List.of(패널, 페이지))
+     * @param priority 우선순위
+     * @param dataSupplier 데이터를 제공하는 Supplier (백그라운드 스레드에서 실행)
+     * @param uiUpdater UI를 업데이트하는 Consumer (EDT에서 실행, 최신 요청만 호출, 오류 시 null)
+     */
+    public static <T> void loadKeyed(Object key, Priority priority, Supplier<T> dataSupplier, Consumer<T> uiUpdater) {
+        synchronized (lock) {
+            long generation = SEQUENCE.incrementAndGet();
+            latestGenerations.put(key, generation);
+
+            @SuppressWarnings("unchecked")
+            KeyedRequest<T> request = (KeyedRequest<T>) queuedRequests.get(key);
+            if (request != null) {
+                // 시작 전 요청과 합치기
+                request.dataSupplier = dataSupplier;
+                request.uiUpdater = uiUpdater;
+                request.generation = generation;
+                upgrade(request, priority);
+                return;
+            }
+
+            KeyedRequest<T> newRequest = new KeyedRequest<>(key);
+            newRequest.dataSupplier = dataSupplier;
+            newRequest.uiUpdater = uiUpdater;
+            newRequest.generation = generation;
+            newRequest.task = new PrioritizedTask(priority, () -> runKeyed(newRequest));
+            queuedRequests.put(key, newRequest);
+            executorService.execute(newRequest.task);
+        }
+    }
+
+    /**
+     * 키 기반 비동기 로드 (화면 표시용 우선순위)
+     */
+    public static <T> void loadKeyed(Object key, Supplier<T> dataSupplier, Consumer<T> uiUpdater) {
+        loadKeyed(key, Priority.VISIBLE, dataSupplier, uiUpdater);
+    }
+
+    /**
+     * 시작 전인 키 요청의 우선순위 올리기 (없거나 이미 실행 중이면 무시)
+     */
+    public static void prioritize(Object key, Priority priority) {
+        synchronized (lock) {
+            KeyedRequest<?> request = queuedRequests.get(key);
+            if (request != null) {
+                upgrade(request, priority);
+            }
+        }
+    }
+
+    /**
+     * 키 요청 취소 (시작 전이면 실행하지 않고, 실행 중이면 결과를 버림)
+     */
+    public static void cancel(Object key) {
+        synchronized (lock) {
+            latestGenerations.remove(key);
+            KeyedRequest<?> request = queuedRequests.remove(key);
+            if (request != null) {
+                executorService.getQueue().remove(request.task);
+            }
+        }
+    }
+
     /**
      * CompletableFuture를 사용한 비동기 처리
      */
     public static <T> CompletableFuture<T> loadAsyncFuture(Supplier<T> dataSupplier) {
-        return CompletableFuture.supplyAsync(dataSupplier, executorService);
+        return loadAsyncFuture(Priority.VISIBLE, dataSupplier);
     }
-    
+
+    /**
+     * CompletableFuture를 사용한 비동기 처리 (우선순위 지정)
+     */
+    public static <T> CompletableFuture<T> loadAsyncFuture(Priority priority, Supplier<T> dataSupplier) {
+        return CompletableFuture.supplyAsync(dataSupplier,
+            runnable -> executorService.execute(new PrioritizedTask(priority, runnable)));
+    }
+
     /**
      * ExecutorService 종료 (애플리케이션 종료 시)
      */
     public static void shutdown() {
         executorService.shutdown();
     }
-}
 
+    private static void upgrade(KeyedRequest<?> request, Priority priority) {
+        if (priority.compareTo(request.task.priority) >= 0) {
+            return;
+        }
+        // 큐에서 꺼내 높은 우선순위로 다시 넣기 (이미 꺼내져 실행 직전이면 그대로 둠)
+        if (executorService.getQueue().remove(request.task)) {
+            request.task = new PrioritizedTask(priority, request.task.body);
+            executorService.execute(request.task);
+        }
+    }
+
+    private static <T> void runKeyed(KeyedRequest<T> request) {
+        Supplier<T> dataSupplier;
+        Consumer<T> uiUpdater;
+        long generation;
+        synchronized (lock) {
+            if (queuedRequests.get(request.key) != request) {
+                return;  // 취소됨
+            }
+            queuedRequests.remove(request.key);
+            dataSupplier = request.dataSupplier;
+            uiUpdater = request.uiUpdater;
+            generation = request.generation;
+        }
+
+        T result = null;
+        try {
+            result = dataSupplier.get();
+        } catch (Exception e) {
+            System.err.println("비동기 데이터 로드 실패 (" + request.key + "): " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        T loaded = result;
+        SwingUtilities.invokeLater(() -> {
+            synchronized (lock) {
+                Long latest = latestGenerations.get(request.key);
+                if (latest == null || latest != generation) {
+                    return;  // 더 새로운 요청이 있거나 취소됨
+                }
+                latestGenerations.remove(request.key);
+            }
+            deliver(uiUpdater, loaded);
+        });
+    }
+
+    private static <T> void deliver(Consumer<T> uiUpdater, T result) {
+        try {
+            uiUpdater.accept(result);
+        } catch (Exception e) {
+            System.err.println("비동기 데이터 로드 실패: " + e.getMessage());
+            e.printStackTrace();
+            // 오류 발생 시 빈 결과로 UI 업데이트
+            uiUpdater.accept(null);
+        }
+    }
+}
@@ -17,33 +17,8 @@ public class BackupManager {
      */
     public static boolean backupAllData() {
         try {
-            String dataPath = DataPathManager.getDataPath();
-            String backupPath = DataPathManager.getBackupPath();
-            
-            // 백업 파일명: backup_YYYYMMDD_HHmmss.zip
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String backupFileName = "backup_" + timestamp + ".zip";
-            String backupFilePath = backupPath + File.separator + backupFileName;
-            
-            // ZIP 파일 생성
-            try (FileOutputStream fos = new FileOutputStream(backupFilePath);
-                 ZipOutputStream zos = new ZipOutputStream(fos)) {
-                
-                Path sourcePath = Paths.get(dataPath);
-                Files.walk(sourcePath)
-                    .filter(path -> !path.toString().contains("backups")) // 백업 폴더 제외
-                    .filter(Files::isRegularFile)
-                    .forEach(path -> {
-                        try {
-                            String zipEntryName = sourcePath.relativize(path).toString();
-                            zos.putNextEntry(new ZipEntry(zipEntryName));
-                            Files.copy(path, zos);
-                            zos.closeEntry();
-                        } catch (IOException e) {
-                            System.err.println("파일 백업 실패: " + path + " - " + e.getMessage());
-                        }
-                    });
-            }
+            File backupFile = createFullBackup();
+            String backupFileName = backupFile.getName();
             
             JOptionPane.showMessageDialog(
                 null,
@@ -64,6 +39,46 @@ public class BackupManager {
         }
     }
     
+    /**
+     * 전체 데이터를 backups 폴더에 ZIP으로 백업 (대화상자 없음, 백그라운드 작업용)
+     * 
+     * @return 생성된 백업 파일
+     */
+    public static File createFullBackup() throws IOException {
+        String dataPath = DataPathManager.getDataPath();
+        String backupPath = DataPathManager.getBackupPath();
+        
+        // 백업 파일명: backup_YYYYMMDD_HHmmss.zip
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        File backupFile = new File(backupPath, "backup_" + timestamp + ".zip");
+        
+        // ZIP 파일 생성
+        try (FileOutputStream fos = new FileOutputStream(backupFile);
+             ZipOutputStream zos = new ZipOutputStream(fos)) {
+            
+            Path sourcePath = Paths.get(dataPath);
+            try (var paths = Files.walk(sourcePath)) {
+                paths.filter(path -> !path.toString().contains("backups")) // 백업 폴더 제외
+                    .filter(Files::isRegularFile)
+                    .forEach(path -> {
+                        try {
+                            String zipEntryName = sourcePath.relativize(path).toString();
+                            zos.putNextEntry(new ZipEntry(zipEntryName));
+                            Files.copy(path, zos);
+                            zos.closeEntry();
+                        } catch (IOException e) {
+                            System.err.println("파일 백업 실패: " + path + " - " + e.getMessage());
+                        }
+                    });
+            }
+        } catch (IOException e) {
+            backupFile.delete();
+            throw e;
+        }
+        
+        return backupFile;
+    }
+    
     /**
      * 백업 파일에서 데이터 복원
      */
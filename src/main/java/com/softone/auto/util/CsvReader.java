@@ -0,0 +1,210 @@
+package com.softone.auto.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 파일 읽기 (RFC 4180, 스트리밍)
+ *
+ * FileChannel에서 직접(direct) 버퍼 단위로 읽어 디코딩하면서 한 레코드씩 파싱하므로
+ * 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+ * 큰따옴표로 감싼 값 안의 쉼표/줄바꿈/두 번 쓴 큰따옴표를 처리하고, 줄 끝은 CRLF/LF 모두 허용합니다.
+ * 닫는 따옴표 뒤에 구분자가 아닌 문자가 오면 값의 일부로 관대하게 처리합니다.
+ * CsvWriter가 수식으로 보이는 값 앞에 붙인 작은따옴표(')는 읽을 때 하나 제거합니다.
+ */
+public final class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    private final FileChannel channel;
+    private final long size;
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE / 2);
+    private final CharsetDecoder decoder;
+    private final StringBuilder field = new StringBuilder(256);
+
+    private boolean endOfInput;
+    private boolean decoderFlushed;
+    private boolean firstFill = true;
+    private boolean skipLineFeed;
+    private long line = 1;
+    private long recordLine;
+
+    /**
+     * @param charset 파일 인코딩 (UTF-8 BOM은 자동으로 건너뜀, 잘못된 바이트는 CharacterCodingException)
+     */
+    public CsvReader(Path source, Charset charset) throws IOException {
+        this.channel = FileChannel.open(source, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+        chars.flip();
+    }
+
+    /**
+     * 다음 레코드 (파일 끝이면 null, 빈 줄은 값 하나가 빈 레코드)
+     */
+    public List<String> readRecord() throws IOException {
+        List<String> record = new ArrayList<>();
+        int state = FIELD_START;
+        recordLine = line;
+
+        while (true) {
+            if (!chars.hasRemaining() && !fill()) {
+                if (state == FIELD_START && record.isEmpty()) {
+                    return null;
+                }
+                record.add(takeField());
+                return record;
+            }
+
+            char c = chars.get();
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+
+            switch (state) {
+                case FIELD_START:
+                    if (c == '"') {
+                        state = QUOTED;
+                    } else if (c == ',') {
+                        record.add("");
+                    } else if (c == '\r' || c == '\n') {
+                        endOfLine(c);
+                        record.add("");
+                        return record;
+                    } else {
+                        field.append(c);
+                        state = UNQUOTED;
+                    }
+                    break;
+                case UNQUOTED:
+                    if (c == ',') {
+                        record.add(takeField());
+                        state = FIELD_START;
+                    } else if (c == '\r' || c == '\n') {
+                        endOfLine(c);
+                        record.add(takeField());
+                        return record;
+                    } else {
+                        field.append(c);
+                    }
+                    break;
+                case QUOTED:
+                    if (c == '"') {
+                        state = QUOTE_IN_QUOTED;
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append(c);
+                    }
+                    break;
+                default: // QUOTE_IN_QUOTED
+                    if (c == '"') {
+                        field.append('"');
+                        state = QUOTED;
+                    } else if (c == ',') {
+                        record.add(takeField());
+                        state = FIELD_START;
+                    } else if (c == '\r' || c == '\n') {
+                        endOfLine(c);
+                        record.add(takeField());
+                        return record;
+                    } else {
+                        field.append(c);
+                        state = UNQUOTED;
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 줄 번호 (1부터, 오류 보고용)
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * 지금까지 읽은 바이트 수 (진행률 계산용, 버퍼 단위 근사값)
+     */
+    public long getBytesRead() throws IOException {
+        return channel.position() - bytes.position();
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    private void endOfLine(char c) {
+        skipLineFeed = c == '\r';
+        line++;
+    }
+
+    private String takeField() {
+        String value = field.toString();
+        field.setLength(0);
+        // CsvWriter가 수식 실행 방지로 붙인 작은따옴표 제거
+        return CsvWriter.isFormulaLike(value) && value.charAt(0) == '\'' ? value.substring(1) : value;
+    }
+
+    /**
+     * 다음 문자 묶음 디코딩
+     *
+     * @return 읽을 문자가 있으면 true, 파일 끝이면 false
+     */
+    private boolean fill() throws IOException {
+        chars.clear();
+        while (chars.position() == 0 && !decoderFlushed) {
+            if (!endOfInput && channel.read(bytes) < 0) {
+                endOfInput = true;
+            }
+            bytes.flip();
+            CoderResult result = decoder.decode(bytes, chars, endOfInput);
+            bytes.compact();
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (endOfInput && result.isUnderflow()) {
+                decoder.flush(chars);
+                decoderFlushed = true;
+            }
+        }
+        chars.flip();
+
+        if (firstFill) {
+            firstFill = false;
+            if (chars.hasRemaining() && chars.get(chars.position()) == '\uFEFF') {
+                chars.get();
+            }
+        }
+        return chars.hasRemaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,163 @@
+package com.softone.auto.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CSV 파일 쓰기 (RFC 4180)
+ *
+ * 행을 문자 버퍼에 모은 뒤 UTF-8로 직접(direct) 버퍼에 인코딩하고, 버퍼가 찰 때만 FileChannel에 씁니다.
+ * 쉼표/큰따옴표/줄바꿈이 있는 값만 큰따옴표로 감싸며(내부 큰따옴표는 두 번), 줄 끝은 CRLF입니다.
+ * Excel에서 한글이 깨지지 않도록 파일 앞에 UTF-8 BOM을 기록합니다.
+ * =, +, -, @로 시작하는 값은 Excel이 수식으로 실행하지 않도록 앞에 작은따옴표(')를 붙입니다
+ * (이미 작은따옴표로 시작하는 같은 형태의 값에도 하나 더 붙여 CsvReader로 읽으면 원래 값이 됨).
+ */
+public final class CsvWriter implements Closeable {
+
+    static final int BUFFER_SIZE = 1 << 20;
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final StringBuilder line = new StringBuilder(1024);
+    private int fieldCount;
+    private long rows;
+
+    public CsvWriter(Path target) throws IOException {
+        this.channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.put(UTF8_BOM);
+    }
+
+    /**
+     * 한 행 기록 (null은 빈 값)
+     */
+    public void writeRow(List<String> fields) throws IOException {
+        for (String field : fields) {
+            writeField(field);
+        }
+        endRow();
+    }
+
+    public void writeRow(String... fields) throws IOException {
+        writeRow(Arrays.asList(fields));
+    }
+
+    /**
+     * 현재 행에 값 추가 (행마다 목록을 만들지 않고 쓸 때 사용, endRow()로 마무리)
+     */
+    public void writeField(String value) {
+        if (fieldCount++ > 0) {
+            line.append(',');
+        }
+        appendField(value);
+    }
+
+    /**
+     * 현재 행 마무리
+     */
+    public void endRow() throws IOException {
+        line.append('\r').append('\n');
+        encode(CharBuffer.wrap(line));
+        line.setLength(0);
+        fieldCount = 0;
+        rows++;
+    }
+
+    /**
+     * 기록한 행 수 (머리글 포함)
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    private void appendField(String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (isFormulaLike(value)) {
+            value = "'" + value;
+        }
+        if (!needsQuotes(value)) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    /**
+     * 앞의 작은따옴표를 건너뛰고 수식 시작 문자(=, +, -, @)가 오는지
+     */
+    static boolean isFormulaLike(String value) {
+        int i = 0;
+        while (i < value.length() && value.charAt(i) == '\'') {
+            i++;
+        }
+        if (i == value.length()) {
+            return false;
+        }
+        char c = value.charAt(i);
+        return c == '=' || c == '+' || c == '-' || c == '@';
+    }
+
+    static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void encode(CharBuffer chars) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, false);
+            if (!result.isOverflow()) {
+                return;
+            }
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            encoder.encode(CharBuffer.allocate(0), buffer, true);
+            encoder.flush(buffer);
+            flushBuffer();
+        } finally {
+            channel.close();
+        }
+    }
+}
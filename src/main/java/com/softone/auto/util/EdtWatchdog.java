@@ -0,0 +1,419 @@
+package com.softone.auto.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.InvocationEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.PaintEvent;
+import java.awt.event.WindowEvent;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EDT 멈춤 감지기
+ *
+ * <p>시스템 EventQueue를 감싸 이벤트 하나의 처리 시간을 잰 뒤 동작별 응답 시간 히스토그램에 기록합니다.
+ * 별도 감시 스레드가 주기적으로 확인하여 이벤트 처리가 기준 시간을 넘기면 EDT 스택을 샘플링하고,
+ * 처리가 끝나면 멈춤 시간과 상위 프레임을 성능 로그(logs/performance.log)에 남깁니다.</p>
+ *
+ * <p>모달 다이얼로그처럼 이벤트 처리 안에서 다시 이벤트를 기다리는 구간은 멈춤으로 보지 않습니다.</p>
+ *
+ * 사용 예:
+ * <pre>
+ * EdtWatchdog.install();                       // 애플리케이션 시작 시 한 번
+ * EdtWatchdog.getInstance().getHistograms();   // 동작별 응답 시간
+ * </pre>
+ */
+@Slf4j(topic = "com.softone.auto.performance")
+public class EdtWatchdog {
+
+    /** 멈춤 기준 시간 */
+    static final long STALL_THRESHOLD_MS = 200;
+
+    /** 진행 중 멈춤 경고 시간 (교착 상태 등 끝나지 않는 멈춤 대비) */
+    private static final long ONGOING_WARNING_MS = 5000;
+
+    private static final long SAMPLE_INTERVAL_MS = 50;
+    private static final int MAX_SAMPLES = 200;
+    private static final int MAX_ACTIONS = 200;
+    private static final int MAX_RECENT_STALLS = 50;
+    private static final int REPORTED_FRAMES = 12;
+    private static final String APP_PACKAGE = "com.softone.auto.";
+    private static final String OTHER_ACTION = "기타";
+
+    private static EdtWatchdog instance;
+
+    private final ScheduledExecutorService sampler;
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Deque<StallEvent> recentStalls = new ArrayDeque<>();
+
+    /** 처리 중인 가장 안쪽 이벤트 (EDT에서만 변경) */
+    private volatile Dispatch current;
+    private volatile Thread edt;
+
+    /**
+     * 멈춤 이벤트
+     */
+    @Data
+    @AllArgsConstructor
+    public static class StallEvent {
+        private LocalDateTime occurredAt;
+        private long durationMillis;
+        private String action;
+        private String hotspot;
+        private int sampleCount;
+        private List<String> topFrames;
+    }
+
+    /**
+     * 처리 중인 이벤트 하나의 상태
+     */
+    private static final class Dispatch {
+        private final String action;
+        private final long startNanos;
+        /** 마지막으로 EDT가 일을 시작한 시각 (중첩 이벤트 처리나 모달 대기 후 갱신) */
+        private volatile long activeSinceNanos;
+        /** 중첩 이벤트 처리 여부 (모달 다이얼로그 등, 전체 시간은 응답 시간이 아님) */
+        private boolean nested;
+
+        private final List<StackTraceElement[]> samples = new ArrayList<>();
+        private long stallStartNanos;
+        private boolean warned;
+
+        private Dispatch(String action, long startNanos) {
+            this.action = action;
+            this.startNanos = startNanos;
+            this.activeSinceNanos = startNanos;
+        }
+
+        private synchronized void addSample(StackTraceElement[] stack, long stallStart) {
+            if (samples.isEmpty()) {
+                stallStartNanos = stallStart;
+            }
+            if (samples.size() < MAX_SAMPLES) {
+                samples.add(stack);
+            }
+        }
+
+        /**
+         * 수집 중인 멈춤 종료 (샘플이 없으면 null)
+         */
+        private synchronized StallEvent closeStall(long endNanos) {
+            if (samples.isEmpty()) {
+                return null;
+            }
+            StallEvent event = summarize(action, TimeUnit.NANOSECONDS.toMillis(endNanos - stallStartNanos), samples);
+            samples.clear();
+            warned = false;
+            return event;
+        }
+    }
+
+    /**
+     * 이벤트 처리 시간을 재는 EventQueue
+     */
+    private final class MonitoringEventQueue extends EventQueue {
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            edt = Thread.currentThread();
+            Dispatch outer = current;
+            if (outer != null) {
+                outer.nested = true;
+            }
+            Dispatch dispatch = new Dispatch(describe(event), System.nanoTime());
+            current = dispatch;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long end = System.nanoTime();
+                current = outer;
+                if (outer != null) {
+                    outer.activeSinceNanos = end;
+                }
+                finish(dispatch, end);
+            }
+        }
+    }
+
+    EdtWatchdog() {
+        this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "EdtWatchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 감지기 설치 (여러 번 호출해도 한 번만 설치)
+     */
+    public static synchronized EdtWatchdog install() {
+        if (instance == null) {
+            EdtWatchdog watchdog = new EdtWatchdog();
+            Toolkit.getDefaultToolkit().getSystemEventQueue().push(watchdog.new MonitoringEventQueue());
+            watchdog.sampler.scheduleAtFixedRate(watchdog::sample,
+                SAMPLE_INTERVAL_MS, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            instance = watchdog;
+            log.info("EDT 멈춤 감지 시작 (기준 {}ms)", STALL_THRESHOLD_MS);
+        }
+        return instance;
+    }
+
+    /**
+     * 설치된 감지기 (설치 전이면 null)
+     */
+    public static synchronized EdtWatchdog getInstance() {
+        return instance;
+    }
+
+    /**
+     * 동작별 응답 시간 히스토그램 (동작 이름순)
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        Map<String, LatencyHistogram> sorted = new LinkedHashMap<>();
+        histograms.keySet().stream().sorted().forEach(action -> sorted.put(action, histograms.get(action)));
+        return sorted;
+    }
+
+    /**
+     * 최근 멈춤 목록 (최신순)
+     */
+    public List<StallEvent> getRecentStalls() {
+        synchronized (recentStalls) {
+            return new ArrayList<>(recentStalls);
+        }
+    }
+
+    /**
+     * 수집한 통계 초기화
+     */
+    public void reset() {
+        histograms.clear();
+        synchronized (recentStalls) {
+            recentStalls.clear();
+        }
+    }
+
+    /**
+     * 이벤트 처리 완료 (EDT)
+     */
+    private void finish(Dispatch dispatch, long endNanos) {
+        if (!dispatch.nested) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(endNanos - dispatch.startNanos);
+            histogramFor(dispatch.action).record(millis);
+        }
+        StallEvent stall = dispatch.closeStall(endNanos);
+        if (stall != null) {
+            // 로그 기록(파일 I/O)은 EDT 밖에서
+            sampler.execute(() -> report(stall));
+        }
+    }
+
+    private LatencyHistogram histogramFor(String action) {
+        LatencyHistogram histogram = histograms.get(action);
+        if (histogram != null) {
+            return histogram;
+        }
+        String key = histograms.size() < MAX_ACTIONS ? action : OTHER_ACTION;
+        return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    /**
+     * 감시 스레드: 기준 시간을 넘긴 이벤트 처리 중이면 EDT 스택 샘플링
+     */
+    private void sample() {
+        try {
+            Dispatch dispatch = current;
+            Thread thread = edt;
+            if (dispatch == null || thread == null) {
+                return;
+            }
+
+            long now = System.nanoTime();
+            long activeSince = dispatch.activeSinceNanos;
+            if (now - activeSince < TimeUnit.MILLISECONDS.toNanos(STALL_THRESHOLD_MS)) {
+                return;
+            }
+
+            StackTraceElement[] stack = thread.getStackTrace();
+            if (current != dispatch) {
+                return;
+            }
+            if (isWaitingForEvents(stack)) {
+                // 모달 다이얼로그가 사용자 입력을 기다리는 중: 이전 멈춤이 있으면 여기서 종료
+                dispatch.activeSinceNanos = now;
+                StallEvent stall = dispatch.closeStall(now);
+                if (stall != null) {
+                    report(stall);
+                }
+                return;
+            }
+
+            dispatch.addSample(stack, activeSince);
+            warnIfOngoing(dispatch, now, stack);
+        } catch (Exception e) {
+            log.warn("EDT 샘플링 실패: {}", e.getMessage());
+        }
+    }
+
+    private void warnIfOngoing(Dispatch dispatch, long now, StackTraceElement[] stack) {
+        synchronized (dispatch) {
+            if (dispatch.warned || now - dispatch.stallStartNanos < TimeUnit.MILLISECONDS.toNanos(ONGOING_WARNING_MS)) {
+                return;
+            }
+            dispatch.warned = true;
+        }
+        StringBuilder message = new StringBuilder();
+        message.append("[EDT-STALL] ").append(ONGOING_WARNING_MS).append("ms 이상 차단 중 동작=").append(dispatch.action);
+        for (String frame : topFrames(stack)) {
+            message.append(System.lineSeparator()).append("    at ").append(frame);
+        }
+        log.warn(message.toString());
+    }
+
+    private void report(StallEvent stall) {
+        synchronized (recentStalls) {
+            recentStalls.addFirst(stall);
+            while (recentStalls.size() > MAX_RECENT_STALLS) {
+                recentStalls.removeLast();
+            }
+        }
+
+        StringBuilder message = new StringBuilder();
+        message.append("[EDT-STALL] ").append(stall.getDurationMillis()).append("ms")
+            .append(" 동작=").append(stall.getAction())
+            .append(" 위치=").append(stall.getHotspot())
+            .append(" 샘플=").append(stall.getSampleCount());
+        for (String frame : stall.getTopFrames()) {
+            message.append(System.lineSeparator()).append("    at ").append(frame);
+        }
+        log.warn(message.toString());
+    }
+
+    /**
+     * 샘플 요약: 가장 자주 잡힌 애플리케이션 프레임과 그 프레임이 포함된 마지막 스택의 상위 프레임
+     */
+    private static StallEvent summarize(String action, long durationMillis, List<StackTraceElement[]> samples) {
+        Map<String, Integer> hotspotCounts = new HashMap<>();
+        Map<String, StackTraceElement[]> representative = new HashMap<>();
+        for (StackTraceElement[] stack : samples) {
+            String hotspot = findHotspot(stack);
+            hotspotCounts.merge(hotspot, 1, Integer::sum);
+            representative.put(hotspot, stack);
+        }
+
+        String hotspot = Collections.max(hotspotCounts.entrySet(), Map.Entry.comparingByValue()).getKey();
+        return new StallEvent(
+            LocalDateTime.now(),
+            durationMillis,
+            action,
+            hotspot + " (" + hotspotCounts.get(hotspot) + "/" + samples.size() + ")",
+            samples.size(),
+            topFrames(representative.get(hotspot))
+        );
+    }
+
+    /**
+     * 스택에서 가장 위쪽의 애플리케이션 프레임 (없으면 최상단 프레임)
+     */
+    private static String findHotspot(StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack) {
+            String className = frame.getClassName();
+            if (className.startsWith(APP_PACKAGE)
+                    && !className.equals(EdtWatchdog.class.getName())
+                    && !className.startsWith(EdtWatchdog.class.getName() + "$")) {
+                return frame.toString();
+            }
+        }
+        return stack.length > 0 ? stack[0].toString() : "(알 수 없음)";
+    }
+
+    private static List<String> topFrames(StackTraceElement[] stack) {
+        List<String> frames = new ArrayList<>();
+        for (int i = 0; i < stack.length && frames.size() < REPORTED_FRAMES; i++) {
+            frames.add(stack[i].toString());
+        }
+        return frames;
+    }
+
+    /**
+     * EDT가 다음 이벤트를 기다리는 중인지 (모달 다이얼로그의 이벤트 루프)
+     */
+    private static boolean isWaitingForEvents(StackTraceElement[] stack) {
+        for (int i = 0; i < stack.length && i < 10; i++) {
+            if ("java.awt.EventQueue".equals(stack[i].getClassName())
+                    && "getNextEvent".equals(stack[i].getMethodName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 이벤트 → 동작 이름 (예: "WeeklyReportPanel › '저장' 클릭")
+     */
+    static String describe(AWTEvent event) {
+        if (event instanceof InvocationEvent) {
+            return "비동기 작업/타이머";
+        }
+        if (event instanceof PaintEvent) {
+            return "화면 그리기";
+        }
+        if (event instanceof MouseEvent) {
+            int id = event.getID();
+            if (id == MouseEvent.MOUSE_PRESSED || id == MouseEvent.MOUSE_RELEASED || id == MouseEvent.MOUSE_CLICKED) {
+                return describeComponent(event.getSource(), "클릭");
+            }
+            if (id == MouseEvent.MOUSE_WHEEL) {
+                return "스크롤";
+            }
+            return "마우스 이동";
+        }
+        if (event instanceof KeyEvent) {
+            return describeComponent(event.getSource(), "키 입력");
+        }
+        if (event instanceof WindowEvent) {
+            return "창 이벤트";
+        }
+        return "기타 이벤트";
+    }
+
+    private static String describeComponent(Object source, String kind) {
+        if (!(source instanceof Component)) {
+            return kind;
+        }
+
+        Component component = (Component) source;
+        String target = component.getClass().getSimpleName() + " " + kind;
+        if (component instanceof AbstractButton) {
+            String text = ((AbstractButton) component).getText();
+            if (text != null && !text.isBlank()) {
+                target = "'" + text.trim() + "' " + kind;
+            }
+        }
+
+        // 이벤트가 발생한 화면(패널/다이얼로그) 이름
+        for (Component parent = component.getParent(); parent != null; parent = parent.getParent()) {
+            Class<?> type = parent.getClass();
+            if (type.getName().startsWith(APP_PACKAGE) && !type.getSimpleName().isEmpty()) {
+                return type.getSimpleName() + " › " + target;
+            }
+        }
+        return target;
+    }
+}
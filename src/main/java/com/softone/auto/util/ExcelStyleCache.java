@@ -2,79 +2,108 @@ package com.softone.auto.util;
 
 import org.apache.poi.ss.usermodel.*;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Excel 스타일 캐싱 유틸리티
+ * Excel 스타일 캐시 (통합 문서 단위)
  * 동일한 스타일 객체를 재사용하여 메모리 사용량 감소 및 성능 향상
  * 
- * 주의: Workbook별로 스타일을 관리하므로, Workbook이 변경되면 캐시를 초기화해야 함
+ * 통합 문서마다 하나씩 만들어 통합 문서와 함께 버립니다.
+ * 정적 맵에 Workbook을 보관하지 않으므로 정리 호출을 빠뜨려도 통합 문서가 남지 않습니다.
+ * 하나의 통합 문서를 여러 스레드가 함께 쓰지 않으므로 동기화하지 않습니다.
  */
 public class ExcelStyleCache {
     
-    // Workbook별 스타일 캐시
-    private static final Map<Workbook, Map<String, CellStyle>> workbookStyleCache = new ConcurrentHashMap<>();
+    private final Workbook workbook;
+    private final Map<String, CellStyle> styles = new HashMap<>();
+    
+    public ExcelStyleCache(Workbook workbook) {
+        this.workbook = workbook;
+    }
     
     /**
      * 제목 스타일 가져오기 (캐싱)
      */
-    public static CellStyle getTitleStyle(Workbook workbook) {
-        return getOrCreateStyle(workbook, "title", () -> createTitleStyle(workbook));
+    public CellStyle getTitleStyle() {
+        return getOrCreateStyle("title", () -> createTitleStyle(workbook));
     }
     
     /**
      * 헤더 스타일 가져오기 (캐싱)
      */
-    public static CellStyle getHeaderStyle(Workbook workbook) {
-        return getOrCreateStyle(workbook, "header", () -> createHeaderStyle(workbook));
+    public CellStyle getHeaderStyle() {
+        return getOrCreateStyle("header", () -> createHeaderStyle(workbook));
     }
     
     /**
      * 레이블 스타일 가져오기 (캐싱)
      */
-    public static CellStyle getLabelStyle(Workbook workbook) {
-        return getOrCreateStyle(workbook, "label", () -> createLabelStyle(workbook));
+    public CellStyle getLabelStyle() {
+        return getOrCreateStyle("label", () -> createLabelStyle(workbook));
     }
     
     /**
      * 내용 스타일 가져오기 (캐싱)
      */
-    public static CellStyle getContentStyle(Workbook workbook) {
-        return getOrCreateStyle(workbook, "content", () -> createContentStyle(workbook));
+    public CellStyle getContentStyle() {
+        return getOrCreateStyle("content", () -> createContentStyle(workbook));
     }
     
     /**
      * 섹션 헤더 스타일 가져오기 (캐싱)
      */
-    public static CellStyle getSectionHeaderStyle(Workbook workbook) {
-        return getOrCreateStyle(workbook, "sectionHeader", () -> createSectionHeaderStyle(workbook));
+    public CellStyle getSectionHeaderStyle() {
+        return getOrCreateStyle("sectionHeader", () -> createSectionHeaderStyle(workbook));
     }
     
     /**
-     * 스타일 가져오기 또는 생성 (캐싱)
+     * 데이터 행 스타일 가져오기 (캐싱, 줄바꿈 없음 - 원본 데이터 내보내기용)
      */
-    private static CellStyle getOrCreateStyle(Workbook workbook, String styleName, StyleFactory factory) {
-        Map<String, CellStyle> styles = workbookStyleCache.computeIfAbsent(
-            workbook, 
-            k -> new ConcurrentHashMap<>()
-        );
-        
-        return styles.computeIfAbsent(styleName, k -> factory.create());
+    public CellStyle getDataStyle() {
+        return getOrCreateStyle("data", () -> createDataStyle(workbook, null));
+    }
+    
+    /**
+     * 날짜 셀 스타일 가져오기 (캐싱, yyyy-mm-dd)
+     */
+    public CellStyle getDateStyle() {
+        return getOrCreateStyle("date", () -> createDataStyle(workbook, "yyyy-mm-dd"));
+    }
+    
+    /**
+     * 일시 셀 스타일 가져오기 (캐싱, yyyy-mm-dd hh:mm)
+     */
+    public CellStyle getDateTimeStyle() {
+        return getOrCreateStyle("dateTime", () -> createDataStyle(workbook, "yyyy-mm-dd hh:mm"));
+    }
+    
+    /**
+     * 소수 한 자리 숫자 셀 스타일 가져오기 (캐싱, #,##0.0)
+     */
+    public CellStyle getDecimalStyle() {
+        return getOrCreateStyle("decimal", () -> createDataStyle(workbook, "#,##0.0"));
+    }
+    
+    /**
+     * 백분율 셀 스타일 가져오기 (캐싱, 0.0%)
+     */
+    public CellStyle getPercentStyle() {
+        return getOrCreateStyle("percent", () -> createDataStyle(workbook, "0.0%"));
     }
     
     /**
-     * Workbook별 캐시 초기화
+     * 캐시된 스타일 수
      */
-    public static void clearCache(Workbook workbook) {
-        workbookStyleCache.remove(workbook);
+    public int size() {
+        return styles.size();
     }
     
     /**
-     * 모든 캐시 초기화
+     * 스타일 가져오기 또는 생성 (캐싱)
      */
-    public static void clearAllCache() {
-        workbookStyleCache.clear();
+    private CellStyle getOrCreateStyle(String styleName, StyleFactory factory) {
+        return styles.computeIfAbsent(styleName, k -> factory.create());
     }
     
     /**
@@ -185,5 +214,21 @@ public class ExcelStyleCache {
         style.setBorderRight(BorderStyle.THIN);
         return style;
     }
+    
+    /**
+     * 데이터 행 스타일 생성 (형식 지정 시 날짜/일시 셀용)
+     */
+    private static CellStyle createDataStyle(Workbook workbook, String dataFormat) {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setFontHeightInPoints((short) 10);
+        font.setFontName("맑은 고딕");
+        style.setFont(font);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        if (dataFormat != null) {
+            style.setDataFormat(workbook.createDataFormat().getFormat(dataFormat));
+            style.setAlignment(HorizontalAlignment.CENTER);
+        }
+        return style;
+    }
 }
-
@@ -0,0 +1,463 @@
+package com.softone.auto.util;
+
+import org.apache.poi.ss.usermodel.Name;
+import org.apache.poi.ss.util.AreaReference;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 이름 정의 기반 Excel(.xlsx) 템플릿
+ *
+ * 템플릿을 한 번만 분석해 두고(compile), 보고서마다 첫 번째 시트의 XML만 새로 만들어 기록합니다.
+ * 스타일/공유 문자열/테마 등 나머지 패키지 파트는 캐시된 바이트를 그대로 복사하므로
+ * 보고서마다 통합 문서를 만들거나 파싱하지 않습니다.
+ *
+ * 값 셀은 이름 정의(단일 셀)로 지정하며, 채운 값은 인라인 문자열/숫자로 기록됩니다.
+ * 행 삽입은 이름 정의 셀 하나의 아래에만 지원하며, 이동하는 요소는 행과 병합 영역뿐입니다.
+ * 따라서 행 위치를 참조하는 요소(수식, 조건부 서식, 데이터 유효성 검사, 하이퍼링크, 자동 필터, 표, 그림/메모,
+ * 페이지 나누기, 인쇄 영역 등 값 셀 외의 이름 정의)나 네임스페이스 접두사가 붙은 시트 요소가 있는 템플릿은
+ * 분석 단계에서 거부합니다. 이런 요소가 필요하면 템플릿에서 빼거나 POI로 직접 작성해야 합니다.
+ * 컴파일된 템플릿은 불변이므로 여러 스레드에서 동시에 사용해도 안전합니다.
+ */
+public final class ExcelTemplate {
+
+    private static final Pattern ROW_PATTERN = Pattern.compile("<row\\b([^>]*?)(?:/>|>(.*?)</row>)", Pattern.DOTALL);
+    private static final Pattern CELL_PATTERN = Pattern.compile("<c\\b([^>]*?)(?:/>|>(.*?)</c>)", Pattern.DOTALL);
+    private static final Pattern MERGE_CELLS_PATTERN = Pattern.compile("<mergeCells\\b[^>]*>(.*?)</mergeCells>", Pattern.DOTALL);
+    private static final Pattern MERGE_REF_PATTERN = Pattern.compile("<mergeCell\\b[^>]*ref=\"([^\"]+)\"");
+    private static final Pattern DIMENSION_PATTERN = Pattern.compile("<dimension\\b[^>]*/>");
+    private static final Pattern DEFINED_NAMES_PATTERN = Pattern.compile("<definedNames>(.*?)</definedNames>", Pattern.DOTALL);
+    private static final Pattern R_ATTR_PATTERN = Pattern.compile("\\sr=\"([^\"]*)\"");
+    private static final Pattern T_ATTR_PATTERN = Pattern.compile("\\st=\"[^\"]*\"");
+    private static final Pattern ROW_LAYOUT_ATTR_PATTERN = Pattern.compile("\\s(?:r|spans|ht|customHeight)=\"[^\"]*\"");
+    private static final Pattern HEIGHT_ATTR_PATTERN = Pattern.compile("\\sht=\"([^\"]*)\"");
+    private static final Pattern UNSUPPORTED_ELEMENT_PATTERN = Pattern.compile(
+        "<(?:\\w+:)?(f|conditionalFormatting|dataValidations|hyperlinks|autoFilter|tableParts|drawing|legacyDrawing|rowBreaks)\\b");
+    private static final Pattern PREFIXED_ELEMENT_PATTERN = Pattern.compile("<\\w+:(\\w+)");
+
+    private final Map<String, byte[]> parts;           // 패키지 파트 (기록 순서 유지)
+    private final String sheetPartName;
+    private final String workbookPartName;
+    private final byte[] workbookXml;                 // 템플릿용 이름 정의를 제거한 workbook.xml
+    private final String sheetHead;                   // <sheetData>까지
+    private final List<TemplateRow> rows;
+    private final String sheetTailBeforeMerges;
+    private final List<CellRangeAddress> merges;
+    private final String sheetTailAfterMerges;
+    private final Map<String, CellReference> names;
+
+    /**
+     * 템플릿 행 (r/ht 외 속성과 셀)
+     */
+    private static final class TemplateRow {
+        final int index;
+        final String attributes;
+        final String height;
+        final List<TemplateCell> cells = new ArrayList<>();
+
+        TemplateRow(int index, String attributes, String height) {
+            this.index = index;
+            this.attributes = attributes;
+            this.height = height;
+        }
+    }
+
+    /**
+     * 템플릿 셀 (r 외 속성과 원래 내용)
+     */
+    private static final class TemplateCell {
+        final int column;
+        final String attributes;
+        final String content;   // null이면 빈 셀
+
+        TemplateCell(int column, String attributes, String content) {
+            this.column = column;
+            this.attributes = attributes;
+            this.content = content;
+        }
+    }
+
+    private ExcelTemplate(Map<String, byte[]> parts, String sheetPartName, String workbookPartName, byte[] workbookXml,
+                          String sheetXml, Map<String, CellReference> names) {
+        this.parts = parts;
+        this.sheetPartName = sheetPartName;
+        this.workbookPartName = workbookPartName;
+        this.workbookXml = workbookXml;
+        this.names = names;
+
+        int dataStart = sheetXml.indexOf("<sheetData>");
+        int dataEnd = sheetXml.indexOf("</sheetData>");
+        if (dataStart < 0 || dataEnd < 0) {
+            throw new IllegalArgumentException("템플릿 시트에 행이 없습니다.");
+        }
+        this.sheetHead = DIMENSION_PATTERN.matcher(sheetXml.substring(0, dataStart)).replaceFirst("") + "<sheetData>";
+        this.rows = parseRows(sheetXml.substring(dataStart + "<sheetData>".length(), dataEnd));
+
+        String tail = sheetXml.substring(dataEnd);
+        Matcher mergeMatcher = MERGE_CELLS_PATTERN.matcher(tail);
+        List<CellRangeAddress> parsedMerges = new ArrayList<>();
+        if (mergeMatcher.find()) {
+            Matcher refMatcher = MERGE_REF_PATTERN.matcher(mergeMatcher.group(1));
+            while (refMatcher.find()) {
+                parsedMerges.add(CellRangeAddress.valueOf(refMatcher.group(1)));
+            }
+            this.sheetTailBeforeMerges = tail.substring(0, mergeMatcher.start());
+            this.sheetTailAfterMerges = tail.substring(mergeMatcher.end());
+        } else {
+            int insertAt = tail.indexOf("</sheetData>") + "</sheetData>".length();
+            this.sheetTailBeforeMerges = tail.substring(0, insertAt);
+            this.sheetTailAfterMerges = tail.substring(insertAt);
+        }
+        this.merges = Collections.unmodifiableList(parsedMerges);
+
+        for (Map.Entry<String, CellReference> name : names.entrySet()) {
+            boolean exists = rows.stream()
+                .filter(row -> row.index == name.getValue().getRow())
+                .flatMap(row -> row.cells.stream())
+                .anyMatch(cell -> cell.column == name.getValue().getCol());
+            if (!exists) {
+                throw new IllegalArgumentException("이름 정의 셀이 템플릿에 없습니다 (서식을 지정해 두어야 함): " + name.getKey());
+            }
+        }
+    }
+
+    /**
+     * 템플릿 분석 (첫 번째 시트의 단일 셀 이름 정의를 값 셀로 사용)
+     */
+    public static ExcelTemplate compile(byte[] xlsx) throws IOException {
+        Map<String, CellReference> names = new HashMap<>();
+        String sheetPartName;
+        String workbookPartName;
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(xlsx))) {
+            XSSFSheet sheet = workbook.getSheetAt(0);
+            sheetPartName = sheet.getPackagePart().getPartName().getName().substring(1);
+            workbookPartName = workbook.getPackagePart().getPartName().getName().substring(1);
+            for (Name name : workbook.getAllNames()) {
+                if (name.getRefersToFormula() == null) {
+                    continue;
+                }
+                CellReference ref = null;
+                if (!name.getNameName().startsWith("_xlnm")) {
+                    try {
+                        AreaReference area = new AreaReference(name.getRefersToFormula(), SpreadsheetVersion.EXCEL2007);
+                        if (area.isSingleCell() && sheet.getSheetName().equals(area.getFirstCell().getSheetName())) {
+                            ref = area.getFirstCell();
+                        }
+                    } catch (IllegalArgumentException e) {
+                        // 셀 참조가 아닌 이름 정의(상수, 수식)는 값 셀이 아님
+                    }
+                }
+                if (ref == null) {
+                    // 인쇄 영역/제목, 범위 이름 등은 행 삽입 시 함께 옮기지 못함
+                    throw new IllegalArgumentException("템플릿에 값 셀이 아닌 이름 정의가 있습니다 (지원하지 않음): " + name.getNameName());
+                }
+                names.put(name.getNameName(), new CellReference(ref.getRow(), ref.getCol()));
+            }
+        }
+
+        Map<String, byte[]> parts = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(xlsx))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                parts.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+
+        String sheetXml = new String(parts.get(sheetPartName), StandardCharsets.UTF_8);
+        checkSupported(sheetXml);
+        byte[] workbookXml = removeDefinedNames(
+            new String(parts.get(workbookPartName), StandardCharsets.UTF_8), names.keySet()).getBytes(StandardCharsets.UTF_8);
+        return new ExcelTemplate(parts, sheetPartName, workbookPartName, workbookXml, sheetXml,
+            Collections.unmodifiableMap(names));
+    }
+
+    /**
+     * 행 삽입 시 옮기지 못하는 요소나 정규식으로 읽을 수 없는 접두사 행/셀이 시트에 있으면 거부
+     * (시트 데이터 밖의 확장 요소 등은 그대로 복사)
+     */
+    private static void checkSupported(String sheetXml) {
+        Matcher unsupported = UNSUPPORTED_ELEMENT_PATTERN.matcher(sheetXml);
+        if (unsupported.find()) {
+            throw new IllegalArgumentException("템플릿 시트에 지원하지 않는 요소가 있습니다: " + unsupported.group(1));
+        }
+        int dataStart = sheetXml.indexOf("<sheetData>");
+        int dataEnd = sheetXml.indexOf("</sheetData>");
+        Matcher prefixed = PREFIXED_ELEMENT_PATTERN.matcher(sheetXml);
+        while (prefixed.find()) {
+            boolean inSheetData = dataStart >= 0 && dataEnd >= 0 && prefixed.start() > dataStart && prefixed.start() < dataEnd;
+            if (inSheetData || dataStart < 0 || "worksheet".equals(prefixed.group(1)) || "sheetData".equals(prefixed.group(1))) {
+                throw new IllegalArgumentException("템플릿 시트에 네임스페이스 접두사가 붙은 요소가 있습니다 (지원하지 않음): "
+                    + prefixed.group());
+            }
+        }
+    }
+
+    /**
+     * 이름 정의 셀 위치 (템플릿 기준, 0부터 시작)
+     */
+    public CellReference getCell(String name) {
+        CellReference ref = names.get(name);
+        if (ref == null) {
+            throw new IllegalStateException("템플릿에 이름 정의가 없습니다: " + name);
+        }
+        return ref;
+    }
+
+    /**
+     * 보고서 한 건의 값 채우기 시작
+     */
+    public Fill fill() {
+        return new Fill();
+    }
+
+    /**
+     * 보고서 한 건의 값 (호출 스레드 전용)
+     */
+    public final class Fill {
+        private final Map<Long, Object> values = new HashMap<>();
+        private final Map<Integer, Float> heights = new HashMap<>();
+        private CellReference repeatCell;
+        private List<String> repeatValues = List.of();
+
+        private Fill() {
+        }
+
+        public Fill text(String name, String value) {
+            CellReference ref = getCell(name);
+            values.put(key(ref.getRow(), ref.getCol()), value != null ? value : "");
+            return this;
+        }
+
+        public Fill number(String name, double value) {
+            CellReference ref = getCell(name);
+            values.put(key(ref.getRow(), ref.getCol()), value);
+            return this;
+        }
+
+        /**
+         * 여러 줄 텍스트 (줄 수에 맞춰 행 높이 조정)
+         */
+        public Fill multiline(String name, String value) {
+            text(name, value);
+            heights.put(getCell(name).getRow(), multilineHeight(value));
+            return this;
+        }
+
+        /**
+         * 이름 정의 셀 아래에 빈 행 하나씩을 두고 같은 모양의 행을 추가 (아래 행은 밀려남)
+         */
+        public Fill repeatBelow(String name, List<String> additionalValues) {
+            repeatCell = getCell(name);
+            repeatValues = additionalValues;
+            return this;
+        }
+
+        /**
+         * .xlsx 기록 (스트림은 닫지 않음)
+         */
+        public void write(OutputStream out) throws IOException {
+            OutputStream unclosable = new FilterOutputStream(out) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+            try (ZipOutputStream zip = new ZipOutputStream(unclosable, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, byte[]> part : parts.entrySet()) {
+                    zip.putNextEntry(new ZipEntry(part.getKey()));
+                    if (part.getKey().equals(sheetPartName)) {
+                        zip.write(renderSheet().getBytes(StandardCharsets.UTF_8));
+                    } else if (part.getKey().equals(workbookPartName)) {
+                        zip.write(workbookXml);
+                    } else {
+                        zip.write(part.getValue());
+                    }
+                    zip.closeEntry();
+                }
+            }
+        }
+
+        private String renderSheet() {
+            int repeatRow = repeatCell != null ? repeatCell.getRow() : Integer.MAX_VALUE;
+            int shift = repeatValues.size() * 2;
+
+            StringBuilder xml = new StringBuilder(sheetHead.length() + sheetTailAfterMerges.length() + 8192);
+            xml.append(sheetHead);
+            for (TemplateRow row : rows) {
+                int target = row.index > repeatRow ? row.index + shift : row.index;
+                appendRow(xml, row, target, heights.get(row.index), null);
+                if (row.index == repeatRow) {
+                    for (int i = 0; i < repeatValues.size(); i++) {
+                        String value = repeatValues.get(i);
+                        appendRow(xml, row, repeatRow + (i + 1) * 2, multilineHeight(value), value);
+                    }
+                }
+            }
+            xml.append(sheetTailBeforeMerges);
+
+            List<CellRangeAddress> shifted = new ArrayList<>(merges.size() + repeatValues.size());
+            for (CellRangeAddress merge : merges) {
+                if (merge.getFirstRow() > repeatRow) {
+                    shifted.add(new CellRangeAddress(merge.getFirstRow() + shift, merge.getLastRow() + shift,
+                        merge.getFirstColumn(), merge.getLastColumn()));
+                } else {
+                    shifted.add(merge);
+                    if (merge.getFirstRow() == repeatRow && merge.getLastRow() == repeatRow) {
+                        for (int i = 1; i <= repeatValues.size(); i++) {
+                            shifted.add(new CellRangeAddress(repeatRow + i * 2, repeatRow + i * 2,
+                                merge.getFirstColumn(), merge.getLastColumn()));
+                        }
+                    }
+                }
+            }
+            if (!shifted.isEmpty()) {
+                xml.append("<mergeCells count=\"").append(shifted.size()).append("\">");
+                for (CellRangeAddress merge : shifted) {
+                    xml.append("<mergeCell ref=\"").append(merge.formatAsString()).append("\"/>");
+                }
+                xml.append("</mergeCells>");
+            }
+            xml.append(sheetTailAfterMerges);
+            return xml.toString();
+        }
+
+        /**
+         * 행 기록 (repeatValue가 있으면 반복 셀에 그 값을 기록)
+         */
+        private void appendRow(StringBuilder xml, TemplateRow row, int target, Float heightOverride, String repeatValue) {
+            String rowNumber = String.valueOf(target + 1);
+            xml.append("<row r=\"").append(rowNumber).append('"').append(row.attributes);
+            if (heightOverride != null) {
+                xml.append(" ht=\"").append(heightOverride).append("\" customHeight=\"1\"");
+            } else if (row.height != null) {
+                xml.append(" ht=\"").append(row.height).append("\" customHeight=\"1\"");
+            }
+            xml.append('>');
+
+            for (TemplateCell cell : row.cells) {
+                Object value = repeatValue != null
+                    ? (cell.column == repeatCell.getCol() ? repeatValue : null)
+                    : values.get(key(row.index, cell.column));
+                xml.append("<c r=\"").append(CellReference.convertNumToColString(cell.column)).append(rowNumber).append('"');
+                if (value instanceof String text) {
+                    xml.append(T_ATTR_PATTERN.matcher(cell.attributes).replaceAll(""))
+                        .append(" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                    appendEscaped(xml, text);
+                    xml.append("</t></is></c>");
+                } else if (value instanceof Double number) {
+                    xml.append(T_ATTR_PATTERN.matcher(cell.attributes).replaceAll("")).append("><v>");
+                    xml.append(number == Math.rint(number) ? String.valueOf(number.longValue()) : number.toString());
+                    xml.append("</v></c>");
+                } else if (repeatValue != null || cell.content == null) {
+                    // 추가 행의 나머지 셀은 스타일만 복사
+                    xml.append(repeatValue != null ? T_ATTR_PATTERN.matcher(cell.attributes).replaceAll("") : cell.attributes)
+                        .append("/>");
+                } else {
+                    xml.append(cell.attributes).append('>').append(cell.content).append("</c>");
+                }
+            }
+            xml.append("</row>");
+        }
+    }
+
+    private static List<TemplateRow> parseRows(String sheetData) {
+        List<TemplateRow> parsed = new ArrayList<>();
+        Matcher rowMatcher = ROW_PATTERN.matcher(sheetData);
+        while (rowMatcher.find()) {
+            String attributes = rowMatcher.group(1);
+            Matcher rowNumber = R_ATTR_PATTERN.matcher(attributes);
+            if (!rowNumber.find()) {
+                throw new IllegalArgumentException("행 번호가 없는 행은 지원하지 않습니다.");
+            }
+            Matcher height = HEIGHT_ATTR_PATTERN.matcher(attributes);
+            TemplateRow row = new TemplateRow(Integer.parseInt(rowNumber.group(1)) - 1,
+                ROW_LAYOUT_ATTR_PATTERN.matcher(attributes).replaceAll(""), height.find() ? height.group(1) : null);
+
+            if (rowMatcher.group(2) != null) {
+                Matcher cellMatcher = CELL_PATTERN.matcher(rowMatcher.group(2));
+                while (cellMatcher.find()) {
+                    String cellAttributes = cellMatcher.group(1);
+                    Matcher cellRef = R_ATTR_PATTERN.matcher(cellAttributes);
+                    if (!cellRef.find()) {
+                        throw new IllegalArgumentException("셀 주소가 없는 셀은 지원하지 않습니다.");
+                    }
+                    row.cells.add(new TemplateCell(new CellReference(cellRef.group(1)).getCol(),
+                        R_ATTR_PATTERN.matcher(cellAttributes).replaceFirst(""), cellMatcher.group(2)));
+                }
+            }
+            parsed.add(row);
+        }
+        return Collections.unmodifiableList(parsed);
+    }
+
+    /**
+     * 템플릿 값 셀용 이름 정의 제거 (출력 파일에서는 행이 밀려 위치가 맞지 않음)
+     */
+    private static String removeDefinedNames(String workbookXml, Iterable<String> templateNames) {
+        Matcher matcher = DEFINED_NAMES_PATTERN.matcher(workbookXml);
+        if (!matcher.find()) {
+            return workbookXml;
+        }
+        String definedNames = matcher.group(1);
+        for (String name : templateNames) {
+            definedNames = definedNames.replaceAll(
+                "<definedName\\b[^>]*\\bname=\"" + Pattern.quote(name) + "\"[^>]*>[^<]*</definedName>", "");
+        }
+        String replacement = definedNames.isBlank() ? "" : "<definedNames>" + definedNames + "</definedNames>";
+        return workbookXml.substring(0, matcher.start()) + replacement + workbookXml.substring(matcher.end());
+    }
+
+    private static float multilineHeight(String value) {
+        int lineCount = value == null || value.isEmpty() ? 1 : value.split("\n").length;
+        return Math.max(20, lineCount * 15);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 16) | column;
+    }
+
+    /**
+     * XML 텍스트 이스케이프 (XML에서 허용되지 않는 제어 문자는 제거)
+     */
+    private static void appendEscaped(StringBuilder xml, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            switch (ch) {
+                case '&' -> xml.append("&amp;");
+                case '<' -> xml.append("&lt;");
+                case '>' -> xml.append("&gt;");
+                case '"' -> xml.append("&quot;");
+                default -> {
+                    if (ch >= 0x20 || ch == '\n' || ch == '\r' || ch == '\t') {
+                        xml.append(ch);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.softone.auto.util;
+
+/**
+ * 응답 시간 히스토그램
+ *
+ * <p>고정 구간(ms)별 건수만 저장하므로 기록 횟수와 무관하게 메모리 사용량이 일정합니다.
+ * 백분위 값은 해당 구간의 상한으로 근사합니다. (마지막 구간은 최대값)</p>
+ */
+public class LatencyHistogram {
+
+    /** 구간 상한 (ms) - 16ms는 60fps 한 프레임 */
+    public static final long[] BUCKET_LIMITS_MS = {16, 33, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    private final long[] counts = new long[BUCKET_LIMITS_MS.length + 1];
+    private long totalCount;
+    private long totalMillis;
+    private long maxMillis;
+
+    /**
+     * 응답 시간 기록
+     */
+    public synchronized void record(long millis) {
+        counts[bucketOf(millis)]++;
+        totalCount++;
+        totalMillis += millis;
+        maxMillis = Math.max(maxMillis, millis);
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMaxMillis() {
+        return maxMillis;
+    }
+
+    public synchronized double getAverageMillis() {
+        return totalCount == 0 ? 0 : (double) totalMillis / totalCount;
+    }
+
+    /**
+     * 기준 시간(ms)을 넘은 기록 건수 (구간 단위 근사)
+     */
+    public synchronized long countAbove(long thresholdMillis) {
+        long count = 0;
+        for (int i = bucketOf(thresholdMillis) + 1; i < counts.length; i++) {
+            count += counts[i];
+        }
+        return count;
+    }
+
+    /**
+     * 백분위 응답 시간 (예: 0.95 → p95)
+     */
+    public synchronized long getPercentileMillis(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(totalCount * percentile);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return i < BUCKET_LIMITS_MS.length ? Math.min(BUCKET_LIMITS_MS[i], maxMillis) : maxMillis;
+            }
+        }
+        return maxMillis;
+    }
+
+    private static int bucketOf(long millis) {
+        for (int i = 0; i < BUCKET_LIMITS_MS.length; i++) {
+            if (millis <= BUCKET_LIMITS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_LIMITS_MS.length;
+    }
+}
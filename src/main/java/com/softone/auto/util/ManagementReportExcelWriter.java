@@ -0,0 +1,289 @@
+package com.softone.auto.util;
+
+import com.softone.auto.model.ManagementReport;
+import com.softone.auto.model.ManagementReport.AttendanceRow;
+import com.softone.auto.model.ManagementReport.CommunicationRow;
+import com.softone.auto.model.ManagementReport.IssueRow;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 경영 보고서 Excel 생성 유틸리티
+ *
+ * 요약(회사×기간), 근태(개발자×기간), 이슈, 고객 소통 시트를 만듭니다.
+ * 집계는 이미 SQL에서 끝난 행이므로 여기서는 시간 단위 변환과 요약 병합만 합니다.
+ * 여러 회사가 있으면 요약 시트 끝에 기간별 전체 합계를 붙입니다.
+ */
+public final class ManagementReportExcelWriter {
+
+    private static final int ROW_WINDOW = 500;
+    private static final String ALL_COMPANIES = "전체";
+
+    private ManagementReportExcelWriter() {
+    }
+
+    private enum Format {
+        TEXT, INTEGER, DECIMAL, PERCENT
+    }
+
+    /**
+     * 시트 열 정의
+     */
+    private static final class Column<T> {
+        final String header;
+        final Format format;
+        final int width;
+        final Function<T, Object> value;
+
+        Column(String header, Format format, int width, Function<T, Object> value) {
+            this.header = header;
+            this.format = format;
+            this.width = width;
+            this.value = value;
+        }
+    }
+
+    /**
+     * 요약 시트 행 (회사×기간, 세 집계를 병합)
+     */
+    private static final class SummaryRow {
+        String companyName;
+        String period;
+        int developers;
+        int workedDays;
+        long workMinutes;
+        int lateDays;
+        int absentDays;
+        int leaveDays;
+        final IssueRow issues = new IssueRow();
+        final CommunicationRow communications = new CommunicationRow();
+
+        void add(SummaryRow other) {
+            developers += other.developers;
+            workedDays += other.workedDays;
+            workMinutes += other.workMinutes;
+            lateDays += other.lateDays;
+            absentDays += other.absentDays;
+            leaveDays += other.leaveDays;
+            issues.setCreated(issues.getCreated() + other.issues.getCreated());
+            issues.setResolved(issues.getResolved() + other.issues.getResolved());
+            issues.setResolutionDays(issues.getResolutionDays() + other.issues.getResolutionDays());
+            communications.setTotal(communications.getTotal() + other.communications.getTotal());
+            communications.setCompleted(communications.getCompleted() + other.communications.getCompleted());
+            communications.setOverdue(communications.getOverdue() + other.communications.getOverdue());
+            communications.setTurnaroundDays(
+                communications.getTurnaroundDays() + other.communications.getTurnaroundDays());
+        }
+    }
+
+    private static final List<Column<SummaryRow>> SUMMARY_COLUMNS = List.of(
+        new Column<>("회사", Format.TEXT, 5000, r -> r.companyName),
+        new Column<>("기간", Format.TEXT, 2800, r -> r.period),
+        new Column<>("인원", Format.INTEGER, 2000, r -> r.developers),
+        new Column<>("출근일", Format.INTEGER, 2400, r -> r.workedDays),
+        new Column<>("근무시간(h)", Format.DECIMAL, 3200, r -> hours(r.workMinutes)),
+        new Column<>("지각", Format.INTEGER, 2000, r -> r.lateDays),
+        new Column<>("결근", Format.INTEGER, 2000, r -> r.absentDays),
+        new Column<>("휴가", Format.INTEGER, 2000, r -> r.leaveDays),
+        new Column<>("이슈 접수", Format.INTEGER, 2800, r -> r.issues.getCreated()),
+        new Column<>("이슈 해결", Format.INTEGER, 2800, r -> r.issues.getResolved()),
+        new Column<>("순증감", Format.INTEGER, 2400, r -> r.issues.getNetChange()),
+        new Column<>("평균 해결일", Format.DECIMAL, 3000, r -> r.issues.getAverageResolutionDays()),
+        new Column<>("소통 건수", Format.INTEGER, 2800, r -> r.communications.getTotal()),
+        new Column<>("완료율", Format.PERCENT, 2400, r -> r.communications.getCompletionRate()),
+        new Column<>("평균 처리일", Format.DECIMAL, 3000, r -> r.communications.getAverageTurnaroundDays()),
+        new Column<>("기한 초과", Format.INTEGER, 2800, r -> r.communications.getOverdue()));
+
+    private static final List<Column<AttendanceRow>> ATTENDANCE_COLUMNS = List.of(
+        new Column<>("회사", Format.TEXT, 5000, AttendanceRow::getCompanyName),
+        new Column<>("기간", Format.TEXT, 2800, AttendanceRow::getPeriod),
+        new Column<>("개발자", Format.TEXT, 3500, AttendanceRow::getDeveloperName),
+        new Column<>("기록일", Format.INTEGER, 2400, AttendanceRow::getTotalDays),
+        new Column<>("출근일", Format.INTEGER, 2400, AttendanceRow::getWorkedDays),
+        new Column<>("지각", Format.INTEGER, 2000, AttendanceRow::getLateDays),
+        new Column<>("조퇴", Format.INTEGER, 2000, AttendanceRow::getEarlyLeaveDays),
+        new Column<>("결근", Format.INTEGER, 2000, AttendanceRow::getAbsentDays),
+        new Column<>("휴가", Format.INTEGER, 2000, AttendanceRow::getLeaveDays),
+        new Column<>("근무시간(h)", Format.DECIMAL, 3200, r -> hours(r.getWorkMinutes())),
+        new Column<>("일평균(h)", Format.DECIMAL, 3000, r -> r.getAverageWorkMinutes() / 60));
+
+    private static final List<Column<IssueRow>> ISSUE_COLUMNS = List.of(
+        new Column<>("회사", Format.TEXT, 5000, IssueRow::getCompanyName),
+        new Column<>("기간", Format.TEXT, 2800, IssueRow::getPeriod),
+        new Column<>("접수", Format.INTEGER, 2400, IssueRow::getCreated),
+        new Column<>("접수(높음)", Format.INTEGER, 3000, IssueRow::getHighSeverity),
+        new Column<>("해결", Format.INTEGER, 2400, IssueRow::getResolved),
+        new Column<>("순증감", Format.INTEGER, 2400, IssueRow::getNetChange),
+        new Column<>("평균 해결일", Format.DECIMAL, 3000, IssueRow::getAverageResolutionDays));
+
+    private static final List<Column<CommunicationRow>> COMMUNICATION_COLUMNS = List.of(
+        new Column<>("회사", Format.TEXT, 5000, CommunicationRow::getCompanyName),
+        new Column<>("기간", Format.TEXT, 2800, CommunicationRow::getPeriod),
+        new Column<>("건수", Format.INTEGER, 2400, CommunicationRow::getTotal),
+        new Column<>("우선순위 높음", Format.INTEGER, 3400, CommunicationRow::getHighPriority),
+        new Column<>("완료", Format.INTEGER, 2400, CommunicationRow::getCompleted),
+        new Column<>("완료율", Format.PERCENT, 2400, CommunicationRow::getCompletionRate),
+        new Column<>("평균 처리일", Format.DECIMAL, 3000, CommunicationRow::getAverageTurnaroundDays),
+        new Column<>("기한 초과", Format.INTEGER, 2800, CommunicationRow::getOverdue));
+
+    /**
+     * 경영 보고서를 Excel 파일로 기록 (실패하면 파일을 남기지 않음)
+     */
+    public static void write(ManagementReport report, File target) throws IOException {
+        boolean completed = false;
+        try (OutputStream out = new FileOutputStream(target)) {
+            write(report, out);
+            completed = true;
+        } finally {
+            if (!completed && target.exists() && !target.delete()) {
+                System.err.println("미완성 파일 삭제 실패: " + target.getAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * 경영 보고서를 스트림에 기록 (스트림은 닫지 않음)
+     */
+    public static void write(ManagementReport report, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(null, ROW_WINDOW, true);
+        try {
+            ExcelStyleCache styles = new ExcelStyleCache(workbook);
+            String title = String.format("경영 보고서 (%s) %s ~ %s - %s", report.getPeriodType(),
+                report.getFromMonth(), report.getToMonth(), report.getScope());
+
+            writeSheet(workbook, styles, "요약", title, SUMMARY_COLUMNS, summarize(report));
+            writeSheet(workbook, styles, "근태", title, ATTENDANCE_COLUMNS, report.getAttendance());
+            writeSheet(workbook, styles, "이슈", title, ISSUE_COLUMNS, report.getIssues());
+            writeSheet(workbook, styles, "고객 소통", title, COMMUNICATION_COLUMNS, report.getCommunications());
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * 세 집계를 (회사, 기간)별로 병합하고 회사가 여럿이면 기간별 전체 합계 추가
+     */
+    private static List<SummaryRow> summarize(ManagementReport report) {
+        Map<String, SummaryRow> byKey = new LinkedHashMap<>();
+
+        for (AttendanceRow row : report.getAttendance()) {
+            SummaryRow summary = summaryRow(byKey, row.getCompanyId(), row.getCompanyName(), row.getPeriod());
+            summary.developers++;
+            summary.workedDays += row.getWorkedDays();
+            summary.workMinutes += row.getWorkMinutes();
+            summary.lateDays += row.getLateDays();
+            summary.absentDays += row.getAbsentDays();
+            summary.leaveDays += row.getLeaveDays();
+        }
+        for (IssueRow row : report.getIssues()) {
+            SummaryRow summary = summaryRow(byKey, row.getCompanyId(), row.getCompanyName(), row.getPeriod());
+            summary.issues.setCreated(row.getCreated());
+            summary.issues.setResolved(row.getResolved());
+            summary.issues.setResolutionDays(row.getResolutionDays());
+        }
+        for (CommunicationRow row : report.getCommunications()) {
+            SummaryRow summary = summaryRow(byKey, row.getCompanyId(), row.getCompanyName(), row.getPeriod());
+            summary.communications.setTotal(row.getTotal());
+            summary.communications.setCompleted(row.getCompleted());
+            summary.communications.setOverdue(row.getOverdue());
+            summary.communications.setTurnaroundDays(row.getTurnaroundDays());
+        }
+
+        List<SummaryRow> rows = new ArrayList<>(byKey.values());
+        rows.sort(Comparator.comparing((SummaryRow r) -> r.companyName).thenComparing(r -> r.period));
+
+        if (rows.stream().map(r -> r.companyName).distinct().count() > 1) {
+            Map<String, SummaryRow> totals = new TreeMap<>();
+            for (SummaryRow row : rows) {
+                totals.computeIfAbsent(row.period, period -> {
+                    SummaryRow total = new SummaryRow();
+                    total.companyName = ALL_COMPANIES;
+                    total.period = period;
+                    return total;
+                }).add(row);
+            }
+            rows.addAll(totals.values());
+        }
+        return rows;
+    }
+
+    private static SummaryRow summaryRow(Map<String, SummaryRow> byKey, String companyId, String companyName,
+                                         String period) {
+        return byKey.computeIfAbsent(companyId + "|" + period, key -> {
+            SummaryRow row = new SummaryRow();
+            row.companyName = companyName != null ? companyName : companyId;
+            row.period = period;
+            return row;
+        });
+    }
+
+    private static <T> void writeSheet(SXSSFWorkbook workbook, ExcelStyleCache styles, String name, String title,
+                                       List<Column<T>> columns, List<T> rows) {
+        SXSSFSheet sheet = workbook.createSheet(name);
+
+        Row titleRow = sheet.createRow(0);
+        titleRow.setHeightInPoints(28);
+        Cell titleCell = titleRow.createCell(0);
+        titleCell.setCellValue(title);
+        titleCell.setCellStyle(styles.getTitleStyle());
+        sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, columns.size() - 1));
+
+        Row header = sheet.createRow(2);
+        for (int i = 0; i < columns.size(); i++) {
+            Cell cell = header.createCell(i);
+            cell.setCellValue(columns.get(i).header);
+            cell.setCellStyle(styles.getHeaderStyle());
+            sheet.setColumnWidth(i, columns.get(i).width);
+        }
+        sheet.createFreezePane(0, 3);
+
+        CellStyle[] cellStyles = new CellStyle[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            cellStyles[i] = switch (columns.get(i).format) {
+                case DECIMAL -> styles.getDecimalStyle();
+                case PERCENT -> styles.getPercentStyle();
+                default -> styles.getDataStyle();
+            };
+        }
+
+        int rowIndex = 3;
+        for (T item : rows) {
+            Row row = sheet.createRow(rowIndex++);
+            for (int i = 0; i < columns.size(); i++) {
+                Object value = columns.get(i).value.apply(item);
+                if (value == null) {
+                    continue;
+                }
+                Cell cell = row.createCell(i);
+                if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else {
+                    cell.setCellValue(value.toString());
+                }
+                cell.setCellStyle(cellStyles[i]);
+            }
+        }
+    }
+
+    private static double hours(long minutes) {
+        return minutes / 60.0;
+    }
+}
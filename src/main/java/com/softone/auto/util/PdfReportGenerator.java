@@ -5,8 +5,9 @@ import com.itextpdf.text.pdf.*;
 import com.softone.auto.model.WeeklyReport;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -15,54 +16,131 @@ import java.time.format.DateTimeFormatter;
  */
 public class PdfReportGenerator {
     
+    /** 생성기 버전 (양식/글꼴을 바꾸면 올려서 보고서 파일 캐시를 무효화) */
+    public static final String GENERATOR_VERSION = "weekly-report-pdf/1";
+    
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     
-    // 한글 폰트 설정
-    private static BaseFont baseFont;
-    private static Font titleFont;
-    private static Font headerFont;
-    private static Font labelFont;
-    private static Font normalFont;
-    private static Font boldFont;
+    /**
+     * 한글 폰트 (폰트 파일 탐색은 첫 PDF 생성 시 한 번만 수행)
+     * 폰트 파일을 메모리에 읽어 BaseFont를 만들므로, 여러 문서가 동시에 닫히며 서브셋을 만들 때도
+     * 파일 위치를 공유하지 않아 안전합니다. 문서에는 사용한 글자만 서브셋으로 포함됩니다.
+     */
+    private static final class Fonts {
+        static final BaseFont BASE = loadBaseFont();
+        static final Font TITLE = new Font(BASE, 20, Font.BOLD);
+        static final Font HEADER = new Font(BASE, 14, Font.BOLD);
+        static final Font LABEL = new Font(BASE, 11, Font.BOLD);
+        static final Font NORMAL = new Font(BASE, 10, Font.NORMAL);
+        static final Font SMALL = new Font(BASE, 8, Font.NORMAL, BaseColor.GRAY);
+    }
     
-    static {
-        try {
-            // Windows 기본 한글 폰트 시도
-            String[] fontPaths = {
-                "c:/windows/fonts/malgun.ttf",      // 맑은 고딕
-                "c:/windows/fonts/gulim.ttc",       // 굴림
-                "c:/windows/fonts/batang.ttc",      // 바탕
-                "/usr/share/fonts/truetype/nanum/NanumGothic.ttf",  // Linux
-                "/System/Library/Fonts/AppleGothic.ttf"              // Mac
-            };
-            
-            BaseFont font = null;
-            for (String path : fontPaths) {
-                try {
-                    font = BaseFont.createFont(path, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
-                    System.out.println("PDF 폰트 로드 성공: " + path);
-                    break;
-                } catch (Exception e) {
-                    // 다음 폰트 시도
-                }
+    /**
+     * 정보 테이블 셀 원형 (여백/테두리/배경은 한 번만 설정하고 셀마다 복사)
+     */
+    private static final class Cells {
+        static final PdfPCell LABEL = infoCell(new BaseColor(220, 220, 220));
+        static final PdfPCell VALUE = infoCell(BaseColor.WHITE);
+        static final int[] WIDTHS = {25, 75};
+        
+        private static PdfPCell infoCell(BaseColor background) {
+            PdfPCell cell = new PdfPCell();
+            cell.setPadding(8);
+            cell.setBackgroundColor(background);
+            cell.setHorizontalAlignment(Element.ALIGN_LEFT);
+            cell.setVerticalAlignment(Element.ALIGN_MIDDLE);
+            cell.setBorderWidth(1);
+            cell.setBorderColor(BaseColor.GRAY);
+            return cell;
+        }
+    }
+    
+    private static BaseFont loadBaseFont() {
+        // Windows 기본 한글 폰트 시도 (TTC는 ",0"으로 첫 번째 글꼴 지정)
+        String[] fontPaths = {
+            "c:/windows/fonts/malgun.ttf",      // 맑은 고딕
+            "c:/windows/fonts/gulim.ttc",       // 굴림
+            "c:/windows/fonts/batang.ttc",      // 바탕
+            "/usr/share/fonts/truetype/nanum/NanumGothic.ttf",  // Linux
+            "/System/Library/Fonts/AppleGothic.ttf"              // Mac
+        };
+        
+        for (String path : fontPaths) {
+            File fontFile = new File(path);
+            if (!fontFile.exists()) {
+                continue;
             }
-            
-            if (font == null) {
-                // 기본 폰트 사용
-                font = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
-                System.out.println("기본 폰트 사용");
+            try {
+                String name = path.toLowerCase().endsWith(".ttc") ? path + ",0" : path;
+                byte[] fontBytes = Files.readAllBytes(fontFile.toPath());
+                BaseFont font = BaseFont.createFont(name, BaseFont.IDENTITY_H, BaseFont.EMBEDDED, false, fontBytes, null);
+                font.setSubset(true);
+                System.out.println("PDF 폰트 로드 성공: " + path + " (" + fontBytes.length / 1024 + "KB)");
+                return font;
+            } catch (Exception e) {
+                // 다음 폰트 시도
             }
-            
-            baseFont = font;
-            titleFont = new Font(baseFont, 20, Font.BOLD);
-            headerFont = new Font(baseFont, 14, Font.BOLD);
-            labelFont = new Font(baseFont, 11, Font.BOLD);
-            normalFont = new Font(baseFont, 10, Font.NORMAL);
-            boldFont = new Font(baseFont, 11, Font.BOLD);
-            
+        }
+        
+        try {
+            // 기본 폰트 사용
+            System.out.println("기본 폰트 사용");
+            return BaseFont.createFont(BaseFont.HELVETICA, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
         } catch (Exception e) {
             System.err.println("폰트 초기화 실패: " + e.getMessage());
             e.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * 머리글/바닥글
+     * 고정된 선과 머리글 문구는 문서당 한 번 PdfTemplate으로 만들어 모든 페이지에서 참조하고,
+     * 전체 페이지 수는 빈 템플릿을 먼저 배치한 뒤 문서를 닫을 때 채웁니다.
+     */
+    private static final class PageDecorator extends PdfPageEventHelper {
+        private final String headerText;
+        private PdfTemplate skeleton;
+        private PdfTemplate totalPages;
+        
+        PageDecorator(String headerText) {
+            this.headerText = headerText;
+        }
+        
+        @Override
+        public void onOpenDocument(PdfWriter writer, Document document) {
+            Rectangle page = document.getPageSize();
+            PdfContentByte canvas = writer.getDirectContent();
+            
+            skeleton = canvas.createTemplate(page.getWidth(), page.getHeight());
+            skeleton.setLineWidth(0.5f);
+            skeleton.setColorStroke(BaseColor.LIGHT_GRAY);
+            skeleton.moveTo(document.left(), page.getHeight() - 38);
+            skeleton.lineTo(document.right(), page.getHeight() - 38);
+            skeleton.moveTo(document.left(), 36);
+            skeleton.lineTo(document.right(), 36);
+            skeleton.stroke();
+            ColumnText.showTextAligned(skeleton, Element.ALIGN_RIGHT, new Phrase(headerText, Fonts.SMALL),
+                document.right(), page.getHeight() - 34, 0);
+            
+            totalPages = canvas.createTemplate(30, 12);
+        }
+        
+        @Override
+        public void onEndPage(PdfWriter writer, Document document) {
+            PdfContentByte canvas = writer.getDirectContent();
+            canvas.addTemplate(skeleton, 0, 0);
+            
+            float center = (document.left() + document.right()) / 2;
+            ColumnText.showTextAligned(canvas, Element.ALIGN_RIGHT,
+                new Phrase(writer.getPageNumber() + " / ", Fonts.SMALL), center, 24, 0);
+            canvas.addTemplate(totalPages, center, 22);
+        }
+        
+        @Override
+        public void onCloseDocument(PdfWriter writer, Document document) {
+            ColumnText.showTextAligned(totalPages, Element.ALIGN_LEFT,
+                new Phrase(String.valueOf(writer.getPageNumber()), Fonts.SMALL), 0, 2, 0);
         }
     }
     
@@ -102,12 +180,37 @@ public class PdfReportGenerator {
                 throw new SecurityException("안전하지 않은 파일 경로입니다.");
             }
             
-            Document document = new Document(PageSize.A4, 50, 50, 50, 50);
-            PdfWriter.getInstance(document, new FileOutputStream(fileName));
-            document.open();
+            // 내용이 같은 보고서를 이미 만들었으면 캐시된 파일을 복사
+            boolean cached = ReportArtifactCache.getDefault().copyTo(
+                ReportArtifactCache.key(report, GENERATOR_VERSION), "pdf",
+                out -> writeWeeklyReport(report, out), file);
+            System.out.println("주간보고서 PDF 파일 생성 완료" + (cached ? " (캐시)" : "") + ": " + fileName);
+            return fileName;
+            
+        } catch (Exception e) {
+            System.err.println("주간보고서 PDF 생성 실패: " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+    
+    /**
+     * 주간보고서 PDF를 스트림에 기록 (스트림은 닫지 않음, 일괄 내보내기/ZIP 항목에 사용)
+     * 문서/작성기/페이지 이벤트는 호출마다 새로 만들고 공유하는 폰트와 셀 원형은 읽기만 하므로,
+     * 여러 스레드에서 동시에 호출해도 안전
+     */
+    public static void writeWeeklyReport(WeeklyReport report, OutputStream out) throws DocumentException {
+        Document document = new Document(PageSize.A4, 50, 50, 50, 50);
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setCloseStream(false);
+        writer.setFullCompression();
+        writer.setPageEvent(new PageDecorator("주간 업무 보고서"
+            + (report.getProjectName() != null ? " | " + report.getProjectName() : "")));
+        document.open();
+        try {
             
             // 제목
-            Paragraph title = new Paragraph("주간 업무 보고서", titleFont);
+            Paragraph title = new Paragraph("주간 업무 보고서", Fonts.TITLE);
             title.setAlignment(Element.ALIGN_CENTER);
             title.setSpacingAfter(30f);
             document.add(title);
@@ -117,19 +220,19 @@ public class PdfReportGenerator {
             document.add(Chunk.NEWLINE);
             
             // 금주 주요 수행 업무
-            Paragraph thisWeekHeader = new Paragraph("금주 주요 수행 업무", headerFont);
+            Paragraph thisWeekHeader = new Paragraph("금주 주요 수행 업무", Fonts.HEADER);
             thisWeekHeader.setSpacingBefore(10f);
             thisWeekHeader.setSpacingAfter(10f);
             document.add(thisWeekHeader);
             
             Paragraph thisWeekStats = new Paragraph("요청: " + report.getThisWeekRequestCount() + 
-                    " / 완료: " + report.getThisWeekCompleteCount(), normalFont);
+                    " / 완료: " + report.getThisWeekCompleteCount(), Fonts.NORMAL);
             thisWeekStats.setSpacingAfter(5f);
             document.add(thisWeekStats);
             
             // 업무 내용 (텍스트 그대로 출력)
             if (report.getThisWeekTasksText() != null && !report.getThisWeekTasksText().isEmpty()) {
-                Paragraph tasksPara = new Paragraph(report.getThisWeekTasksText(), normalFont);
+                Paragraph tasksPara = new Paragraph(report.getThisWeekTasksText(), Fonts.NORMAL);
                 tasksPara.setIndentationLeft(15f);
                 tasksPara.setSpacingAfter(10f);
                 document.add(tasksPara);
@@ -137,19 +240,19 @@ public class PdfReportGenerator {
             document.add(Chunk.NEWLINE);
             
             // 차주 주요 수행 계획
-            Paragraph nextWeekHeader = new Paragraph("차주 주요 수행 계획", headerFont);
+            Paragraph nextWeekHeader = new Paragraph("차주 주요 수행 계획", Fonts.HEADER);
             nextWeekHeader.setSpacingBefore(10f);
             nextWeekHeader.setSpacingAfter(10f);
             document.add(nextWeekHeader);
             
             Paragraph nextWeekStats = new Paragraph("요청: " + report.getNextWeekRequestCount() + 
-                    " / 완료: " + report.getNextWeekCompleteCount(), normalFont);
+                    " / 완료: " + report.getNextWeekCompleteCount(), Fonts.NORMAL);
             nextWeekStats.setSpacingAfter(5f);
             document.add(nextWeekStats);
             
             // 계획 내용 (텍스트 그대로 출력)
             if (report.getNextWeekTasksText() != null && !report.getNextWeekTasksText().isEmpty()) {
-                Paragraph plansPara = new Paragraph(report.getNextWeekTasksText(), normalFont);
+                Paragraph plansPara = new Paragraph(report.getNextWeekTasksText(), Fonts.NORMAL);
                 plansPara.setIndentationLeft(15f);
                 plansPara.setSpacingAfter(10f);
                 document.add(plansPara);
@@ -157,7 +260,7 @@ public class PdfReportGenerator {
             document.add(Chunk.NEWLINE);
             
             // 주요 ISSUE 사항
-            Paragraph issueHeader = new Paragraph("주요 ISSUE 사항", headerFont);
+            Paragraph issueHeader = new Paragraph("주요 ISSUE 사항", Fonts.HEADER);
             issueHeader.setSpacingBefore(10f);
             issueHeader.setSpacingAfter(10f);
             document.add(issueHeader);
@@ -175,7 +278,7 @@ public class PdfReportGenerator {
                         if (currentSectionContent.length() > 0) {
                             String content = currentSectionContent.toString().trim();
                             if (!content.isEmpty()) {
-                                Paragraph contentPara = new Paragraph(content, normalFont);
+                                Paragraph contentPara = new Paragraph(content, Fonts.NORMAL);
                                 contentPara.setIndentationLeft(15f);
                                 contentPara.setSpacingAfter(5f);
                                 document.add(contentPara);
@@ -205,7 +308,7 @@ public class PdfReportGenerator {
                 if (currentSectionContent.length() > 0) {
                     String content = currentSectionContent.toString().trim();
                     if (!content.isEmpty()) {
-                        Paragraph contentPara = new Paragraph(content, normalFont);
+                        Paragraph contentPara = new Paragraph(content, Fonts.NORMAL);
                         contentPara.setIndentationLeft(15f);
                         contentPara.setSpacingAfter(5f);
                         document.add(contentPara);
@@ -215,47 +318,27 @@ public class PdfReportGenerator {
             document.add(Chunk.NEWLINE);
             
             // 주요 10가지 체크 사항
-            Paragraph checkHeader = new Paragraph("주요 10가지 Check 사항", headerFont);
+            Paragraph checkHeader = new Paragraph("주요 10가지 Check 사항", Fonts.HEADER);
             checkHeader.setSpacingBefore(15f);
             checkHeader.setSpacingAfter(10f);
             document.add(checkHeader);
             
-            String[] checkItemNames = {
-                "고객사 보안 규정 준수",
-                "품질(납기, 생산성) 양호",
-                "불법 S/W 미사용",
-                "사고 대응 체계 숙지",
-                "고객사 생산성 향상 노력",
-                "고객 중심적 업무 수행",
-                "회사 대표 의식",
-                "성실한 근태",
-                "단정한 복장",
-                "자기/회사 발전 노력"
-            };
-            
-            for (int i = 0; i < checkItemNames.length; i++) {
+            for (int i = 0; i < WeeklyReport.CHECK_ITEM_NAMES.size(); i++) {
                 boolean checked = false;
                 if (report.getCheckItems() != null && i < report.getCheckItems().size()) {
                     checked = report.getCheckItems().get(i);
                 }
                 
                 Paragraph checkPara = new Paragraph();
-                Chunk checkbox = new Chunk(checked ? "☑ " : "☐ ", normalFont);
-                Chunk itemText = new Chunk(checkItemNames[i], normalFont);
+                Chunk checkbox = new Chunk(checked ? "☑ " : "☐ ", Fonts.NORMAL);
+                Chunk itemText = new Chunk(WeeklyReport.CHECK_ITEM_NAMES.get(i), Fonts.NORMAL);
                 checkPara.add(checkbox);
                 checkPara.add(itemText);
                 checkPara.setSpacingAfter(3f);
                 document.add(checkPara);
             }
-            
+        } finally {
             document.close();
-            System.out.println("주간보고서 PDF 파일 생성 완료: " + fileName);
-            return fileName;
-            
-        } catch (Exception e) {
-            System.err.println("주간보고서 PDF 생성 실패: " + e.getMessage());
-            e.printStackTrace();
-            return null;
         }
     }
     
@@ -265,17 +348,14 @@ public class PdfReportGenerator {
     private static PdfPTable createInfoTable(WeeklyReport report) throws DocumentException {
         PdfPTable table = new PdfPTable(2);
         table.setWidthPercentage(100);
-        table.setWidths(new int[]{25, 75});
-        
-        // 배경색 정의 (연한 회색)
-        BaseColor lightGray = new BaseColor(220, 220, 220);
+        table.setWidths(Cells.WIDTHS);
         
-        addInfoRow(table, "프로젝트명", report.getProjectName(), lightGray);
+        addInfoRow(table, "프로젝트명", report.getProjectName());
         addInfoRow(table, "보고 기간", 
                 report.getStartDate().format(DATE_FORMATTER) + " ~ " + 
-                report.getEndDate().format(DATE_FORMATTER), lightGray);
-        addInfoRow(table, "작성자", report.getReporter(), lightGray);
-        addInfoRow(table, "작성일", report.getCreatedDate().format(DATE_FORMATTER), lightGray);
+                report.getEndDate().format(DATE_FORMATTER));
+        addInfoRow(table, "작성자", report.getReporter());
+        addInfoRow(table, "작성일", report.getCreatedDate().format(DATE_FORMATTER));
         
         return table;
     }
@@ -283,25 +363,13 @@ public class PdfReportGenerator {
     /**
      * 정보 행 추가 (레이블은 회색 배경, 값은 흰색 배경)
      */
-    private static void addInfoRow(PdfPTable table, String label, String value, BaseColor labelBgColor) {
-        // 레이블 셀 (회색 배경)
-        PdfPCell labelCell = new PdfPCell(new Phrase(label, labelFont));
-        labelCell.setPadding(8);
-        labelCell.setBackgroundColor(labelBgColor);
-        labelCell.setHorizontalAlignment(Element.ALIGN_LEFT);
-        labelCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
-        labelCell.setBorderWidth(1);
-        labelCell.setBorderColor(BaseColor.GRAY);
+    private static void addInfoRow(PdfPTable table, String label, String value) {
+        PdfPCell labelCell = new PdfPCell(Cells.LABEL);
+        labelCell.setPhrase(new Phrase(label, Fonts.LABEL));
         table.addCell(labelCell);
         
-        // 값 셀 (흰색 배경)
-        PdfPCell valueCell = new PdfPCell(new Phrase(value, normalFont));
-        valueCell.setPadding(8);
-        valueCell.setBackgroundColor(BaseColor.WHITE);
-        valueCell.setHorizontalAlignment(Element.ALIGN_LEFT);
-        valueCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
-        valueCell.setBorderWidth(1);
-        valueCell.setBorderColor(BaseColor.GRAY);
+        PdfPCell valueCell = new PdfPCell(Cells.VALUE);
+        valueCell.setPhrase(new Phrase(value, Fonts.NORMAL));
         table.addCell(valueCell);
     }
 }
@@ -0,0 +1,232 @@
+package com.softone.auto.util;
+
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.Column;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.Dataset;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 원본 데이터 Excel 내보내기 유틸리티
+ *
+ * 데이터별 시트에 ResultSet 행을 바로 기록합니다 (엔티티 목록을 만들지 않음).
+ * SXSSF 창(ROW_WINDOW행)을 벗어난 행은 압축된 임시 파일로 내려가므로 행 수와 관계없이 힙 사용량이 일정하며,
+ * 시트 최대 행 수를 넘으면 "근태 (2)"처럼 다음 시트로 이어서 기록합니다.
+ */
+public class RawDataExcelExporter {
+
+    private static final int ROW_WINDOW = 500;
+    private static final int PROGRESS_INTERVAL = 1000;
+    /** 시트당 데이터 행 수 (헤더 1행 제외) */
+    static final int MAX_DATA_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows() - 1;
+
+    /**
+     * 진행률 수신 (내보내기 스레드에서 호출됨)
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(long writtenRows, long totalRows, String sheetName);
+    }
+
+    private final RawDataSqliteRepository repository;
+    private final int maxDataRowsPerSheet;
+
+    public RawDataExcelExporter(RawDataSqliteRepository repository) {
+        this(repository, MAX_DATA_ROWS_PER_SHEET);
+    }
+
+    RawDataExcelExporter(RawDataSqliteRepository repository, int maxDataRowsPerSheet) {
+        this.repository = repository;
+        this.maxDataRowsPerSheet = maxDataRowsPerSheet;
+    }
+
+    /**
+     * 원본 데이터를 Excel 파일로 내보내기 (취소되거나 실패하면 파일을 남기지 않음)
+     *
+     * @param companyId null이면 전체 회사
+     * @return 완료되면 true, 취소되면 false
+     */
+    public boolean export(File target, List<Dataset> datasets, String companyId, LocalDate from, LocalDate to,
+                          ProgressListener listener, BooleanSupplier cancelled) throws IOException {
+        boolean completed = false;
+        try (OutputStream out = new FileOutputStream(target)) {
+            completed = export(out, datasets, companyId, from, to, listener, cancelled);
+            return completed;
+        } finally {
+            if (!completed && target.exists() && !target.delete()) {
+                System.err.println("미완성 파일 삭제 실패: " + target.getAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * 원본 데이터를 스트림에 기록 (스트림은 닫지 않음)
+     *
+     * @return 완료되면 true, 취소되면 false (이 경우 스트림에는 아무것도 기록하지 않음)
+     */
+    public boolean export(OutputStream out, List<Dataset> datasets, String companyId, LocalDate from, LocalDate to,
+                          ProgressListener listener, BooleanSupplier cancelled) throws IOException {
+        long totalRows = 0;
+        for (Dataset dataset : datasets) {
+            totalRows += repository.count(dataset, companyId, from, to);
+        }
+
+        // 임시 파일 압축 (대용량에서 디스크 사용량 감소), 공유 문자열 테이블 미사용 (힙 사용량 일정)
+        SXSSFWorkbook workbook = new SXSSFWorkbook(null, ROW_WINDOW, true);
+        try {
+            SheetWriter writer = new SheetWriter(workbook, totalRows, listener, cancelled);
+            for (Dataset dataset : datasets) {
+                if (!writer.write(dataset, companyId, from, to)) {
+                    return false;
+                }
+            }
+            workbook.write(out);
+            return true;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * 데이터셋 하나를 시트(들)에 기록
+     */
+    private final class SheetWriter {
+        private final SXSSFWorkbook workbook;
+        private final long totalRows;
+        private final ProgressListener listener;
+        private final BooleanSupplier cancelled;
+        private final CellStyle headerStyle;
+        private final CellStyle dataStyle;
+        private final CellStyle dateStyle;
+        private final CellStyle dateTimeStyle;
+
+        private long writtenRows;
+        private boolean aborted;
+
+        SheetWriter(SXSSFWorkbook workbook, long totalRows, ProgressListener listener, BooleanSupplier cancelled) {
+            this.workbook = workbook;
+            this.totalRows = totalRows;
+            this.listener = listener;
+            this.cancelled = cancelled;
+            ExcelStyleCache styles = new ExcelStyleCache(workbook);
+            this.headerStyle = styles.getHeaderStyle();
+            this.dataStyle = styles.getDataStyle();
+            this.dateStyle = styles.getDateStyle();
+            this.dateTimeStyle = styles.getDateTimeStyle();
+        }
+
+        boolean write(Dataset dataset, String companyId, LocalDate from, LocalDate to) {
+            List<Column> columns = dataset.getColumns();
+            int[] part = {1};
+            Sheet[] sheet = {createSheet(dataset, part[0])};
+            int[] rowIndex = {1};
+
+            repository.stream(dataset, companyId, from, to, rs -> {
+                if (rowIndex[0] > maxDataRowsPerSheet) {
+                    sheet[0] = createSheet(dataset, ++part[0]);
+                    rowIndex[0] = 1;
+                }
+
+                Row row = sheet[0].createRow(rowIndex[0]++);
+                for (int i = 0; i < columns.size(); i++) {
+                    writeCell(row, i, columns.get(i), rs, i + 1);
+                }
+
+                if (++writtenRows % PROGRESS_INTERVAL == 0) {
+                    if (cancelled.getAsBoolean()) {
+                        aborted = true;
+                        return false;
+                    }
+                    if (listener != null) {
+                        listener.onProgress(writtenRows, totalRows, dataset.getSheetName());
+                    }
+                }
+                return true;
+            });
+
+            if (!aborted && listener != null) {
+                listener.onProgress(writtenRows, totalRows, dataset.getSheetName());
+            }
+            return !aborted && !cancelled.getAsBoolean();
+        }
+
+        private Sheet createSheet(Dataset dataset, int part) {
+            String name = part == 1 ? dataset.getSheetName() : dataset.getSheetName() + " (" + part + ")";
+            SXSSFSheet sheet = workbook.createSheet(name);
+
+            List<Column> columns = dataset.getColumns();
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < columns.size(); i++) {
+                Cell cell = header.createCell(i);
+                cell.setCellValue(columns.get(i).getHeader());
+                cell.setCellStyle(headerStyle);
+                sheet.setColumnWidth(i, columns.get(i).getWidth());
+            }
+            sheet.createFreezePane(0, 1);
+            return sheet;
+        }
+
+        private void writeCell(Row row, int index, Column column, ResultSet rs, int rsIndex) throws SQLException {
+            switch (column.getType()) {
+                case INTEGER -> {
+                    long value = rs.getLong(rsIndex);
+                    if (!rs.wasNull()) {
+                        Cell cell = row.createCell(index);
+                        cell.setCellValue(value);
+                        cell.setCellStyle(dataStyle);
+                    }
+                }
+                case DATE -> writeTemporal(row, index, rs.getString(rsIndex), false);
+                case DATETIME -> writeTemporal(row, index, rs.getString(rsIndex), true);
+                default -> {
+                    String value = rs.getString(rsIndex);
+                    if (value != null) {
+                        Cell cell = row.createCell(index);
+                        cell.setCellValue(value);
+                        cell.setCellStyle(dataStyle);
+                    }
+                }
+            }
+        }
+
+        /**
+         * ISO 날짜/일시 문자열을 Excel 날짜 값으로 기록 (형식이 다르면 문자열 그대로)
+         */
+        private void writeTemporal(Row row, int index, String value, boolean withTime) {
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            Cell cell = row.createCell(index);
+            try {
+                if (withTime && value.length() > 10) {
+                    cell.setCellValue(LocalDateTime.parse(value.replace(' ', 'T')));
+                    cell.setCellStyle(dateTimeStyle);
+                } else {
+                    cell.setCellValue(LocalDate.parse(value.substring(0, Math.min(10, value.length()))));
+                    cell.setCellStyle(dateStyle);
+                }
+            } catch (DateTimeParseException e) {
+                cell.setCellValue(value);
+                cell.setCellStyle(dataStyle);
+            }
+        }
+    }
+}
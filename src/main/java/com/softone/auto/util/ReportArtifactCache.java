@@ -0,0 +1,269 @@
+package com.softone.auto.util;
+
+import com.softone.auto.model.WeeklyReport;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 생성된 보고서 파일 캐시 (내용 해시 기준)
+ *
+ * 보고서 전체 내용(하위 항목 포함)과 생성기 버전으로 해시를 만들어 reports/.cache 아래에 "해시.확장자"로 보관합니다.
+ * 내용이 같으면 파일을 다시 만들지 않고 복사만 하므로, 바뀌지 않은 보고서의 내보내기는 즉시 끝나고
+ * 일괄 내보내기도 바뀐 보고서만 다시 생성합니다. 레이아웃을 바꾸면 생성기 버전을 올려 이전 파일을 무효화합니다.
+ *
+ * <p>항목 수와 전체 크기를 넘으면 가장 오래 쓰지 않은 파일부터 지우며, 사용 시각은 파일 수정 시각으로 남겨
+ * 재시작 후에도 순서가 유지됩니다. 시작 시 남은 임시 파일과 보관 기간이 지난 파일을 정리합니다.
+ * 생성은 임시 파일에 쓴 뒤 이름을 바꾸므로 여러 스레드가 같은 보고서를 동시에 요청해도 깨진 파일이 남지 않습니다.</p>
+ */
+@Slf4j
+public class ReportArtifactCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 500;
+    static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    private static final long MAX_AGE_MILLIS = TimeUnit.DAYS.toMillis(30);
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static ReportArtifactCache defaultCache;
+
+    /**
+     * 파일 내용 기록 (캐시에 없을 때만 호출됨)
+     */
+    @FunctionalInterface
+    public interface ArtifactWriter {
+        void write(OutputStream out) throws Exception;
+    }
+
+    private final File directory;
+    private final int maxEntries;
+    private final long maxBytes;
+    /** 파일 이름 → 크기 (접근 순서, 맨 앞이 가장 오래 쓰지 않은 항목) */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ReportArtifactCache(File directory, int maxEntries, long maxBytes) {
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        load();
+    }
+
+    /**
+     * 데이터 폴더의 reports/.cache 캐시 (데이터 폴더가 바뀌면 새 폴더로 다시 만듦)
+     */
+    public static synchronized ReportArtifactCache getDefault() {
+        File directory = new File(new File(AppConfig.getInstance().getOrSelectDataPath()).getAbsoluteFile(),
+            "reports" + File.separator + ".cache");
+        if (defaultCache == null || !defaultCache.directory.equals(directory)) {
+            defaultCache = new ReportArtifactCache(directory, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+        }
+        return defaultCache;
+    }
+
+    /**
+     * 캐시 키 (생성기 버전 + 보고서 전체 내용의 SHA-256, 파일 이름에 쓸 수 있는 형태)
+     *
+     * @param generatorVersion 생성기 식별/버전 (예: ExcelReportGenerator.GENERATOR_VERSION)
+     */
+    public static String key(WeeklyReport report, String generatorVersion) {
+        // @Data toString은 하위 항목까지 모든 필드를 포함하므로 새 필드가 생겨도 키에 반영됨
+        String hash = DataIntegrityManager.calculateHash(generatorVersion + "\n" + report);
+        return hash.replace('+', '-').replace('/', '_').replace("=", "");
+    }
+
+    /**
+     * 캐시된 파일을 돌려주고, 없으면 생성해 보관한 뒤 돌려줌
+     */
+    public File getOrCreate(String key, String extension, ArtifactWriter writer) throws Exception {
+        File cached = get(key, extension);
+        if (cached != null) {
+            return cached;
+        }
+        return put(key, extension, writer);
+    }
+
+    /**
+     * 캐시된 파일(없으면 생성 후)의 내용을 스트림에 복사 (스트림은 닫지 않음)
+     *
+     * @return 캐시된 파일을 그대로 썼으면 true, 새로 생성했으면 false
+     */
+    public boolean writeTo(String key, String extension, ArtifactWriter writer, OutputStream out) throws Exception {
+        File cached = get(key, extension);
+        if (cached != null) {
+            try {
+                Files.copy(cached.toPath(), out);
+                return true;
+            } catch (NoSuchFileException e) {
+                // 다른 스레드가 막 정리한 경우 다시 생성
+                remove(cached.getName());
+            }
+        }
+        Files.copy(put(key, extension, writer).toPath(), out);
+        return false;
+    }
+
+    /**
+     * 캐시된 파일을 대상 경로로 복사 (없으면 생성 후)
+     *
+     * @return 캐시된 파일을 그대로 썼으면 true, 새로 생성했으면 false
+     */
+    public boolean copyTo(String key, String extension, ArtifactWriter writer, File target) throws Exception {
+        try (OutputStream out = new FileOutputStream(target)) {
+            return writeTo(key, extension, writer, out);
+        }
+    }
+
+    /**
+     * 캐시된 파일 (없으면 null, 있으면 사용 시각 갱신)
+     */
+    public File get(String key, String extension) {
+        String name = key + "." + extension;
+        synchronized (this) {
+            if (entries.get(name) == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+        }
+        File file = new File(directory, name);
+        if (!file.isFile()) {
+            remove(name);
+            misses.incrementAndGet();
+            return null;
+        }
+        file.setLastModified(System.currentTimeMillis());
+        hits.incrementAndGet();
+        return file;
+    }
+
+    /**
+     * 파일 생성 후 보관 (임시 파일에 쓴 뒤 이름 변경, 한도를 넘으면 오래된 항목 정리)
+     */
+    public File put(String key, String extension, ArtifactWriter writer) throws Exception {
+        String name = key + "." + extension;
+        File file = new File(directory, name);
+        if (!directory.exists() && !directory.mkdirs() && !directory.exists()) {
+            throw new IOException("캐시 폴더 생성 실패: " + directory.getAbsolutePath());
+        }
+
+        File temp = new File(directory, name + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            try (OutputStream out = new FileOutputStream(temp)) {
+                writer.write(out);
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            if (temp.exists() && !temp.delete()) {
+                log.warn("임시 캐시 파일 삭제 실패: {}", temp.getAbsolutePath());
+            }
+        }
+
+        synchronized (this) {
+            Long previous = entries.put(name, file.length());
+            totalBytes += file.length() - (previous != null ? previous : 0);
+            evict();
+        }
+        return file;
+    }
+
+    /**
+     * 모든 캐시 파일 삭제
+     */
+    public synchronized void clear() {
+        for (String name : new ArrayList<>(entries.keySet())) {
+            delete(name);
+        }
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * 폴더의 기존 파일을 사용 시각 순으로 읽고 임시/만료 파일 정리
+     */
+    private synchronized void load() {
+        File[] files = directory.listFiles(File::isFile);
+        if (files == null) {
+            return;
+        }
+
+        long expiry = System.currentTimeMillis() - MAX_AGE_MILLIS;
+        List<File> sorted = new ArrayList<>(Arrays.asList(files));
+        sorted.sort(Comparator.comparingLong(File::lastModified));
+        int removed = 0;
+        for (File file : sorted) {
+            if (file.getName().endsWith(TEMP_SUFFIX) || file.lastModified() < expiry) {
+                if (file.delete()) {
+                    removed++;
+                }
+                continue;
+            }
+            entries.put(file.getName(), file.length());
+            totalBytes += file.length();
+        }
+        evict();
+        log.debug("보고서 캐시 로드: {}개, {}바이트, 정리 {}개", entries.size(), totalBytes, removed);
+    }
+
+    /**
+     * 한도를 넘는 동안 가장 오래 쓰지 않은 항목 삭제 (락 안에서 호출)
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        // 방금 넣은 항목(맨 뒤)은 남겨 호출자가 돌려받은 파일이 바로 지워지지 않도록 함
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && entries.size() > 1 && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            delete(eldest.getKey());
+        }
+    }
+
+    private synchronized void remove(String name) {
+        Long size = entries.remove(name);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    private void delete(String name) {
+        File file = new File(directory, name);
+        if (file.exists() && !file.delete()) {
+            // 다른 곳에서 읽는 중이면 (Windows) 다음 시작 시 만료 정리에 맡김
+            log.debug("캐시 파일 삭제 실패: {}", file.getAbsolutePath());
+        }
+    }
+}
@@ -24,6 +24,12 @@ public class ServiceRegistry {
     private static WeeklyReportService weeklyReportService;
     private static CompanyService companyService;
     private static CommonCodeService commonCodeService;
+    private static DashboardStatsService dashboardStatsService;
+    private static WeeklyReportBatchExportService batchExportService;
+    private static RawDataExportService rawDataExportService;
+    private static CsvTransferService csvTransferService;
+    private static ManagementReportService managementReportService;
+    private static JobService jobService;
     
     /**
      * 개발자 관리 서비스 가져오기
@@ -95,6 +101,72 @@ public class ServiceRegistry {
         return commonCodeService;
     }
     
+    /**
+     * 대시보드 통계 서비스 가져오기
+     * 트리거 생성 시 원본 테이블이 필요하므로 다른 서비스를 먼저 초기화
+     */
+    public static synchronized DashboardStatsService getDashboardStatsService() {
+        if (dashboardStatsService == null) {
+            getDeveloperService();
+            getAttendanceService();
+            getIssueService();
+            getCustomerCommunicationService();
+            dashboardStatsService = new DashboardStatsService();
+        }
+        return dashboardStatsService;
+    }
+    
+    /**
+     * 주간보고서 일괄 내보내기 서비스 가져오기
+     */
+    public static synchronized WeeklyReportBatchExportService getWeeklyReportBatchExportService() {
+        if (batchExportService == null) {
+            batchExportService = new WeeklyReportBatchExportService(getWeeklyReportService());
+        }
+        return batchExportService;
+    }
+    
+    /**
+     * 원본 데이터 내보내기 서비스 가져오기
+     */
+    public static synchronized RawDataExportService getRawDataExportService() {
+        if (rawDataExportService == null) {
+            rawDataExportService = new RawDataExportService();
+        }
+        return rawDataExportService;
+    }
+    
+    /**
+     * CSV 가져오기/내보내기 서비스 가져오기
+     */
+    public static synchronized CsvTransferService getCsvTransferService() {
+        if (csvTransferService == null) {
+            csvTransferService = new CsvTransferService();
+        }
+        return csvTransferService;
+    }
+    
+    /**
+     * 경영 보고서 서비스 가져오기
+     */
+    public static synchronized ManagementReportService getManagementReportService() {
+        if (managementReportService == null) {
+            managementReportService = new ManagementReportService();
+        }
+        return managementReportService;
+    }
+    
+    /**
+     * 백그라운드 작업 서비스 가져오기
+     * 처음 가져올 때 이전 실행에서 남은 작업을 복구하고 대기열을 시작
+     */
+    public static synchronized JobService getJobService() {
+        if (jobService == null) {
+            jobService = new JobService();
+        }
+        return jobService;
+    }
+    
     /**
      * 모든 서비스 인스턴스 초기화 (테스트용 또는 재시작 시)
      */
@@ -106,6 +178,15 @@ public class ServiceRegistry {
         weeklyReportService = null;
         companyService = null;
         commonCodeService = null;
+        dashboardStatsService = null;
+        batchExportService = null;
+        rawDataExportService = null;
+        csvTransferService = null;
+        managementReportService = null;
+        if (jobService != null) {
+            jobService.shutdown();
+            jobService = null;
+        }
     }
 }
 
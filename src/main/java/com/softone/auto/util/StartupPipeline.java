@@ -0,0 +1,140 @@
+package com.softone.auto.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시작 초기화 파이프라인
+ *
+ * 서로 독립적인 초기화 단계를 병렬로 실행하고, 단계가 끝날 때마다 진행률을 알립니다.
+ * 한 단계가 실패해도 나머지 단계는 계속 진행되며, 실패한 단계는 결과에 기록됩니다.
+ * 같은 DB 연결에 쓰기를 하는 작업은 하나의 단계 안에서 순서대로 실행해야 합니다.
+ *
+ * <p>사용 예:</p>
+ * <pre>
+ * new StartupPipeline()
+ *     .addStep("데이터베이스 준비", () -> ...)
+ *     .addStep("화면 리소스 준비", () -> ...)
+ *     .run((completed, total, step) -> splash.setProgress(completed, total, step));
+ * </pre>
+ */
+@Slf4j(topic = "com.softone.auto.performance")
+public class StartupPipeline {
+
+    /**
+     * 진행률 수신 (초기화 스레드에서 호출됨)
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int completed, int total, String stepName);
+    }
+
+    /**
+     * 초기화 단계 작업
+     */
+    @FunctionalInterface
+    public interface StepTask {
+        void run() throws Exception;
+    }
+
+    private final Map<String, StepTask> steps = new LinkedHashMap<>();
+    private final Map<String, Long> elapsedMillis = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final List<String> failedSteps = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * 초기화 단계 추가
+     */
+    public StartupPipeline addStep(String name, StepTask task) {
+        steps.put(name, task);
+        return this;
+    }
+
+    /**
+     * 모든 단계를 병렬 실행하고 끝날 때까지 대기
+     *
+     * @return 모든 단계가 성공하면 true
+     */
+    public boolean run(ProgressListener listener) {
+        int total = steps.size();
+        if (total == 0) {
+            return true;
+        }
+
+        long startNanos = System.nanoTime();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(total, Math.max(2, Runtime.getRuntime().availableProcessors())), r -> {
+                Thread thread = new Thread(r, "startup-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Map.Entry<String, StepTask> step : steps.entrySet()) {
+                futures.add(executor.submit(() -> {
+                    runStep(step.getKey(), step.getValue());
+                    if (listener != null) {
+                        listener.onProgress(completed.incrementAndGet(), total, step.getKey());
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("시작 초기화 대기 중 인터럽트");
+            return false;
+        } catch (Exception e) {
+            log.error("시작 초기화 실행 오류", e);
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("시작 초기화 완료: {}ms (단계별 {})", (System.nanoTime() - startNanos) / 1_000_000, elapsedMillis);
+        return failedSteps.isEmpty();
+    }
+
+    private void runStep(String name, StepTask task) {
+        long stepStart = System.nanoTime();
+        try {
+            task.run();
+        } catch (Exception e) {
+            failedSteps.add(name);
+            log.error("시작 초기화 단계 실패: {}", name, e);
+        } finally {
+            elapsedMillis.put(name, (System.nanoTime() - stepStart) / 1_000_000);
+        }
+    }
+
+    /**
+     * 단계별 소요 시간 (ms)
+     */
+    public Map<String, Long> getElapsedMillis() {
+        synchronized (elapsedMillis) {
+            return new LinkedHashMap<>(elapsedMillis);
+        }
+    }
+
+    /**
+     * 실패한 단계 이름
+     */
+    public List<String> getFailedSteps() {
+        synchronized (failedSteps) {
+            return new ArrayList<>(failedSteps);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.softone.auto.util;
+
+import com.softone.auto.model.WeeklyReport;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주간보고서 Excel 템플릿
+ *
+ * 고정 레이아웃(병합, 스타일, 열 너비, 체크 항목명)을 담은 .xlsx를 한 번만 만들어 ExcelTemplate으로 분석해 두고,
+ * 보고서마다 이름 정의(Named Range)로 지정된 값 셀만 채웁니다.
+ * 클래스패스에 /templates/weekly_report.xlsx가 있으면 그 파일을 템플릿으로 사용합니다
+ * (같은 이름 정의를 포함해야 하며, 수식/조건부 서식/인쇄 영역 등 행 삽입 시 옮길 수 없는 요소가 있으면
+ * ExcelTemplate이 거부함).
+ */
+public final class WeeklyReportExcelTemplate {
+
+    static final String TEMPLATE_RESOURCE = "/templates/weekly_report.xlsx";
+    static final String SHEET_NAME = "주간보고서";
+
+    // 이름 정의 (값 셀)
+    static final String PROJECT_NAME = "PROJECT_NAME";
+    static final String PERIOD = "PERIOD";
+    static final String REPORTER = "REPORTER";
+    static final String CREATED_DATE = "CREATED_DATE";
+    static final String THIS_WEEK_REQUEST = "THIS_WEEK_REQUEST";
+    static final String THIS_WEEK_COMPLETE = "THIS_WEEK_COMPLETE";
+    static final String THIS_WEEK_TASKS = "THIS_WEEK_TASKS";
+    static final String NEXT_WEEK_REQUEST = "NEXT_WEEK_REQUEST";
+    static final String NEXT_WEEK_COMPLETE = "NEXT_WEEK_COMPLETE";
+    static final String NEXT_WEEK_TASKS = "NEXT_WEEK_TASKS";
+    static final String ISSUES = "ISSUES";
+    static final String CHECK_PREFIX = "CHECK_";
+
+    private static final int LAST_COLUMN = 5;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    /**
+     * 분석된 템플릿 (최초 사용 시 한 번만 로드)
+     */
+    private static final class Holder {
+        static final ExcelTemplate TEMPLATE = loadTemplate();
+    }
+
+    private WeeklyReportExcelTemplate() {
+    }
+
+    /**
+     * 템플릿에 보고서 값을 채워 스트림에 기록 (스트림은 닫지 않음)
+     * ISSUE 섹션이 여러 개면 첫 섹션 아래에 빈 행을 하나씩 두고 이어서 기록
+     */
+    public static void write(WeeklyReport report, OutputStream out) throws IOException {
+        ExcelTemplate.Fill fill = Holder.TEMPLATE.fill()
+            .text(PROJECT_NAME, report.getProjectName())
+            .text(PERIOD, report.getStartDate().format(DATE_FORMATTER) + " ~ " + report.getEndDate().format(DATE_FORMATTER))
+            .text(REPORTER, report.getReporter())
+            .text(CREATED_DATE, report.getCreatedDate().format(DATE_FORMATTER))
+            .number(THIS_WEEK_REQUEST, count(report.getThisWeekRequestCount()))
+            .number(THIS_WEEK_COMPLETE, count(report.getThisWeekCompleteCount()))
+            .number(NEXT_WEEK_REQUEST, count(report.getNextWeekRequestCount()))
+            .number(NEXT_WEEK_COMPLETE, count(report.getNextWeekCompleteCount()));
+        multiline(fill, THIS_WEEK_TASKS, report.getThisWeekTasksText());
+        multiline(fill, NEXT_WEEK_TASKS, report.getNextWeekTasksText());
+
+        for (int i = 0; i < WeeklyReport.CHECK_ITEM_NAMES.size(); i++) {
+            boolean checked = report.getCheckItems() != null && i < report.getCheckItems().size()
+                && Boolean.TRUE.equals(report.getCheckItems().get(i));
+            fill.text(CHECK_PREFIX + (i + 1), checked ? "☑" : "☐");
+        }
+
+        List<String> sections = splitIssueSections(report.getAdditionalNotes());
+        if (!sections.isEmpty()) {
+            fill.multiline(ISSUES, sections.get(0));
+            fill.repeatBelow(ISSUES, sections.subList(1, sections.size()));
+        }
+        fill.write(out);
+    }
+
+    /**
+     * 이름 정의 셀 위치 (템플릿 기준)
+     */
+    static CellReference cell(String name) {
+        return Holder.TEMPLATE.getCell(name);
+    }
+
+    private static void multiline(ExcelTemplate.Fill fill, String name, String value) {
+        if (value != null && !value.isEmpty()) {
+            fill.multiline(name, value);
+        }
+    }
+
+    private static int count(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * 추가 사항을 ■ 제목 기준 섹션으로 분리 (줄 앞뒤 공백 제거, 섹션 내 빈 줄 유지)
+     */
+    static List<String> splitIssueSections(String notes) {
+        List<String> sections = new ArrayList<>();
+        if (notes == null || notes.isEmpty()) {
+            return sections;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (String line : notes.split("\n")) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.startsWith("■")) {
+                addSection(sections, current);
+                current = new StringBuilder(trimmedLine);
+            } else {
+                if (current.length() > 0) {
+                    current.append("\n");
+                }
+                current.append(trimmedLine);
+            }
+        }
+        addSection(sections, current);
+        return sections;
+    }
+
+    private static void addSection(List<String> sections, StringBuilder content) {
+        String section = content.toString().trim();
+        if (!section.isEmpty()) {
+            sections.add(section);
+        }
+    }
+
+    /**
+     * 템플릿 로드 (클래스패스 파일 우선, 없으면 기본 레이아웃 생성)
+     */
+    private static ExcelTemplate loadTemplate() {
+        try (InputStream in = WeeklyReportExcelTemplate.class.getResourceAsStream(TEMPLATE_RESOURCE)) {
+            if (in != null) {
+                System.out.println("주간보고서 Excel 템플릿 로드: " + TEMPLATE_RESOURCE);
+                return ExcelTemplate.compile(in.readAllBytes());
+            }
+            return ExcelTemplate.compile(buildDefaultTemplate());
+        } catch (IOException e) {
+            throw new UncheckedIOException("주간보고서 Excel 템플릿 로드 실패", e);
+        }
+    }
+
+    /**
+     * 기본 템플릿 생성 (레이아웃, 스타일, 병합, 이름 정의)
+     */
+    static byte[] buildDefaultTemplate() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet(SHEET_NAME);
+            ExcelStyleCache styles = new ExcelStyleCache(workbook);
+            CellStyle labelStyle = styles.getLabelStyle();
+            CellStyle contentStyle = styles.getContentStyle();
+            CellStyle sectionHeaderStyle = styles.getSectionHeaderStyle();
+
+            int rowNum = 0;
+
+            // 제목 (A1:F1 병합)
+            Row titleRow = mergedRow(sheet, rowNum++, "주간 업무 보고서", styles.getTitleStyle());
+            titleRow.setHeightInPoints(30);
+            rowNum++;
+
+            // 프로젝트 정보
+            infoRow(workbook, rowNum++, "프로젝트명", PROJECT_NAME, labelStyle, contentStyle);
+            infoRow(workbook, rowNum++, "보고 기간", PERIOD, labelStyle, contentStyle);
+            infoRow(workbook, rowNum++, "작성자", REPORTER, labelStyle, contentStyle);
+            infoRow(workbook, rowNum++, "작성일", CREATED_DATE, labelStyle, contentStyle);
+            rowNum++;
+
+            // 금주 주요 수행 업무
+            mergedRow(sheet, rowNum++, "금주 주요 수행 업무", sectionHeaderStyle).setHeightInPoints(25);
+            statsRow(workbook, rowNum++, THIS_WEEK_REQUEST, THIS_WEEK_COMPLETE, labelStyle, contentStyle);
+            defineName(workbook, THIS_WEEK_TASKS, mergedRow(sheet, rowNum++, null, contentStyle), 0);
+            rowNum++;
+
+            // 차주 주요 수행 계획
+            mergedRow(sheet, rowNum++, "차주 주요 수행 계획", sectionHeaderStyle).setHeightInPoints(25);
+            statsRow(workbook, rowNum++, NEXT_WEEK_REQUEST, NEXT_WEEK_COMPLETE, labelStyle, contentStyle);
+            defineName(workbook, NEXT_WEEK_TASKS, mergedRow(sheet, rowNum++, null, contentStyle), 0);
+            rowNum++;
+
+            // 주요 ISSUE 사항
+            mergedRow(sheet, rowNum++, "주요 ISSUE 사항", sectionHeaderStyle).setHeightInPoints(25);
+            defineName(workbook, ISSUES, mergedRow(sheet, rowNum++, null, contentStyle), 0);
+            rowNum++;
+
+            // 주요 10가지 체크 사항
+            mergedRow(sheet, rowNum++, "주요 10가지 Check 사항", sectionHeaderStyle).setHeightInPoints(25);
+            for (int i = 0; i < WeeklyReport.CHECK_ITEM_NAMES.size(); i++) {
+                Row checkRow = sheet.createRow(rowNum);
+                checkRow.setHeightInPoints(20);
+                checkRow.createCell(0).setCellStyle(labelStyle);
+                for (int c = 1; c <= LAST_COLUMN; c++) {
+                    checkRow.createCell(c).setCellStyle(contentStyle);
+                }
+                checkRow.getCell(1).setCellValue(WeeklyReport.CHECK_ITEM_NAMES.get(i));
+                sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 1, LAST_COLUMN));
+                defineName(workbook, CHECK_PREFIX + (i + 1), checkRow, 0);
+                rowNum++;
+            }
+
+            // 열 너비
+            sheet.setColumnWidth(0, 5000);  // A 열 - 레이블
+            sheet.setColumnWidth(1, 12000); // B 열 - 내용
+            for (int c = 2; c <= LAST_COLUMN; c++) {
+                sheet.setColumnWidth(c, 3000);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * A~F 병합 행 (모든 셀에 테두리 스타일 적용)
+     */
+    private static Row mergedRow(Sheet sheet, int rowNum, String value, CellStyle style) {
+        Row row = sheet.createRow(rowNum);
+        row.setHeightInPoints(20);
+        for (int c = 0; c <= LAST_COLUMN; c++) {
+            row.createCell(c).setCellStyle(style);
+        }
+        if (value != null) {
+            row.getCell(0).setCellValue(value);
+        }
+        sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 0, LAST_COLUMN));
+        return row;
+    }
+
+    /**
+     * 정보 행 (A: 레이블, B~F: 값 병합)
+     */
+    private static void infoRow(Workbook workbook, int rowNum, String label, String name,
+                                CellStyle labelStyle, CellStyle contentStyle) {
+        Sheet sheet = workbook.getSheet(SHEET_NAME);
+        Row row = sheet.createRow(rowNum);
+        row.setHeightInPoints(20);
+        Cell labelCell = row.createCell(0);
+        labelCell.setCellValue(label);
+        labelCell.setCellStyle(labelStyle);
+        for (int c = 1; c <= LAST_COLUMN; c++) {
+            row.createCell(c).setCellStyle(contentStyle);
+        }
+        sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 1, LAST_COLUMN));
+        defineName(workbook, name, row, 1);
+    }
+
+    /**
+     * 통계 행 (요청 | 값 | 완료 | 값(D~F 병합))
+     */
+    private static void statsRow(Workbook workbook, int rowNum, String requestName, String completeName,
+                                 CellStyle labelStyle, CellStyle contentStyle) {
+        Sheet sheet = workbook.getSheet(SHEET_NAME);
+        Row row = sheet.createRow(rowNum);
+        row.setHeightInPoints(20);
+        for (int c = 0; c <= LAST_COLUMN; c++) {
+            row.createCell(c).setCellStyle(c == 0 || c == 2 ? labelStyle : contentStyle);
+        }
+        row.getCell(0).setCellValue("요청");
+        row.getCell(2).setCellValue("완료");
+        sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 3, LAST_COLUMN));
+        defineName(workbook, requestName, row, 1);
+        defineName(workbook, completeName, row, 3);
+    }
+
+    private static void defineName(Workbook workbook, String name, Row row, int column) {
+        Name definedName = workbook.createName();
+        definedName.setNameName(name);
+        definedName.setRefersToFormula(new CellReference(SHEET_NAME, row.getRowNum(), column, true, true)
+            .formatAsString());
+    }
+}
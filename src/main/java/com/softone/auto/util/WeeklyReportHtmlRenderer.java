@@ -0,0 +1,269 @@
+package com.softone.auto.util;
+
+import com.softone.auto.model.WeeklyReport;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주간보고서 미리보기 HTML 렌더러 (JEditorPane용)
+ *
+ * PDF와 같은 순서/문구(정보 표, 금주 업무, 차주 계획, ISSUE, 체크 사항)를 가벼운 HTML로 그려
+ * 파일을 만들지 않고 화면에서 바로 확인할 수 있게 합니다. 섹션마다 입력 값과 렌더링 결과를 보관하고
+ * 입력이 바뀐 섹션만 다시 그리므로, 입력 중 갱신은 바뀐 섹션 하나의 문자열 생성으로 끝납니다.
+ * 화면에서는 {@link #update}가 돌려준 섹션만 문서의 해당 요소(id = {@link Section#getId()})에 교체하면 됩니다.
+ *
+ * <p>상태를 가지므로 한 화면(EDT)에서만 사용합니다.</p>
+ */
+public class WeeklyReportHtmlRenderer {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final String STYLE = """
+        body { font-family: '맑은 고딕', sans-serif; font-size: 10pt; margin: 12px; background: #ffffff; }
+        h1 { font-size: 18pt; text-align: center; margin-bottom: 16px; }
+        h2 { font-size: 13pt; margin-top: 14px; margin-bottom: 6px; }
+        table.info { border-collapse: collapse; width: 100%; }
+        td.label { background: #dcdcdc; font-weight: bold; width: 25%; padding: 5px; border: 1px solid #808080; }
+        td.value { background: #ffffff; padding: 5px; border: 1px solid #808080; }
+        p.stats { margin-top: 0; margin-bottom: 4px; }
+        p.text { margin-left: 15px; margin-top: 0; margin-bottom: 8px; }
+        p.check { margin-top: 0; margin-bottom: 2px; }
+        """;
+
+    /**
+     * 미리보기 섹션 (문서 순서)
+     */
+    public enum Section {
+        INFO("preview-info"),
+        THIS_WEEK("preview-this-week"),
+        NEXT_WEEK("preview-next-week"),
+        ISSUES("preview-issues"),
+        CHECKS("preview-checks");
+
+        private final String id;
+
+        Section(String id) {
+            this.id = id;
+        }
+
+        /** 문서에서 섹션을 감싸는 div의 id */
+        public String getId() {
+            return id;
+        }
+    }
+
+    /** 섹션 → 마지막으로 그린 입력 값 */
+    private final Map<Section, List<Object>> inputs = new EnumMap<>(Section.class);
+    /** 섹션 → 마지막으로 그린 HTML (div 안쪽) */
+    private final Map<Section, String> sections = new EnumMap<>(Section.class);
+
+    /**
+     * 입력이 바뀐 섹션만 다시 그림
+     *
+     * @return 다시 그린 섹션 → HTML (문서 순서, 바뀐 것이 없으면 빈 맵)
+     */
+    public Map<Section, String> update(WeeklyReport report) {
+        Map<Section, String> changed = new LinkedHashMap<>();
+        for (Section section : Section.values()) {
+            List<Object> input = inputOf(section, report);
+            if (sections.containsKey(section) && input.equals(inputs.get(section))) {
+                continue;
+            }
+            String html = renderSection(section, report);
+            inputs.put(section, input);
+            sections.put(section, html);
+            changed.put(section, html);
+        }
+        return changed;
+    }
+
+    /**
+     * 전체 문서 (갱신 후 보관 중인 섹션으로 조립)
+     */
+    public String render(WeeklyReport report) {
+        update(report);
+        return getDocument();
+    }
+
+    /**
+     * 보관 중인 섹션으로 조립한 전체 문서 (처음 표시하거나 문서를 다시 만들 때)
+     */
+    public String getDocument() {
+        StringBuilder html = new StringBuilder(4096);
+        html.append("<html><head><style>").append(STYLE).append("</style></head><body>");
+        html.append("<h1>주간 업무 보고서</h1>");
+        for (Section section : Section.values()) {
+            html.append("<div id=\"").append(section.getId()).append("\">")
+                .append(sections.getOrDefault(section, ""))
+                .append("</div>");
+        }
+        html.append("</body></html>");
+        return html.toString();
+    }
+
+    /**
+     * 보관한 섹션 삭제 (다음 갱신 때 모두 다시 그림)
+     */
+    public void clear() {
+        inputs.clear();
+        sections.clear();
+    }
+
+    /**
+     * 섹션을 그리는 데 쓰는 값 (이 값이 같으면 다시 그리지 않음)
+     */
+    private static List<Object> inputOf(Section section, WeeklyReport report) {
+        switch (section) {
+            case INFO:
+                return Arrays.asList(report.getProjectName(), report.getStartDate(), report.getEndDate(),
+                    report.getReporter(), report.getCreatedDate());
+            case THIS_WEEK:
+                return Arrays.asList(report.getThisWeekRequestCount(), report.getThisWeekCompleteCount(),
+                    report.getThisWeekTasksText());
+            case NEXT_WEEK:
+                return Arrays.asList(report.getNextWeekRequestCount(), report.getNextWeekCompleteCount(),
+                    report.getNextWeekTasksText());
+            case ISSUES:
+                return Arrays.asList(report.getAdditionalNotes());
+            case CHECKS:
+                return Arrays.asList(report.getCheckItems() != null ? List.copyOf(report.getCheckItems()) : null);
+            default:
+                throw new IllegalArgumentException("알 수 없는 섹션: " + section);
+        }
+    }
+
+    private static String renderSection(Section section, WeeklyReport report) {
+        StringBuilder html = new StringBuilder(512);
+        switch (section) {
+            case INFO:
+                html.append("<table class=\"info\" cellspacing=\"0\">");
+                appendInfoRow(html, "프로젝트명", report.getProjectName());
+                appendInfoRow(html, "보고 기간", formatDate(report.getStartDate()) + " ~ " + formatDate(report.getEndDate()));
+                appendInfoRow(html, "작성자", report.getReporter());
+                appendInfoRow(html, "작성일", formatDate(report.getCreatedDate()));
+                html.append("</table>");
+                break;
+            case THIS_WEEK:
+                appendTasks(html, "금주 주요 수행 업무", report.getThisWeekRequestCount(),
+                    report.getThisWeekCompleteCount(), report.getThisWeekTasksText());
+                break;
+            case NEXT_WEEK:
+                appendTasks(html, "차주 주요 수행 계획", report.getNextWeekRequestCount(),
+                    report.getNextWeekCompleteCount(), report.getNextWeekTasksText());
+                break;
+            case ISSUES:
+                appendIssues(html, report.getAdditionalNotes());
+                break;
+            case CHECKS:
+                appendChecks(html, report.getCheckItems());
+                break;
+            default:
+                throw new IllegalArgumentException("알 수 없는 섹션: " + section);
+        }
+        return html.toString();
+    }
+
+    private static void appendInfoRow(StringBuilder html, String label, String value) {
+        html.append("<tr><td class=\"label\">").append(label).append("</td><td class=\"value\">")
+            .append(escape(value)).append("</td></tr>");
+    }
+
+    private static void appendTasks(StringBuilder html, String header, Integer requestCount,
+                                    Integer completeCount, String text) {
+        html.append("<h2>").append(header).append("</h2>");
+        html.append("<p class=\"stats\">요청: ").append(requestCount).append(" / 완료: ").append(completeCount).append("</p>");
+        if (text != null && !text.isEmpty()) {
+            appendText(html, text);
+        }
+    }
+
+    /**
+     * ISSUE 사항 (PDF와 같이 ■로 시작하는 줄마다 문단을 나누고 줄 앞뒤 공백 제거)
+     */
+    private static void appendIssues(StringBuilder html, String notes) {
+        html.append("<h2>주요 ISSUE 사항</h2>");
+        if (notes == null || notes.isEmpty()) {
+            return;
+        }
+        StringBuilder current = new StringBuilder();
+        for (String line : notes.split("\n")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("■")) {
+                appendIssueParagraph(html, current);
+                current.setLength(0);
+                current.append(trimmed);
+            } else {
+                if (current.length() > 0) {
+                    current.append('\n');
+                }
+                current.append(trimmed);
+            }
+        }
+        appendIssueParagraph(html, current);
+    }
+
+    private static void appendIssueParagraph(StringBuilder html, StringBuilder content) {
+        String text = content.toString().trim();
+        if (!text.isEmpty()) {
+            appendText(html, text);
+        }
+    }
+
+    private static void appendChecks(StringBuilder html, List<Boolean> checkItems) {
+        html.append("<h2>주요 10가지 Check 사항</h2>");
+        for (int i = 0; i < WeeklyReport.CHECK_ITEM_NAMES.size(); i++) {
+            boolean checked = checkItems != null && i < checkItems.size() && Boolean.TRUE.equals(checkItems.get(i));
+            html.append("<p class=\"check\">").append(checked ? "☑ " : "☐ ").append(WeeklyReport.CHECK_ITEM_NAMES.get(i)).append("</p>");
+        }
+    }
+
+    /**
+     * 여러 줄 텍스트 문단 (줄바꿈과 들여쓰기 공백 유지)
+     */
+    private static void appendText(StringBuilder html, String text) {
+        html.append("<p class=\"text\">");
+        String[] lines = text.split("\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            if (i > 0) {
+                html.append("<br>");
+            }
+            String line = lines[i];
+            int indent = 0;
+            while (indent < line.length() && line.charAt(indent) == ' ') {
+                html.append("&nbsp;");
+                indent++;
+            }
+            html.append(escape(line.substring(indent)));
+        }
+        html.append("</p>");
+    }
+
+    private static String formatDate(LocalDate date) {
+        return date != null ? date.format(DATE_FORMATTER) : "";
+    }
+
+    static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '&' -> escaped.append("&amp;");
+                case '"' -> escaped.append("&quot;");
+                case '\r' -> { }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
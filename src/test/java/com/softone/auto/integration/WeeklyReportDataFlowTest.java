@@ -359,6 +359,55 @@ public class WeeklyReportDataFlowTest {
         }
     }
     
+    @Test
+    @DisplayName("6. 회사 + 주차 조회 테스트")
+    void testCompanyWeekLookup() {
+        System.out.println("\n[6단계] 회사 + 주차 조회 테스트");
+
+        LocalDate monday = LocalDate.of(2031, 3, 3);
+        Company otherCompany = null;
+
+        try {
+            otherCompany = companyService.createCompany(
+                "주차 조회 테스트 회사",
+                "주차 프로젝트",
+                "파견",
+                LocalDate.of(2031, 1, 1),
+                LocalDate.of(2031, 12, 31),
+                "주차 조회 테스트용"
+            );
+
+            AppContext.getInstance().setCurrentCompany(otherCompany);
+            assertFalse(service.existsByStartDate(monday), "보고서 생성 전에는 존재하지 않아야 합니다!");
+            assertFalse(service.hasReportForWeek(monday.plusDays(2)), "보고서 생성 전에는 주차가 없어야 합니다!");
+
+            WeeklyReport report = service.createReport(
+                "주차 조회 보고서", monday, monday.plusDays(4), otherCompany.getProjectName(), "테스터");
+
+            assertTrue(service.existsByStartDate(monday), "생성한 보고서가 존재해야 합니다!");
+            assertEquals(report.getId(), service.getReportByStartDate(monday).getId());
+            assertTrue(service.hasReportForWeek(monday.plusDays(2)), "같은 ISO 주의 날짜도 표시되어야 합니다!");
+            assertTrue(service.getReportWeeks().contains("2031-W10"));
+
+            // 다른 회사에서는 보이지 않아야 함
+            AppContext.getInstance().setCurrentCompany(testCompany);
+            assertFalse(service.existsByStartDate(monday), "다른 회사의 보고서는 조회되지 않아야 합니다!");
+            assertFalse(service.hasReportForWeek(monday), "다른 회사의 주차는 표시되지 않아야 합니다!");
+
+            AppContext.getInstance().setCurrentCompany(otherCompany);
+            service.deleteReport(report.getId());
+            assertFalse(service.hasReportForWeek(monday), "삭제 후에는 주차가 없어야 합니다!");
+
+            System.out.println("  ✓ 회사 + 주차 조회 테스트 성공");
+
+        } finally {
+            AppContext.getInstance().setCurrentCompany(testCompany);
+            if (otherCompany != null) {
+                companyService.deleteCompany(otherCompany.getId());
+            }
+        }
+    }
+
     @AfterAll
     void tearDownAll() {
         System.out.println("\n" + "=".repeat(60));
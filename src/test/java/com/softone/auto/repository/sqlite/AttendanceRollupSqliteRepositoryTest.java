@@ -0,0 +1,132 @@
+package com.softone.auto.repository.sqlite;
+
+import com.softone.auto.model.Attendance;
+import com.softone.auto.model.AttendanceMonthlyRollup;
+import com.softone.auto.model.Company;
+import com.softone.auto.model.Developer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 월별 근태 집계 통합 테스트
+ * 트리거 증분 갱신과 부분 월/전체 월 분할 조회가 원본 집계와 일치하는지 검증
+ */
+@DisplayName("월별 근태 집계 테스트")
+class AttendanceRollupSqliteRepositoryTest {
+
+    private CompanySqliteRepository companyRepository;
+    private DeveloperSqliteRepository developerRepository;
+    private AttendanceSqliteRepository attendanceRepository;
+
+    private String companyId;
+    private Developer developer;
+
+    @BeforeEach
+    void setUp() {
+        companyRepository = new CompanySqliteRepository();
+        developerRepository = new DeveloperSqliteRepository();
+        attendanceRepository = new AttendanceSqliteRepository();
+
+        companyId = "rollup-" + UUID.randomUUID();
+        companyRepository.save(new Company(companyId, "집계 테스트 회사", "집계 프로젝트"));
+
+        developer = new Developer();
+        developer.setId(UUID.randomUUID().toString());
+        developer.setCompanyId(companyId);
+        developer.setName("집계개발자-" + developer.getId());
+        developer.setStatus("ACTIVE");
+        developerRepository.save(developer);
+
+        // 2024-01-25 ~ 2024-03-10 매일 근태 (5일마다 지각, 7일마다 휴가)
+        LocalDate date = LocalDate.of(2024, 1, 25);
+        int i = 0;
+        while (!date.isAfter(LocalDate.of(2024, 3, 10))) {
+            String type = i % 7 == 0 ? "VACATION" : (i % 5 == 0 ? "LATE" : "NORMAL");
+            attendanceRepository.save(attendance(date, type, 480));
+            date = date.plusDays(1);
+            i++;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        companyRepository.deleteById(companyId);
+    }
+
+    @Test
+    @DisplayName("부분 월과 전체 월이 섞인 기간도 원본 집계와 일치")
+    void testCountMatchesRawData() {
+        LocalDate[][] ranges = {
+            {LocalDate.of(2024, 1, 28), LocalDate.of(2024, 3, 5)},   // 앞/뒤 부분 월 + 2월 전체
+            {LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)},   // 정확히 한 달
+            {LocalDate.of(2024, 2, 5), LocalDate.of(2024, 2, 9)},    // 한 주
+            {LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31)}    // 전체 월만
+        };
+
+        for (LocalDate[] range : ranges) {
+            List<Attendance> raw = attendanceRepository.findByDeveloperAndDateRange(developer.getId(), range[0], range[1]);
+            long expectedWork = raw.stream().filter(a -> "NORMAL".equals(a.getType()) || "LATE".equals(a.getType())).count();
+            long expectedLate = raw.stream().filter(a -> "LATE".equals(a.getType())).count();
+
+            assertEquals(expectedWork, attendanceRepository.countByDeveloperAndTypes(
+                developer.getId(), range[0], range[1], "NORMAL", "LATE"));
+            assertEquals(expectedLate, attendanceRepository.countByDeveloperAndTypes(
+                developer.getId(), range[0], range[1], "LATE"));
+            assertEquals(raw.size(), attendanceRepository.countByDeveloperName(range[0], range[1])
+                .getOrDefault(developer.getName(), 0L));
+        }
+    }
+
+    @Test
+    @DisplayName("근태 수정/삭제 시 월별 집계 증분 반영")
+    void testIncrementalMaintenance() {
+        YearMonth february = YearMonth.of(2024, 2);
+        int lateBefore = rollupDays(february, "LATE");
+
+        Attendance target = attendanceRepository.findByDeveloperAndDateRange(
+            developer.getId(), LocalDate.of(2024, 2, 15), LocalDate.of(2024, 2, 15)).get(0);
+        String originalType = target.getType();
+        target.setType("LATE");
+        attendanceRepository.update(target);
+        assertEquals("LATE".equals(originalType) ? lateBefore : lateBefore + 1, rollupDays(february, "LATE"));
+
+        // INSERT OR REPLACE로 재저장해도 이중 집계되지 않아야 함
+        attendanceRepository.save(target);
+        assertEquals("LATE".equals(originalType) ? lateBefore : lateBefore + 1, rollupDays(february, "LATE"));
+
+        attendanceRepository.delete(target.getId());
+        assertEquals("LATE".equals(originalType) ? lateBefore - 1 : lateBefore, rollupDays(february, "LATE"));
+
+        List<AttendanceMonthlyRollup> before = attendanceRepository.findMonthlyRollups(companyId, february, february);
+        attendanceRepository.rebuildMonthlyRollups();
+        assertEquals(before, attendanceRepository.findMonthlyRollups(companyId, february, february));
+    }
+
+    private int rollupDays(YearMonth month, String type) {
+        return attendanceRepository.findMonthlyRollups(companyId, month, month).stream()
+            .filter(r -> developer.getId().equals(r.getDeveloperId()) && type.equals(r.getType()))
+            .mapToInt(AttendanceMonthlyRollup::getDays)
+            .sum();
+    }
+
+    private Attendance attendance(LocalDate date, String type, int workMinutes) {
+        Attendance attendance = new Attendance();
+        attendance.setId(UUID.randomUUID().toString());
+        attendance.setCompanyId(companyId);
+        attendance.setDeveloperId(developer.getId());
+        attendance.setDeveloperName(developer.getName());
+        attendance.setDate(date);
+        attendance.setType(type);
+        attendance.setWorkMinutes(workMinutes);
+        return attendance;
+    }
+}
@@ -0,0 +1,145 @@
+package com.softone.auto.repository.sqlite;
+
+import com.softone.auto.model.Attendance;
+import com.softone.auto.model.Company;
+import com.softone.auto.model.Developer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 근태 페이지 조회 통합 테스트
+ * 건수/필터, 정렬 순서, 페이지 경계(offset), 허용되지 않은 정렬 컬럼 거부를 검증
+ */
+@DisplayName("근태 페이지 조회 테스트")
+class AttendanceSqliteRepositoryTest {
+
+    private static final int ROWS = 25;
+
+    private CompanySqliteRepository companyRepository;
+    private DeveloperSqliteRepository developerRepository;
+    private AttendanceSqliteRepository attendanceRepository;
+
+    private String companyId;
+    private final List<Attendance> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        companyRepository = new CompanySqliteRepository();
+        developerRepository = new DeveloperSqliteRepository();
+        attendanceRepository = new AttendanceSqliteRepository();
+
+        companyId = "paging-" + UUID.randomUUID();
+        companyRepository.save(new Company(companyId, "페이지 테스트 회사", "페이지 프로젝트"));
+        Developer kim = createDeveloper("김개발");
+        Developer lee = createDeveloper("이개발");
+
+        // 2024-03-01부터 두 명이 번갈아 입력, 같은 날짜가 두 건씩 (3건마다 지각)
+        for (int i = 0; i < ROWS; i++) {
+            Developer developer = i % 2 == 0 ? kim : lee;
+            Attendance attendance = new Attendance();
+            attendance.setId(String.format("page-%s-%02d", companyId, i));
+            attendance.setCompanyId(companyId);
+            attendance.setDeveloperId(developer.getId());
+            attendance.setDeveloperName(developer.getName());
+            attendance.setDate(LocalDate.of(2024, 3, 1).plusDays(i / 2));
+            attendance.setType(i % 3 == 0 ? "LATE" : "NORMAL");
+            attendance.setWorkMinutes(400 + (i * 7) % 100);
+            attendanceRepository.save(attendance);
+            saved.add(attendance);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 회사 삭제 시 개발자/근태도 함께 삭제 (ON DELETE CASCADE)
+        companyRepository.deleteById(companyId);
+    }
+
+    @Test
+    @DisplayName("회사와 유형 조건으로 건수 조회")
+    void testCountPage() {
+        long late = saved.stream().filter(a -> "LATE".equals(a.getType())).count();
+
+        assertEquals(ROWS, attendanceRepository.countPage(companyId, null));
+        assertEquals(late, attendanceRepository.countPage(companyId, "LATE"));
+        assertEquals(ROWS - late, attendanceRepository.countPage(companyId, "NORMAL"));
+        assertEquals(0, attendanceRepository.countPage(companyId, "VACATION"));
+        assertEquals(0, attendanceRepository.countPage("paging-없는회사", null));
+    }
+
+    @Test
+    @DisplayName("정렬 컬럼/방향대로 조회하고 같은 값은 id로 순서 고정")
+    void testFindPageOrdering() {
+        Comparator<Attendance> byDate = Comparator.comparing(Attendance::getDate).thenComparing(Attendance::getId);
+        assertEquals(ids(saved.stream().sorted(byDate.reversed()).collect(Collectors.toList())),
+            ids(attendanceRepository.findPage(companyId, null, "date", false, 0, ROWS)), "날짜 내림차순, 같은 날짜는 id 내림차순");
+        assertEquals(ids(saved.stream().sorted(byDate).collect(Collectors.toList())),
+            ids(attendanceRepository.findPage(companyId, null, "date", true, 0, ROWS)));
+
+        Comparator<Attendance> byMinutes = Comparator.comparing(Attendance::getWorkMinutes).thenComparing(Attendance::getId);
+        assertEquals(ids(saved.stream().sorted(byMinutes).collect(Collectors.toList())),
+            ids(attendanceRepository.findPage(companyId, null, "work_minutes", true, 0, ROWS)));
+
+        List<Attendance> late = attendanceRepository.findPage(companyId, "LATE", "developer_name", true, 0, ROWS);
+        assertEquals(attendanceRepository.countPage(companyId, "LATE"), late.size());
+        assertTrue(late.stream().allMatch(a -> "LATE".equals(a.getType())), "유형 필터 적용");
+        assertEquals(ids(late.stream().sorted(Comparator.comparing(Attendance::getDeveloperName)
+            .thenComparing(Attendance::getId)).collect(Collectors.toList())), ids(late));
+    }
+
+    @Test
+    @DisplayName("페이지를 이어 붙이면 전체 정렬 결과와 같고 범위를 넘으면 빈 목록")
+    void testFindPageOffsets() {
+        List<String> all = ids(attendanceRepository.findPage(companyId, null, "date", false, 0, ROWS));
+
+        List<String> paged = new ArrayList<>();
+        for (int offset = 0; offset < ROWS; offset += 10) {
+            List<Attendance> page = attendanceRepository.findPage(companyId, null, "date", false, offset, 10);
+            assertEquals(Math.min(10, ROWS - offset), page.size());
+            paged.addAll(ids(page));
+        }
+
+        assertEquals(all, paged, "같은 날짜가 페이지 경계에 걸려도 중복/누락 없음");
+        assertEquals(ROWS, new HashSet<>(paged).size());
+        assertTrue(attendanceRepository.findPage(companyId, null, "date", false, ROWS, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 정렬 컬럼은 거부")
+    void testRejectUnknownSortColumn() {
+        assertThrows(IllegalArgumentException.class,
+            () -> attendanceRepository.findPage(companyId, null, "company_id", true, 0, 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> attendanceRepository.findPage(companyId, null, "date; DROP TABLE attendances", true, 0, 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> attendanceRepository.findPage(companyId, null, null, true, 0, 10));
+
+        assertEquals(ROWS, attendanceRepository.countPage(companyId, null), "거부된 요청은 데이터에 영향 없음");
+    }
+
+    private Developer createDeveloper(String name) {
+        Developer developer = new Developer();
+        developer.setId(UUID.randomUUID().toString());
+        developer.setCompanyId(companyId);
+        developer.setName(name);
+        developer.setStatus("ACTIVE");
+        developerRepository.save(developer);
+        return developer;
+    }
+
+    private static List<String> ids(List<Attendance> attendances) {
+        return attendances.stream().map(Attendance::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,130 @@
+package com.softone.auto.repository.sqlite;
+
+import com.softone.auto.model.Attendance;
+import com.softone.auto.model.Company;
+import com.softone.auto.model.DashboardStats;
+import com.softone.auto.model.Developer;
+import com.softone.auto.model.Issue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DashboardStatsSqliteRepository 통합 테스트
+ * 원본 테이블 쓰기 시 트리거로 카운터가 증분 갱신되는지 검증
+ */
+@DisplayName("대시보드 통계 카운터 테스트")
+class DashboardStatsSqliteRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 13);
+
+    private CompanySqliteRepository companyRepository;
+    private DeveloperSqliteRepository developerRepository;
+    private IssueSqliteRepository issueRepository;
+    private AttendanceSqliteRepository attendanceRepository;
+    private DashboardStatsSqliteRepository statsRepository;
+
+    private String companyId;
+    private Developer developer;
+
+    @BeforeEach
+    void setUp() {
+        companyRepository = new CompanySqliteRepository();
+        developerRepository = new DeveloperSqliteRepository();
+        issueRepository = new IssueSqliteRepository();
+        attendanceRepository = new AttendanceSqliteRepository();
+        new CustomerCommunicationSqliteRepository();
+        statsRepository = new DashboardStatsSqliteRepository();
+
+        companyId = "stats-" + UUID.randomUUID();
+        companyRepository.save(new Company(companyId, "통계 테스트 회사", "통계 프로젝트"));
+
+        developer = new Developer();
+        developer.setId(UUID.randomUUID().toString());
+        developer.setCompanyId(companyId);
+        developer.setName("홍길동");
+        developer.setStatus("ACTIVE");
+        developerRepository.save(developer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        companyRepository.deleteById(companyId);
+    }
+
+    @Test
+    @DisplayName("이슈 등록/상태 변경/삭제 시 카운터 반영")
+    void testIssueCounters() {
+        Issue issue = new Issue();
+        issue.setId(UUID.randomUUID().toString());
+        issue.setCompanyId(companyId);
+        issue.setTitle("카운터 이슈");
+        issue.setSeverity("높음");
+        issue.setStatus("OPEN");
+        issue.setCreatedDate(LocalDateTime.now());
+        issueRepository.save(issue);
+
+        DashboardStats stats = statsRepository.findByCompany(companyId, DAY, DAY);
+        assertEquals(1, stats.getTotal(DashboardStatsSqliteRepository.DEVELOPER_STATUS));
+        assertEquals(1, stats.getCount(DashboardStatsSqliteRepository.ISSUE_STATUS, "OPEN"));
+        assertEquals(1, stats.getCount(DashboardStatsSqliteRepository.ISSUE_SEVERITY, "높음"));
+
+        issue.setStatus("RESOLVED");
+        issueRepository.update(issue);
+
+        stats = statsRepository.findByCompany(companyId, DAY, DAY);
+        assertEquals(0, stats.getCount(DashboardStatsSqliteRepository.ISSUE_STATUS, "OPEN"));
+        assertEquals(1, stats.getCount(DashboardStatsSqliteRepository.ISSUE_STATUS, "RESOLVED"));
+
+        // INSERT OR REPLACE로 재저장해도 이중 집계되지 않아야 함
+        issueRepository.save(issue);
+        stats = statsRepository.findByCompany(companyId, DAY, DAY);
+        assertEquals(1, stats.getTotal(DashboardStatsSqliteRepository.ISSUE_STATUS));
+
+        issueRepository.delete(issue.getId());
+        stats = statsRepository.findByCompany(companyId, DAY, DAY);
+        assertEquals(0, stats.getTotal(DashboardStatsSqliteRepository.ISSUE_STATUS));
+    }
+
+    @Test
+    @DisplayName("근태 카운터는 날짜 버킷 구간으로 합산")
+    void testAttendanceBuckets() {
+        for (int i = 0; i < 3; i++) {
+            Attendance attendance = new Attendance();
+            attendance.setId(UUID.randomUUID().toString());
+            attendance.setCompanyId(companyId);
+            attendance.setDeveloperId(developer.getId());
+            attendance.setDeveloperName(developer.getName());
+            attendance.setDate(DAY.plusDays(i));
+            attendance.setCheckIn(LocalTime.of(9, 0));
+            attendance.setType(i == 0 ? "LATE" : "PRESENT");
+            attendanceRepository.save(attendance);
+        }
+
+        DashboardStats week = statsRepository.findByCompany(companyId, DAY, DAY.plusDays(4));
+        assertEquals(3, week.getCount(DashboardStatsSqliteRepository.ATTENDANCE_TYPE, "PRESENT", "LATE"));
+
+        DashboardStats firstDay = statsRepository.findByCompany(companyId, DAY, DAY);
+        assertEquals(1, firstDay.getCount(DashboardStatsSqliteRepository.ATTENDANCE_TYPE, "LATE"));
+        assertEquals(0, firstDay.getCount(DashboardStatsSqliteRepository.ATTENDANCE_TYPE, "PRESENT"));
+    }
+
+    @Test
+    @DisplayName("재구성 결과가 트리거 누적 결과와 일치")
+    void testRebuildMatchesTriggers() {
+        DashboardStats before = statsRepository.findByCompany(companyId, DAY, DAY);
+
+        statsRepository.rebuild();
+
+        DashboardStats after = statsRepository.findByCompany(companyId, DAY, DAY);
+        assertEquals(before.getCounters(), after.getCounters());
+    }
+}
@@ -0,0 +1,93 @@
+package com.softone.auto.repository.sqlite;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.model.Issue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QueryCache 통합 테스트
+ * 동일 조회의 캐시 적중과 쓰기 시 테이블 단위 무효화 검증
+ */
+@DisplayName("조회 결과 캐시 테스트")
+class QueryCacheTest {
+
+    private CompanySqliteRepository companyRepository;
+    private IssueSqliteRepository issueRepository;
+    private QueryCache cache;
+
+    private String companyId;
+    private String status;
+
+    @BeforeEach
+    void setUp() {
+        companyRepository = new CompanySqliteRepository();
+        issueRepository = new IssueSqliteRepository();
+        cache = QueryCache.getInstance();
+        cache.setEnabled(true);
+
+        companyId = "cache-" + UUID.randomUUID();
+        companyRepository.save(new Company(companyId, "캐시 테스트 회사", "캐시 프로젝트"));
+
+        // 다른 테스트 데이터와 섞이지 않도록 고유 상태값 사용
+        status = "CACHE_" + UUID.randomUUID();
+        issueRepository.save(issue());
+    }
+
+    @AfterEach
+    void tearDown() {
+        companyRepository.deleteById(companyId);
+    }
+
+    @Test
+    @DisplayName("동일 SQL과 파라미터는 캐시 적중")
+    void testHit() {
+        issueRepository.findByStatus(status);
+        long hitsBefore = cache.getStats().getHits();
+
+        List<Issue> issues = issueRepository.findByStatus(status);
+
+        assertEquals(1, issues.size());
+        assertEquals(hitsBefore + 1, cache.getStats().getHits());
+    }
+
+    @Test
+    @DisplayName("반환된 엔티티를 수정해도 캐시는 변하지 않음")
+    void testReturnedEntitiesAreCopies() {
+        issueRepository.findByStatus(status).get(0).setTitle("변경된 제목");
+
+        assertEquals("캐시 이슈", issueRepository.findByStatus(status).get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("테이블 쓰기 시 의존 항목 무효화")
+    void testInvalidationOnWrite() {
+        assertEquals(1, issueRepository.findByStatus(status).size());
+
+        issueRepository.save(issue());
+        assertEquals(2, issueRepository.findByStatus(status).size());
+
+        // ON DELETE CASCADE로 삭제된 이슈도 무효화 대상
+        companyRepository.deleteById(companyId);
+        assertEquals(0, issueRepository.findByStatus(status).size());
+    }
+
+    private Issue issue() {
+        Issue issue = new Issue();
+        issue.setId(UUID.randomUUID().toString());
+        issue.setCompanyId(companyId);
+        issue.setTitle("캐시 이슈");
+        issue.setSeverity("보통");
+        issue.setStatus(status);
+        issue.setCreatedDate(LocalDateTime.now());
+        return issue;
+    }
+}
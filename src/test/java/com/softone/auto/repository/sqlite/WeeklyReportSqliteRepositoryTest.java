@@ -0,0 +1,173 @@
+package com.softone.auto.repository.sqlite;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.model.WeeklyReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WeeklyReportSqliteRepository 통합 테스트
+ * 자동 저장용 부분 UPDATE와 하위 항목 변경분 저장(바뀐 행만 반영)을 검증
+ */
+@DisplayName("주간보고서 저장소 테스트")
+class WeeklyReportSqliteRepositoryTest {
+
+    private CompanySqliteRepository companyRepository;
+    private WeeklyReportSqliteRepository reportRepository;
+
+    private String companyId;
+    private WeeklyReport report;
+
+    @BeforeEach
+    void setUp() {
+        companyRepository = new CompanySqliteRepository();
+        reportRepository = new WeeklyReportSqliteRepository();
+
+        companyId = "report-" + UUID.randomUUID();
+        companyRepository.save(new Company(companyId, "보고서 테스트 회사", "보고서 프로젝트"));
+
+        report = new WeeklyReport();
+        report.setId(UUID.randomUUID().toString());
+        report.setCompanyId(companyId);
+        report.setTitle("주간 업무 보고서");
+        report.setStartDate(LocalDate.of(2024, 5, 13));
+        report.setEndDate(LocalDate.of(2024, 5, 17));
+        report.setProjectName("보고서 프로젝트");
+        report.setReporter("관리자");
+        report.setThisWeekTasksText("기존 금주 업무");
+        report.setNextWeekTasksText("기존 차주 계획");
+        report.getThisWeekPlan().add(new WeeklyReport.WorkItem("업무", "홍길동", "진행중", 50, null));
+        report.getAttendanceSummaries().add(new WeeklyReport.AttendanceSummary("홍길동", 5, 0, 0, null));
+        reportRepository.save(report);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportRepository.delete(report.getId());
+        companyRepository.deleteById(companyId);
+    }
+
+    @Test
+    @DisplayName("부분 수정은 변경된 컬럼만 바꾸고 하위 항목은 유지")
+    void testUpdateFieldsChangesOnlyGivenColumns() {
+        Map<WeeklyReport.Field, Object> changes = new EnumMap<>(WeeklyReport.Field.class);
+        changes.put(WeeklyReport.Field.THIS_WEEK_TASKS_TEXT, "수정된 금주 업무");
+        changes.put(WeeklyReport.Field.THIS_WEEK_REQUEST_COUNT, 7);
+        changes.put(WeeklyReport.Field.CHECK_ITEMS, List.of(true, false, true));
+
+        assertEquals(1, reportRepository.updateFields(report.getId(), changes));
+
+        WeeklyReport loaded = reportRepository.findById(report.getId()).orElseThrow();
+        assertEquals("수정된 금주 업무", loaded.getThisWeekTasksText());
+        assertEquals(7, loaded.getThisWeekRequestCount());
+        assertEquals(List.of(true, false, true), loaded.getCheckItems());
+
+        // 변경하지 않은 컬럼과 하위 항목은 그대로
+        assertEquals("기존 차주 계획", loaded.getNextWeekTasksText());
+        assertEquals("관리자", loaded.getReporter());
+        assertEquals(1, loaded.getThisWeekPlan().size());
+        assertEquals(1, loaded.getAttendanceSummaries().size());
+    }
+
+    @Test
+    @DisplayName("재저장 시 바뀌지 않은 하위 항목 행은 그대로 유지")
+    void testSaveKeepsUnchangedChildRows() throws SQLException {
+        report.getIssues().add(new WeeklyReport.IssueItem("이슈 1", "높음", "미해결", null));
+        report.getIssues().add(new WeeklyReport.IssueItem("이슈 2", "보통", "미해결", null));
+        report.getIssues().add(new WeeklyReport.IssueItem("이슈 3", "낮음", "미해결", null));
+        reportRepository.save(report);
+        List<Long> before = childIds("weekly_report_issues");
+        List<Long> summaryBefore = childIds("weekly_report_attendance_summaries");
+        assertEquals(3, before.size());
+
+        // 두 번째 이슈 수정, 세 번째 삭제 후 네 번째 추가 (같은 위치는 행 재사용)
+        report.getIssues().get(1).setStatus("해결");
+        report.getIssues().remove(2);
+        report.getIssues().add(new WeeklyReport.IssueItem("이슈 4", "보통", "진행중", "조치"));
+        reportRepository.save(report);
+
+        List<Long> after = childIds("weekly_report_issues");
+        assertEquals(3, after.size());
+        assertEquals(before.get(0), after.get(0), "바뀌지 않은 행은 유지");
+        assertEquals(before.get(1), after.get(1), "수정된 행은 그 자리에서 UPDATE");
+        assertEquals(before.get(2), after.get(2), "같은 위치의 새 항목은 기존 행 UPDATE로 반영");
+        assertEquals(summaryBefore, childIds("weekly_report_attendance_summaries"), "헤더 UPSERT가 하위 항목을 지우지 않음");
+
+        WeeklyReport loaded = reportRepository.findById(report.getId()).orElseThrow();
+        assertEquals(List.of("이슈 1", "이슈 2", "이슈 4"),
+            loaded.getIssues().stream().map(WeeklyReport.IssueItem::getIssue).toList());
+        assertEquals("해결", loaded.getIssues().get(1).getStatus());
+        assertEquals(1, loaded.getThisWeekPlan().size());
+    }
+
+    @Test
+    @DisplayName("회사별 목록은 캐시된 결과의 복사본을 돌려주고 보고서/하위 항목 변경 시 다시 조회")
+    void testFindByCompanyIdCache() {
+        QueryCache cache = QueryCache.getInstance();
+        List<WeeklyReport> first = reportRepository.findByCompanyId(companyId);
+        long hits = cache.getStats().getHits();
+
+        List<WeeklyReport> second = reportRepository.findByCompanyId(companyId);
+        assertEquals(hits + 1, cache.getStats().getHits(), "같은 조회는 캐시 재사용");
+        assertEquals(first, second);
+
+        // 돌려받은 객체(하위 항목 포함)를 수정해도 캐시에 영향 없음
+        second.get(0).setTitle("화면에서 수정");
+        second.get(0).getThisWeekPlan().get(0).setProgress(100);
+        WeeklyReport cached = reportRepository.findByCompanyId(companyId).get(0);
+        assertEquals("주간 업무 보고서", cached.getTitle());
+        assertEquals(50, cached.getThisWeekPlan().get(0).getProgress());
+
+        // 부분 수정과 하위 항목 변경은 캐시를 무효화
+        Map<WeeklyReport.Field, Object> changes = new EnumMap<>(WeeklyReport.Field.class);
+        changes.put(WeeklyReport.Field.REPORTER, "수정자");
+        reportRepository.updateFields(report.getId(), changes);
+        assertEquals("수정자", reportRepository.findByCompanyId(companyId).get(0).getReporter());
+
+        report.setReporter("수정자");
+        report.getIssues().add(new WeeklyReport.IssueItem("새 이슈", "높음", "미해결", null));
+        reportRepository.save(report);
+        assertEquals(List.of("새 이슈"), reportRepository.findByCompanyId(companyId).get(0).getIssues().stream()
+            .map(WeeklyReport.IssueItem::getIssue).toList());
+    }
+
+    @Test
+    @DisplayName("없는 보고서 부분 수정은 0건")
+    void testUpdateFieldsMissingReport() {
+        Map<WeeklyReport.Field, Object> changes = new EnumMap<>(WeeklyReport.Field.class);
+        changes.put(WeeklyReport.Field.TITLE, "없는 보고서");
+
+        assertEquals(0, reportRepository.updateFields(UUID.randomUUID().toString(), changes));
+        assertEquals(0, reportRepository.updateFields(report.getId(), new EnumMap<>(WeeklyReport.Field.class)));
+    }
+
+    private List<Long> childIds(String table) throws SQLException {
+        Connection connection = SqliteConnectionPool.getInstance().getWriteConnection();
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT id FROM " + table + " WHERE report_id = ? ORDER BY display_order")) {
+            stmt.setString(1, report.getId());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+}
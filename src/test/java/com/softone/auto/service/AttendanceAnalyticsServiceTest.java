@@ -0,0 +1,174 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Attendance;
+import com.softone.auto.model.Company;
+import com.softone.auto.model.Developer;
+import com.softone.auto.repository.sqlite.AttendanceSqliteRepository;
+import com.softone.auto.repository.sqlite.CompanySqliteRepository;
+import com.softone.auto.repository.sqlite.DeveloperSqliteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AttendanceAnalyticsService 통합 테스트
+ * 새 행 증분 반영, 교체/삭제 시 재적재, 개발자별 집계, 동시 요청 시 중복 적재 방지를 검증
+ */
+@DisplayName("근태 분석 서비스 테스트")
+class AttendanceAnalyticsServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2019, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2019, 12, 31);
+
+    private final CompanySqliteRepository companyRepository = new CompanySqliteRepository();
+    private final DeveloperSqliteRepository developerRepository = new DeveloperSqliteRepository();
+    private final AttendanceSqliteRepository attendanceRepository = new AttendanceSqliteRepository();
+    private final AttendanceAnalyticsService analyticsService = new AttendanceAnalyticsService();
+
+    private String companyId;
+    private Developer kim;
+    private Developer lee;
+
+    @BeforeEach
+    void setUp() {
+        companyId = "analytics-" + UUID.randomUUID();
+        companyRepository.save(new Company(companyId, "분석 테스트 회사", "분석 프로젝트"));
+        kim = createDeveloper("김개발");
+        lee = createDeveloper("이개발");
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 회사 삭제 시 개발자/근태도 함께 삭제 (ON DELETE CASCADE)
+        companyRepository.deleteById(companyId);
+        AttendanceAnalyticsService.invalidate(companyId);
+    }
+
+    @Test
+    @DisplayName("새 행은 기존 저장소에 이어 붙이고 교체/삭제가 감지되면 다시 적재")
+    void testIncrementalRefreshAndReload() {
+        saveAttendance(null, kim, LocalDate.of(2019, 3, 4), "NORMAL");
+        Attendance late = saveAttendance(null, kim, LocalDate.of(2019, 3, 5), "LATE");
+        saveAttendance(null, lee, LocalDate.of(2019, 3, 4), "NORMAL");
+
+        assertEquals(Map.of("NORMAL", 2L, "LATE", 1L), analyticsService.getTypeCounts(companyId, FROM, TO));
+        AttendanceColumnStore loaded = currentStore();
+
+        // 추가: 같은 저장소에 이어 붙임
+        saveAttendance(null, lee, LocalDate.of(2019, 3, 5), "VACATION");
+        saveAttendance(null, lee, LocalDate.of(2019, 3, 6), "LATE");
+        assertEquals(Map.of("NORMAL", 2L, "LATE", 2L, "VACATION", 1L), analyticsService.getTypeCounts(companyId, FROM, TO));
+        assertSame(loaded, currentStore(), "추가만 있으면 증분 갱신");
+        assertEquals(5, analyticsService.withStore(companyId, AttendanceColumnStore::size));
+
+        // 교체(INSERT OR REPLACE): 기존 rowid가 사라지므로 다시 적재
+        saveAttendance(late.getId(), kim, late.getDate(), "NORMAL");
+        assertEquals(Map.of("NORMAL", 3L, "LATE", 1L, "VACATION", 1L), analyticsService.getTypeCounts(companyId, FROM, TO));
+        AttendanceColumnStore reloaded = currentStore();
+        assertNotSame(loaded, reloaded, "교체는 재적재");
+
+        // 삭제 후 추가 (건수는 같아도 감지)
+        attendanceRepository.delete(late.getId());
+        saveAttendance(null, kim, LocalDate.of(2019, 3, 7), "ABSENT");
+        assertEquals(Map.of("NORMAL", 2L, "LATE", 1L, "VACATION", 1L, "ABSENT", 1L),
+            analyticsService.getTypeCounts(companyId, FROM, TO));
+        assertNotSame(reloaded, currentStore(), "삭제는 재적재");
+
+        Map<String, Map<String, Integer>> histogram = analyticsService.getDeveloperHistogram(companyId, FROM, TO);
+        assertEquals(Map.of("NORMAL", 1, "ABSENT", 1), histogram.get("김개발"));
+        assertEquals(Map.of("NORMAL", 1, "VACATION", 1, "LATE", 1), histogram.get("이개발"));
+    }
+
+    @Test
+    @DisplayName("개발자 ID별 유형 건수는 개발자별 기간 조회 결과와 같음")
+    void testDeveloperTypeCounts() {
+        LocalDate monday = LocalDate.of(2019, 6, 3);
+        for (int day = -2; day < 7; day++) {
+            saveAttendance(null, kim, monday.plusDays(day), day % 3 == 0 ? "LATE" : "NORMAL");
+            saveAttendance(null, lee, monday.plusDays(day), day == 1 ? "VACATION" : day == 2 ? "SICK_LEAVE" : "NORMAL");
+        }
+        LocalDate friday = monday.plusDays(4);
+
+        Map<String, Map<String, Integer>> counts = analyticsService.getDeveloperTypeCounts(companyId, monday, friday);
+        for (Developer developer : List.of(kim, lee)) {
+            Map<String, Integer> byType = counts.get(developer.getId());
+            for (String type : List.of("NORMAL", "LATE", "VACATION", "SICK_LEAVE")) {
+                assertEquals(attendanceRepository.countByDeveloperAndTypes(developer.getId(), monday, friday, type),
+                    (long) byType.getOrDefault(type, 0), developer.getName() + " " + type);
+            }
+        }
+        assertEquals(Map.of("NORMAL", 3, "LATE", 2), counts.get(kim.getId()), "월~금만 집계");
+    }
+
+    @Test
+    @DisplayName("동시 요청이 같은 새 행을 두 번 이어 붙이지 않음")
+    void testConcurrentRefresh() throws Exception {
+        saveAttendance(null, kim, LocalDate.of(2019, 1, 1), "NORMAL");
+        analyticsService.getTypeCounts(companyId, FROM, TO);
+
+        LocalDate date = LocalDate.of(2019, 1, 2);
+        for (int i = 0; i < 40; i++) {
+            saveAttendance(null, i % 2 == 0 ? kim : lee, date.plusDays(i / 2), i % 4 == 0 ? "LATE" : "NORMAL");
+        }
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Map<String, Long>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return analyticsService.getTypeCounts(companyId, FROM, TO);
+                }));
+            }
+            start.countDown();
+            for (Future<Map<String, Long>> result : results) {
+                assertEquals(Map.of("NORMAL", 31L, "LATE", 10L), result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(41, analyticsService.withStore(companyId, AttendanceColumnStore::size));
+    }
+
+    private AttendanceColumnStore currentStore() {
+        return analyticsService.withStore(companyId, Function.identity());
+    }
+
+    private Developer createDeveloper(String name) {
+        Developer developer = new Developer();
+        developer.setId(UUID.randomUUID().toString());
+        developer.setCompanyId(companyId);
+        developer.setName(name);
+        developerRepository.save(developer);
+        return developer;
+    }
+
+    private Attendance saveAttendance(String id, Developer developer, LocalDate date, String type) {
+        Attendance attendance = new Attendance();
+        attendance.setId(id != null ? id : UUID.randomUUID().toString());
+        attendance.setCompanyId(companyId);
+        attendance.setDeveloperId(developer.getId());
+        attendance.setDeveloperName(developer.getName());
+        attendance.setDate(date);
+        attendance.setType(type);
+        attendance.setWorkMinutes(480);
+        attendanceRepository.save(attendance);
+        return attendance;
+    }
+}
@@ -0,0 +1,75 @@
+package com.softone.auto.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AttendanceColumnStore 단위 테스트
+ */
+@DisplayName("근태 컬럼 저장소 테스트")
+class AttendanceColumnStoreTest {
+
+    private static final String[] TYPES = {"NORMAL", "LATE", "VACATION", "ABSENT"};
+
+    @Test
+    @DisplayName("문자열 날짜 변환이 LocalDate.toEpochDay와 일치")
+    void testParseEpochDay() {
+        for (LocalDate date = LocalDate.of(1999, 12, 25); date.isBefore(LocalDate.of(2101, 3, 5)); date = date.plusDays(13)) {
+            assertEquals(date.toEpochDay(), AttendanceColumnStore.parseEpochDay(date.toString()), date.toString());
+        }
+        assertEquals(LocalDate.of(2024, 2, 29).toEpochDay(), AttendanceColumnStore.parseEpochDay("2024-02-29"));
+    }
+
+    @Test
+    @DisplayName("집계 결과가 단순 계산과 일치")
+    void testAggregations() {
+        AttendanceColumnStore store = new AttendanceColumnStore("company", 4);
+        LocalDate base = LocalDate.of(2024, 1, 1);
+
+        long expectedLate = 0;
+        long expectedMinutes = 0;
+        int expectedDev1Vacation = 0;
+        LocalDate from = base.plusDays(10);
+        LocalDate to = base.plusDays(40);
+
+        for (int i = 0; i < 600; i++) {
+            LocalDate date = base.plusDays(i / 5);
+            String developerId = "dev" + (i % 5);
+            String type = TYPES[i % TYPES.length];
+            Integer minutes = i % 7 == 0 ? null : 400 + i % 100;
+            store.append(i + 1, developerId, "개발자" + (i % 5), date.toString(), type, minutes);
+
+            if (!date.isBefore(from) && !date.isAfter(to)) {
+                expectedLate += "LATE".equals(type) ? 1 : 0;
+                expectedMinutes += minutes != null ? minutes : 0;
+                expectedDev1Vacation += "dev1".equals(developerId) && "VACATION".equals(type) ? 1 : 0;
+            }
+        }
+
+        assertEquals(600, store.size());
+        assertEquals(600, store.getMaxRowId());
+        assertEquals(expectedLate, store.count(from, to, "LATE"));
+        assertEquals(expectedMinutes, store.sumMinutes(from, to));
+
+        List<String> typeNames = store.getTypeNames();
+        assertEquals(expectedLate, store.countByType(from, to)[typeNames.indexOf("LATE")]);
+
+        int dev1 = store.getDeveloperIds().indexOf("dev1");
+        assertEquals(expectedDev1Vacation, store.histogramByDeveloper(from, to)[dev1][typeNames.indexOf("VACATION")]);
+        assertEquals(expectedDev1Vacation,
+            store.histogramByDeveloperName(from, to).get("개발자1").getOrDefault("VACATION", 0));
+
+        long[] minutesByDeveloper = store.sumMinutesByDeveloper(from, to);
+        long total = 0;
+        for (long value : minutesByDeveloper) {
+            total += value;
+        }
+        assertEquals(expectedMinutes, total);
+        assertEquals(0, store.count(from, to, "UNKNOWN"));
+    }
+}
@@ -0,0 +1,365 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Attendance;
+import com.softone.auto.model.AttendanceMonthlyRollup;
+import com.softone.auto.model.Company;
+import com.softone.auto.model.Developer;
+import com.softone.auto.model.Issue;
+import com.softone.auto.repository.sqlite.AttendanceSqliteRepository;
+import com.softone.auto.repository.sqlite.CompanySqliteRepository;
+import com.softone.auto.repository.sqlite.DeveloperSqliteRepository;
+import com.softone.auto.repository.sqlite.IssueSqliteRepository;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.Dataset;
+import com.softone.auto.repository.sqlite.SqliteConnectionPool;
+import com.softone.auto.service.CsvTransferService.ImportResult;
+import com.softone.auto.util.AppContext;
+import com.softone.auto.util.CsvReader;
+import com.softone.auto.util.CsvWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CsvTransferService 통합 테스트
+ * RFC 4180 인용 규칙/수식 방지 왕복, 근태 가져오기 검증/오류 보고서, 이슈 내보내기→가져오기 왕복(ID 유지), 취소를 검증
+ */
+@DisplayName("CSV 가져오기/내보내기 테스트")
+class CsvTransferServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2019, 5, 1);
+    private static final LocalDate TO = LocalDate.of(2019, 5, 31);
+
+    private final CompanySqliteRepository companyRepository = new CompanySqliteRepository();
+    private final DeveloperSqliteRepository developerRepository = new DeveloperSqliteRepository();
+    private final AttendanceSqliteRepository attendanceRepository = new AttendanceSqliteRepository();
+    private final IssueSqliteRepository issueRepository = new IssueSqliteRepository();
+    private final RawDataSqliteRepository rawDataRepository = new RawDataSqliteRepository();
+    private final CsvTransferService csvService = new CsvTransferService();
+
+    private final List<Company> companies = new ArrayList<>();
+    private Company previousCompany;
+    private Developer developer;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        previousCompany = AppContext.getInstance().getCurrentCompany();
+        Company company = createCompany();
+        AppContext.getInstance().setCurrentCompany(company);
+
+        developer = new Developer();
+        developer.setId(UUID.randomUUID().toString());
+        developer.setCompanyId(company.getId());
+        developer.setName("홍길동");
+        developerRepository.save(developer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 회사 삭제 시 개발자/근태/이슈도 함께 삭제 (ON DELETE CASCADE)
+        companies.forEach(company -> companyRepository.deleteById(company.getId()));
+        AppContext.getInstance().setCurrentCompany(previousCompany);
+    }
+
+    @Test
+    @DisplayName("쉼표/큰따옴표/줄바꿈이 있는 값을 버퍼 경계를 넘어서도 그대로 왕복")
+    void testQuotingRoundTrip() throws IOException {
+        Path file = tempDir.resolve("quoting.csv");
+        List<List<String>> rows = new ArrayList<>();
+        for (int i = 0; i < 30000; i++) {
+            rows.add(Arrays.asList("행" + i, "쉼표, 포함", "큰\"따옴표\"", "줄\r\n바꿈\n" + i, "", "  앞뒤 공백  "));
+        }
+
+        try (CsvWriter writer = new CsvWriter(file)) {
+            for (List<String> row : rows) {
+                writer.writeRow(row);
+            }
+            writer.writeRow("끝", null);
+        }
+
+        byte[] bytes = Files.readAllBytes(file);
+        assertTrue(bytes.length > 2 * (1 << 20), "읽기/쓰기 버퍼보다 큰 파일");
+        assertEquals((byte) 0xEF, bytes[0], "UTF-8 BOM");
+        assertTrue(new String(bytes, 3, 80, StandardCharsets.UTF_8)
+            .startsWith("행0,\"쉼표, 포함\",\"큰\"\"따옴표\"\"\",\"줄\r\n바꿈\n0\",,  앞뒤 공백  \r\n"));
+
+        try (CsvReader reader = new CsvReader(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < rows.size(); i++) {
+                assertEquals(rows.get(i), reader.readRecord(), "레코드 " + i);
+                assertEquals(1 + 3L * i, reader.getRecordLine(), "줄바꿈이 있는 값은 여러 줄 차지");
+            }
+            assertEquals(List.of("끝", ""), reader.readRecord());
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    @DisplayName("수식으로 시작하는 값은 작은따옴표를 붙여 쓰고 읽을 때 원래 값으로 복원")
+    void testFormulaGuardRoundTrip() throws IOException {
+        Path file = tempDir.resolve("formula.csv");
+        List<String> row = Arrays.asList("=HYPERLINK(\"http://x\",\"y\")", "+1", "-30", "@SUM(A1)", "'=1+1", "'일반", "a=b");
+
+        try (CsvWriter writer = new CsvWriter(file)) {
+            writer.writeRow(row);
+        }
+
+        assertEquals("\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",'+1,'-30,'@SUM(A1),''=1+1,'일반,a=b\r\n",
+            new String(Files.readAllBytes(file), StandardCharsets.UTF_8).substring(1), "수식 시작 문자 앞에만 작은따옴표 (BOM 제외)");
+        try (CsvReader reader = new CsvReader(file, StandardCharsets.UTF_8)) {
+            assertEquals(row, reader.readRecord());
+        }
+    }
+
+    @Test
+    @DisplayName("근태 가져오기: 잘못된 행은 건너뛰고 줄 번호와 사유를 오류 보고서로 남김")
+    void testImportAttendanceWithErrors() throws IOException {
+        // 열 순서가 달라도 머리글(한글/테이블 열 이름)로 대응, 모르는 열은 무시
+        File source = writeFile("attendance.csv",
+            "사번,date,개발자,출근,퇴근,유형,비고\r\n"
+                + "A1,2019-05-02,홍길동,9:00,18:30,,\"정상, 출근\"\r\n"
+                + "A1,2019/05/03,홍길동,09:10,18:00,LATE,\r\n"
+                + "\r\n"
+                + "A1,2019-05-32,홍길동,09:00,18:00,,\r\n"
+                + "A2,2019-05-02,김철수,09:00,18:00,,\r\n"
+                + "A1,2019-05-06,홍길동,25:00,18:00,,\r\n"
+                + "A1,2019-05-07,홍길동,09:00,18:00,,\"제어\u0001문자\"\r\n");
+        File errorReport = tempDir.resolve("errors.csv").toFile();
+
+        ImportResult result = csvService.importFromCsv(source, Dataset.ATTENDANCE, StandardCharsets.UTF_8,
+            errorReport, null, () -> false);
+
+        assertEquals(6, result.getTotalRows(), "빈 줄 제외");
+        assertEquals(2, result.getImportedRows());
+        assertEquals(4, result.getErrorRows());
+        assertFalse(result.isCancelled());
+        assertEquals(List.of("5행: 날짜: 형식 오류 (2019-05-32)", "6행: 등록되지 않은 개발자 (김철수)",
+            "7행: 출근: 형식 오류 (25:00)", "8행: 비고: 허용되지 않는 제어 문자"), result.getSampleErrors());
+
+        List<Attendance> saved = new ArrayList<>(attendanceRepository.findByDeveloperId(developer.getId()));
+        saved.sort(Comparator.comparing(Attendance::getDate));
+        assertEquals(2, saved.size());
+        assertEquals(LocalDate.of(2019, 5, 2), saved.get(0).getDate());
+        assertEquals(LocalTime.of(9, 0), saved.get(0).getCheckIn());
+        assertEquals("NORMAL", saved.get(0).getType(), "유형이 비면 기본값");
+        assertEquals(570, saved.get(0).getWorkMinutes(), "근무 시간이 없으면 출퇴근으로 계산");
+        assertEquals("정상, 출근", saved.get(0).getNotes());
+        assertEquals("LATE", saved.get(1).getType());
+
+        try (CsvReader reader = new CsvReader(errorReport.toPath(), StandardCharsets.UTF_8)) {
+            assertEquals(List.of("줄", "오류", "사번", "date", "개발자", "출근", "퇴근", "유형", "비고"), reader.readRecord());
+            assertEquals(List.of("5", "날짜: 형식 오류 (2019-05-32)", "A1", "2019-05-32", "홍길동", "09:00", "18:00", "", ""),
+                reader.readRecord());
+        }
+
+        // 같은 파일을 다시 가져오면 (개발자, 날짜) 기준으로 교체되어 중복되지 않음
+        csvService.importFromCsv(source, Dataset.ATTENDANCE, StandardCharsets.UTF_8, null, null, () -> false);
+        assertEquals(2, attendanceRepository.findByDeveloperId(developer.getId()).size());
+    }
+
+    @Test
+    @DisplayName("필수 열이 없으면 가져오기 전에 실패")
+    void testMissingRequiredColumn() throws IOException {
+        File source = writeFile("missing.csv", "날짜,출근\r\n2019-05-02,09:00\r\n");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> csvService.importFromCsv(
+            source, Dataset.ATTENDANCE, StandardCharsets.UTF_8, null, null, () -> false));
+        assertEquals("필수 열이 없습니다: 개발자", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("이슈를 내보낸 CSV를 다른 회사로 가져오면 값이 그대로 유지")
+    void testIssueRoundTrip() throws IOException {
+        Company source = AppContext.getInstance().getCurrentCompany();
+        for (int i = 0; i < 3; i++) {
+            Issue issue = new Issue();
+            issue.setId(UUID.randomUUID().toString());
+            issue.setCompanyId(source.getId());
+            issue.setTitle("이슈 " + i + ", \"긴급\"");
+            issue.setDescription("첫 줄\n둘째 줄");
+            issue.setSeverity("높음");
+            issue.setCreatedDate(LocalDateTime.of(2019, 5, 10 + i, 14, 5));
+            issueRepository.save(issue);
+        }
+
+        File exported = tempDir.resolve("issues.csv").toFile();
+        List<long[]> progress = new ArrayList<>();
+        assertTrue(csvService.exportToCsv(exported, Dataset.ISSUES, FROM, TO,
+            (done, total) -> progress.add(new long[]{done, total}), () -> false));
+        assertEquals(3, progress.get(progress.size() - 1)[1]);
+
+        Company target = createCompany();
+        AppContext.getInstance().setCurrentCompany(target);
+        ImportResult result = csvService.importFromCsv(exported, Dataset.ISSUES, StandardCharsets.UTF_8,
+            null, null, () -> false);
+        assertEquals(3, result.getImportedRows());
+        assertEquals(0, result.getErrorRows());
+
+        File reExported = tempDir.resolve("issues2.csv").toFile();
+        assertTrue(csvService.exportToCsv(reExported, Dataset.ISSUES, FROM, TO, null, () -> false));
+        List<List<String>> original = readRecords(exported);
+        List<List<String>> copied = readRecords(reExported);
+        assertEquals(CsvTransferService.ID_HEADER, original.get(0).get(original.get(0).size() - 1), "마지막 열은 ID");
+        assertEquals(withoutId(original), withoutId(copied), "ID 외 값은 그대로");
+        for (int i = 1; i < original.size(); i++) {
+            assertNotEquals(lastField(original.get(i)), lastField(copied.get(i)), "다른 회사의 ID는 새로 발급");
+        }
+        assertEquals(3, rawDataRepository.count(Dataset.ISSUES, source.getId(), FROM, TO), "원래 회사 행은 그대로");
+    }
+
+    @Test
+    @DisplayName("내보낸 이슈 CSV를 같은 회사로 다시 가져오면 ID로 갱신하고 중복 추가하지 않음")
+    void testIssueReimportKeepsIds() throws IOException {
+        Company company = AppContext.getInstance().getCurrentCompany();
+        Issue issue = new Issue();
+        issue.setId(UUID.randomUUID().toString());
+        issue.setCompanyId(company.getId());
+        issue.setTitle("재가져오기 이슈");
+        issue.setSeverity("보통");
+        issue.setStatus("OPEN");
+        issue.setCreatedDate(LocalDateTime.of(2019, 5, 15, 9, 0));
+        issueRepository.save(issue);
+
+        File exported = tempDir.resolve("reimport.csv").toFile();
+        assertTrue(csvService.exportToCsv(exported, Dataset.ISSUES, FROM, TO, null, () -> false));
+        String edited = Files.readString(exported.toPath(), StandardCharsets.UTF_8).replace(",OPEN,", ",CLOSED,");
+        File source = writeFile("reimport-edited.csv", edited);
+
+        for (int i = 0; i < 2; i++) {
+            ImportResult result = csvService.importFromCsv(source, Dataset.ISSUES, StandardCharsets.UTF_8,
+                null, null, () -> false);
+            assertEquals(1, result.getImportedRows());
+        }
+
+        assertEquals(1, rawDataRepository.count(Dataset.ISSUES, company.getId(), FROM, TO), "같은 ID는 한 행");
+        assertEquals("CLOSED", issueRepository.findById(issue.getId()).orElseThrow().getStatus(), "기존 행을 갱신");
+    }
+
+    @Test
+    @DisplayName("취소하면 진행 중인 묶음을 롤백")
+    void testCancelImport() throws IOException {
+        StringBuilder csv = new StringBuilder("등록일,제목\r\n");
+        for (int i = 0; i < 2500; i++) {
+            csv.append("2019-05-20 10:00,취소 이슈 ").append(i).append("\r\n");
+        }
+        File source = writeFile("cancel.csv", csv.toString());
+
+        ImportResult result = csvService.importFromCsv(source, Dataset.ISSUES, StandardCharsets.UTF_8,
+            null, null, () -> true);
+
+        assertTrue(result.isCancelled());
+        assertEquals(1000, result.getTotalRows(), "진행률 확인 간격에서 중단");
+        assertEquals(0, result.getImportedRows());
+        assertEquals(0, rawDataRepository.count(Dataset.ISSUES,
+            AppContext.getInstance().getCurrentCompany().getId(), FROM, TO));
+    }
+
+    @Test
+    @DisplayName("대량 적재 모드: 인덱스/트리거를 복원하고 월별 집계를 재구성")
+    void testBulkLoadRestoresIndexesAndRollups() throws IOException {
+        List<String> schemaBefore = schemaObjects();
+        StringBuilder csv = new StringBuilder("날짜,개발자,출근,퇴근,유형\r\n");
+        for (int day = 1; day <= 30; day++) {
+            csv.append(String.format("2019-06-%02d,홍길동,09:00,18:00,%s\r\n", day, day % 10 == 0 ? "LATE" : "NORMAL"));
+        }
+        File source = writeFile("bulk.csv", csv.toString());
+
+        ImportResult result = csvService.importFromCsv(source, Dataset.ATTENDANCE, StandardCharsets.UTF_8,
+            null, null, () -> false, true);
+
+        assertEquals(30, result.getImportedRows());
+        assertEquals(schemaBefore, schemaObjects(), "제거했던 인덱스/트리거가 같은 이름으로 복원");
+
+        String companyId = AppContext.getInstance().getCurrentCompany().getId();
+        List<AttendanceMonthlyRollup> rollups = attendanceRepository.findMonthlyRollups(
+            companyId, YearMonth.of(2019, 6), YearMonth.of(2019, 6));
+        assertEquals(30, rollups.stream().mapToLong(AttendanceMonthlyRollup::getDays).sum(), "재집계 반영");
+
+        // 복원된 트리거가 다시 동작하는지 확인
+        csvService.importFromCsv(writeFile("bulk2.csv", "날짜,개발자\r\n2019-07-01,홍길동\r\n"),
+            Dataset.ATTENDANCE, StandardCharsets.UTF_8, null, null, () -> false);
+        assertEquals(1, attendanceRepository.findMonthlyRollups(companyId, YearMonth.of(2019, 7), YearMonth.of(2019, 7))
+            .stream().mapToLong(AttendanceMonthlyRollup::getDays).sum());
+    }
+
+    private List<String> schemaObjects() {
+        List<String> names = new ArrayList<>();
+        Connection conn = null;
+        try {
+            conn = SqliteConnectionPool.getInstance().getReadConnection();
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE tbl_name = 'attendances'"
+                     + " AND type IN ('index', 'trigger') ORDER BY name")) {
+                while (rs.next()) {
+                    names.add(rs.getString(1));
+                }
+            }
+        } catch (SQLException e) {
+            fail(e);
+        } finally {
+            SqliteConnectionPool.getInstance().returnConnection(conn);
+        }
+        return names;
+    }
+
+    private Company createCompany() {
+        Company company = new Company("csv-" + UUID.randomUUID(), "CSV 회사", "CSV 프로젝트");
+        companyRepository.save(company);
+        companies.add(company);
+        return company;
+    }
+
+    private static List<List<String>> readRecords(File file) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(file.toPath(), StandardCharsets.UTF_8)) {
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private static List<List<String>> withoutId(List<List<String>> records) {
+        List<List<String>> result = new ArrayList<>();
+        for (List<String> record : records) {
+            result.add(record.subList(0, record.size() - 1));
+        }
+        return result;
+    }
+
+    private static String lastField(List<String> record) {
+        return record.get(record.size() - 1);
+    }
+
+    private File writeFile(String name, String content) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file.toFile();
+    }
+}
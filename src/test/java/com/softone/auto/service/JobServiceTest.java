@@ -0,0 +1,373 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Job;
+import com.softone.auto.repository.sqlite.JobSqliteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JobService 통합 테스트
+ * 유형별 동시 실행 제한, 단독 작업 순서, 재시도, 취소, 재시작 후 복구를 검증
+ */
+@DisplayName("백그라운드 작업 테스트")
+class JobServiceTest {
+
+    private static final long TIMEOUT_MS = 10_000;
+
+    private final JobSqliteRepository repository = new JobSqliteRepository();
+    private final List<JobService> services = new ArrayList<>();
+    private final List<String> jobIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(JobService::shutdown);
+        jobIds.forEach(repository::delete);
+    }
+
+    @Test
+    @DisplayName("같은 유형은 동시 실행 수를 넘지 않고 다른 유형은 함께 실행")
+    void testPerTypeConcurrency() throws Exception {
+        JobService service = createService();
+        AtomicInteger excelRunning = new AtomicInteger();
+        AtomicInteger maxExcelRunning = new AtomicInteger();
+        AtomicInteger totalRunning = new AtomicInteger();
+        AtomicInteger maxTotalRunning = new AtomicInteger();
+
+        JobService.JobHandler handler = (job, context) -> {
+            boolean excel = job.getType() == Job.Type.REPORT_EXCEL;
+            if (excel) {
+                maxExcelRunning.accumulateAndGet(excelRunning.incrementAndGet(), Math::max);
+            }
+            maxTotalRunning.accumulateAndGet(totalRunning.incrementAndGet(), Math::max);
+            Thread.sleep(150);
+            totalRunning.decrementAndGet();
+            if (excel) {
+                excelRunning.decrementAndGet();
+            }
+            return null;
+        };
+        service.registerHandler(Job.Type.REPORT_EXCEL, handler);
+        service.registerHandler(Job.Type.REPORT_PDF, handler);
+
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            jobs.add(submit(service, Job.Type.REPORT_EXCEL, "excel-" + i));
+            jobs.add(submit(service, Job.Type.REPORT_PDF, "pdf-" + i));
+        }
+        for (Job job : jobs) {
+            assertEquals(Job.State.SUCCEEDED, awaitFinished(service, job.getId()).getState());
+        }
+
+        assertEquals(1, maxExcelRunning.get(), "같은 유형은 하나씩");
+        assertEquals(2, maxTotalRunning.get(), "Excel과 PDF는 함께 실행");
+        assertEquals(0, service.getActiveCount());
+    }
+
+    @Test
+    @DisplayName("단독 작업은 앞선 작업이 끝난 뒤 혼자 실행되고 뒤의 작업은 기다림")
+    void testExclusiveJobRunsAlone() throws Exception {
+        JobService service = createService();
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch releaseReport = new CountDownLatch(1);
+
+        service.registerHandler(Job.Type.REPORT_EXCEL, (job, context) -> {
+            events.add("start:" + job.getPayload());
+            releaseReport.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            events.add("end:" + job.getPayload());
+            return null;
+        });
+        service.registerHandler(Job.Type.BULK_GENERATE, (job, context) -> {
+            events.add("start:bulk");
+            Thread.sleep(100);
+            events.add("end:bulk");
+            return null;
+        });
+        service.registerHandler(Job.Type.REPORT_PDF, (job, context) -> {
+            events.add("start:pdf");
+            events.add("end:pdf");
+            return null;
+        });
+
+        Job report = submit(service, Job.Type.REPORT_EXCEL, "excel");
+        Job bulk = submit(service, Job.Type.BULK_GENERATE, null);
+        Job pdf = submit(service, Job.Type.REPORT_PDF, null);
+
+        // 같은 단독 유형을 다시 등록하면 대기 중인 작업을 그대로 돌려줌
+        assertEquals(bulk.getId(), service.submit(Job.Type.BULK_GENERATE, null, null).getId());
+
+        Thread.sleep(200);
+        assertEquals(Job.State.QUEUED, service.getJob(bulk.getId()).getState(), "앞선 작업이 끝날 때까지 대기");
+        assertEquals(Job.State.QUEUED, service.getJob(pdf.getId()).getState(), "단독 작업 뒤의 작업도 대기");
+
+        releaseReport.countDown();
+        for (Job job : List.of(report, bulk, pdf)) {
+            assertEquals(Job.State.SUCCEEDED, awaitFinished(service, job.getId()).getState());
+        }
+        assertEquals(List.of("start:excel", "end:excel", "start:bulk", "end:bulk", "start:pdf", "end:pdf"), events);
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 최대 실행 횟수까지 재시도")
+    void testRetry() throws Exception {
+        JobService service = createService();
+        AtomicInteger calls = new AtomicInteger();
+        service.registerHandler(Job.Type.BACKUP, (job, context) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("일시적 오류");
+            }
+            context.progress(50, "절반");
+            return "/tmp/backup.zip";
+        });
+        service.registerHandler(Job.Type.DATA_RESET, (job, context) -> {
+            throw new IllegalStateException("리셋 실패");
+        });
+
+        Job backup = awaitFinished(service, submit(service, Job.Type.BACKUP, null).getId());
+        assertEquals(Job.State.SUCCEEDED, backup.getState());
+        assertEquals(2, backup.getAttempts());
+        assertEquals(100, backup.getProgress());
+        assertEquals("/tmp/backup.zip", backup.getResultPath());
+        assertNotNull(backup.getFinishedAt());
+
+        // 재시도 없는 유형은 한 번 실패로 끝
+        Job reset = awaitFinished(service, submit(service, Job.Type.DATA_RESET, null).getId());
+        assertEquals(Job.State.FAILED, reset.getState());
+        assertEquals(1, reset.getAttempts());
+        assertEquals("리셋 실패", reset.getMessage());
+
+        // 저장된 상태도 같아야 함
+        assertEquals(Job.State.FAILED, repository.findById(reset.getId()).getState());
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업과 실행 중인 취소 가능 작업 취소")
+    void testCancel() throws Exception {
+        JobService service = createService();
+        CountDownLatch started = new CountDownLatch(1);
+        service.registerHandler(Job.Type.REPORT_EXCEL, (job, context) -> {
+            started.countDown();
+            while (!context.isCancelled()) {
+                Thread.sleep(10);
+            }
+            throw new InterruptedException("취소됨");
+        });
+
+        Job running = submit(service, Job.Type.REPORT_EXCEL, "first");
+        Job queued = submit(service, Job.Type.REPORT_EXCEL, "second");
+        assertTrue(started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+        assertTrue(service.cancel(queued.getId()));
+        assertEquals(Job.State.CANCELLED, repository.findById(queued.getId()).getState());
+
+        assertTrue(service.cancel(running.getId()));
+        Job cancelled = awaitFinished(service, running.getId());
+        assertEquals(Job.State.CANCELLED, cancelled.getState());
+        assertEquals(1, cancelled.getAttempts(), "취소는 재시도하지 않음");
+        assertFalse(service.cancel(running.getId()), "끝난 작업은 취소 불가");
+    }
+
+    @Test
+    @DisplayName("취소 요청 뒤 처리기가 정상 반환해도 취소로 기록하고 결과 파일 삭제")
+    void testCancelAfterHandlerReturns() throws Exception {
+        JobService service = createService();
+        File output = File.createTempFile("job-cancel-", ".xlsx");
+        output.deleteOnExit();
+        CountDownLatch started = new CountDownLatch(1);
+        service.registerHandler(Job.Type.REPORT_EXCEL, (job, context) -> {
+            started.countDown();
+            // 중단 신호를 무시하고 끝까지 파일을 쓴 뒤 정상 반환하는 처리기
+            long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+            while (!context.isCancelled() && System.currentTimeMillis() < deadline) {
+                Thread.onSpinWait();
+            }
+            return output.getAbsolutePath();
+        });
+
+        Job job = submit(service, Job.Type.REPORT_EXCEL, "partial");
+        assertTrue(started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertTrue(service.cancel(job.getId()));
+
+        Job cancelled = awaitFinished(service, job.getId());
+        assertEquals(Job.State.CANCELLED, cancelled.getState());
+        assertNull(cancelled.getResultPath(), "취소된 작업은 결과 경로를 남기지 않음");
+        assertEquals(Job.State.CANCELLED, repository.findById(job.getId()).getState());
+        assertFalse(output.exists(), "취소된 작업의 결과 파일 삭제");
+    }
+
+    @Test
+    @DisplayName("대기열 밖 데이터 작업과 단독 작업은 겹치지 않음")
+    void testSharedRunExcludesExclusiveJobs() throws Exception {
+        JobService service = createService();
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch exportStarted = new CountDownLatch(1);
+        CountDownLatch releaseExport = new CountDownLatch(1);
+        service.registerHandler(Job.Type.DATA_RESET, (job, context) -> {
+            events.add("start:reset");
+            Thread.sleep(100);
+            events.add("end:reset");
+            return null;
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> export = callers.submit(() -> service.runShared("내보내기", () -> {
+                events.add("start:export");
+                exportStarted.countDown();
+                releaseExport.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                events.add("end:export");
+                return "export";
+            }));
+            assertTrue(exportStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+            Job reset = submit(service, Job.Type.DATA_RESET, null);
+            Thread.sleep(200);
+            assertEquals(Job.State.QUEUED, service.getJob(reset.getId()).getState(), "데이터 작업이 끝날 때까지 대기");
+
+            // 단독 작업이 대기 중이면 새 데이터 작업은 단독 작업이 끝날 때까지 대기
+            Future<String> importRun = callers.submit(() -> service.runShared("가져오기", () -> {
+                events.add("start:import");
+                events.add("end:import");
+                return "import";
+            }));
+            Thread.sleep(100);
+            assertFalse(importRun.isDone());
+
+            releaseExport.countDown();
+            assertEquals("export", export.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+            assertEquals(Job.State.SUCCEEDED, awaitFinished(service, reset.getId()).getState());
+            assertEquals("import", importRun.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(List.of("start:export", "end:export", "start:reset", "end:reset", "start:import", "end:import"),
+            events);
+    }
+
+    @Test
+    @DisplayName("상태 저장 중에도 작업 수 조회는 저장을 기다리지 않음")
+    void testQueriesDoNotWaitForPersistence() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch releaseSave = new CountDownLatch(1);
+        JobSqliteRepository slowRepository = new JobSqliteRepository() {
+            @Override
+            public void update(Job job) {
+                if (job.getState() == Job.State.RUNNING) {
+                    saving.countDown();
+                    try {
+                        releaseSave.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.update(job);
+            }
+        };
+        JobService service = new JobService(slowRepository, JobService.DEFAULT_MAX_WORKERS);
+        services.add(service);
+        service.registerHandler(Job.Type.BACKUP, (job, context) -> null);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Job> submitted = callers.submit(() -> service.submit(Job.Type.BACKUP, "테스트 백업", null));
+            assertTrue(saving.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+            // 시작 상태를 저장하는 동안에도 바로 응답
+            assertEquals(1, callers.submit(service::getActiveCount).get(1, TimeUnit.SECONDS));
+
+            releaseSave.countDown();
+            Job job = submitted.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            jobIds.add(job.getId());
+            assertEquals(Job.State.SUCCEEDED, awaitFinished(service, job.getId()).getState());
+            assertEquals(Job.State.SUCCEEDED, repository.findById(job.getId()).getState(), "저장 순서 유지");
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 시 실행 중이던 작업은 재개 가능하면 다시 실행하고 아니면 실패로 보고")
+    void testRecoverAfterRestart() throws Exception {
+        Job interruptedReport = insertJob(Job.Type.REPORT_EXCEL, Job.State.RUNNING, 1);
+        Job interruptedBulk = insertJob(Job.Type.BULK_GENERATE, Job.State.RUNNING, 1);
+        Job queuedBackup = insertJob(Job.Type.BACKUP, Job.State.QUEUED, 0);
+
+        JobService service = createService();
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        JobService.JobHandler handler = (job, context) -> {
+            executed.add(job.getId());
+            return null;
+        };
+        for (Job.Type type : Job.Type.values()) {
+            service.registerHandler(type, handler);
+        }
+        service.recover();
+
+        Job report = awaitFinished(service, interruptedReport.getId());
+        assertEquals(Job.State.SUCCEEDED, report.getState());
+        assertEquals(2, report.getAttempts());
+
+        Job backup = awaitFinished(service, queuedBackup.getId());
+        assertEquals(Job.State.SUCCEEDED, backup.getState());
+
+        Job bulk = repository.findById(interruptedBulk.getId());
+        assertEquals(Job.State.FAILED, bulk.getState());
+        assertNotNull(bulk.getFinishedAt());
+        assertFalse(executed.contains(interruptedBulk.getId()), "재개할 수 없는 작업은 다시 실행하지 않음");
+    }
+
+    private JobService createService() {
+        JobService service = new JobService(repository, JobService.DEFAULT_MAX_WORKERS);
+        services.add(service);
+        return service;
+    }
+
+    private Job submit(JobService service, Job.Type type, String payload) {
+        Job job = service.submit(type, "테스트 " + type.getLabel(), payload);
+        jobIds.add(job.getId());
+        return job;
+    }
+
+    private Job insertJob(Job.Type type, Job.State state, int attempts) {
+        Job job = new Job();
+        job.setId(UUID.randomUUID().toString());
+        job.setType(type);
+        job.setState(state);
+        job.setTitle("이전 실행 " + type.getLabel());
+        job.setAttempts(attempts);
+        job.setMaxAttempts(type.getMaxAttempts());
+        job.setCreatedAt(LocalDateTime.now().minusMinutes(5));
+        job.setStartedAt(state == Job.State.RUNNING ? LocalDateTime.now().minusMinutes(4) : null);
+        repository.save(job);
+        jobIds.add(job.getId());
+        return job;
+    }
+
+    private Job awaitFinished(JobService service, String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            Job job = service.getJob(jobId);
+            if (job != null && job.getState().isFinished()) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        fail("작업이 제한 시간 안에 끝나지 않음: " + jobId);
+        return null;
+    }
+}
@@ -0,0 +1,266 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Attendance;
+import com.softone.auto.model.Company;
+import com.softone.auto.model.CustomerCommunication;
+import com.softone.auto.model.Developer;
+import com.softone.auto.model.Issue;
+import com.softone.auto.model.ManagementReport;
+import com.softone.auto.model.ManagementReport.AttendanceRow;
+import com.softone.auto.model.ManagementReport.CommunicationRow;
+import com.softone.auto.model.ManagementReport.IssueRow;
+import com.softone.auto.repository.sqlite.AttendanceSqliteRepository;
+import com.softone.auto.repository.sqlite.CompanySqliteRepository;
+import com.softone.auto.repository.sqlite.CustomerCommunicationSqliteRepository;
+import com.softone.auto.repository.sqlite.DeveloperSqliteRepository;
+import com.softone.auto.repository.sqlite.IssueSqliteRepository;
+import com.softone.auto.repository.sqlite.ManagementReportSqliteRepository.Period;
+import com.softone.auto.util.AppContext;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ManagementReportService 통합 테스트
+ * 월별/분기별 근태·이슈·고객 소통 집계 값과 Excel 시트 구성을 검증
+ */
+@DisplayName("경영 보고서 테스트")
+class ManagementReportServiceTest {
+
+    private final CompanySqliteRepository companyRepository = new CompanySqliteRepository();
+    private final DeveloperSqliteRepository developerRepository = new DeveloperSqliteRepository();
+    private final AttendanceSqliteRepository attendanceRepository = new AttendanceSqliteRepository();
+    private final IssueSqliteRepository issueRepository = new IssueSqliteRepository();
+    private final CustomerCommunicationSqliteRepository communicationRepository =
+        new CustomerCommunicationSqliteRepository();
+    private final ManagementReportService reportService = new ManagementReportService();
+
+    private final List<Company> companies = new ArrayList<>();
+    private Company previousCompany;
+    private Company company;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        previousCompany = AppContext.getInstance().getCurrentCompany();
+        company = createCompany("보고서 회사");
+        AppContext.getInstance().setCurrentCompany(company);
+
+        Developer kim = createDeveloper(company, "김개발");
+        Developer lee = createDeveloper(company, "이개발");
+
+        // 1월: 김개발 정상 2, 지각 1, 휴가 1 / 이개발 정상 1, 결근 1
+        saveAttendance(kim, LocalDate.of(2018, 1, 2), "NORMAL", 480);
+        saveAttendance(kim, LocalDate.of(2018, 1, 3), "NORMAL", 540);
+        saveAttendance(kim, LocalDate.of(2018, 1, 4), "LATE", 420);
+        saveAttendance(kim, LocalDate.of(2018, 1, 5), "VACATION", null);
+        saveAttendance(lee, LocalDate.of(2018, 1, 2), "NORMAL", 480);
+        saveAttendance(lee, LocalDate.of(2018, 1, 3), "ABSENT", null);
+        // 2월, 4월
+        saveAttendance(kim, LocalDate.of(2018, 2, 1), "NORMAL", 500);
+        saveAttendance(kim, LocalDate.of(2018, 4, 2), "EARLY_LEAVE", 300);
+
+        // 1월 접수 3건 (높음 1), 그중 1건 1월 해결(1.5일), 1건 2월 해결(30일)
+        saveIssue("높음", LocalDateTime.of(2018, 1, 10, 9, 0), LocalDateTime.of(2018, 1, 11, 21, 0));
+        saveIssue("보통", LocalDateTime.of(2018, 1, 15, 9, 0), LocalDateTime.of(2018, 2, 14, 9, 0));
+        saveIssue("낮음", LocalDateTime.of(2018, 1, 20, 9, 0), null);
+        // 이전 기간에 접수되어 기간 안에 해결된 건은 해결만 집계
+        saveIssue("보통", LocalDateTime.of(2017, 12, 20, 9, 0), LocalDateTime.of(2018, 1, 5, 9, 0));
+
+        // 1월 소통 3건: 2일 만에 완료, 기한 내 미완료(기한 지남), 기한 넘겨 완료
+        saveCommunication("HIGH", LocalDateTime.of(2018, 1, 8, 10, 0), LocalDateTime.of(2018, 1, 12, 10, 0),
+            LocalDateTime.of(2018, 1, 10, 10, 0));
+        saveCommunication("LOW", LocalDateTime.of(2018, 1, 9, 10, 0), LocalDateTime.of(2018, 1, 20, 10, 0), null);
+        saveCommunication("MEDIUM", LocalDateTime.of(2018, 1, 22, 10, 0), LocalDateTime.of(2018, 1, 23, 10, 0),
+            LocalDateTime.of(2018, 1, 26, 10, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 회사 삭제 시 개발자/근태/이슈/고객 소통도 함께 삭제 (ON DELETE CASCADE)
+        companies.forEach(c -> companyRepository.deleteById(c.getId()));
+        AppContext.getInstance().setCurrentCompany(previousCompany);
+    }
+
+    @Test
+    @DisplayName("월별: 개발자별 근태, 등록일/해결일 기준 이슈, 소통 처리 현황")
+    void testMonthlyReport() {
+        ManagementReport report = reportService.build(Period.MONTHLY, YearMonth.of(2018, 1), YearMonth.of(2018, 4), false);
+
+        assertEquals("보고서 회사", report.getScope());
+        assertEquals(List.of("2018-01 김개발", "2018-01 이개발", "2018-02 김개발", "2018-04 김개발"),
+            report.getAttendance().stream().map(r -> r.getPeriod() + " " + r.getDeveloperName()).toList());
+
+        AttendanceRow kimJanuary = report.getAttendance().get(0);
+        assertEquals("보고서 회사", kimJanuary.getCompanyName());
+        assertEquals(4, kimJanuary.getTotalDays());
+        assertEquals(3, kimJanuary.getWorkedDays(), "정상 + 지각");
+        assertEquals(1, kimJanuary.getLateDays());
+        assertEquals(1, kimJanuary.getLeaveDays());
+        assertEquals(1440, kimJanuary.getWorkMinutes());
+        assertEquals(480.0, kimJanuary.getAverageWorkMinutes(), 0.001);
+        assertEquals(1, report.getAttendance().get(1).getAbsentDays());
+        assertEquals(1, report.getAttendance().get(3).getEarlyLeaveDays());
+
+        List<IssueRow> issues = report.getIssues();
+        assertEquals(List.of("2018-01", "2018-02"), issues.stream().map(IssueRow::getPeriod).toList());
+        assertEquals(3, issues.get(0).getCreated());
+        assertEquals(1, issues.get(0).getHighSeverity());
+        assertEquals(2, issues.get(0).getResolved(), "이전 기간 접수 건 포함");
+        assertEquals((1.5 + 16) / 2, issues.get(0).getAverageResolutionDays(), 0.001);
+        assertEquals(1, issues.get(0).getNetChange());
+        assertEquals(0, issues.get(1).getCreated());
+        assertEquals(1, issues.get(1).getResolved());
+        assertEquals(30.0, issues.get(1).getAverageResolutionDays(), 0.001);
+
+        List<CommunicationRow> communications = report.getCommunications();
+        assertEquals(1, communications.size());
+        CommunicationRow january = communications.get(0);
+        assertEquals(3, january.getTotal());
+        assertEquals(1, january.getHighPriority());
+        assertEquals(2, january.getCompleted());
+        assertEquals(2, january.getOverdue(), "기한 지난 미완료 + 기한 넘겨 완료");
+        assertEquals(2.0 / 3, january.getCompletionRate(), 0.001);
+        assertEquals((2.0 + 4.0) / 2, january.getAverageTurnaroundDays(), 0.001);
+    }
+
+    @Test
+    @DisplayName("분기별: 시작/종료 월을 분기 경계로 확장하고 분기 단위로 합산")
+    void testQuarterlyReport() {
+        ManagementReport report = reportService.build(Period.QUARTERLY, YearMonth.of(2018, 2), YearMonth.of(2018, 5), false);
+
+        assertEquals(YearMonth.of(2018, 1), report.getFromMonth());
+        assertEquals(YearMonth.of(2018, 6), report.getToMonth());
+        assertEquals(List.of("2018-Q1 김개발", "2018-Q1 이개발", "2018-Q2 김개발"),
+            report.getAttendance().stream().map(r -> r.getPeriod() + " " + r.getDeveloperName()).toList());
+        assertEquals(5, report.getAttendance().get(0).getTotalDays(), "1월 4일 + 2월 1일");
+        assertEquals(1940, report.getAttendance().get(0).getWorkMinutes());
+
+        assertEquals(1, report.getIssues().size());
+        IssueRow firstQuarter = report.getIssues().get(0);
+        assertEquals("2018-Q1", firstQuarter.getPeriod());
+        assertEquals(3, firstQuarter.getCreated());
+        assertEquals(3, firstQuarter.getResolved());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> reportService.build(Period.MONTHLY, YearMonth.of(2018, 5), YearMonth.of(2018, 1), false));
+    }
+
+    @Test
+    @DisplayName("Excel: 요약/근태/이슈/고객 소통 시트, 여러 회사면 기간별 전체 합계")
+    void testExportToExcel() throws IOException {
+        Company other = createCompany("다른 회사");
+        saveAttendance(createDeveloper(other, "박개발"), LocalDate.of(2018, 1, 2), "NORMAL", 600);
+
+        File target = tempDir.resolve("management.xlsx").toFile();
+        ManagementReport report = reportService.exportToExcel(target, Period.MONTHLY,
+            YearMonth.of(2018, 1), YearMonth.of(2018, 1), true);
+        assertEquals("전체 회사", report.getScope());
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new FileInputStream(target))) {
+            assertEquals(List.of("요약", "근태", "이슈", "고객 소통"), List.of(workbook.getSheetName(0),
+                workbook.getSheetName(1), workbook.getSheetName(2), workbook.getSheetName(3)));
+
+            Sheet summary = workbook.getSheet("요약");
+            assertTrue(summary.getRow(0).getCell(0).getStringCellValue().startsWith("경영 보고서 (월별) 2018-01 ~ 2018-01"));
+            assertEquals("회사", summary.getRow(2).getCell(0).getStringCellValue());
+
+            Row ours = findRow(summary, "보고서 회사", "2018-01");
+            assertEquals(2, ours.getCell(2).getNumericCellValue(), "인원");
+            assertEquals(4, ours.getCell(3).getNumericCellValue(), "출근일");
+            assertEquals(32.0, ours.getCell(4).getNumericCellValue(), 0.001, "근무시간(h)");
+            assertEquals(3, ours.getCell(8).getNumericCellValue(), "이슈 접수");
+            assertEquals(3, ours.getCell(12).getNumericCellValue(), "소통 건수");
+
+            // 전체 합계 행은 다른 회사(다른 테스트 데이터 포함)까지 합산
+            Row total = findRow(summary, "전체", "2018-01");
+            assertTrue(total.getCell(2).getNumericCellValue() >= 3);
+            assertTrue(total.getCell(4).getNumericCellValue() >= 42.0);
+        }
+    }
+
+    private Row findRow(Sheet sheet, String company, String period) {
+        for (Row row : sheet) {
+            if (row.getRowNum() > 2 && company.equals(row.getCell(0).getStringCellValue())
+                    && period.equals(row.getCell(1).getStringCellValue())) {
+                return row;
+            }
+        }
+        return fail("행 없음: " + company + " " + period);
+    }
+
+    private Company createCompany(String name) {
+        Company created = new Company("report-" + UUID.randomUUID(), name, "보고서 프로젝트");
+        companyRepository.save(created);
+        companies.add(created);
+        return created;
+    }
+
+    private Developer createDeveloper(Company owner, String name) {
+        Developer developer = new Developer();
+        developer.setId(UUID.randomUUID().toString());
+        developer.setCompanyId(owner.getId());
+        developer.setName(name);
+        developerRepository.save(developer);
+        return developer;
+    }
+
+    private void saveAttendance(Developer developer, LocalDate date, String type, Integer workMinutes) {
+        Attendance attendance = new Attendance();
+        attendance.setId(UUID.randomUUID().toString());
+        attendance.setCompanyId(developer.getCompanyId());
+        attendance.setDeveloperId(developer.getId());
+        attendance.setDeveloperName(developer.getName());
+        attendance.setDate(date);
+        attendance.setType(type);
+        attendance.setWorkMinutes(workMinutes);
+        attendanceRepository.save(attendance);
+    }
+
+    private void saveIssue(String severity, LocalDateTime createdDate, LocalDateTime resolvedDate) {
+        Issue issue = new Issue();
+        issue.setId(UUID.randomUUID().toString());
+        issue.setCompanyId(company.getId());
+        issue.setTitle("이슈 " + createdDate);
+        issue.setSeverity(severity);
+        issue.setStatus(resolvedDate != null ? "RESOLVED" : "OPEN");
+        issue.setCreatedDate(createdDate);
+        issue.setResolvedDate(resolvedDate);
+        issueRepository.save(issue);
+    }
+
+    private void saveCommunication(String priority, LocalDateTime date, LocalDateTime dueDate,
+                                   LocalDateTime completedDate) {
+        CustomerCommunication communication = new CustomerCommunication();
+        communication.setId(UUID.randomUUID().toString());
+        communication.setCompanyId(company.getId());
+        communication.setType("REQUEST");
+        communication.setTitle("요청 " + date);
+        communication.setPriority(priority);
+        communication.setCommunicationDate(date);
+        communication.setDueDate(dueDate);
+        communication.setCompletedDate(completedDate);
+        communication.setStatus(completedDate != null ? "COMPLETED" : "PENDING");
+        communicationRepository.save(communication);
+    }
+}
@@ -0,0 +1,170 @@
+package com.softone.auto.service;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.model.WeeklyReport;
+import com.softone.auto.repository.sqlite.CompanySqliteRepository;
+import com.softone.auto.repository.sqlite.WeeklyReportSqliteRepository;
+import com.softone.auto.util.ReportArtifactCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WeeklyReportBatchExportService 통합 테스트
+ * 기간/회사 필터링, ZIP 묶음, 개별 파일 저장, 취소, 변경 없는 보고서 재사용을 검증
+ */
+@DisplayName("주간보고서 일괄 내보내기 테스트")
+class WeeklyReportBatchExportServiceTest {
+
+    private static final LocalDate FIRST_MONDAY = LocalDate.of(2024, 7, 1);
+
+    private final CompanySqliteRepository companyRepository = new CompanySqliteRepository();
+    private final WeeklyReportSqliteRepository reportRepository = new WeeklyReportSqliteRepository();
+    private final WeeklyReportBatchExportService exportService = new WeeklyReportBatchExportService();
+
+    private final List<Company> companies = new ArrayList<>();
+    private final List<String> reportIds = new ArrayList<>();
+
+    @TempDir
+    Path outputDir;
+
+    @BeforeEach
+    void setUp() {
+        for (int c = 0; c < 2; c++) {
+            Company company = new Company("batch-" + UUID.randomUUID(), "일괄 회사 " + c, "일괄 프로젝트");
+            companyRepository.save(company);
+            companies.add(company);
+
+            // 7/1 ~ 7/22 4주 + 기간 밖 7/29 1주
+            for (int w = 0; w < 5; w++) {
+                WeeklyReport report = new WeeklyReport();
+                report.setId(UUID.randomUUID().toString());
+                report.setCompanyId(company.getId());
+                report.setTitle("주간 업무 보고서");
+                report.setStartDate(FIRST_MONDAY.plusWeeks(w));
+                report.setEndDate(FIRST_MONDAY.plusWeeks(w).plusDays(4));
+                report.setProjectName("일괄 프로젝트");
+                report.setReporter("관리자");
+                report.setThisWeekTasksText("금주 업무 " + w);
+                report.setCreatedDate(FIRST_MONDAY.plusWeeks(w).plusDays(4));
+                reportRepository.save(report);
+                reportIds.add(report.getId());
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportIds.forEach(reportRepository::delete);
+        companies.forEach(company -> companyRepository.deleteById(company.getId()));
+    }
+
+    @Test
+    @DisplayName("기간 내 보고서를 형식별로 생성해 ZIP 하나로 묶음")
+    void testExportToZip() throws IOException {
+        WeeklyReportBatchExportService.ExportRequest request = julyRequest();
+        request.setZipFileName("batch.zip");
+
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+        WeeklyReportBatchExportService.ExportResult result =
+            exportService.export(request, (completed, total, item) -> progress.add(completed), () -> false);
+
+        assertFalse(result.isCancelled());
+        assertEquals(16, result.getTotal(), "회사 2곳 x 4주 x 2형식");
+        assertEquals(16, result.getSucceeded());
+        assertTrue(result.getFailures().isEmpty(), "실패: " + result.getFailures());
+        assertEquals(16, progress.size());
+        assertEquals(16, progress.get(progress.size() - 1));
+
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new FileInputStream(result.getZipFile()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                assertTrue(zip.readAllBytes().length > 0, "빈 항목: " + entry.getName());
+                entries.add(entry.getName());
+            }
+        }
+        assertEquals(16, entries.size());
+        assertTrue(entries.contains("일괄 회사 0/2024-07-01_주간보고서.xlsx"));
+        assertTrue(entries.contains("일괄 회사 1/2024-07-22_주간보고서.pdf"));
+        assertFalse(entries.stream().anyMatch(name -> name.contains("2024-07-29")), "기간 밖 보고서 제외");
+        assertFalse(new File(outputDir.toFile(), "batch.zip.part").exists(), "임시 파일 정리");
+    }
+
+    @Test
+    @DisplayName("ZIP을 사용하지 않으면 회사별 폴더에 파일 저장")
+    void testExportToFiles() {
+        WeeklyReportBatchExportService.ExportRequest request = julyRequest();
+        request.setFormats(EnumSet.of(WeeklyReportBatchExportService.Format.EXCEL));
+
+        WeeklyReportBatchExportService.ExportResult result = exportService.export(request, null, () -> false);
+
+        assertEquals(8, result.getSucceeded());
+        assertNull(result.getZipFile());
+        assertEquals(8, result.getFiles().size());
+        assertTrue(new File(outputDir.toFile(), "일괄 회사 1" + File.separator + "2024-07-08_주간보고서.xlsx").isFile());
+    }
+
+    @Test
+    @DisplayName("취소하면 ZIP 파일을 남기지 않음")
+    void testCancel() {
+        WeeklyReportBatchExportService.ExportRequest request = julyRequest();
+        request.setZipFileName("cancelled.zip");
+
+        WeeklyReportBatchExportService.ExportResult result = exportService.export(request, null, () -> true);
+
+        assertTrue(result.isCancelled());
+        assertNull(result.getZipFile());
+        assertFalse(new File(outputDir.toFile(), "cancelled.zip").exists());
+        assertFalse(new File(outputDir.toFile(), "cancelled.zip.part").exists());
+    }
+
+    @Test
+    @DisplayName("내용이 바뀌지 않은 보고서는 캐시된 파일을 재사용하고 바뀐 보고서만 다시 생성")
+    void testReuseUnchangedReports(@TempDir Path cacheDir) {
+        WeeklyReportBatchExportService cachedService = new WeeklyReportBatchExportService(
+            new WeeklyReportService(), new ReportArtifactCache(cacheDir.toFile(), 100, 64L * 1024 * 1024));
+        WeeklyReportBatchExportService.ExportRequest request = julyRequest();
+        request.setFormats(EnumSet.of(WeeklyReportBatchExportService.Format.EXCEL));
+
+        WeeklyReportBatchExportService.ExportResult first = cachedService.export(request, null, () -> false);
+        assertEquals(8, first.getSucceeded());
+        assertEquals(0, first.getReused());
+
+        reportRepository.updateFields(reportIds.get(0),
+            Map.of(WeeklyReport.Field.THIS_WEEK_TASKS_TEXT, "변경된 금주 업무"));
+
+        WeeklyReportBatchExportService.ExportResult second = cachedService.export(request, null, () -> false);
+        assertEquals(8, second.getSucceeded());
+        assertEquals(7, second.getReused(), "변경된 1건만 다시 생성");
+        assertTrue(second.getFiles().stream().allMatch(file -> file.length() > 0));
+    }
+
+    private WeeklyReportBatchExportService.ExportRequest julyRequest() {
+        WeeklyReportBatchExportService.ExportRequest request = new WeeklyReportBatchExportService.ExportRequest();
+        request.setFrom(LocalDate.of(2024, 7, 1));
+        request.setTo(LocalDate.of(2024, 7, 28));
+        request.setCompanies(companies);
+        request.setFormats(EnumSet.allOf(WeeklyReportBatchExportService.Format.class));
+        request.setOutputDir(outputDir.toFile());
+        return request;
+    }
+}
@@ -0,0 +1,181 @@
+package com.softone.auto.ui;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KeyedTableModel 단위 테스트
+ * 새 목록과의 차이만 행 이벤트로 발생하고 선택이 유지되는지 검증
+ */
+@DisplayName("키 기반 차이 갱신 테이블 모델 테스트")
+class KeyedTableModelTest {
+
+    private KeyedTableModel<String[]> model;
+    private List<TableModelEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        // 행 = {id, 이름}
+        model = new KeyedTableModel<>(new String[]{"이름"}, row -> row[0], row -> new Object[]{row[1]});
+        model.setItems(List.of(row("1", "A"), row("2", "B"), row("3", "C"), row("4", "D")));
+        events = new ArrayList<>();
+        model.addTableModelListener(events::add);
+    }
+
+    @Test
+    @DisplayName("변경 없는 목록은 이벤트 없음")
+    void testNoChanges() {
+        model.setItems(List.of(row("1", "A"), row("2", "B"), row("3", "C"), row("4", "D")));
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("값 변경/삽입/삭제는 해당 행만 이벤트 발생")
+    void testMinimalEvents() {
+        model.setItems(List.of(row("1", "A"), row("3", "C2"), row("5", "E"), row("4", "D")));
+
+        assertEquals(4, model.getRowCount());
+        assertEquals("C2", model.getValueAt(1, 0));
+        assertEquals("E", model.getValueAt(2, 0));
+        assertEquals(3, events.size(), "삭제 1 + 갱신 1 + 삽입 1");
+        assertEquals(TableModelEvent.DELETE, events.get(0).getType());
+        assertEquals(1, events.get(0).getFirstRow());
+        assertEquals(TableModelEvent.UPDATE, events.get(1).getType());
+        assertEquals(TableModelEvent.INSERT, events.get(2).getType());
+    }
+
+    @Test
+    @DisplayName("순서 변경도 새 목록 순서와 일치")
+    void testReorder() {
+        model.setItems(List.of(row("4", "D"), row("1", "A"), row("2", "B"), row("3", "C")));
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(new String[]{"D", "A", "B", "C"}[i], model.getValueAt(i, 0));
+        }
+        assertEquals(0, model.indexOfKey("4"));
+    }
+
+    @Test
+    @DisplayName("갱신 후에도 선택된 엔티티 유지")
+    void testSelectionPreserved() {
+        JTable table = new JTable(model);
+        table.setRowSelectionInterval(2, 2);   // "3"
+
+        model.setItems(List.of(row("0", "Z"), row("1", "A"), row("3", "C"), row("4", "D")));
+
+        assertEquals("3", model.getItem(table.getSelectedRow())[0]);
+    }
+
+    @Test
+    @DisplayName("연속된 삽입/삭제/갱신은 구간 이벤트 하나로 묶음")
+    void testRangeEvents() {
+        model.setItems(List.of(row("1", "A2"), row("2", "B2"), row("a", "가"), row("b", "나"), row("c", "다")));
+
+        assertEquals(3, events.size(), "삭제 1 + 갱신 1 + 삽입 1");
+        assertEvent(events.get(0), TableModelEvent.DELETE, 2, 3);
+        assertEvent(events.get(1), TableModelEvent.UPDATE, 0, 1);
+        assertEvent(events.get(2), TableModelEvent.INSERT, 2, 4);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(new String[]{"A2", "B2", "가", "나", "다"}[i], model.getValueAt(i, 0));
+        }
+        assertEquals(4, model.indexOfKey("c"));
+        assertEquals(-1, model.indexOfKey("3"));
+    }
+
+    @Test
+    @DisplayName("대부분의 행이 움직이면 전체 갱신 이벤트 한 번")
+    void testMostRowsMovedFallsBack() {
+        model.setItems(List.of(row("4", "D"), row("3", "C"), row("2", "B"), row("1", "A")));
+
+        assertEquals(1, events.size());
+        assertEvent(events.get(0), TableModelEvent.UPDATE, 0, Integer.MAX_VALUE);
+        assertEquals(3, model.indexOfKey("1"));
+    }
+
+    @Test
+    @DisplayName("큰 목록의 순서 변경/부분 변경도 행 수에 비례하는 시간과 적은 이벤트로 처리")
+    void testLargeListDiff() {
+        int size = 50_000;
+        List<String[]> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            items.add(row(String.valueOf(i), "v" + i));
+        }
+        model.setItems(items);
+
+        // 앞쪽 100행 삭제, 중간에 100행 삽입, 마지막 행을 맨 앞으로 이동
+        List<String[]> changed = new ArrayList<>(items.subList(100, size - 1));
+        for (int i = 0; i < 100; i++) {
+            changed.add(size / 2, row("new-" + i, "n" + i));
+        }
+        changed.add(0, items.get(size - 1));
+        events.clear();
+
+        long start = System.nanoTime();
+        model.setItems(changed);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(changed.size(), model.getRowCount());
+        for (int i = 0; i < changed.size(); i++) {
+            assertEquals(changed.get(i)[1], model.getValueAt(i, 0));
+        }
+        assertEquals(0, model.indexOfKey(String.valueOf(size - 1)));
+        assertTrue(events.size() <= 4, "구간 이벤트: " + events.size());
+        assertTrue(elapsedMs < 1000, "차이 계산 " + elapsedMs + "ms");
+
+        // 뒤집으면 전체 갱신 한 번
+        events.clear();
+        List<String[]> reversed = new ArrayList<>(changed);
+        Collections.reverse(reversed);
+        model.setItems(reversed);
+        assertEquals(1, events.size());
+        assertEquals(reversed.get(0)[1], model.getValueAt(0, 0));
+    }
+
+    @Test
+    @DisplayName("필터 결과 교체는 전체 갱신 이벤트 한 번이고 선택은 키로 복원")
+    void testReplaceItemsRestoresSelection() {
+        JTable table = new JTable(model);
+        table.setAutoCreateRowSorter(true);
+        table.getRowSorter().toggleSortOrder(0);   // 정렬 상태에서도 키로 복원
+        table.setRowSelectionInterval(2, 2);       // "3"
+        events.clear();
+
+        List<String[]> filtered = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            filtered.add(row("f" + i, "F" + i));
+        }
+        filtered.add(row("3", "C"));
+        model.replaceItems(filtered, table);
+
+        assertEquals(1, events.size(), "행마다 이벤트를 내지 않음");
+        assertEvent(events.get(0), TableModelEvent.UPDATE, 0, Integer.MAX_VALUE);
+        assertEquals(1001, model.getRowCount());
+        assertEquals(1, table.getSelectedRowCount());
+        assertEquals("3", model.getItem(table.convertRowIndexToModel(table.getSelectedRow()))[0]);
+
+        // 선택된 행이 결과에서 빠지면 선택 없음
+        model.replaceItems(Collections.singletonList(row("1", "A")), table);
+        assertEquals(-1, table.getSelectedRow());
+        assertEquals(0, model.indexOfKey("1"));
+    }
+
+    private static void assertEvent(TableModelEvent event, int type, int firstRow, int lastRow) {
+        assertEquals(type, event.getType());
+        assertEquals(firstRow, event.getFirstRow());
+        assertEquals(lastRow, event.getLastRow());
+    }
+
+    private static String[] row(String id, String name) {
+        return new String[]{id, name};
+    }
+}
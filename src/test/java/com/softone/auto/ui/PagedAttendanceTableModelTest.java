@@ -0,0 +1,201 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.model.Attendance;
+import com.softone.auto.service.AttendanceService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PagedAttendanceTableModel 단위 테스트
+ * 페이지 지연 로드, 최근 페이지만 보관(LRU), 조건 변경 전 요청한 페이지 결과 폐기를 검증
+ */
+@DisplayName("근태 페이지 테이블 모델 테스트")
+class PagedAttendanceTableModelTest {
+
+    private static final int PAGE_SIZE = 200;
+    private static final int MAX_CACHED_PAGES = 8;
+    private static final long TIMEOUT_MS = 10_000;
+
+    @Test
+    @DisplayName("건수와 첫 페이지를 먼저 읽고 나머지 페이지는 보일 때 로드")
+    void testPageLoad() throws Exception {
+        StubAttendanceService service = new StubAttendanceService(1000);
+        PagedAttendanceTableModel model = new PagedAttendanceTableModel(service);
+        reload(model);
+
+        assertEquals(1000, onEdt(model::getRowCount));
+        assertEquals(List.of(0), service.requestedOffsets(), "처음에는 첫 페이지만");
+        assertEquals("개발자0", onEdt(() -> model.getValueAt(0, 1)));
+        assertEquals(Integer.class, model.getColumnClass(4));
+        assertEquals(0, onEdt(() -> model.getValueAt(0, 4)), "근무시간이 없으면 0");
+        assertEquals(480, onEdt(() -> model.getValueAt(1, 4)));
+
+        // 로드 전에는 빈 칸, 로드 후 해당 행
+        assertEquals("", onEdt(() -> model.getValueAt(450, 1)));
+        Attendance row = awaitRow(model, 450);
+        assertEquals("date-450", row.getId());
+        assertEquals("개발자450", onEdt(() -> model.getValueAt(450, 1)));
+        assertTrue(service.requestedOffsets().contains(400));
+        assertNull(onEdt(() -> model.getAttendanceAt(1000)), "범위 밖은 로드하지 않음");
+    }
+
+    @Test
+    @DisplayName("최근 사용한 페이지만 보관하고 밀려난 페이지는 다시 로드")
+    void testLruEviction() throws Exception {
+        int pageCount = MAX_CACHED_PAGES + 3;
+        StubAttendanceService service = new StubAttendanceService(pageCount * PAGE_SIZE);
+        PagedAttendanceTableModel model = new PagedAttendanceTableModel(service);
+        reload(model);
+
+        // 페이지 앞쪽 행을 차례로 보면 앞 페이지(이미 로드됨) 외에는 미리 읽기가 없음
+        for (int page = 1; page <= MAX_CACHED_PAGES + 1; page++) {
+            awaitRow(model, page * PAGE_SIZE + 10);
+        }
+
+        assertEquals(-1, onEdt(() -> model.findLoadedRow("date-10")), "가장 오래된 페이지 0 제거");
+        assertEquals(-1, onEdt(() -> model.findLoadedRow("date-210")), "페이지 1 제거");
+        for (int page = 2; page <= MAX_CACHED_PAGES + 1; page++) {
+            int rowIndex = page * PAGE_SIZE + 10;
+            assertEquals(rowIndex, onEdt(() -> model.findLoadedRow("date-" + rowIndex)));
+        }
+
+        // 밀려난 페이지는 다시 조회
+        assertEquals("date-10", awaitRow(model, 10).getId());
+        assertEquals(2, Collections.frequency(service.requestedOffsets(), 0));
+        assertEquals(-1, onEdt(() -> model.findLoadedRow("date-" + (2 * PAGE_SIZE + 10))), "다시 로드하면 그다음 오래된 페이지 제거");
+    }
+
+    @Test
+    @DisplayName("정렬을 바꾸기 전에 요청한 페이지 결과는 버림")
+    void testStalePageDiscarded() throws Exception {
+        StubAttendanceService service = new StubAttendanceService(1000);
+        PagedAttendanceTableModel model = new PagedAttendanceTableModel(service);
+        reload(model);
+
+        service.block(600);
+        assertNull(onEdt(() -> model.getAttendanceAt(650)));
+        assertTrue(service.blockedStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+        // 페이지 3을 읽는 중에 개발자 오름차순으로 변경
+        CountDownLatch sorted = new CountDownLatch(1);
+        SwingUtilities.invokeAndWait(() -> model.toggleSort(1, sorted::countDown));
+        assertTrue(sorted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals("developer_name+0", onEdt(() -> model.getAttendanceAt(0)).getId());
+
+        service.releaseBlocked.countDown();
+        assertTrue(service.blockedFinished.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        flushEdt();
+
+        assertEquals(-1, onEdt(() -> model.findLoadedRow("date-650")), "이전 정렬의 페이지는 반영하지 않음");
+        assertEquals("developer_name+650", awaitRow(model, 650).getId(), "새 정렬로 다시 로드");
+    }
+
+    private void reload(PagedAttendanceTableModel model) throws Exception {
+        CountDownLatch loaded = new CountDownLatch(1);
+        SwingUtilities.invokeAndWait(() -> model.reload(loaded::countDown));
+        assertTrue(loaded.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * 행이 속한 페이지가 로드될 때까지 대기 (EDT에서 조회하며 로드 요청)
+     */
+    private Attendance awaitRow(PagedAttendanceTableModel model, int row) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            Attendance attendance = onEdt(() -> model.getAttendanceAt(row));
+            if (attendance != null) {
+                return attendance;
+            }
+            Thread.sleep(10);
+        }
+        fail("페이지가 제한 시간 안에 로드되지 않음: " + row);
+        return null;
+    }
+
+    /**
+     * 백그라운드 로드 결과 반영(invokeLater)이 끝나도록 대기
+     */
+    private void flushEdt() throws Exception {
+        Thread.sleep(100);
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+
+    private static <T> T onEdt(Supplier<T> supplier) throws Exception {
+        AtomicReference<T> result = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> result.set(supplier.get()));
+        return result.get();
+    }
+
+    /**
+     * 정해진 건수의 근태를 돌려주는 서비스 (id = 정렬 컬럼 + 방향 + 행 번호)
+     */
+    private static final class StubAttendanceService extends AttendanceService {
+        private final int total;
+        private final List<Integer> offsets = Collections.synchronizedList(new ArrayList<>());
+        private volatile int blockedOffset = -1;
+        private final CountDownLatch blockedStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseBlocked = new CountDownLatch(1);
+        private final CountDownLatch blockedFinished = new CountDownLatch(1);
+
+        private StubAttendanceService(int total) {
+            this.total = total;
+        }
+
+        private void block(int offset) {
+            blockedOffset = offset;
+        }
+
+        private List<Integer> requestedOffsets() {
+            synchronized (offsets) {
+                return new ArrayList<>(offsets);
+            }
+        }
+
+        @Override
+        public int countAttendance(String type) {
+            return total;
+        }
+
+        @Override
+        public List<Attendance> getAttendancePage(String type, String sortColumn, boolean ascending, int offset, int limit) {
+            offsets.add(offset);
+            boolean blocked = offset == blockedOffset;
+            if (blocked) {
+                blockedOffset = -1;
+                blockedStarted.countDown();
+                try {
+                    releaseBlocked.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            List<Attendance> rows = new ArrayList<>();
+            for (int i = offset; i < Math.min(total, offset + limit); i++) {
+                Attendance attendance = new Attendance();
+                attendance.setId(sortColumn + (ascending ? "+" : "-") + i);
+                attendance.setDate(LocalDate.of(2024, 1, 1).plusDays(i));
+                attendance.setDeveloperName("개발자" + i);
+                attendance.setType("NORMAL");
+                attendance.setWorkMinutes(i % 2 == 0 ? null : 480);
+                rows.add(attendance);
+            }
+            if (blocked) {
+                blockedFinished.countDown();
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.softone.auto.ui;
+
+import com.softone.auto.model.Issue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TableFilterIndex 단위 테스트
+ * 인덱스 기반 필터 결과가 단순 순회 결과와 일치하고 10만 행에서도 빠른지 검증
+ */
+@DisplayName("테이블 필터 인덱스 테스트")
+class TableFilterIndexTest {
+
+    private static final String[] CATEGORIES = {"기술", "일정", "인력", "기타"};
+    private static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "RESOLVED", "CLOSED"};
+    private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+
+    private static List<Issue> issues;
+    private static TableFilterIndex<Issue> index;
+
+    @BeforeAll
+    static void setUp() {
+        issues = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            Issue issue = new Issue();
+            issue.setId("issue-" + i);
+            issue.setTitle("이슈 " + i + (i % 13 == 0 ? " 배포 장애" : ""));
+            issue.setCategory(CATEGORIES[i % CATEGORIES.length]);
+            issue.setStatus(STATUSES[(i / 3) % STATUSES.length]);
+            issue.setAssignee(i % 5 == 0 ? null : "담당자" + (i % 7));
+            issue.setCreatedDate(i % 11 == 0 ? null : BASE.plusDays(i % 400).atTime(9, 0));
+            issues.add(issue);
+        }
+
+        Map<String, Function<Issue, String>> columns = new LinkedHashMap<>();
+        columns.put("category", Issue::getCategory);
+        columns.put("status", Issue::getStatus);
+        index = new TableFilterIndex<>(issues, columns,
+            issue -> TableFilterIndex.joinText(issue.getTitle(), issue.getAssignee()),
+            issue -> issue.getCreatedDate() != null ? issue.getCreatedDate().toLocalDate() : null);
+    }
+
+    @Test
+    @DisplayName("조건 없으면 전체 목록")
+    void testEmptyCriteria() {
+        assertSame(index.getItems(), index.filter(new TableFilterIndex.Criteria().text("  ").column("status", null)));
+    }
+
+    @Test
+    @DisplayName("조합 필터 결과가 단순 순회와 일치")
+    void testCombinedFilter() {
+        LocalDate from = BASE.plusDays(30);
+        LocalDate to = BASE.plusDays(120);
+        TableFilterIndex.Criteria criteria = new TableFilterIndex.Criteria()
+            .text("배포")
+            .column("category", "기술")
+            .column("status", "OPEN")
+            .dateRange(from, to);
+
+        List<Issue> expected = new ArrayList<>();
+        for (Issue issue : issues) {
+            LocalDateTime created = issue.getCreatedDate();
+            if (issue.getTitle().contains("배포") && "기술".equals(issue.getCategory()) && "OPEN".equals(issue.getStatus())
+                && created != null && !created.toLocalDate().isBefore(from) && !created.toLocalDate().isAfter(to)) {
+                expected.add(issue);
+            }
+        }
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, index.filter(criteria));
+    }
+
+    @Test
+    @DisplayName("검색어는 대소문자 무시, null 필드는 제외")
+    void testTextSearch() {
+        long expected = issues.stream().filter(issue -> "담당자3".equals(issue.getAssignee())).count();
+
+        assertEquals(expected, index.match(new TableFilterIndex.Criteria().text("담당자3")).cardinality());
+        assertEquals(0, index.match(new TableFilterIndex.Criteria().text("null")).cardinality());
+        assertEquals(0, index.match(new TableFilterIndex.Criteria().column("category", "없음")).cardinality());
+    }
+
+    @Test
+    @DisplayName("10만 행 조합 필터 성능")
+    void testPerformance() {
+        TableFilterIndex.Criteria criteria = new TableFilterIndex.Criteria()
+            .text("배포")
+            .column("status", "IN_PROGRESS")
+            .dateRange(BASE.plusDays(10), BASE.plusDays(300));
+
+        // 워밍업
+        for (int i = 0; i < 20; i++) {
+            index.filter(criteria);
+        }
+
+        long start = System.nanoTime();
+        int runs = 50;
+        for (int i = 0; i < runs; i++) {
+            index.filter(criteria);
+        }
+        double averageMs = (System.nanoTime() - start) / 1_000_000.0 / runs;
+        System.out.printf("10만 행 조합 필터 평균: %.2fms%n", averageMs);
+
+        // 공유 CI 환경 편차를 고려한 상한
+        assertTrue(averageMs < 50, "조합 필터가 너무 느립니다: " + averageMs + "ms");
+    }
+}
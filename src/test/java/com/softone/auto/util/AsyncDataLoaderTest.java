@@ -0,0 +1,141 @@
+package com.softone.auto.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AsyncDataLoader 단위 테스트
+ * 키 요청 합치기, 이전 요청 결과 폐기, 우선순위 순서를 검증
+ */
+@DisplayName("비동기 로더 키 요청/우선순위 테스트")
+class AsyncDataLoaderTest {
+
+    private final List<CountDownLatch> blockers = new ArrayList<>();
+
+    @AfterEach
+    void releaseWorkers() {
+        blockers.forEach(CountDownLatch::countDown);
+    }
+
+    @Test
+    @DisplayName("실행 중 요청은 새 요청이 오면 결과 폐기")
+    void testSupersededResultDropped() throws Exception {
+        Object key = new Object();
+        CountDownLatch oldStarted = new CountDownLatch(1);
+        CountDownLatch releaseOld = new CountDownLatch(1);
+        CountDownLatch oldFinished = new CountDownLatch(1);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+
+        AsyncDataLoader.loadKeyed(key, () -> {
+            oldStarted.countDown();
+            await(releaseOld);
+            oldFinished.countDown();
+            return "old";
+        }, delivered::add);
+        assertTrue(oldStarted.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch newDelivered = new CountDownLatch(1);
+        AsyncDataLoader.loadKeyed(key, () -> "new", value -> {
+            delivered.add(value);
+            newDelivered.countDown();
+        });
+        assertTrue(newDelivered.await(5, TimeUnit.SECONDS));
+
+        releaseOld.countDown();
+        assertTrue(oldFinished.await(5, TimeUnit.SECONDS));
+        flushEdt();
+
+        assertEquals(List.of("new"), delivered);
+    }
+
+    @Test
+    @DisplayName("시작 전 같은 키 요청은 한 번만 실행")
+    void testQueuedRequestsCoalesce() throws Exception {
+        saturateWorkers();
+
+        Object key = new Object();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<Integer> values = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 1; i <= 3; i++) {
+            int value = i;
+            AsyncDataLoader.loadKeyed(key, () -> {
+                executions.incrementAndGet();
+                return value;
+            }, result -> {
+                values.add(result);
+                delivered.countDown();
+            });
+        }
+
+        releaseWorkers();
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        flushEdt();
+
+        assertEquals(1, executions.get());
+        assertEquals(List.of(3), values);
+    }
+
+    @Test
+    @DisplayName("화면 로드가 미리 읽기보다 먼저 실행")
+    void testVisibleBeforePrefetch() throws Exception {
+        saturateWorkers();
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<String> prefetch = AsyncDataLoader.loadAsyncFuture(AsyncDataLoader.Priority.PREFETCH, () -> {
+            order.add("prefetch");
+            return "prefetch";
+        });
+        CompletableFuture<String> visible = AsyncDataLoader.loadAsyncFuture(AsyncDataLoader.Priority.VISIBLE, () -> {
+            order.add("visible");
+            return "visible";
+        });
+
+        // 작업 스레드 하나만 풀어 대기 중인 두 작업이 순서대로 실행되게 함
+        blockers.get(0).countDown();
+        CompletableFuture.allOf(prefetch, visible).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("visible", "prefetch"), order);
+    }
+
+    /**
+     * 모든 작업 스레드를 대기 작업으로 점유
+     */
+    private void saturateWorkers() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(AsyncDataLoader.MAX_CONCURRENCY);
+        for (int i = 0; i < AsyncDataLoader.MAX_CONCURRENCY; i++) {
+            CountDownLatch blocker = new CountDownLatch(1);
+            blockers.add(blocker);
+            AsyncDataLoader.loadAsyncFuture(() -> {
+                started.countDown();
+                await(blocker);
+                return null;
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS), "작업 스레드 점유 실패");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void flushEdt() throws Exception {
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+}
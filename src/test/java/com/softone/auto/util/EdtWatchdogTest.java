@@ -0,0 +1,83 @@
+package com.softone.auto.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EdtWatchdog / LatencyHistogram 단위 테스트
+ * EDT 멈춤 감지와 응답 시간 분포 계산을 검증
+ */
+@DisplayName("EDT 멈춤 감지 테스트")
+class EdtWatchdogTest {
+
+    @Test
+    @DisplayName("EDT를 막는 작업은 멈춤으로 기록되고 위치가 잡힘")
+    void testStallDetected() throws Exception {
+        EdtWatchdog watchdog = EdtWatchdog.install();
+        watchdog.reset();
+
+        SwingUtilities.invokeAndWait(EdtWatchdogTest::blockEdt);
+
+        // 멈춤 기록은 감시 스레드에서 비동기로 처리
+        List<EdtWatchdog.StallEvent> stalls = List.of();
+        for (int i = 0; i < 50 && stalls.isEmpty(); i++) {
+            Thread.sleep(100);
+            stalls = watchdog.getRecentStalls();
+        }
+
+        assertEquals(1, stalls.size(), "멈춤 1건이 기록되어야 함");
+        EdtWatchdog.StallEvent stall = stalls.get(0);
+        assertTrue(stall.getDurationMillis() >= 300, "멈춤 시간: " + stall.getDurationMillis());
+        assertTrue(stall.getHotspot().contains("blockEdt"), "위치: " + stall.getHotspot());
+        assertFalse(stall.getTopFrames().isEmpty());
+        assertTrue(watchdog.getHistograms().values().stream().anyMatch(h -> h.getMaxMillis() >= 500));
+    }
+
+    @Test
+    @DisplayName("짧은 작업은 멈춤으로 기록되지 않음")
+    void testShortTaskIgnored() throws Exception {
+        EdtWatchdog watchdog = EdtWatchdog.install();
+        watchdog.reset();
+
+        for (int i = 0; i < 20; i++) {
+            SwingUtilities.invokeAndWait(() -> { });
+        }
+        Thread.sleep(300);
+
+        assertTrue(watchdog.getRecentStalls().isEmpty());
+    }
+
+    @Test
+    @DisplayName("히스토그램 백분위는 구간 상한으로 근사")
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(5);
+        }
+        for (int i = 0; i < 9; i++) {
+            histogram.record(150);
+        }
+        histogram.record(3000);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(16, histogram.getPercentileMillis(0.5));
+        assertEquals(200, histogram.getPercentileMillis(0.95));
+        assertEquals(3000, histogram.getPercentileMillis(1.0));
+        assertEquals(10, histogram.countAbove(16));
+        assertEquals(1, histogram.countAbove(200));
+        assertEquals(3000, histogram.getMaxMillis());
+    }
+
+    private static void blockEdt() {
+        try {
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
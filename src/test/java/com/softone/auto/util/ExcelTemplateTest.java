@@ -0,0 +1,99 @@
+package com.softone.auto.util;
+
+import org.apache.poi.ss.usermodel.Name;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellRangeAddressList;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExcelTemplate 단위 테스트
+ * 행 삽입 시 옮길 수 없는 요소(수식, 조건부 서식, 인쇄 영역 등)가 있는 템플릿 거부를 검증
+ */
+@DisplayName("Excel 템플릿 분석 테스트")
+class ExcelTemplateTest {
+
+    @Test
+    @DisplayName("값 셀 이름 정의와 병합만 있는 템플릿은 행 삽입 후에도 위치 유지")
+    void testSupportedTemplate() throws IOException {
+        ExcelTemplate template = ExcelTemplate.compile(template(sheet ->
+            sheet.addMergedRegion(new CellRangeAddress(3, 3, 0, 2)), false));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        template.fill().text("TITLE", "제목").text("ITEM", "첫째").repeatBelow("ITEM", List.of("둘째")).write(out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("제목", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("첫째", sheet.getRow(1).getCell(0).getStringCellValue());
+            assertEquals("둘째", sheet.getRow(3).getCell(0).getStringCellValue(), "빈 행 하나를 두고 추가");
+            assertEquals("고정 3", sheet.getRow(5).getCell(0).getStringCellValue());
+            assertEquals("A6:C6", sheet.getMergedRegion(0).formatAsString(), "아래 병합은 삽입한 행만큼 이동");
+            assertEquals(0, workbook.getNumberOfNames(), "템플릿용 이름 정의는 결과에서 제거");
+        }
+    }
+
+    @Test
+    @DisplayName("수식, 조건부 서식, 데이터 유효성 검사가 있는 시트는 거부")
+    void testRejectUnsupportedSheetElements() {
+        assertRejected(template(sheet -> sheet.getRow(3).createCell(1).setCellFormula("A1&\"-\""), false));
+        assertRejected(template(sheet -> sheet.getSheetConditionalFormatting().addConditionalFormatting(
+            new CellRangeAddress[] {CellRangeAddress.valueOf("A4:A5")},
+            sheet.getSheetConditionalFormatting().createConditionalFormattingRule("TRUE")), false));
+        assertRejected(template(sheet -> sheet.addValidationData(sheet.getDataValidationHelper().createValidation(
+            sheet.getDataValidationHelper().createExplicitListConstraint(new String[] {"Y", "N"}),
+            new CellRangeAddressList(3, 3, 0, 0))), false));
+    }
+
+    @Test
+    @DisplayName("인쇄 영역 등 값 셀이 아닌 이름 정의가 있으면 거부")
+    void testRejectOtherDefinedNames() {
+        assertRejected(template(sheet -> sheet.getWorkbook().setPrintArea(0, "$A$1:$C$5"), false));
+        assertRejected(template(sheet -> { }, true));
+    }
+
+    private static void assertRejected(byte[] xlsx) {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> ExcelTemplate.compile(xlsx));
+        assertTrue(error.getMessage().contains("지원하지 않"), error.getMessage());
+    }
+
+    /**
+     * 제목(A1), 반복 항목(A2), 그 아래 일반 행(A4~A5)으로 된 템플릿
+     */
+    private static byte[] template(Consumer<Sheet> customizer, boolean rangeName) {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("보고서");
+            for (int i = 0; i < 5; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue(i == 0 || i == 1 ? "" : "고정 " + i);
+            }
+            defineName(workbook, "TITLE", "'보고서'!$A$1");
+            defineName(workbook, "ITEM", "'보고서'!$A$2");
+            if (rangeName) {
+                defineName(workbook, "BODY", "'보고서'!$A$4:$C$5");
+            }
+            customizer.accept(sheet);
+            workbook.write(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void defineName(XSSFWorkbook workbook, String name, String formula) {
+        Name definedName = workbook.createName();
+        definedName.setNameName(name);
+        definedName.setRefersToFormula(formula);
+    }
+}
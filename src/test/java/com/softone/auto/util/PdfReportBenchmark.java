@@ -0,0 +1,86 @@
+package com.softone.auto.util;
+
+import com.softone.auto.model.WeeklyReport;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * PDF 보고서 생성 벤치마크
+ * 보고서당 지연 시간(순차)과 출력 크기, 동시 생성 처리량을 출력합니다.
+ *
+ * 실행: gradle benchmarkPdf -Pcount=200 -Pthreads=4
+ */
+public class PdfReportBenchmark {
+
+    private static final int WARMUP = 30;
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        WeeklyReport report = sampleReport();
+
+        for (int i = 0; i < WARMUP; i++) {
+            render(report);
+        }
+
+        // 순차: 보고서당 지연 시간과 크기
+        long[] latencies = new long[count];
+        long totalBytes = 0;
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            totalBytes += render(report);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("순차 %d건: 평균 %.2fms, p50 %.2fms, p95 %.2fms, 평균 크기 %.1fKB%n",
+            count, Arrays.stream(latencies).average().orElse(0) / 1e6,
+            latencies[count / 2] / 1e6, latencies[(int) (count * 0.95)] / 1e6, totalBytes / 1024.0 / count);
+
+        // 동시: 처리량
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(() -> render(report)));
+            }
+            for (Future<Integer> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("동시 %d건 (%d스레드): %.2f초, %.1f건/초%n", count, threads, seconds, count / seconds);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static int render(WeeklyReport report) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        PdfReportGenerator.writeWeeklyReport(report, out);
+        return out.size();
+    }
+
+    private static WeeklyReport sampleReport() {
+        WeeklyReport report = new WeeklyReport();
+        report.setProjectName("차세대 정보시스템 구축");
+        report.setReporter("홍길동");
+        report.setStartDate(LocalDate.of(2024, 7, 1));
+        report.setEndDate(LocalDate.of(2024, 7, 5));
+        report.setCreatedDate(LocalDate.of(2024, 7, 5));
+        report.setThisWeekRequestCount(12);
+        report.setThisWeekCompleteCount(10);
+        report.setThisWeekTasksText("1. 배치 작업 성능 개선\n2. 주간 보고서 PDF 출력 점검\n3. 운영 서버 패치 적용");
+        report.setNextWeekTasksText("1. 통합 테스트\n2. 사용자 교육 자료 작성");
+        report.setAdditionalNotes("■ 장애\n운영 DB 연결 지연 (조치 완료)\n■ 일정\n2차 오픈 일정 협의 중");
+        report.setCheckItems(new ArrayList<>(Collections.nCopies(10, true)));
+        return report;
+    }
+}
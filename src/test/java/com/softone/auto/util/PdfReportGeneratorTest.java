@@ -0,0 +1,96 @@
+package com.softone.auto.util;
+
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+import com.softone.auto.model.WeeklyReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PdfReportGenerator 테스트
+ * 동시 생성 시 문서 간 내용 섞임 여부, 머리글/바닥글과 전체 페이지 수를 검증
+ * (한글 폰트가 없는 환경에서도 동작하도록 검증 문자열은 영문/숫자만 사용)
+ */
+@DisplayName("PDF 보고서 생성 테스트")
+class PdfReportGeneratorTest {
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 문서마다 자기 내용만 포함")
+    void testConcurrentGeneration() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                WeeklyReport report = sampleReport("PRJ-" + i, "TASK-" + i);
+                futures.add(executor.submit(() -> render(report)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                PdfReader reader = new PdfReader(futures.get(i).get());
+                try {
+                    List<String> taskLines = Arrays.stream(PdfTextExtractor.getTextFromPage(reader, 1).split("\n"))
+                        .map(String::trim)
+                        .filter(line -> line.startsWith("TASK-"))
+                        .toList();
+                    assertEquals(List.of("TASK-" + i), taskLines, "보고서 " + i + " 본문");
+                } finally {
+                    reader.close();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("모든 페이지에 머리글과 '현재 / 전체' 페이지 번호 표시")
+    void testHeaderAndPageNumbers() throws Exception {
+        StringBuilder longTasks = new StringBuilder();
+        for (int i = 0; i < 120; i++) {
+            longTasks.append("LINE-").append(i).append('\n');
+        }
+        PdfReader reader = new PdfReader(render(sampleReport("PRJ-LONG", longTasks.toString())));
+        try {
+            int pages = reader.getNumberOfPages();
+            assertTrue(pages >= 2, "여러 페이지 보고서");
+            for (int page = 1; page <= pages; page++) {
+                String text = PdfTextExtractor.getTextFromPage(reader, page);
+                assertTrue(text.contains("PRJ-LONG"), page + "쪽 머리글");
+                // 전체 페이지 수는 별도 템플릿이라 추출 시 공백이 달라질 수 있음
+                assertTrue(text.replace(" ", "").contains(page + "/" + pages), page + "쪽 바닥글");
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static byte[] render(WeeklyReport report) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PdfReportGenerator.writeWeeklyReport(report, out);
+        return out.toByteArray();
+    }
+
+    private static WeeklyReport sampleReport(String projectName, String tasks) {
+        WeeklyReport report = new WeeklyReport();
+        report.setProjectName(projectName);
+        report.setReporter("admin");
+        report.setStartDate(LocalDate.of(2024, 7, 1));
+        report.setEndDate(LocalDate.of(2024, 7, 5));
+        report.setCreatedDate(LocalDate.of(2024, 7, 5));
+        report.setThisWeekTasksText(tasks);
+        report.setCheckItems(new ArrayList<>(Collections.nCopies(10, true)));
+        return report;
+    }
+}
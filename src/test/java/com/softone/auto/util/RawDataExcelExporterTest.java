@@ -0,0 +1,129 @@
+package com.softone.auto.util;
+
+import com.softone.auto.model.Company;
+import com.softone.auto.model.Issue;
+import com.softone.auto.repository.sqlite.CompanySqliteRepository;
+import com.softone.auto.repository.sqlite.IssueSqliteRepository;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository;
+import com.softone.auto.repository.sqlite.RawDataSqliteRepository.Dataset;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RawDataExcelExporter 통합 테스트
+ * 기간/회사 필터링, 시트 분할, 날짜 셀 형식, 취소 시 파일 정리를 검증
+ */
+@DisplayName("원본 데이터 Excel 내보내기 테스트")
+class RawDataExcelExporterTest {
+
+    private static final LocalDate FROM = LocalDate.of(2019, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2019, 3, 31);
+
+    private final CompanySqliteRepository companyRepository = new CompanySqliteRepository();
+    private final IssueSqliteRepository issueRepository = new IssueSqliteRepository();
+    private final RawDataSqliteRepository rawDataRepository = new RawDataSqliteRepository();
+
+    private final List<String> issueIds = new ArrayList<>();
+    private Company company;
+
+    @TempDir
+    Path outputDir;
+
+    @BeforeEach
+    void setUp() {
+        company = new Company("raw-" + UUID.randomUUID(), "원본 회사", "원본 프로젝트");
+        companyRepository.save(company);
+
+        // 3월 25건 + 기간 밖 4/1 1건
+        for (int i = 0; i <= 25; i++) {
+            Issue issue = new Issue();
+            issue.setId(UUID.randomUUID().toString());
+            issue.setCompanyId(company.getId());
+            issue.setTitle("이슈 " + i);
+            issue.setCategory("기술");
+            issue.setReporter("관리자");
+            issue.setCreatedDate(i < 25
+                ? LocalDateTime.of(2019, 3, 1 + i, 9, 30)
+                : LocalDateTime.of(2019, 4, 1, 0, 0));
+            issueRepository.save(issue);
+            issueIds.add(issue.getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        issueIds.forEach(issueRepository::delete);
+        companyRepository.deleteById(company.getId());
+    }
+
+    @Test
+    @DisplayName("시트 최대 행 수를 넘으면 다음 시트로 이어서 기록")
+    void testSheetRollover() throws IOException {
+        File target = outputDir.resolve("raw.xlsx").toFile();
+        List<Long> progress = new ArrayList<>();
+
+        boolean completed = new RawDataExcelExporter(rawDataRepository, 10).export(target, List.of(Dataset.ISSUES),
+            company.getId(), FROM, TO, (written, total, sheetName) -> progress.add(total), () -> false);
+
+        assertTrue(completed);
+        assertEquals(List.of(25L), progress, "기간 밖 이슈 제외, 마지막에 한 번 보고");
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new FileInputStream(target))) {
+            assertEquals(3, workbook.getNumberOfSheets());
+            assertEquals("이슈", workbook.getSheetName(0));
+            assertEquals("이슈 (2)", workbook.getSheetName(1));
+            assertEquals("이슈 (3)", workbook.getSheetName(2));
+
+            Sheet first = workbook.getSheetAt(0);
+            assertEquals("등록일", first.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("제목", first.getRow(0).getCell(1).getStringCellValue());
+            assertEquals(10, first.getLastRowNum());
+            assertEquals(10, workbook.getSheetAt(1).getLastRowNum());
+            assertEquals(5, workbook.getSheetAt(2).getLastRowNum());
+
+            // 날짜순 정렬, 일시는 숫자(날짜) 셀로 기록
+            assertEquals(CellType.NUMERIC, first.getRow(1).getCell(0).getCellType());
+            assertEquals(LocalDateTime.of(2019, 3, 1, 9, 30), first.getRow(1).getCell(0).getLocalDateTimeCellValue());
+            assertEquals("이슈 0", first.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("이슈 24", workbook.getSheetAt(2).getRow(5).getCell(1).getStringCellValue());
+            assertNull(first.getRow(1).getCell(7), "해결일이 없으면 빈 셀");
+        }
+    }
+
+    @Test
+    @DisplayName("다른 회사 데이터는 포함하지 않음")
+    void testCompanyFilter() {
+        assertEquals(25, rawDataRepository.count(Dataset.ISSUES, company.getId(), FROM, TO));
+        assertEquals(0, rawDataRepository.count(Dataset.ISSUES, "raw-none-" + UUID.randomUUID(), FROM, TO));
+    }
+
+    @Test
+    @DisplayName("취소하면 파일을 남기지 않음")
+    void testCancel() throws IOException {
+        File target = outputDir.resolve("cancelled.xlsx").toFile();
+
+        boolean completed = new RawDataExcelExporter(rawDataRepository).export(target, List.of(Dataset.ISSUES),
+            company.getId(), FROM, TO, null, () -> true);
+
+        assertFalse(completed);
+        assertFalse(target.exists());
+    }
+}
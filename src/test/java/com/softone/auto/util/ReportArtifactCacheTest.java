@@ -0,0 +1,117 @@
+package com.softone.auto.util;
+
+import com.softone.auto.model.WeeklyReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReportArtifactCache 테스트
+ * 내용 해시 키, 캐시 재사용, 한도 초과 시 정리, 재시작 시 임시 파일 정리를 검증
+ */
+@DisplayName("보고서 파일 캐시 테스트")
+class ReportArtifactCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    @DisplayName("키는 보고서 내용(하위 항목 포함)과 생성기 버전이 같을 때만 같음")
+    void testKey() {
+        WeeklyReport report = createReport();
+        String key = ReportArtifactCache.key(report, "excel/1");
+
+        assertEquals(key, ReportArtifactCache.key(createReport(), "excel/1"));
+        assertNotEquals(key, ReportArtifactCache.key(report, "excel/2"), "생성기 버전이 바뀌면 무효화");
+        assertTrue(key.matches("[A-Za-z0-9_-]+"), "파일 이름에 쓸 수 있는 문자만: " + key);
+
+        report.getIssues().add(new WeeklyReport.IssueItem("서버 지연", "높음", "진행중", "증설"));
+        assertNotEquals(key, ReportArtifactCache.key(report, "excel/1"), "하위 항목 변경 반영");
+    }
+
+    @Test
+    @DisplayName("같은 키는 다시 생성하지 않고 캐시된 내용을 씀")
+    void testReuse() throws Exception {
+        ReportArtifactCache cache = new ReportArtifactCache(cacheDir.toFile(), 10, 1024 * 1024);
+        AtomicInteger generated = new AtomicInteger();
+        ReportArtifactCache.ArtifactWriter writer = out -> {
+            generated.incrementAndGet();
+            out.write("보고서 내용".getBytes(StandardCharsets.UTF_8));
+        };
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        assertFalse(cache.writeTo("abc", "xlsx", writer, first));
+        File target = cacheDir.resolve("copy.xlsx").toFile();
+        assertTrue(cache.copyTo("abc", "xlsx", writer, target));
+
+        assertEquals(1, generated.get());
+        assertEquals("보고서 내용", first.toString(StandardCharsets.UTF_8));
+        assertEquals("보고서 내용", Files.readString(target.toPath(), StandardCharsets.UTF_8));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("항목 수/크기 한도를 넘으면 가장 오래 쓰지 않은 항목부터 삭제")
+    void testEviction() throws Exception {
+        ReportArtifactCache cache = new ReportArtifactCache(cacheDir.toFile(), 3, 1024 * 1024);
+        for (String key : new String[]{"a", "b", "c"}) {
+            cache.put(key, "pdf", out -> out.write(new byte[100]));
+        }
+        assertNotNull(cache.get("a", "pdf"));   // a 사용 → b가 가장 오래됨
+        cache.put("d", "pdf", out -> out.write(new byte[100]));
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get("b", "pdf"));
+        assertFalse(cacheDir.resolve("b.pdf").toFile().exists());
+        assertNotNull(cache.get("a", "pdf"));
+
+        // 크기 한도: 250바이트면 100바이트 항목 2개만 남음
+        ReportArtifactCache small = new ReportArtifactCache(cacheDir.resolve("small").toFile(), 10, 250);
+        for (String key : new String[]{"x", "y", "z"}) {
+            small.put(key, "pdf", out -> out.write(new byte[100]));
+        }
+        assertEquals(2, small.size());
+        assertEquals(200, small.getTotalBytes());
+        assertNull(small.get("x", "pdf"));
+    }
+
+    @Test
+    @DisplayName("다시 열면 기존 파일을 읽고 남은 임시 파일과 실패한 생성 파일은 남기지 않음")
+    void testReloadAndFailedWrite() throws Exception {
+        ReportArtifactCache cache = new ReportArtifactCache(cacheDir.toFile(), 10, 1024 * 1024);
+        cache.put("kept", "xlsx", out -> out.write(1));
+        Files.write(cacheDir.resolve("kept.xlsx.1234.tmp"), new byte[10]);
+
+        assertThrows(IllegalStateException.class, () -> cache.put("broken", "xlsx", out -> {
+            out.write(1);
+            throw new IllegalStateException("생성 실패");
+        }));
+        assertFalse(cacheDir.resolve("broken.xlsx").toFile().exists());
+
+        ReportArtifactCache reopened = new ReportArtifactCache(cacheDir.toFile(), 10, 1024 * 1024);
+        assertEquals(1, reopened.size());
+        assertNotNull(reopened.get("kept", "xlsx"));
+        assertFalse(cacheDir.resolve("kept.xlsx.1234.tmp").toFile().exists());
+    }
+
+    private static WeeklyReport createReport() {
+        WeeklyReport report = new WeeklyReport();
+        report.setId("report-1");
+        report.setCompanyId("company-1");
+        report.setTitle("주간 업무 보고서");
+        report.setStartDate(LocalDate.of(2024, 7, 1));
+        report.setEndDate(LocalDate.of(2024, 7, 5));
+        report.getLastWeekWork().add(new WeeklyReport.WorkItem("API 개발", "김개발", "완료", 100, null));
+        return report;
+    }
+}
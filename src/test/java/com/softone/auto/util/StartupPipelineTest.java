@@ -0,0 +1,59 @@
+package com.softone.auto.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StartupPipeline 단위 테스트
+ * 단계 병렬 실행, 진행률 알림, 실패 단계 격리를 검증
+ */
+@DisplayName("시작 초기화 파이프라인 테스트")
+class StartupPipelineTest {
+
+    @Test
+    @DisplayName("단계는 병렬로 실행되고 진행률은 단계마다 한 번씩 알림")
+    void testStepsRunInParallel() {
+        // 두 단계가 서로를 기다리므로 동시에 실행되어야만 통과
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        StartupPipeline.StepTask waitForOther = () -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS), "다른 단계가 동시에 시작되지 않음");
+        };
+
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+        StartupPipeline pipeline = new StartupPipeline()
+            .addStep("DB", waitForOther)
+            .addStep("UI", waitForOther);
+
+        assertTrue(pipeline.run((completed, total, step) -> {
+            assertEquals(2, total);
+            progress.add(completed);
+        }));
+        assertEquals(List.of(1, 2), progress.stream().sorted().toList());
+        assertEquals(2, pipeline.getElapsedMillis().size());
+        assertTrue(pipeline.getFailedSteps().isEmpty());
+    }
+
+    @Test
+    @DisplayName("실패한 단계가 있어도 나머지 단계는 완료")
+    void testFailedStepIsolated() {
+        List<String> finished = new CopyOnWriteArrayList<>();
+        StartupPipeline pipeline = new StartupPipeline()
+            .addStep("실패", () -> { throw new IllegalStateException("초기화 실패"); })
+            .addStep("정상", () -> finished.add("정상"));
+
+        List<String> reported = new CopyOnWriteArrayList<>();
+        assertFalse(pipeline.run((completed, total, step) -> reported.add(step)));
+
+        assertEquals(List.of("정상"), finished);
+        assertEquals(List.of("실패"), pipeline.getFailedSteps());
+        assertEquals(2, reported.size(), "실패한 단계도 진행률에 포함");
+    }
+}
@@ -0,0 +1,144 @@
+package com.softone.auto.util;
+
+import com.softone.auto.model.WeeklyReport;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WeeklyReportExcelTemplate 단위 테스트
+ * 이름 정의 셀 채우기, ISSUE 섹션 행 삽입(행/병합 이동), 템플릿 재사용, 이스케이프를 검증
+ */
+@DisplayName("주간보고서 Excel 템플릿 테스트")
+class WeeklyReportExcelTemplateTest {
+
+    @Test
+    @DisplayName("이름 정의된 값 셀만 채우고 고정 레이아웃은 유지")
+    void testFillNamedCells() throws IOException {
+        WeeklyReport report = sampleReport(null);
+        report.getCheckItems().set(0, true);
+
+        try (Workbook workbook = writeAndRead(report)) {
+            assertEquals("자동화 프로젝트", text(workbook, WeeklyReportExcelTemplate.PROJECT_NAME));
+            assertEquals("2024-07-01 ~ 2024-07-05", text(workbook, WeeklyReportExcelTemplate.PERIOD));
+            assertEquals("2024-07-05", text(workbook, WeeklyReportExcelTemplate.CREATED_DATE));
+            assertEquals(3, cell(workbook, WeeklyReportExcelTemplate.THIS_WEEK_REQUEST).getNumericCellValue());
+            assertEquals(0, cell(workbook, WeeklyReportExcelTemplate.NEXT_WEEK_COMPLETE).getNumericCellValue(),
+                "null이면 0");
+            assertEquals("1. 배포\n2. 점검", text(workbook, WeeklyReportExcelTemplate.THIS_WEEK_TASKS));
+            assertEquals("☑", text(workbook, WeeklyReportExcelTemplate.CHECK_PREFIX + 1));
+            assertEquals("☐", text(workbook, WeeklyReportExcelTemplate.CHECK_PREFIX + 2));
+
+            Sheet sheet = workbook.getSheet(WeeklyReportExcelTemplate.SHEET_NAME);
+            assertEquals("주간 업무 보고서", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("자기/회사 발전 노력", sheet.getRow(sheet.getLastRowNum()).getCell(1).getStringCellValue());
+            assertEquals(24, sheet.getNumMergedRegions());
+            assertEquals(0, workbook.getNumberOfNames(), "템플릿용 이름 정의는 출력에서 제거");
+        }
+    }
+
+    @Test
+    @DisplayName("ISSUE 섹션이 여러 개면 빈 행을 두고 아래로 삽입")
+    void testIssueSections() throws IOException {
+        WeeklyReport report = sampleReport("■ 장애\n  서버 재시작\n\n■ 일정\n배포 연기");
+
+        try (Workbook workbook = writeAndRead(report)) {
+            Sheet sheet = workbook.getSheet(WeeklyReportExcelTemplate.SHEET_NAME);
+            int issueRow = WeeklyReportExcelTemplate.cell(WeeklyReportExcelTemplate.ISSUES).getRow();
+
+            assertEquals("■ 장애\n서버 재시작", sheet.getRow(issueRow).getCell(0).getStringCellValue());
+            assertEquals("■ 일정\n배포 연기", sheet.getRow(issueRow + 2).getCell(0).getStringCellValue());
+            assertTrue(sheet.getMergedRegions().stream()
+                .anyMatch(region -> region.getFirstRow() == issueRow + 2 && region.getLastColumn() == 5));
+
+            // 아래 체크 항목과 병합 영역이 함께 밀려남
+            int checkRow = WeeklyReportExcelTemplate.cell(WeeklyReportExcelTemplate.CHECK_PREFIX + 1).getRow() + 2;
+            assertEquals(issueRow + 5, checkRow);
+            assertEquals("☐", sheet.getRow(checkRow).getCell(0).getStringCellValue());
+            assertEquals("고객사 보안 규정 준수", sheet.getRow(checkRow).getCell(1).getStringCellValue());
+            assertTrue(sheet.getMergedRegions().stream()
+                .anyMatch(region -> region.getFirstRow() == checkRow && region.getFirstColumn() == 1));
+            assertEquals(25, sheet.getNumMergedRegions());
+        }
+    }
+
+    @Test
+    @DisplayName("■ 제목 기준 섹션 분리")
+    void testSplitIssueSections() {
+        assertEquals(List.of(), WeeklyReportExcelTemplate.splitIssueSections(null));
+        assertEquals(List.of("서두", "■ A\n내용", "■ B"),
+            WeeklyReportExcelTemplate.splitIssueSections("서두\n■ A\n 내용 \n■ B\n\n"));
+    }
+
+    @Test
+    @DisplayName("캐시된 템플릿을 재사용해도 이전 보고서 값이 남지 않음")
+    void testTemplateReuse() throws IOException {
+        writeAndRead(sampleReport("■ 첫 보고서")).close();
+
+        WeeklyReport second = sampleReport(null);
+        second.setProjectName("두 번째");
+        try (Workbook workbook = writeAndRead(second)) {
+            assertEquals("두 번째", text(workbook, WeeklyReportExcelTemplate.PROJECT_NAME));
+            assertEquals("", text(workbook, WeeklyReportExcelTemplate.ISSUES));
+            assertEquals("1. 배포\n2. 점검", text(workbook, WeeklyReportExcelTemplate.THIS_WEEK_TASKS));
+        }
+    }
+
+    @Test
+    @DisplayName("XML 특수 문자와 제어 문자를 안전하게 기록")
+    void testEscaping() throws IOException {
+        WeeklyReport report = sampleReport(null);
+        report.setProjectName("A&B <\"시스템\">\u0001");
+
+        try (Workbook workbook = writeAndRead(report)) {
+            assertEquals("A&B <\"시스템\">", text(workbook, WeeklyReportExcelTemplate.PROJECT_NAME));
+        }
+    }
+
+    private static Workbook writeAndRead(WeeklyReport report) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelReportGenerator.writeWeeklyReport(report, out);
+        return new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    /**
+     * 템플릿 이름 정의 위치의 셀 (ISSUE 행 위쪽 셀만 사용)
+     */
+    private static Cell cell(Workbook workbook, String name) {
+        CellReference ref = WeeklyReportExcelTemplate.cell(name);
+        return workbook.getSheet(WeeklyReportExcelTemplate.SHEET_NAME).getRow(ref.getRow()).getCell(ref.getCol());
+    }
+
+    private static String text(Workbook workbook, String name) {
+        return cell(workbook, name).getStringCellValue();
+    }
+
+    private static WeeklyReport sampleReport(String additionalNotes) {
+        WeeklyReport report = new WeeklyReport();
+        report.setProjectName("자동화 프로젝트");
+        report.setReporter("관리자");
+        report.setStartDate(LocalDate.of(2024, 7, 1));
+        report.setEndDate(LocalDate.of(2024, 7, 5));
+        report.setCreatedDate(LocalDate.of(2024, 7, 5));
+        report.setThisWeekRequestCount(3);
+        report.setThisWeekCompleteCount(2);
+        report.setThisWeekTasksText("1. 배포\n2. 점검");
+        report.setAdditionalNotes(additionalNotes);
+        report.setCheckItems(new ArrayList<>(Collections.nCopies(10, false)));
+        return report;
+    }
+}
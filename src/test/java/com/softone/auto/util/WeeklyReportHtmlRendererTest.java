@@ -0,0 +1,143 @@
+package com.softone.auto.util;
+
+import com.softone.auto.model.WeeklyReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JEditorPane;
+import javax.swing.text.html.HTMLDocument;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WeeklyReportHtmlRenderer 테스트
+ * PDF와 같은 구성, HTML 이스케이프, 바뀐 섹션만 다시 그리기, 갱신 시간을 검증
+ */
+@DisplayName("주간보고서 미리보기 렌더러 테스트")
+class WeeklyReportHtmlRendererTest {
+
+    @Test
+    @DisplayName("PDF와 같은 섹션/문구와 체크 항목을 그림")
+    void testRenderLayout() {
+        String html = new WeeklyReportHtmlRenderer().render(createReport());
+
+        assertTrue(html.contains("주간 업무 보고서"));
+        assertTrue(html.contains("2025-01-06 ~ 2025-01-10"));
+        assertTrue(html.contains("요청: 5 / 완료: 3"));
+        assertTrue(html.contains("요청: 4 / 완료: 0"));
+        assertTrue(html.contains("&nbsp;&nbsp;- 로그인 오류 수정"), "들여쓰기 유지");
+        assertTrue(html.contains("■ 전체 프로젝트<br>- 일정 준수"), "ISSUE 줄 앞 공백 제거");
+        assertTrue(html.contains("☑ 고객사 보안 규정 준수"));
+        assertTrue(html.contains("☐ 품질(납기, 생산성) 양호"));
+
+        int info = html.indexOf("프로젝트명");
+        int thisWeek = html.indexOf("금주 주요 수행 업무");
+        int nextWeek = html.indexOf("차주 주요 수행 계획");
+        int issues = html.indexOf("주요 ISSUE 사항");
+        int checks = html.indexOf("주요 10가지 Check 사항");
+        assertTrue(info < thisWeek && thisWeek < nextWeek && nextWeek < issues && issues < checks, "PDF와 같은 순서");
+
+        int previous = checks;
+        for (String name : WeeklyReport.CHECK_ITEM_NAMES) {
+            int position = html.indexOf(name, previous);
+            assertTrue(position > previous, "체크 항목은 공통 항목명 순서대로: " + name);
+            previous = position;
+        }
+    }
+
+    @Test
+    @DisplayName("입력 값은 이스케이프하고 비어 있는 값은 빈칸으로 표시")
+    void testEscapeAndEmptyValues() {
+        WeeklyReport report = new WeeklyReport();
+        report.setProjectName("<b>A&B</b> \"차세대\"");
+
+        String html = new WeeklyReportHtmlRenderer().render(report);
+
+        assertTrue(html.contains("&lt;b&gt;A&amp;B&lt;/b&gt; &quot;차세대&quot;"));
+        assertFalse(html.contains("<b>A"));
+        assertTrue(html.contains("<td class=\"value\"> ~ </td>"), "날짜가 없어도 실패하지 않음");
+    }
+
+    @Test
+    @DisplayName("바뀐 섹션만 다시 그리고 같은 입력은 그대로 재사용")
+    void testIncrementalUpdate() {
+        WeeklyReportHtmlRenderer renderer = new WeeklyReportHtmlRenderer();
+        WeeklyReport report = createReport();
+
+        assertEquals(WeeklyReportHtmlRenderer.Section.values().length, renderer.update(report).size(), "처음에는 모두");
+        assertTrue(renderer.update(createReport()).isEmpty(), "값이 같으면 다시 그리지 않음");
+
+        report.setThisWeekTasksText(report.getThisWeekTasksText() + "\n  - 배포");
+        Map<WeeklyReportHtmlRenderer.Section, String> changed = renderer.update(report);
+        assertEquals(List.of(WeeklyReportHtmlRenderer.Section.THIS_WEEK), new ArrayList<>(changed.keySet()));
+        assertTrue(renderer.getDocument().contains("- 배포"));
+
+        report.getCheckItems().set(1, true);
+        assertEquals(List.of(WeeklyReportHtmlRenderer.Section.CHECKS), new ArrayList<>(renderer.update(report).keySet()),
+            "체크 목록 내용 변경도 감지");
+
+        renderer.clear();
+        assertEquals(WeeklyReportHtmlRenderer.Section.values().length, renderer.update(report).size());
+    }
+
+    @Test
+    @DisplayName("문서 섹션 교체로 입력 중 갱신이 50ms 안에 끝남")
+    void testSectionReplaceIsFast() throws Exception {
+        WeeklyReportHtmlRenderer renderer = new WeeklyReportHtmlRenderer();
+        WeeklyReport report = createReport();
+        StringBuilder tasks = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            tasks.append("  - 업무 ").append(i).append(" 진행 및 결과 보고\n");
+        }
+        report.setThisWeekTasksText(tasks.toString());
+
+        JEditorPane pane = new JEditorPane("text/html", "");
+        pane.setText(renderer.render(report));
+        HTMLDocument document = (HTMLDocument) pane.getDocument();
+
+        // 첫 교체에서 클래스 로드가 끝나도록 한 번 실행
+        report.setProjectName("워밍업");
+        replace(document, renderer.update(report));
+
+        long slowest = 0;
+        for (int i = 0; i < 20; i++) {
+            report.setReporter("작성자 " + i);
+            long start = System.nanoTime();
+            replace(document, renderer.update(report));
+            slowest = Math.max(slowest, (System.nanoTime() - start) / 1_000_000);
+        }
+
+        assertTrue(document.getText(0, document.getLength()).contains("작성자 19"));
+        assertTrue(slowest < 50, "섹션 갱신 " + slowest + "ms");
+    }
+
+    private void replace(HTMLDocument document, Map<WeeklyReportHtmlRenderer.Section, String> changed) throws Exception {
+        for (Map.Entry<WeeklyReportHtmlRenderer.Section, String> entry : changed.entrySet()) {
+            document.setInnerHTML(document.getElement(entry.getKey().getId()), entry.getValue());
+        }
+    }
+
+    private WeeklyReport createReport() {
+        WeeklyReport report = new WeeklyReport();
+        report.setProjectName("차세대 시스템");
+        report.setReporter("홍길동");
+        report.setStartDate(LocalDate.of(2025, 1, 6));
+        report.setEndDate(LocalDate.of(2025, 1, 10));
+        report.setCreatedDate(LocalDate.of(2025, 1, 10));
+        report.setThisWeekRequestCount(5);
+        report.setThisWeekCompleteCount(3);
+        report.setThisWeekTasksText("  - 로그인 오류 수정");
+        report.setNextWeekRequestCount(4);
+        report.setNextWeekTasksText("  - 통합 테스트");
+        report.setAdditionalNotes("■ 전체 프로젝트\n  - 일정 준수\n\n■ 기타\n  - ");
+        List<Boolean> checks = new ArrayList<>(Collections.nCopies(10, false));
+        checks.set(0, true);
+        report.setCheckItems(checks);
+        return report;
+    }
+}